@@ -17,6 +17,14 @@ interface entityRefactorType {
   evalVersion?: number;
 }
 
+interface multipleEntityRefactorType {
+  scripts: string[];
+  oldName: string;
+  newName: string;
+  isJSObject: boolean;
+  evalVersion?: number;
+}
+
 interface MultipleScriptToIdentifiersType {
   scripts: string[];
   evalVersion?: number;
@@ -101,4 +109,41 @@ export default class AstController extends BaseController {
       );
     }
   }
+
+  async multipleEntityRefactorController(req: Request, res: Response) {
+    try {
+      // By default the application eval version is set to be 2
+      const {
+        evalVersion = 2,
+        isJSObject,
+        newName,
+        oldName,
+        scripts,
+      }: multipleEntityRefactorType = req.body;
+      // Each script is refactored on its own, a script that fails to parse only has an error in its place
+      const data = await Promise.all(
+        scripts.map(
+          async (script) =>
+            (
+              await AstService.entityRefactor(
+                script,
+                oldName,
+                newName,
+                isJSObject,
+                evalVersion,
+              )
+            ).body,
+        ),
+      );
+
+      return super.sendResponse(res, data);
+    } catch (err) {
+      return super.sendError(
+        res,
+        this.serverErrorMessage,
+        [err.message],
+        StatusCodes.INTERNAL_SERVER_ERROR,
+      );
+    }
+  }
 }
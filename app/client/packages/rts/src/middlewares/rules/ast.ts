@@ -27,4 +27,21 @@ export default class AstValidator {
       .isBoolean()
       .withMessage("isJSObject is required and can only be a boolean"),
   ];
+
+  static getMultipleEntityRefactorValidator = () => [
+    body("scripts")
+      .isArray({
+        min: 1,
+      })
+      .withMessage("Multiple scripts are required"),
+    body("oldName")
+      .isString()
+      .withMessage("OldName is required and can only be a string"),
+    body("newName")
+      .isString()
+      .withMessage("NewName is required and can only be a string"),
+    body("isJSObject")
+      .isBoolean()
+      .withMessage("isJSObject is required and can only be a boolean"),
+  ];
 }
@@ -26,5 +26,11 @@ router.post(
   validator.validateRequest,
   astController.entityRefactorController,
 );
+router.post(
+  "/multiple-entity-refactor",
+  AstRules.getMultipleEntityRefactorValidator(),
+  validator.validateRequest,
+  astController.multipleEntityRefactorController,
+);
 
 export default router;
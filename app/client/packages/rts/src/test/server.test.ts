@@ -242,4 +242,29 @@ describe("AST tests", () => {
         expect(response.body.data.error).toEqual("Syntax Error");
       });
   });
+
+  it("Multiple entity refactor", async () => {
+    const request = {
+      scripts: ["ApiNever.data", "Api2.data", "ApiNever++++"],
+      oldName: "ApiNever",
+      newName: "ApiForever",
+      isJSObject: false,
+      evalVersion: 2,
+    };
+
+    await supertest(app)
+      .post(`${RTS_BASE_API_PATH}/ast/multiple-entity-refactor`, {
+        JSON: true,
+      })
+      .send(request)
+      .expect(200)
+      .then((response) => {
+        expect(response.body.success).toEqual(true);
+        expect(response.body.data.length).toEqual(3);
+        expect(response.body.data[0].script).toEqual("ApiForever.data");
+        expect(response.body.data[0].refactorCount).toEqual(1);
+        expect(response.body.data[1].refactorCount).toEqual(0);
+        expect(response.body.data[2].error).toEqual("Syntax Error");
+      });
+  });
 });
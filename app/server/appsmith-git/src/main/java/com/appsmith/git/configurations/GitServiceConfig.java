@@ -13,4 +13,7 @@ public class GitServiceConfig {
 
     @Value("gitInitializeRepo/GitConnect-Initialize-Repo-Template")
     private String readmeTemplatePath;
+
+    @Value("${appsmith.git.repository-cache.size:100}")
+    private int repositoryCacheSize;
 }
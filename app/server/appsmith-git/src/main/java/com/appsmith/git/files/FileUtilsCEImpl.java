@@ -17,6 +17,7 @@ import com.appsmith.external.models.ArtifactGitReference;
 import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.git.helpers.DSLTransformerHelper;
+import com.appsmith.git.helpers.GitRepositoryCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.tracing.Span;
 import lombok.Getter;
@@ -25,6 +26,7 @@ import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOUtils;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
 import org.json.JSONObject;
 import org.springframework.context.annotation.Import;
 import org.springframework.stereotype.Component;
@@ -42,9 +44,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
@@ -58,7 +63,6 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static com.appsmith.external.git.constants.GitConstants.ACTION_COLLECTION_LIST;
 import static com.appsmith.external.git.constants.GitConstants.ACTION_LIST;
@@ -85,6 +89,7 @@ public class FileUtilsCEImpl implements FileInterface {
     protected final FileOperations fileOperations;
     private final ObservationHelper observationHelper;
     protected final ObjectMapper objectMapper;
+    private final GitRepositoryCache gitRepositoryCache;
 
     private static final String EDIT_MODE_URL_TEMPLATE = "{{editModeUrl}}";
 
@@ -102,12 +107,14 @@ public class FileUtilsCEImpl implements FileInterface {
             GitExecutor gitExecutor,
             FileOperations fileOperations,
             ObservationHelper observationHelper,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            GitRepositoryCache gitRepositoryCache) {
         this.gitServiceConfig = gitServiceConfig;
         this.gitExecutor = gitExecutor;
         this.fileOperations = fileOperations;
         this.observationHelper = observationHelper;
         this.objectMapper = objectMapper;
+        this.gitRepositoryCache = gitRepositoryCache;
     }
 
     protected Map<GitResourceType, GitResourceType> getModifiedResourcesTypes() {
@@ -251,7 +258,7 @@ public class FileUtilsCEImpl implements FileInterface {
                     Path baseRepo = Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix);
 
                     try {
-                        updateEntitiesInRepo(gitResourceMap, baseRepo);
+                        updateEntitiesInRepo(gitResourceMap, baseRepo, branchName);
                     } catch (IOException e) {
                         return Mono.error(e);
                     }
@@ -262,25 +269,48 @@ public class FileUtilsCEImpl implements FileInterface {
     }
 
     protected Set<String> getExistingFilesInRepo(Path baseRepo) throws IOException {
-        try (Stream<Path> stream = Files.walk(baseRepo).parallel()) {
-            return stream.filter(path -> {
-                        try {
-                            return Files.isRegularFile(path) || FileUtils.isEmptyDirectory(path.toFile());
-                        } catch (IOException e) {
-                            log.error("Unable to find file details. Please check the file at file path: {}", path);
-                            log.error("Assuming that it does not exist for now ...");
-                            return false;
-                        }
-                    })
-                    .map(baseRepo::relativize)
-                    .map(Path::toString)
-                    .collect(Collectors.toSet());
-        }
+        Path gitDirectory = baseRepo.resolve(Constants.DOT_GIT);
+        Set<String> filesInRepo = new HashSet<>();
+        // The git directory is not part of the artifact, and by far the largest part of the repo to walk
+        Files.walkFileTree(baseRepo, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes)
+                    throws IOException {
+                if (directory.equals(gitDirectory)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                if (!directory.equals(baseRepo) && FileUtils.isEmptyDirectory(directory.toFile())) {
+                    filesInRepo.add(baseRepo.relativize(directory).toString());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                if (attributes.isRegularFile()) {
+                    filesInRepo.add(baseRepo.relativize(file).toString());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) throws IOException {
+                if (file.equals(baseRepo)) {
+                    throw e;
+                }
+                log.error("Unable to find file details. Please check the file at file path: {}", file);
+                log.error("Assuming that it does not exist for now ...");
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return filesInRepo;
     }
 
-    protected Set<String> updateEntitiesInRepo(GitResourceMap gitResourceMap, Path baseRepo) throws IOException {
+    protected Set<String> updateEntitiesInRepo(GitResourceMap gitResourceMap, Path baseRepo, String branchName)
+            throws IOException {
         ModifiedResources modifiedResources = gitResourceMap.getModifiedResources();
         Map<GitResourceIdentity, Object> resourceMap = gitResourceMap.getGitResourceMap();
+        GitResourceManifest manifest = GitResourceManifest.load(baseRepo, branchName, objectMapper);
 
         Set<String> filesInRepo = getExistingFilesInRepo(baseRepo);
 
@@ -309,8 +339,9 @@ public class FileUtilsCEImpl implements FileInterface {
         // Now go through the resource map and based on resource type, check if the resource is modified before
         // serialization
         // Or simply choose the mechanism for serialization
+        // Resources that serialize to what their files already have are not written again
         Map<GitResourceType, GitResourceType> modifiedResourcesTypes = getModifiedResourcesTypes();
-        return resourceMap.entrySet().parallelStream()
+        Set<String> updatedFiles = resourceMap.entrySet().parallelStream()
                 .map(entry -> {
                     GitResourceIdentity key = entry.getKey();
                     boolean resourceUpdated = true;
@@ -323,14 +354,19 @@ public class FileUtilsCEImpl implements FileInterface {
 
                     if (resourceUpdated) {
                         String filePath = key.getFilePath();
-                        saveResourceCommon(entry.getValue(), baseRepo.resolve(filePath));
-
-                        return filePath;
+                        if (saveResourceIfChanged(
+                                entry.getValue(), key.getResourceType(), baseRepo, filePath, manifest)) {
+                            return filePath;
+                        }
                     }
                     return null;
                 })
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
+
+        manifest.retainAll(updatedFilesToBeSerialized);
+        manifest.save(objectMapper);
+        return updatedFiles;
     }
 
     protected Set<String> updateEntitiesInRepo(ApplicationGitReference applicationGitReference, Path baseRepo) {
@@ -552,21 +588,53 @@ public class FileUtilsCEImpl implements FileInterface {
         return false;
     }
 
-    protected void saveResourceCommon(Object sourceEntity, Path path) {
+    /**
+     * This method will store the resource to its file, unless the manifest shows that the file already holds the
+     * serialized resource, in which case the file is left untouched
+     *
+     * @param sourceEntity resource to be stored, either the content of the file or an object serialized to JSON
+     * @param resourceType type of the resource
+     * @param baseRepo     path to the repo
+     * @param filePath     path of the file relative to the repo
+     * @param manifest     hashes of the resources last written to the repo
+     * @return if the file was written
+     */
+    protected boolean saveResourceIfChanged(
+            Object sourceEntity,
+            GitResourceType resourceType,
+            Path baseRepo,
+            String filePath,
+            GitResourceManifest manifest) {
+        Path path = baseRepo.resolve(filePath);
+        Span span = observationHelper.createSpan(GitSpan.FILE_WRITE);
         try {
-            Files.createDirectories(path.getParent());
+            byte[] content;
             if (sourceEntity instanceof String s) {
-                writeStringToFile(s, path);
-                return;
+                content = s.getBytes(StandardCharsets.UTF_8);
+            } else if (sourceEntity instanceof JSONObject) {
+                content = fileOperations.serialize(objectMapper.readTree(sourceEntity.toString()));
+            } else {
+                content = fileOperations.serialize(sourceEntity);
             }
-            if (sourceEntity instanceof JSONObject) {
-                sourceEntity = objectMapper.readTree(sourceEntity.toString());
+
+            String hash = GitResourceManifest.hash(content);
+            if (manifest.isUnchanged(filePath, hash)) {
+                return false;
             }
-            fileOperations.writeToFile(sourceEntity, path);
+
+            span.tag(RESOURCE_TYPE, resourceType.toString());
+            observationHelper.startSpan(span, true);
+            Files.createDirectories(path.getParent());
+            Files.write(path, content);
+            manifest.record(filePath, hash);
+            return true;
         } catch (IOException e) {
             log.error("Error while writing resource to file {} with {}", path, e.getMessage());
             log.debug(e.getMessage());
+        } finally {
+            observationHelper.endSpan(span, true);
         }
+        return false;
     }
 
     /**
@@ -715,6 +783,7 @@ public class FileUtilsCEImpl implements FileInterface {
                 .resolve(baseRepoSuffix)
                 .getParent()
                 .toFile();
+        gitRepositoryCache.invalidateAll(file.toPath());
         while (file.exists()) {
             FileSystemUtils.deleteRecursively(file);
         }
@@ -724,14 +793,13 @@ public class FileUtilsCEImpl implements FileInterface {
     @Override
     public Mono<Boolean> checkIfDirectoryIsEmpty(Path baseRepoSuffix) {
         return Mono.fromCallable(() -> {
-            File[] files = Paths.get(gitServiceConfig.getGitRootPath())
-                    .resolve(baseRepoSuffix)
-                    .toFile()
-                    .listFiles();
+            Path repoPath = Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix);
+            File[] files = repoPath.toFile().listFiles();
             for (File file : files) {
                 if (!ALLOWED_FILE_EXTENSION_PATTERN.matcher(file.getName()).matches()
                         && !file.getName().equals("LICENSE")) {
                     // Remove the cloned repo from the file system since the repo doesnt satisfy the criteria
+                    gitRepositoryCache.invalidate(repoPath);
                     while (file.exists()) {
                         FileSystemUtils.deleteRecursively(file);
                     }
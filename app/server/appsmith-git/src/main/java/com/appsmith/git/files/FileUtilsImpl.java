@@ -5,6 +5,7 @@ import com.appsmith.external.git.GitExecutor;
 import com.appsmith.external.git.operations.FileOperations;
 import com.appsmith.external.helpers.ObservationHelper;
 import com.appsmith.git.configurations.GitServiceConfig;
+import com.appsmith.git.helpers.GitRepositoryCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +25,8 @@ public class FileUtilsImpl extends FileUtilsCEImpl implements FileInterface {
             GitExecutor gitExecutor,
             FileOperations fileOperations,
             ObservationHelper observationHelper,
-            ObjectMapper objectMapper) {
-        super(gitServiceConfig, gitExecutor, fileOperations, observationHelper, objectMapper);
+            ObjectMapper objectMapper,
+            GitRepositoryCache gitRepositoryCache) {
+        super(gitServiceConfig, gitExecutor, fileOperations, observationHelper, objectMapper, gitRepositoryCache);
     }
 }
@@ -0,0 +1,147 @@
+package com.appsmith.git.files;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.lib.Constants;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashes of the serialized resources last written to the files of a branch of an artifact repo, so that a resource
+ * whose serialized form did not change since is not written again, leaving its file untouched for git.
+ * <p>
+ * Each file is recorded with its size and modification time right after it was written. A hash is only trusted while
+ * the file still has them, so a file changed since by anything else, like a reset or a checkout, is written again. The
+ * manifest of a branch is kept in the git directory of the repo, outside of the working tree.
+ */
+@Slf4j
+public class GitResourceManifest {
+
+    private static final String MANIFEST_DIRECTORY = "appsmith-manifests";
+    private static final TypeReference<Map<String, Entry>> ENTRIES_TYPE = new TypeReference<>() {};
+
+    private final Path baseRepo;
+    private final Path manifestPath;
+    private final Map<String, Entry> entries;
+    // Modification time of the manifest when it was read, files modified since are only trusted after reading them
+    private final long savedAt;
+
+    /**
+     * Hash of the serialized resource along with the size and modification time, in nanoseconds, of its file.
+     */
+    public record Entry(String hash, long size, long modifiedAt) {}
+
+    private GitResourceManifest(Path baseRepo, Path manifestPath, Map<String, Entry> entries, long savedAt) {
+        this.baseRepo = baseRepo;
+        this.manifestPath = manifestPath;
+        this.entries = entries;
+        this.savedAt = savedAt;
+    }
+
+    /**
+     * Reads the manifest of the branch of the repo, which is empty if the branch has none or it could not be read.
+     */
+    public static GitResourceManifest load(Path baseRepo, String branchName, ObjectMapper objectMapper) {
+        Path manifestPath = baseRepo.resolve(Constants.DOT_GIT)
+                .resolve(MANIFEST_DIRECTORY)
+                .resolve(URLEncoder.encode(branchName, StandardCharsets.UTF_8) + ".json");
+        Map<String, Entry> entries = new ConcurrentHashMap<>();
+        long savedAt = 0;
+        if (Files.isRegularFile(manifestPath)) {
+            try {
+                savedAt = modifiedAt(Files.readAttributes(manifestPath, BasicFileAttributes.class));
+                entries.putAll(objectMapper.readValue(manifestPath.toFile(), ENTRIES_TYPE));
+            } catch (IOException e) {
+                log.error("Unable to read the resource manifest at {}, writing all resources", manifestPath, e);
+                entries.clear();
+            }
+        }
+        return new GitResourceManifest(baseRepo, manifestPath, entries, savedAt);
+    }
+
+    public static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns whether the file at the given path relative to the repo was last written with content of the given hash
+     * and has not changed since. Like git does for its index, a file modified as late as the manifest was saved could
+     * have been changed again within the resolution of modification times, so its content is compared instead.
+     */
+    public boolean isUnchanged(String filePath, String hash) {
+        Entry entry = entries.get(filePath);
+        if (entry == null || !entry.hash().equals(hash)) {
+            return false;
+        }
+        Path path = baseRepo.resolve(filePath);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()
+                    || attributes.size() != entry.size()
+                    || modifiedAt(attributes) != entry.modifiedAt()) {
+                return false;
+            }
+            return entry.modifiedAt() < savedAt || hash.equals(hash(Files.readAllBytes(path)));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Records that the file at the given path relative to the repo was just written with content of the given hash.
+     */
+    public void record(String filePath, String hash) {
+        try {
+            BasicFileAttributes attributes =
+                    Files.readAttributes(baseRepo.resolve(filePath), BasicFileAttributes.class);
+            entries.put(filePath, new Entry(hash, attributes.size(), modifiedAt(attributes)));
+        } catch (IOException e) {
+            entries.remove(filePath);
+        }
+    }
+
+    /**
+     * Forgets the files which are not among the given ones, like the ones of deleted resources.
+     */
+    public void retainAll(Set<String> filePaths) {
+        entries.keySet().retainAll(filePaths);
+    }
+
+    /**
+     * Writes the manifest to the git directory of the repo. A manifest that could not be written only makes the next
+     * save write all resources again.
+     */
+    public void save(ObjectMapper objectMapper) {
+        try {
+            Files.createDirectories(manifestPath.getParent());
+            Path temporaryPath = manifestPath.resolveSibling(manifestPath.getFileName() + ".tmp");
+            objectMapper.writeValue(temporaryPath.toFile(), entries);
+            Files.move(temporaryPath, manifestPath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("Unable to write the resource manifest at {}", manifestPath, e);
+        }
+    }
+
+    private static long modifiedAt(BasicFileAttributes attributes) {
+        return attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+    }
+}
@@ -113,6 +113,17 @@ public class FileOperationsCEv2Impl implements FileOperationsCE {
         }
     }
 
+    /**
+     * This method returns the JSON that {@link #writeToFile(Object, Path)} would write for the resource
+     *
+     * @param sourceEntity resource to be serialized
+     * @return serialized resource, encoded in UTF-8
+     */
+    @Override
+    public byte[] serialize(Object sourceEntity) throws IOException {
+        return objectWriter.writeValueAsBytes(sourceEntity);
+    }
+
     /**
      * This method will be used to read and dehydrate the json file present from the local git repo
      *
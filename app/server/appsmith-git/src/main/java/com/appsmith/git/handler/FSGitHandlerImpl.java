@@ -4,6 +4,7 @@ import com.appsmith.external.configurations.git.GitConfig;
 import com.appsmith.external.git.handler.FSGitHandler;
 import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.handler.ce.FSGitHandlerCEImpl;
+import com.appsmith.git.helpers.GitRepositoryCache;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
@@ -15,7 +16,10 @@ import org.springframework.stereotype.Component;
 public class FSGitHandlerImpl extends FSGitHandlerCEImpl implements FSGitHandler {
 
     public FSGitHandlerImpl(
-            GitServiceConfig gitServiceConfig, GitConfig gitConfig, ObservationRegistry observationRegistry) {
-        super(gitServiceConfig, gitConfig, observationRegistry);
+            GitServiceConfig gitServiceConfig,
+            GitConfig gitConfig,
+            GitRepositoryCache gitRepositoryCache,
+            ObservationRegistry observationRegistry) {
+        super(gitServiceConfig, gitConfig, gitRepositoryCache, observationRegistry);
     }
 }
@@ -15,6 +15,8 @@ import com.appsmith.git.constants.AppsmithBotAsset;
 import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.git.constants.Constraint;
 import com.appsmith.git.constants.GitDirectories;
+import com.appsmith.git.helpers.GitRepositoryCache;
+import com.appsmith.git.helpers.GitRepositoryCache.CachedGit;
 import com.appsmith.git.helpers.RepositoryHelper;
 import com.appsmith.git.helpers.SshTransportConfigCallback;
 import com.appsmith.git.helpers.StopwatchHelpers;
@@ -82,6 +84,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
 
     private final GitServiceConfig gitServiceConfig;
     private final GitConfig gitConfig;
+    private final GitRepositoryCache gitRepositoryCache;
 
     protected final ObservationRegistry observationRegistry;
 
@@ -118,8 +121,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
         final Path repoPath = TRUE.equals(isSuffixedPath) ? createRepoPath(path) : path;
 
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
-                        git -> Mono.fromCallable(() -> {
+                        () -> gitRepositoryCache.open(repoPath),
+                        git -> Mono.fromCallable(git.writeLocked(() -> {
                                     log.debug("Trying to commit to local repo path, {}", path);
 
                                     Stopwatch processStopwatch = StopwatchHelpers.startStopwatch(
@@ -144,7 +147,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                             .call();
                                     processStopwatch.stopAndLogTimeInMillis();
                                     return "Committed successfully!";
-                                })
+                                }))
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_COMMIT)
                                 .tap(Micrometer.observation(observationRegistry)),
@@ -175,8 +178,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
     public Mono<List<GitLogDTO>> getCommitHistory(Path repoSuffix) {
         Path repoPath = createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
-                        git -> Mono.fromCallable(() -> {
+                        () -> gitRepositoryCache.open(repoPath),
+                        git -> Mono.fromCallable(git.readLocked(() -> {
                                     log.debug(Thread.currentThread().getName() + ": get commit history for  "
                                             + repoSuffix);
                                     List<GitLogDTO> commitLogs = new ArrayList<>();
@@ -198,7 +201,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                         commitLogs.add(gitLog);
                                     });
                                     return commitLogs;
-                                })
+                                }))
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS)),
                         Git::close)
                 .subscribeOn(scheduler);
@@ -226,8 +229,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
 
         return gitConfig.getIsAtomicPushAllowed().flatMap(isAtomicPushAllowed -> {
             return Mono.using(
-                            () -> Git.open(baseRepoPath.toFile()),
-                            git -> Mono.fromCallable(() -> {
+                            () -> gitRepositoryCache.open(baseRepoPath),
+                            git -> Mono.fromCallable(git.writeLocked(() -> {
                                         log.debug(Thread.currentThread().getName() + ": pushing changes to remote "
                                                 + remoteUrl);
                                         // open the repo
@@ -259,7 +262,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                         // "password"));
                                         processStopwatch.stopAndLogTimeInMillis();
                                         return result.substring(0, result.length() - 1);
-                                    })
+                                    }))
                                     .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                     .name(GitSpan.FS_PUSH)
                                     .tap(Micrometer.observation(observationRegistry)),
@@ -292,6 +295,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                     File file = Paths.get(gitServiceConfig.getGitRootPath())
                             .resolve(repoSuffix)
                             .toFile();
+                    gitRepositoryCache.invalidate(file.toPath());
                     while (file.exists()) {
                         FileSystemUtils.deleteRecursively(file);
                     }
@@ -321,8 +325,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_CREATE_BRANCH.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
-                        git -> Mono.fromCallable(() -> {
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
+                        git -> Mono.fromCallable(git.writeLocked(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Creating branch  " + branchName
                                             + "for the repo " + repoSuffix);
                                     // open the repo
@@ -336,7 +340,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                     repositoryHelper.updateRemoteBranchTrackingConfig(branchName, git);
                                     processStopwatch.stopAndLogTimeInMillis();
                                     return git.getRepository().getBranch();
-                                })
+                                }))
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_CREATE_BRANCH)
                                 .tap(Micrometer.observation(observationRegistry)),
@@ -351,8 +355,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_DELETE_BRANCH.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
-                        git -> Mono.fromCallable(() -> {
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
+                        git -> Mono.fromCallable(git.writeLocked(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Deleting branch  " + branchName
                                             + "for the repo " + repoSuffix);
                                     // open the repo
@@ -366,7 +370,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                         return Boolean.FALSE;
                                     }
                                     return TRUE;
-                                })
+                                }))
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_DELETE_BRANCH)
                                 .tap(Micrometer.observation(observationRegistry)),
@@ -380,8 +384,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_CHECKOUT.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
-                        git -> Mono.fromCallable(() -> {
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
+                        git -> Mono.fromCallable(git.writeLocked(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Switching to the branch "
                                             + branchName);
                                     // We can safely assume that repo has been already initialised either in commit or
@@ -401,7 +405,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                             .getName();
                                     processStopwatch.stopAndLogTimeInMillis();
                                     return StringUtils.equalsIgnoreCase(checkedOutBranch, "refs/heads/" + branchName);
-                                })
+                                }))
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .tag(CHECKOUT_REMOTE, FALSE.toString())
                                 .name(GitSpan.FS_CHECKOUT_BRANCH)
@@ -420,8 +424,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
         TransportConfigCallback transportConfigCallback = new SshTransportConfigCallback(privateKey, publicKey);
 
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
-                        git -> Mono.fromCallable(() -> {
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
+                        git -> Mono.fromCallable(git.writeLocked(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Pull changes from remote  "
                                             + remoteUrl + " for the branch " + branchName);
                                     // checkout the branch on which the merge command is run
@@ -473,7 +477,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                             processStopwatch.stopAndLogTimeInMillis();
                                         }
                                     }
-                                })
+                                }))
                                 .onErrorResume(error -> resetToLastCommit(git).flatMap(ignore -> Mono.error(error)))
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_PULL)
@@ -487,8 +491,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
         Path baseRepoPath = createRepoPath(repoSuffix);
 
         return Mono.using(
-                        () -> Git.open(baseRepoPath.toFile()),
-                        git -> Mono.fromCallable(() -> {
+                        () -> gitRepositoryCache.open(baseRepoPath),
+                        git -> Mono.fromCallable(git.readLocked(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Get branches for the application "
                                             + repoSuffix);
 
@@ -514,7 +518,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                         }
                                     }
                                     return branchList;
-                                })
+                                }))
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS)),
                         Git::close)
                 .subscribeOn(scheduler);
@@ -524,7 +528,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
     public Mono<String> getRemoteDefaultBranch(Path repoSuffix, String remoteUrl, String privateKey, String publicKey) {
         Path baseRepoPath = createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(baseRepoPath.toFile()),
+                        () -> gitRepositoryCache.open(baseRepoPath),
                         git -> Mono.fromCallable(() -> {
                                     TransportConfigCallback transportConfigCallback =
                                             new SshTransportConfigCallback(privateKey, publicKey);
@@ -555,8 +559,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoPath, AnalyticsEvents.GIT_STATUS.getEventName());
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
-                        git -> Mono.fromCallable(() -> {
+                        () -> gitRepositoryCache.open(repoPath),
+                        git -> Mono.fromCallable(git.readLocked(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Get status for repo  " + repoPath
                                             + ", branch " + branchName);
                                     Status status = git.status().call();
@@ -610,7 +614,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                     }
                                     processStopwatch.stopAndLogTimeInMillis();
                                     return Mono.just(response);
-                                })
+                                }))
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .flatMap(response -> response)
                                 .name(GitSpan.FS_STATUS)
@@ -794,8 +798,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
     @Override
     public Mono<String> mergeBranch(Path repoSuffix, String sourceBranch, String destinationBranch) {
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
-                        git -> Mono.fromCallable(() -> {
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
+                        git -> Mono.fromCallable(git.writeLocked(() -> {
                                     Stopwatch processStopwatch = StopwatchHelpers.startStopwatch(
                                             repoSuffix, AnalyticsEvents.GIT_MERGE.getEventName());
                                     log.debug(Thread.currentThread().getName() + ": Merge branch  " + sourceBranch
@@ -820,7 +824,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                         processStopwatch.stopAndLogTimeInMillis();
                                         throw new Exception(e);
                                     }
-                                })
+                                }))
                                 .onErrorResume(error -> {
                                     try {
                                         return resetToLastCommit(repoSuffix, destinationBranch)
@@ -849,8 +853,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_FETCH.getEventName());
         Path repoPath = TRUE.equals(isRepoPath) ? repoSuffix : createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
-                        git -> Mono.fromCallable(() -> {
+                        () -> gitRepositoryCache.open(repoPath),
+                        git -> Mono.fromCallable(git.writeLocked(() -> {
                                     TransportConfigCallback config =
                                             new SshTransportConfigCallback(privateKey, publicKey);
                                     String fetchMessages;
@@ -872,7 +876,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                     }
                                     processStopwatch.stopAndLogTimeInMillis();
                                     return fetchMessages;
-                                })
+                                }))
                                 .onErrorResume(error -> {
                                     log.error(error.getMessage());
                                     return Mono.error(error);
@@ -891,8 +895,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_FETCH.getEventName());
         Path repoPath = TRUE.equals(isRepoPath) ? repoSuffix : createRepoPath(repoSuffix);
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
-                        git -> Mono.fromCallable(() -> {
+                        () -> gitRepositoryCache.open(repoPath),
+                        git -> Mono.fromCallable(git.writeLocked(() -> {
                                     TransportConfigCallback config =
                                             new SshTransportConfigCallback(privateKey, publicKey);
                                     String fetchMessages;
@@ -913,7 +917,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
 
                                     processStopwatch.stopAndLogTimeInMillis();
                                     return fetchMessages;
-                                })
+                                }))
                                 .onErrorResume(error -> {
                                     log.error(error.getMessage());
                                     return Mono.error(error);
@@ -930,8 +934,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_MERGE_CHECK.getEventName());
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
-                        git -> Mono.fromCallable(() -> {
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
+                        git -> Mono.fromCallable(git.writeLocked(() -> {
                                     log.debug(
                                             Thread.currentThread().getName()
                                                     + ": Check mergeability for repo {} with src: {}, dest: {}",
@@ -992,7 +996,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                     mergeStatus.setStatus(
                                             mergeResult.getMergeStatus().name());
                                     return mergeStatus;
-                                })
+                                }))
                                 .flatMap(status -> {
                                     try {
                                         // Revert uncommitted changes if any
@@ -1015,8 +1019,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
         // We can safely assume that repo has been already initialised either in commit or clone flow and can directly
         // open the repo
         return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
-                        git -> Mono.fromCallable(() -> {
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
+                        git -> Mono.fromCallable(git.writeLocked(() -> {
                                     log.debug(Thread.currentThread().getName() + ": Checking out remote branch origin/"
                                             + branchName + " for the repo " + repoSuffix);
                                     // open the repo
@@ -1034,7 +1038,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                     config.setString("branch", branchName, "merge", "refs/heads/" + branchName);
                                     config.save();
                                     return git.getRepository().getBranch();
-                                })
+                                }))
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .tag(CHECKOUT_REMOTE, TRUE.toString())
                                 .name(GitSpan.FS_CHECKOUT_BRANCH)
@@ -1060,17 +1064,17 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                 .subscribeOn(scheduler);
     }
 
-    private Mono<Ref> resetToLastCommit(Git git) {
+    private Mono<Ref> resetToLastCommit(CachedGit git) {
         Stopwatch processStopwatch = StopwatchHelpers.startStopwatch(
                 git.getRepository().getDirectory().toPath().getParent(), AnalyticsEvents.GIT_RESET.getEventName());
-        return Mono.fromCallable(() -> {
+        return Mono.fromCallable(git.writeLocked(() -> {
                     // Remove tracked files
                     Ref ref = git.reset().setMode(ResetCommand.ResetType.HARD).call();
                     // Remove untracked files
                     git.clean().setForce(true).setCleanDirectories(true).call();
                     processStopwatch.stopAndLogTimeInMillis();
                     return ref;
-                })
+                }))
                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .tag(HARD_RESET, Boolean.FALSE.toString())
                 .name(GitSpan.FS_RESET)
@@ -1080,7 +1084,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
 
     public Mono<Boolean> resetToLastCommit(Path repoSuffix, String branchName) throws GitAPIException, IOException {
         return Mono.using(
-                () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
                 git -> this.resetToLastCommit(git)
                         .flatMap(ref -> checkoutToBranch(repoSuffix, branchName))
                         .flatMap(checkedOut -> resetToLastCommit(git).thenReturn(true)),
@@ -1090,14 +1094,14 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
     public Mono<Boolean> resetHard(Path repoSuffix, String branchName) {
         return this.checkoutToBranch(repoSuffix, branchName)
                 .flatMap(aBoolean -> Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
-                        git -> Mono.fromCallable(() -> {
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
+                        git -> Mono.fromCallable(git.writeLocked(() -> {
                                     git.reset()
                                             .setMode(ResetCommand.ResetType.HARD)
                                             .setRef("HEAD~1")
                                             .call();
                                     return true;
-                                })
+                                }))
                                 .onErrorResume(e -> {
                                     log.error("Error while resetting the commit, {}", e.getMessage());
                                     return Mono.just(false);
@@ -1112,8 +1116,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
 
     public Mono<Boolean> rebaseBranch(Path repoSuffix, String branchName) {
         return this.checkoutToBranch(repoSuffix, branchName).flatMap(isCheckedOut -> Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
-                        git -> Mono.fromCallable(() -> {
+                        () -> gitRepositoryCache.open(createRepoPath(repoSuffix)),
+                        git -> Mono.fromCallable(git.writeLocked(() -> {
                                     RebaseResult result = git.rebase()
                                             .setUpstream("origin/" + branchName)
                                             .call();
@@ -1131,7 +1135,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                         throw new Exception("Error while rebasing the branch, "
                                                 + result.getStatus().name());
                                     }
-                                })
+                                }))
                                 .onErrorMap(e -> {
                                     log.error("Error while rebasing the branch, {}", e.getMessage());
                                     return e;
@@ -1146,8 +1150,9 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
     @Override
     public Mono<BranchTrackingStatus> getBranchTrackingStatus(Path repoPath, String branchName) {
         return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
-                        git -> Mono.fromCallable(() -> BranchTrackingStatus.of(git.getRepository(), branchName))
+                        () -> gitRepositoryCache.open(repoPath),
+                        git -> Mono.fromCallable(
+                                        git.readLocked(() -> BranchTrackingStatus.of(git.getRepository(), branchName)))
                                 .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_BRANCH_TRACK)
                                 .tap(Micrometer.observation(observationRegistry)),
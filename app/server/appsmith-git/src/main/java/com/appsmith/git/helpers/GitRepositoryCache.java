@@ -0,0 +1,315 @@
+package com.appsmith.git.helpers;
+
+import com.appsmith.git.configurations.GitServiceConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.RepositoryCache;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.util.FS;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps the repositories of the most recently used git repos open, so that git operations do not read the config, refs
+ * and pack indexes of a repo from disk every time they open it. A repo is opened with {@link #open(Path)}, which returns
+ * a {@link CachedGit} that gives the repository back to the cache when closed instead of closing it. The least recently
+ * used repositories that are not in use are closed once there are more than the maximum number of them open.
+ * <p>
+ * Operations on a repo can also run under its read or write lock, so that a status or a branch listing does not read a
+ * repo while a checkout or a merge on the same repo changes it. This only orders the operations of this server, the
+ * operations across servers are still ordered by the git locks in redis. The locks are kept apart from the open
+ * repositories, so that closing, reopening or invalidating the repository of a repo does not give it a new lock while
+ * an operation still holds the previous one. The lock of a repo is dropped once none of its repositories is cached or in
+ * use and no operation holds it, so the wrapped operations must run before their git is closed.
+ */
+@Slf4j
+@Component
+public class GitRepositoryCache {
+
+    private static final String OPEN_REPOSITORIES_METRIC = "appsmith.git.repositories.open";
+    private static final String REPOSITORY_CACHE_METRIC = "appsmith.git.repositories.cache";
+
+    private final int maxSize;
+
+    // By git directory, ordered from the least to the most recently opened, guarded by this
+    private final LinkedHashMap<Path, CachedRepository> repositories = new LinkedHashMap<>(16, 0.75f, true);
+
+    // By git directory, of the repos with a repository that is cached or in use, guarded by this
+    private final Map<Path, RepositoryLock> locks = new HashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public GitRepositoryCache(GitServiceConfig gitServiceConfig, MeterRegistry meterRegistry) {
+        this.maxSize = gitServiceConfig.getRepositoryCacheSize();
+        this.hits = meterRegistry.counter(REPOSITORY_CACHE_METRIC, "result", "hit");
+        this.misses = meterRegistry.counter(REPOSITORY_CACHE_METRIC, "result", "miss");
+        meterRegistry.gauge(OPEN_REPOSITORIES_METRIC, this, GitRepositoryCache::size);
+    }
+
+    /**
+     * Opens the repo at the given path, which can be its working tree or its git directory, like {@link Git#open(File)}
+     * does, reusing its repository if it is already open. The returned git must be closed once the operation is done.
+     * @param repoPath path to the repo
+     * @return git of the cached repository
+     * @throws IOException if there is no repo at the path or it could not be read
+     */
+    public CachedGit open(Path repoPath) throws IOException {
+        File gitDir = gitDir(repoPath);
+        Path key = gitDir.toPath();
+        Object directoryKey = directoryKey(gitDir);
+
+        synchronized (this) {
+            CachedGit cachedGit = leaseCached(key, directoryKey);
+            if (cachedGit != null) {
+                hits.increment();
+                return cachedGit;
+            }
+            misses.increment();
+        }
+
+        // Reading the repo from disk is slow, so other repos can be opened in the meantime
+        Repository repository = new FileRepositoryBuilder()
+                .setFS(FS.DETECTED)
+                .setGitDir(gitDir)
+                .setMustExist(true)
+                .build();
+
+        synchronized (this) {
+            CachedGit cachedGit = leaseCached(key, directoryKey);
+            if (cachedGit != null) {
+                // Opened by another operation in the meantime
+                repository.close();
+                return cachedGit;
+            }
+
+            CachedRepository cachedRepository = repositories.get(key);
+            if (cachedRepository != null) {
+                // The repo was deleted and created again since it was opened, like when it is cloned again
+                log.debug("Reopening git repository {} as it was replaced on disk", key);
+                remove(key, cachedRepository);
+            }
+
+            RepositoryLock lock = locks.computeIfAbsent(key, RepositoryLock::new);
+            lock.repositories++;
+            CachedRepository opened = new CachedRepository(key, repository, directoryKey, lock);
+            opened.leases++;
+            repositories.put(key, opened);
+            evictUnused();
+            return new CachedGit(opened);
+        }
+    }
+
+    /**
+     * Leases the cached repository of the repo, if it is still the one on disk.
+     * @return git of the cached repository, or null if it has to be opened
+     */
+    private CachedGit leaseCached(Path key, Object directoryKey) {
+        CachedRepository cachedRepository = repositories.get(key);
+        if (cachedRepository == null || !Objects.equals(cachedRepository.directoryKey, directoryKey)) {
+            return null;
+        }
+        cachedRepository.leases++;
+        return new CachedGit(cachedRepository);
+    }
+
+    /**
+     * Closes the repository of the repo at the given path once it is no longer in use, like before the repo is deleted.
+     * @param repoPath path to the repo, as given to {@link #open(Path)}
+     */
+    public synchronized void invalidate(Path repoPath) {
+        Path key = gitDir(repoPath).toPath();
+        CachedRepository cachedRepository = repositories.get(key);
+        if (cachedRepository != null) {
+            remove(key, cachedRepository);
+        }
+    }
+
+    /**
+     * Closes the repositories of all the repos under the given directory once they are no longer in use, like before
+     * the directory is deleted.
+     * @param directory path to the directory
+     */
+    public synchronized void invalidateAll(Path directory) {
+        Path prefix = directory.toAbsolutePath().normalize();
+        List<Map.Entry<Path, CachedRepository>> invalidated = repositories.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .toList();
+        invalidated.forEach(entry -> remove(entry.getKey(), entry.getValue()));
+    }
+
+    public synchronized int size() {
+        return repositories.size();
+    }
+
+    synchronized int lockCount() {
+        return locks.size();
+    }
+
+    private synchronized void release(CachedRepository cachedRepository) {
+        cachedRepository.leases--;
+        if (cachedRepository.leases > 0) {
+            return;
+        }
+        if (repositories.get(cachedRepository.key) != cachedRepository) {
+            // Removed from the cache while in use, nothing else holds it anymore
+            close(cachedRepository);
+        } else {
+            evictUnused();
+        }
+    }
+
+    private void remove(Path key, CachedRepository cachedRepository) {
+        repositories.remove(key);
+        if (cachedRepository.leases == 0) {
+            close(cachedRepository);
+        }
+    }
+
+    /**
+     * Closes a repository that is neither cached nor in use anymore, and drops the lock of its repo if no other
+     * repository of the repo is left and no operation holds or waits for the lock.
+     */
+    private void close(CachedRepository cachedRepository) {
+        cachedRepository.repository.close();
+        RepositoryLock lock = cachedRepository.lock;
+        lock.repositories--;
+        if (lock.repositories == 0
+                && !lock.isWriteLocked()
+                && lock.getReadLockCount() == 0
+                && !lock.hasQueuedThreads()) {
+            locks.remove(lock.key, lock);
+        }
+    }
+
+    /**
+     * Closes the least recently used repositories that are not in use until the cache is back to its maximum size. The
+     * cache can stay above its maximum size while more repositories than that are in use.
+     */
+    private void evictUnused() {
+        Iterator<CachedRepository> iterator = repositories.values().iterator();
+        while (repositories.size() > maxSize && iterator.hasNext()) {
+            CachedRepository cachedRepository = iterator.next();
+            if (cachedRepository.leases == 0) {
+                iterator.remove();
+                close(cachedRepository);
+            }
+        }
+    }
+
+    private static File gitDir(Path repoPath) {
+        return RepositoryCache.FileKey.lenient(
+                        repoPath.toAbsolutePath().normalize().toFile(), FS.DETECTED)
+                .getFile();
+    }
+
+    /**
+     * Identity of the repo on disk, which changes when the repo is deleted and created again. This is the identity and
+     * modification time of its config, as file identities can be reused once deleted and the git directory itself is
+     * modified by most operations. Saving the config also changes it, which only reopens the repository.
+     */
+    private static Object directoryKey(File gitDir) {
+        try {
+            BasicFileAttributes attributes =
+                    Files.readAttributes(gitDir.toPath().resolve(Constants.CONFIG), BasicFileAttributes.class);
+            return Arrays.asList(attributes.fileKey(), attributes.lastModifiedTime());
+        } catch (IOException e) {
+            // Missing repo, opening the repository reports it
+            return null;
+        }
+    }
+
+    private static class CachedRepository {
+        private final Path key;
+        private final Repository repository;
+        private final Object directoryKey;
+        private final RepositoryLock lock;
+        private int leases;
+
+        private CachedRepository(Path key, Repository repository, Object directoryKey, RepositoryLock lock) {
+            this.key = key;
+            this.repository = repository;
+            this.directoryKey = directoryKey;
+            this.lock = lock;
+        }
+    }
+
+    private static class RepositoryLock extends ReentrantReadWriteLock {
+        private final Path key;
+        // Repositories of the repo that are cached or in use, guarded by the cache
+        private int repositories;
+
+        private RepositoryLock(Path key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * Git of a cached repository, closing it gives the repository back to the cache.
+     */
+    public class CachedGit extends Git {
+
+        private final CachedRepository cachedRepository;
+        private boolean closed;
+
+        private CachedGit(CachedRepository cachedRepository) {
+            super(cachedRepository.repository);
+            this.cachedRepository = cachedRepository;
+        }
+
+        /**
+         * Wraps the given operation so that it runs while no operation holding the write lock of this repo runs.
+         */
+        public <T> Callable<T> readLocked(Callable<T> callable) {
+            return locked(cachedRepository.lock.readLock(), callable);
+        }
+
+        /**
+         * Wraps the given operation so that it runs while no other operation holding a lock of this repo runs.
+         */
+        public <T> Callable<T> writeLocked(Callable<T> callable) {
+            return locked(cachedRepository.lock.writeLock(), callable);
+        }
+
+        private <T> Callable<T> locked(Lock lock, Callable<T> callable) {
+            return () -> {
+                lock.lockInterruptibly();
+                try {
+                    return callable.call();
+                } finally {
+                    lock.unlock();
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            synchronized (GitRepositoryCache.this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                release(cachedRepository);
+            }
+        }
+    }
+}
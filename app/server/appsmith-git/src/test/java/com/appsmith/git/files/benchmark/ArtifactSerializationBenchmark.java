@@ -0,0 +1,196 @@
+package com.appsmith.git.files.benchmark;
+
+import com.appsmith.external.git.GitExecutor;
+import com.appsmith.external.git.models.GitResourceIdentity;
+import com.appsmith.external.git.models.GitResourceMap;
+import com.appsmith.external.git.models.GitResourceType;
+import com.appsmith.external.helpers.ObservationHelper;
+import com.appsmith.git.configurations.GitServiceConfig;
+import com.appsmith.git.files.FileUtilsImpl;
+import com.appsmith.git.files.operations.FileOperationsImpl;
+import com.appsmith.git.helpers.GitRepositoryCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.jgit.api.Git;
+import org.json.JSONObject;
+import org.mockito.Mockito;
+import org.springframework.util.FileSystemUtils;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Measures how long it takes to save an artifact of 500 pages to its repo, and then to get the status of the repo and
+ * commit it, when a single query changed since the last commit. This is compared between saving all the resources
+ * again, as when there is no resource manifest for the branch, and saving only the resources whose serialized form
+ * changed.
+ * <p>
+ * Each page has 20 widgets, 5 queries and a JS object, making about 16,000 files. Run main from the test classpath,
+ * after mvn test-compile. The number of pages can be given as the first argument.
+ */
+public class ArtifactSerializationBenchmark {
+
+    private static final int DEFAULT_PAGES = 500;
+    private static final int WIDGETS_PER_PAGE = 20;
+    private static final int QUERIES_PER_PAGE = 5;
+    private static final int ITERATIONS = 5;
+    private static final String BRANCH = "master";
+
+    public static void main(String[] args) throws Exception {
+        int pages = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PAGES;
+
+        Path gitRoot = Files.createTempDirectory("serialization-benchmark");
+        Path repoSuffix = Path.of("workspace", "application", "repo");
+        Path repoPath = gitRoot.resolve(repoSuffix);
+
+        GitServiceConfig gitServiceConfig = new GitServiceConfig();
+        gitServiceConfig.setGitRootPath(gitRoot.toString());
+        GitExecutor gitExecutor = Mockito.mock(GitExecutor.class);
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+        FileUtilsImpl fileUtils = new FileUtilsImpl(
+                gitServiceConfig,
+                gitExecutor,
+                new FileOperationsImpl(null, ObservationHelper.NOOP),
+                ObservationHelper.NOOP,
+                new ObjectMapper(),
+                new GitRepositoryCache(gitServiceConfig, new SimpleMeterRegistry()));
+
+        try (Git git = Git.init()
+                .setDirectory(repoPath.toFile())
+                .setInitialBranch(BRANCH)
+                .call()) {
+            // Initial commit of the whole artifact, which also warms up both paths
+            fileUtils
+                    .saveArtifactToGitRepo(repoSuffix, artifact(pages, 0), BRANCH)
+                    .block();
+            commit(git, 0);
+
+            long[] full = new long[3];
+            long[] incremental = new long[3];
+            for (int i = 1; i <= ITERATIONS * 2; i++) {
+                boolean isFull = i % 2 == 1;
+                if (isFull) {
+                    // Without a manifest every resource is written again
+                    FileSystemUtils.deleteRecursively(repoPath.resolve(".git").resolve("appsmith-manifests"));
+                }
+                long[] times = isFull ? full : incremental;
+
+                long start = System.nanoTime();
+                fileUtils
+                        .saveArtifactToGitRepo(repoSuffix, artifact(pages, i), BRANCH)
+                        .block();
+                long saved = System.nanoTime();
+                boolean isClean = git.status().call().isClean();
+                long statusDone = System.nanoTime();
+                commit(git, i);
+                long committed = System.nanoTime();
+
+                if (isClean) {
+                    throw new IllegalStateException("The changed query was not written");
+                }
+                times[0] += saved - start;
+                times[1] += statusDone - saved;
+                times[2] += committed - statusDone;
+            }
+
+            System.out.printf("%,d pages, average of %d saves with one query changed%n", pages, ITERATIONS);
+            System.out.printf("%-12s %10s %10s %10s%n", "", "save ms", "status ms", "commit ms");
+            print("full", full);
+            print("incremental", incremental);
+        } finally {
+            FileSystemUtils.deleteRecursively(gitRoot);
+        }
+    }
+
+    private static void print(String name, long[] times) {
+        System.out.printf(
+                "%-12s %,10d %,10d %,10d%n",
+                name,
+                times[0] / ITERATIONS / 1_000_000,
+                times[1] / ITERATIONS / 1_000_000,
+                times[2] / ITERATIONS / 1_000_000);
+    }
+
+    private static void commit(Git git, int version) throws Exception {
+        git.add().addFilepattern(".").call();
+        git.add().setUpdate(true).addFilepattern(".").call();
+        git.commit()
+                .setMessage("Version " + version)
+                .setAuthor("benchmark", "benchmark@appsmith.com")
+                .call();
+    }
+
+    /**
+     * Returns the resources of an artifact with the given number of pages, where only the body of the first query of
+     * the first page depends on the version.
+     */
+    private static GitResourceMap artifact(int pages, int version) {
+        GitResourceMap gitResourceMap = new GitResourceMap();
+        Map<GitResourceIdentity, Object> resources = gitResourceMap.getGitResourceMap();
+        resources.put(
+                new GitResourceIdentity(GitResourceType.ROOT_CONFIG, "application.json", "application.json"),
+                Map.of("name", "Benchmark", "pages", pages));
+
+        for (int page = 0; page < pages; page++) {
+            String pageName = "Page" + page;
+            String pageDirectory = "pages/" + pageName + "/";
+            resources.put(
+                    new GitResourceIdentity(
+                            GitResourceType.CONTEXT_CONFIG, pageName, pageDirectory + pageName + ".json"),
+                    Map.of("gitSyncId", pageName, "unpublishedPage", Map.of("name", pageName, "slug", pageName)));
+
+            for (int widget = 0; widget < WIDGETS_PER_PAGE; widget++) {
+                String widgetName = "Widget" + widget;
+                Map<String, Object> properties = new LinkedHashMap<>();
+                properties.put("widgetName", widgetName);
+                properties.put("type", "TABLE_WIDGET_V2");
+                properties.put("tableData", "{{Query0.data}}");
+                properties.put("topRow", widget * 10);
+                properties.put("leftColumn", 0);
+                properties.put("rightColumn", 64);
+                resources.put(
+                        new GitResourceIdentity(
+                                GitResourceType.WIDGET_CONFIG,
+                                pageName + "-" + widgetName,
+                                pageDirectory + "widgets/" + widgetName + ".json"),
+                        new JSONObject(properties));
+            }
+
+            for (int query = 0; query < QUERIES_PER_PAGE; query++) {
+                String queryName = "Query" + query;
+                String queryId = pageName + "-" + queryName;
+                String queryDirectory = pageDirectory + "queries/" + queryName + "/";
+                resources.put(
+                        new GitResourceIdentity(
+                                GitResourceType.QUERY_CONFIG, queryId, queryDirectory + "metadata.json"),
+                        Map.of("gitSyncId", queryId, "name", queryName, "pluginId", "postgres-plugin"));
+                String body = page == 0 && query == 0
+                        ? "SELECT * FROM users LIMIT " + version
+                        : "SELECT * FROM " + queryName + " WHERE page = '" + pageName + "'";
+                resources.put(
+                        new GitResourceIdentity(
+                                GitResourceType.QUERY_DATA, queryId, queryDirectory + queryName + ".txt"),
+                        body);
+            }
+
+            String jsObjectId = pageName + "-JSObject";
+            resources.put(
+                    new GitResourceIdentity(
+                            GitResourceType.JSOBJECT_CONFIG,
+                            jsObjectId,
+                            pageDirectory + "jsobjects/JSObject/metadata.json"),
+                    Map.of("gitSyncId", jsObjectId, "name", "JSObject"));
+            resources.put(
+                    new GitResourceIdentity(
+                            GitResourceType.JSOBJECT_DATA,
+                            jsObjectId,
+                            pageDirectory + "jsobjects/JSObject/JSObject.js"),
+                    "export default {\n\trun () {\n\t\treturn Query0.run();\n\t}\n}");
+        }
+        return gitResourceMap;
+    }
+}
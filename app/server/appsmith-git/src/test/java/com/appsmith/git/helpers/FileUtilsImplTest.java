@@ -1,5 +1,8 @@
 package com.appsmith.git.helpers;
 
+import com.appsmith.external.git.models.GitResourceIdentity;
+import com.appsmith.external.git.models.GitResourceMap;
+import com.appsmith.external.git.models.GitResourceType;
 import com.appsmith.external.git.operations.FileOperations;
 import com.appsmith.external.helpers.ObservationHelper;
 import com.appsmith.external.models.ApplicationGitReference;
@@ -8,8 +11,10 @@ import com.appsmith.git.files.FileUtilsImpl;
 import com.appsmith.git.files.operations.FileOperationsImpl;
 import com.appsmith.git.service.GitExecutorImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.commons.io.FileUtils;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.json.JSONObject;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,7 +25,9 @@ import reactor.core.publisher.Mono;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -44,7 +51,12 @@ public class FileUtilsImplTest {
         gitServiceConfig.setGitRootPath(localTestDirectoryPath.toString());
         FileOperations fileOperations = new FileOperationsImpl(null, ObservationHelper.NOOP);
         fileUtils = new FileUtilsImpl(
-                gitServiceConfig, gitExecutor, fileOperations, ObservationHelper.NOOP, new ObjectMapper());
+                gitServiceConfig,
+                gitExecutor,
+                fileOperations,
+                ObservationHelper.NOOP,
+                new ObjectMapper(),
+                new GitRepositoryCache(gitServiceConfig, new SimpleMeterRegistry()));
     }
 
     @AfterEach
@@ -80,6 +92,94 @@ public class FileUtilsImplTest {
         Assertions.assertFalse(actionCollectionDirectoryPath.toFile().exists());
     }
 
+    private GitResourceMap gitResourceMap(String applicationName, String queryBody) {
+        GitResourceMap gitResourceMap = new GitResourceMap();
+        Map<GitResourceIdentity, Object> resourceMap = gitResourceMap.getGitResourceMap();
+        resourceMap.put(
+                new GitResourceIdentity(GitResourceType.ROOT_CONFIG, "application.json", "application.json"),
+                Map.of("name", applicationName));
+        resourceMap.put(
+                new GitResourceIdentity(
+                        GitResourceType.WIDGET_CONFIG, "page1-widget1", "pages/Page1/widgets/Table1.json"),
+                new JSONObject(Map.of("widgetName", "Table1")));
+        resourceMap.put(
+                new GitResourceIdentity(GitResourceType.QUERY_DATA, "query1", "pages/Page1/queries/Query1/Query1.txt"),
+                queryBody);
+        return gitResourceMap;
+    }
+
+    private FileTime modifiedTime(String filePath) throws IOException {
+        return Files.getLastModifiedTime(localTestDirectoryPath.resolve(filePath));
+    }
+
+    @Test
+    public void saveArtifactToGitRepo_WhenResourcesUnchanged_OnlyWritesChangedFiles()
+            throws GitAPIException, IOException, InterruptedException {
+        Files.createDirectories(localTestDirectoryPath);
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+
+        fileUtils
+                .saveArtifactToGitRepo(Path.of(""), gitResourceMap("app", "SELECT 1"), "branch")
+                .block();
+        FileTime applicationModifiedTime = modifiedTime("application.json");
+        FileTime widgetModifiedTime = modifiedTime("pages/Page1/widgets/Table1.json");
+        FileTime queryModifiedTime = modifiedTime("pages/Page1/queries/Query1/Query1.txt");
+
+        // Leave enough time for a file written again to have another modification time
+        Thread.sleep(50);
+        fileUtils
+                .saveArtifactToGitRepo(Path.of(""), gitResourceMap("app", "SELECT 2"), "branch")
+                .block();
+
+        Assertions.assertEquals(applicationModifiedTime, modifiedTime("application.json"));
+        Assertions.assertEquals(widgetModifiedTime, modifiedTime("pages/Page1/widgets/Table1.json"));
+        Assertions.assertNotEquals(queryModifiedTime, modifiedTime("pages/Page1/queries/Query1/Query1.txt"));
+        Assertions.assertEquals(
+                "SELECT 2", Files.readString(localTestDirectoryPath.resolve("pages/Page1/queries/Query1/Query1.txt")));
+    }
+
+    @Test
+    public void saveArtifactToGitRepo_WhenFileChangedOnDisk_WritesItAgain() throws GitAPIException, IOException {
+        Files.createDirectories(localTestDirectoryPath);
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+        Path queryPath = localTestDirectoryPath.resolve("pages/Page1/queries/Query1/Query1.txt");
+
+        fileUtils
+                .saveArtifactToGitRepo(Path.of(""), gitResourceMap("app", "SELECT 1"), "branch")
+                .block();
+        // Like a reset of the repo would, with content of the same size
+        Files.writeString(queryPath, "SELECT 9");
+        fileUtils
+                .saveArtifactToGitRepo(Path.of(""), gitResourceMap("app", "SELECT 1"), "branch")
+                .block();
+
+        Assertions.assertEquals("SELECT 1", Files.readString(queryPath));
+    }
+
+    @Test
+    public void saveArtifactToGitRepo_WhenFilesNotInArtifact_DeletesThemButNotGitDirectory()
+            throws GitAPIException, IOException {
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+        Path gitHeadPath = localTestDirectoryPath.resolve(".git").resolve("HEAD");
+        Path removedQueryPath = localTestDirectoryPath.resolve("pages/Page1/queries/Query2/Query2.txt");
+        Files.createDirectories(gitHeadPath.getParent());
+        Files.writeString(gitHeadPath, "ref: refs/heads/branch");
+        Files.createDirectories(removedQueryPath.getParent());
+        Files.writeString(removedQueryPath, "SELECT 2");
+
+        fileUtils
+                .saveArtifactToGitRepo(Path.of(""), gitResourceMap("app", "SELECT 1"), "branch")
+                .block();
+
+        Assertions.assertTrue(gitHeadPath.toFile().exists());
+        Assertions.assertFalse(removedQueryPath.toFile().exists());
+        Assertions.assertTrue(
+                localTestDirectoryPath.resolve("application.json").toFile().exists());
+    }
+
     @Test
     public void testScanAndDeleteDirectoryForDeletedResources() {
         Path pageDirectoryPath = localTestDirectoryPath.resolve(PAGE_DIRECTORY);
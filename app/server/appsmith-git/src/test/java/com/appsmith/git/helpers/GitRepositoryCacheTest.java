@@ -0,0 +1,249 @@
+package com.appsmith.git.helpers;
+
+import com.appsmith.git.configurations.GitServiceConfig;
+import com.appsmith.git.helpers.GitRepositoryCache.CachedGit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.errors.RepositoryNotFoundException;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GitRepositoryCacheTest {
+
+    @TempDir
+    Path gitRoot;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GitRepositoryCache gitRepositoryCache;
+
+    @BeforeEach
+    public void setUp() {
+        GitServiceConfig gitServiceConfig = new GitServiceConfig();
+        gitServiceConfig.setRepositoryCacheSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        gitRepositoryCache = new GitRepositoryCache(gitServiceConfig, meterRegistry);
+    }
+
+    private Path createRepo(String name) throws GitAPIException {
+        Path repoPath = gitRoot.resolve(name);
+        try (Git ignored = Git.init().setDirectory(repoPath.toFile()).call()) {
+            return repoPath;
+        }
+    }
+
+    private double cacheCount(String result) {
+        return meterRegistry
+                .get("appsmith.git.repositories.cache")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    @Test
+    public void open_WhenOpenedAgain_ReusesRepository() throws GitAPIException, IOException {
+        Path repoPath = createRepo("repo");
+
+        Repository repository;
+        try (CachedGit git = gitRepositoryCache.open(repoPath)) {
+            repository = git.getRepository();
+        }
+        try (CachedGit git = gitRepositoryCache.open(repoPath.resolve(".git"))) {
+            assertThat(git.getRepository()).isSameAs(repository);
+        }
+        try (CachedGit git = gitRepositoryCache.open(repoPath)) {
+            assertThat(git.getRepository()).isSameAs(repository);
+        }
+
+        assertThat(cacheCount("hit")).isEqualTo(2);
+        assertThat(cacheCount("miss")).isEqualTo(1);
+        assertThat(meterRegistry.get("appsmith.git.repositories.open").gauge().value())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void open_WhenMoreThanMaxSize_EvictsLeastRecentlyUsedNotInUse() throws GitAPIException, IOException {
+        Path first = createRepo("first");
+        Path second = createRepo("second");
+        Path third = createRepo("third");
+
+        Repository firstRepository;
+        try (CachedGit firstGit = gitRepositoryCache.open(first)) {
+            firstRepository = firstGit.getRepository();
+            gitRepositoryCache.open(second).close();
+            gitRepositoryCache.open(third).close();
+
+            // The first repo is in use, so the second one is closed in its place
+            assertThat(gitRepositoryCache.size()).isEqualTo(2);
+            try (CachedGit git = gitRepositoryCache.open(first)) {
+                assertThat(git.getRepository()).isSameAs(firstRepository);
+            }
+        }
+
+        assertThat(cacheCount("hit")).isEqualTo(1);
+        gitRepositoryCache.open(second).close();
+        assertThat(cacheCount("miss")).isEqualTo(4);
+        assertThat(gitRepositoryCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void open_WhenRepoCreatedAgain_OpensNewRepository() throws GitAPIException, IOException {
+        Path repoPath = createRepo("repo");
+        Repository repository;
+        try (CachedGit git = gitRepositoryCache.open(repoPath)) {
+            repository = git.getRepository();
+        }
+
+        FileSystemUtils.deleteRecursively(repoPath);
+        assertThrows(RepositoryNotFoundException.class, () -> gitRepositoryCache.open(repoPath));
+
+        createRepo("repo");
+        try (CachedGit git = gitRepositoryCache.open(repoPath)) {
+            assertThat(git.getRepository()).isNotSameAs(repository);
+            assertThat(git.getRepository().getDirectory()).exists();
+        }
+        assertThat(gitRepositoryCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void writeLocked_WhenHeld_BlocksReadsOfSameRepo() throws Exception {
+        Path repoPath = createRepo("repo");
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch finishWrite = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try (CachedGit writer = gitRepositoryCache.open(repoPath);
+                CachedGit reader = gitRepositoryCache.open(repoPath)) {
+            Future<Boolean> write = executor.submit(writer.writeLocked(() -> {
+                writing.countDown();
+                return finishWrite.await(5, TimeUnit.SECONDS);
+            }));
+            assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<String> read = executor.submit(reader.readLocked(() -> "read"));
+            Thread.sleep(100);
+            assertThat(read.isDone()).isFalse();
+
+            finishWrite.countDown();
+            assertThat(write.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(read.get(5, TimeUnit.SECONDS)).isEqualTo("read");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void writeLocked_WhenRepoInvalidatedWhileHeld_BlocksReadsOfReopenedRepo() throws Exception {
+        Path repoPath = createRepo("repo");
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch finishWrite = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try (CachedGit writer = gitRepositoryCache.open(repoPath)) {
+            Future<Boolean> write = executor.submit(writer.writeLocked(() -> {
+                writing.countDown();
+                return finishWrite.await(5, TimeUnit.SECONDS);
+            }));
+            assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            gitRepositoryCache.invalidate(repoPath);
+            try (CachedGit reader = gitRepositoryCache.open(repoPath)) {
+                assertThat(reader.getRepository()).isNotSameAs(writer.getRepository());
+
+                Future<String> read = executor.submit(reader.readLocked(() -> "read"));
+                Thread.sleep(100);
+                assertThat(read.isDone()).isFalse();
+
+                finishWrite.countDown();
+                assertThat(write.get(5, TimeUnit.SECONDS)).isTrue();
+                assertThat(read.get(5, TimeUnit.SECONDS)).isEqualTo("read");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void open_WhenOpenedConcurrently_SharesOneRepository() throws Exception {
+        Path repoPath = createRepo("repo");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<CachedGit>> opened = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                opened.add(executor.submit(() -> {
+                    start.await();
+                    return gitRepositoryCache.open(repoPath);
+                }));
+            }
+            start.countDown();
+
+            Set<Repository> repositories = new HashSet<>();
+            for (Future<CachedGit> future : opened) {
+                repositories.add(future.get(5, TimeUnit.SECONDS).getRepository());
+            }
+            assertThat(repositories).hasSize(1);
+            assertThat(gitRepositoryCache.size()).isEqualTo(1);
+            for (Future<CachedGit> future : opened) {
+                future.get().close();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void invalidate_WhenRepositoryNoLongerInUse_DropsLock() throws GitAPIException, IOException {
+        Path first = createRepo("first");
+        Path second = createRepo("second");
+        Path third = createRepo("third");
+        gitRepositoryCache.open(first).close();
+        gitRepositoryCache.open(second).close();
+        gitRepositoryCache.open(third).close();
+
+        // The first repository was evicted
+        assertThat(gitRepositoryCache.lockCount()).isEqualTo(2);
+
+        try (CachedGit ignored = gitRepositoryCache.open(second)) {
+            gitRepositoryCache.invalidateAll(gitRoot);
+            assertThat(gitRepositoryCache.size()).isZero();
+            assertThat(gitRepositoryCache.lockCount()).isEqualTo(1);
+        }
+        assertThat(gitRepositoryCache.lockCount()).isZero();
+    }
+
+    @Test
+    public void invalidateAll_ClosesRepositoriesUnderDirectoryOnly() throws GitAPIException, IOException {
+        Path first = createRepo("workspace/first");
+        Path second = createRepo("other/second");
+        gitRepositoryCache.open(first).close();
+        gitRepositoryCache.open(second).close();
+
+        gitRepositoryCache.invalidateAll(gitRoot.resolve("workspace"));
+
+        assertThat(gitRepositoryCache.size()).isEqualTo(1);
+        try (CachedGit git = gitRepositoryCache.open(second)) {
+            assertThat(git.getRepository().getDirectory()).exists();
+        }
+        assertThat(cacheCount("hit")).isEqualTo(1);
+    }
+}
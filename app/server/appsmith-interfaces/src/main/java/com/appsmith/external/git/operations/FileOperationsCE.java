@@ -18,6 +18,8 @@ public interface FileOperationsCE {
 
     boolean writeToFile(Object sourceEntity, Path path) throws IOException;
 
+    byte[] serialize(Object sourceEntity) throws IOException;
+
     void scanAndDeleteFileForDeletedResources(Set<String> validResources, Path resourceDirectory);
 
     void scanAndDeleteDirectoryForDeletedResources(Set<String> validResources, Path resourceDirectory);
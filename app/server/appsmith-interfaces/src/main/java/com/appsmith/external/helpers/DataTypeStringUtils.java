@@ -7,6 +7,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.Param;
 import com.appsmith.external.models.ParsedDataType;
+import com.appsmith.external.models.TabularBody;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import com.appsmith.util.SerializationUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -303,7 +304,10 @@ public class DataTypeStringUtils {
     }
 
     private static boolean isDisplayTypeTable(Object data) {
-        if (data instanceof List) {
+        if (data instanceof TabularBody) {
+            // Rows of a table, already known without converting them
+            return true;
+        } else if (data instanceof List) {
             // Check if the data is a list of json objects
             return ((List) data).stream().allMatch(item -> item instanceof Map);
         } else if (data instanceof JsonNode) {
@@ -71,6 +71,9 @@ public class MustacheHelper {
     public static final int EXECUTABLE_ENTITY_REFERENCES = 0b01;
     public static final int WIDGET_ENTITY_REFERENCES = 0b10;
 
+    // Templates with bindings parsed recently, a template is only parsed again once it is evicted
+    private static final MustacheTemplateCache templateCache = new MustacheTemplateCache(10_000, 8 * 1024 * 1024);
+
     /**
      * Tokenize a Mustache template string into a list of plain text and Mustache interpolations.
      *
@@ -80,10 +83,33 @@ public class MustacheHelper {
      * text and the others are mustache interpolations.
      */
     public static List<MustacheBindingToken> tokenize(String template) {
+        List<MustacheBindingToken> tokens = new ArrayList<>();
+        for (MustacheBindingToken token : getTokens(template)) {
+            tokens.add(copyOf(token));
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the tokens of the template, which are shared with other callers when the template is cached and must not
+     * be modified.
+     */
+    private static List<MustacheBindingToken> getTokens(String template) {
         if (!StringUtils.hasLength(template)) {
             return Collections.emptyList();
         }
+        if (!template.contains("{{")) {
+            // Plain text, which is most strings, isn't worth caching
+            return List.of(new MustacheBindingToken(template, 0, false));
+        }
+        return templateCache.get(template, MustacheHelper::parse).getTokens();
+    }
+
+    private static MustacheBindingToken copyOf(MustacheBindingToken token) {
+        return new MustacheBindingToken(token.getValue(), token.getStartIndex(), token.isIncludesHandleBars());
+    }
 
+    private static List<MustacheBindingToken> parse(String template) {
         List<MustacheBindingToken> tokens = new ArrayList<>();
 
         int length = template.length();
@@ -187,7 +213,7 @@ public class MustacheHelper {
     public static Set<MustacheBindingToken> extractMustacheKeys(String template) {
         Set<MustacheBindingToken> keys = new HashSet<>();
 
-        for (MustacheBindingToken token : tokenize(template)) {
+        for (MustacheBindingToken token : getTokens(template)) {
             if (token.getValue().startsWith("{{") && token.getValue().endsWith("}}")) {
                 // Allowing empty tokens to be added, to be compatible with the previous `extractMustacheKeys` method.
                 // Calling `.trim()` before adding because Mustache compiler strips keys in the template before looking
@@ -206,8 +232,21 @@ public class MustacheHelper {
     // For prepared statements we should extract the bindings in order in a list and include duplicate bindings as well.
     public static List<MustacheBindingToken> extractMustacheKeysInOrder(String template) {
         List<MustacheBindingToken> keys = new ArrayList<>();
+        if (!StringUtils.hasLength(template) || !template.contains("{{")) {
+            return keys;
+        }
+
+        for (MustacheBindingToken key :
+                templateCache.get(template, MustacheHelper::parse).getKeysInOrder(MustacheHelper::getKeysInOrder)) {
+            keys.add(copyOf(key));
+        }
+        return keys;
+    }
+
+    private static List<MustacheBindingToken> getKeysInOrder(List<MustacheBindingToken> tokens) {
+        List<MustacheBindingToken> keys = new ArrayList<>();
 
-        for (MustacheBindingToken token : tokenize(template)) {
+        for (MustacheBindingToken token : tokens) {
             if (token.getValue().startsWith("{{") && token.getValue().endsWith("}}")) {
                 // Allowing empty tokens to be added, to be compatible with the previous `extractMustacheKeys` method.
                 // Calling `.trim()` before adding because Mustache compiler strips keys in the template before looking
@@ -335,7 +374,7 @@ public class MustacheHelper {
     public static String render(String template, Map<String, String> keyValueMap) {
         final StringBuilder rendered = new StringBuilder();
 
-        for (MustacheBindingToken token : tokenize(template)) {
+        for (MustacheBindingToken token : getTokens(template)) {
             if (token.getValue().startsWith("{{") && token.getValue().endsWith("}}")) {
                 // If there is no entry found for the current token in keyValueMap that means the binding is part of the
                 // text
@@ -553,15 +592,26 @@ public class MustacheHelper {
             List<MustacheBindingToken> mustacheBindings,
             Pattern sanitizePattern,
             String replacement) {
+        Set<String> bindings =
+                mustacheBindings.stream().map(MustacheBindingToken::getValue).collect(Collectors.toSet());
+        if (!StringUtils.hasLength(query) || !query.contains("{{")) {
+            return substituteMustache(query, placeholder, bindings, sanitizePattern, replacement);
+        }
+
+        // Queries are substituted the same way on every execution, so the result is kept along with the tokens
+        return templateCache
+                .get(query, MustacheHelper::parse)
+                .getSubstitution(
+                        List.of(placeholder, sanitizePattern.pattern(), replacement, bindings),
+                        () -> substituteMustache(query, placeholder, bindings, sanitizePattern, replacement));
+    }
+
+    private static String substituteMustache(
+            String query, String placeholder, Set<String> bindings, Pattern sanitizePattern, String replacement) {
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody(query);
 
-        Set<MustacheBindingToken> mustacheSet = new HashSet<>(mustacheBindings);
-
-        Map<String, String> replaceParamsMap = mustacheSet.stream()
-                .map(mustacheToken -> mustacheToken.getValue())
-                .distinct()
-                .collect(Collectors.toMap(k -> k, v -> placeholder));
+        Map<String, String> replaceParamsMap = bindings.stream().collect(Collectors.toMap(k -> k, v -> placeholder));
 
         // Replace the mustaches with the values mapped to each mustache in replaceParamsMap
         ActionConfiguration updatedActionConfiguration = renderFieldValues(actionConfiguration, replaceParamsMap);
@@ -0,0 +1,117 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.MustacheBindingToken;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of the templates parsed by {@link MustacheHelper}, keyed by the content of the template. Action bodies,
+ * headers and widget properties are parsed again on every execution and layout update while they rarely change, so
+ * their tokens, along with what is derived from them, are kept here instead.
+ * <p>
+ * The cache is bounded both by the number of templates and by their total length, the templates cached first being
+ * evicted first. A template longer than the total length allowed is parsed every time.
+ */
+final class MustacheTemplateCache {
+
+    private final int maxTemplates;
+    private final long maxTotalLength;
+
+    private final Map<String, ParsedTemplate> templates = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicLong totalLength = new AtomicLong();
+
+    MustacheTemplateCache(int maxTemplates, long maxTotalLength) {
+        this.maxTemplates = maxTemplates;
+        this.maxTotalLength = maxTotalLength;
+    }
+
+    /**
+     * Returns the parsed template, parsing it with the given parser unless it is already cached.
+     */
+    ParsedTemplate get(String template, Function<String, List<MustacheBindingToken>> parser) {
+        ParsedTemplate parsedTemplate = templates.get(template);
+        if (parsedTemplate != null) {
+            return parsedTemplate;
+        }
+
+        parsedTemplate = new ParsedTemplate(List.copyOf(parser.apply(template)));
+        if (template.length() > maxTotalLength) {
+            return parsedTemplate;
+        }
+
+        ParsedTemplate existing = templates.putIfAbsent(template, parsedTemplate);
+        if (existing != null) {
+            return existing;
+        }
+        insertionOrder.add(template);
+        totalLength.addAndGet(template.length());
+        evict();
+        return parsedTemplate;
+    }
+
+    int size() {
+        return templates.size();
+    }
+
+    private void evict() {
+        while (templates.size() > maxTemplates || totalLength.get() > maxTotalLength) {
+            String eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            if (templates.remove(eldest) != null) {
+                totalLength.addAndGet(-eldest.length());
+            }
+        }
+    }
+
+    /**
+     * Tokens of a template, as split by {@link MustacheHelper#tokenize(String)}, and the values derived from them. The
+     * tokens are shared by every user of the template, so they must never be modified or handed out as is.
+     */
+    static final class ParsedTemplate {
+
+        private final List<MustacheBindingToken> tokens;
+        private volatile List<MustacheBindingToken> keysInOrder;
+        private final Map<List<Object>, String> substitutions = new ConcurrentHashMap<>();
+
+        private ParsedTemplate(List<MustacheBindingToken> tokens) {
+            this.tokens = tokens;
+        }
+
+        List<MustacheBindingToken> getTokens() {
+            return tokens;
+        }
+
+        List<MustacheBindingToken> getKeysInOrder(
+                Function<List<MustacheBindingToken>, List<MustacheBindingToken>> keys) {
+            List<MustacheBindingToken> cachedKeys = keysInOrder;
+            if (cachedKeys == null) {
+                cachedKeys = List.copyOf(keys.apply(tokens));
+                keysInOrder = cachedKeys;
+            }
+            return cachedKeys;
+        }
+
+        /**
+         * Returns the template with its bindings substituted, as identified by the given key, computing it unless it is
+         * already known. There are only a few ways a template is substituted, so these are not bounded separately.
+         */
+        String getSubstitution(List<Object> key, Supplier<String> substitution) {
+            String substituted = substitutions.get(key);
+            if (substituted == null) {
+                substituted = substitution.get();
+                substitutions.putIfAbsent(key, substituted);
+            }
+            return substituted;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps a running estimate of the size of a query result, as the JSON body it is going to be sent as, so that plugins
+ * reading rows one at a time can stop as soon as the result grows past the maximum response size. Every row is
+ * accounted for once, cell by cell, when it is read, instead of measuring the whole list of rows read so far.
+ * <p>
+ * The estimate is the length of the JSON text without escaping, which is close enough to decide whether a result is too
+ * large, and is computed without allocating for the types the JDBC plugins return.
+ */
+@Getter
+public class ResultSizeEstimator {
+
+    private static final int NULL_SIZE = "null".length();
+    private static final int BOOLEAN_SIZE = "false".length();
+
+    /**
+     * Longest text of a float or double, like -1.2345678901234567E-300, which is used for them instead of formatting
+     * every value.
+     */
+    private static final int FLOATING_POINT_SIZE = 24;
+
+    private final long maxSize;
+    private long size;
+
+    public ResultSizeEstimator(long maxSize) {
+        this.maxSize = maxSize;
+        // Brackets of the array of rows
+        this.size = 2;
+    }
+
+    /**
+     * Returns an estimator that never reaches its limit, for the callers that read small results of their own.
+     */
+    public static ResultSizeEstimator unbounded() {
+        return new ResultSizeEstimator(Long.MAX_VALUE);
+    }
+
+    /**
+     * Accounts for a row, as an object of its column names to values, and returns the size of the result so far.
+     */
+    public long addRow(Map<String, ?> row) {
+        size += sizeOf(row) + 1;
+        return size;
+    }
+
+    /**
+     * Accounts for a row, given as the values of the columns in order, and returns the size of the result so far.
+     */
+    public long addRow(List<String> columnNames, Object[] values) {
+        // Braces, and a comma between fields
+        long rowSize = 2 + Math.max(values.length - 1, 0);
+        for (int i = 0; i < values.length; i++) {
+            rowSize += columnNames.get(i).length() + 3 + sizeOf(values[i]);
+        }
+        size += rowSize + 1;
+        return size;
+    }
+
+    public boolean isLimitExceeded() {
+        return size > maxSize;
+    }
+
+    public float getMaxSizeInMb() {
+        return (float) maxSize / (1024 * 1024);
+    }
+
+    static long sizeOf(Object value) {
+        if (value == null) {
+            return NULL_SIZE;
+        }
+        if (value instanceof CharSequence text) {
+            return text.length() + 2;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return digitCount(((Number) value).longValue());
+        }
+        if (value instanceof Boolean) {
+            return BOOLEAN_SIZE;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return FLOATING_POINT_SIZE;
+        }
+        if (value instanceof BigDecimal decimal) {
+            // Digits, sign, decimal point and exponent when there is one
+            return decimal.precision() + 2 + (decimal.scale() < 0 ? 12 : 0);
+        }
+        if (value instanceof BigInteger integer) {
+            // Number of decimal digits from the number of bits, since log10(2) is a little more than 0.3
+            return (long) (integer.bitLength() * 0.302) + 2;
+        }
+        if (value instanceof Map<?, ?> map) {
+            return sizeOfMap(map);
+        }
+        if (value instanceof Collection<?> collection) {
+            return sizeOfElements(collection.iterator(), collection.size());
+        }
+        if (value instanceof byte[] bytes) {
+            // Written as a base64 string
+            return 4L * ((bytes.length + 2) / 3) + 2;
+        }
+        if (value instanceof Object[] array) {
+            long size = 2 + Math.max(array.length - 1, 0);
+            for (Object element : array) {
+                size += sizeOf(element);
+            }
+            return size;
+        }
+        if (value instanceof JsonNode node) {
+            return sizeOfNode(node);
+        }
+        return String.valueOf(value).length() + 2;
+    }
+
+    private static long sizeOfMap(Map<?, ?> map) {
+        // Braces, and a comma between entries
+        long size = 2 + Math.max(map.size() - 1, 0);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            // Quoted key followed by a colon
+            size += String.valueOf(entry.getKey()).length() + 3;
+            size += sizeOf(entry.getValue());
+        }
+        return size;
+    }
+
+    private static long sizeOfElements(Iterator<?> elements, int count) {
+        long size = 2 + Math.max(count - 1, 0);
+        while (elements.hasNext()) {
+            size += sizeOf(elements.next());
+        }
+        return size;
+    }
+
+    private static long sizeOfNode(JsonNode node) {
+        if (node.isObject()) {
+            long size = 2 + Math.max(node.size() - 1, 0);
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                size += field.getKey().length() + 3 + sizeOfNode(field.getValue());
+            }
+            return size;
+        }
+        if (node.isArray()) {
+            return sizeOfElements(node.elements(), node.size());
+        }
+        if (node.isTextual()) {
+            return node.textValue().length() + 2;
+        }
+        if (node.isNull() || node.isMissingNode()) {
+            return NULL_SIZE;
+        }
+        if (node.isBoolean()) {
+            return BOOLEAN_SIZE;
+        }
+        if (node.isIntegralNumber() && node.canConvertToLong()) {
+            return digitCount(node.longValue());
+        }
+        if (node.isNumber()) {
+            return sizeOf(node.numberValue());
+        }
+        return node.toString().length();
+    }
+
+    static int digitCount(long value) {
+        if (value == Long.MIN_VALUE) {
+            return 20;
+        }
+        int count = value < 0 ? 2 : 1;
+        long remaining = Math.abs(value);
+        while (remaining >= 10) {
+            remaining /= 10;
+            count++;
+        }
+        return count;
+    }
+}
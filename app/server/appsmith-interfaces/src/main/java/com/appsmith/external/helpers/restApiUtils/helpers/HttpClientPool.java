@@ -0,0 +1,135 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.helpers.SSLHelper;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.Getter;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Long-lived HTTP clients of the REST API and GraphQL plugins, sharing one bounded pool of connections, so that an
+ * action reuses the connections opened by the previous executions to the same host instead of opening a new one, with
+ * a TCP and TLS handshake, every time it runs.
+ * <p>
+ * The pool keeps apart the connections of every remote address and client configuration, and a client is kept per SSL
+ * configuration and HTTP protocol, so executions only share the connections they would have opened the same way. The
+ * pool publishes the number of active, idle and pending connections and the time spent acquiring one, as the
+ * reactor.netty.connection.provider metrics of the global Micrometer registry.
+ */
+public class HttpClientPool {
+
+    public static final String POOL_NAME = "rest-api-provider";
+    public static final int DEFAULT_MAX_CONNECTIONS = 500;
+
+    /**
+     * Connections idle for longer are closed, before most servers close them on their side.
+     */
+    private static final Duration MAX_IDLE_TIME = Duration.ofSeconds(30);
+
+    private static final Duration MAX_LIFE_TIME = Duration.ofSeconds(600);
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(60);
+
+    /**
+     * Bounds the clients kept for datasources with their own certificate, the least recently used one being dropped
+     * first. Dropping a client does not close any connection, the ones left idle are closed by the pool.
+     */
+    private static final int MAX_HTTP_CLIENTS = 1000;
+
+    private static final Map<Integer, HttpClientPool> poolsByMaxConnections = new ConcurrentHashMap<>();
+
+    @Getter
+    private final int maxConnections;
+
+    private final ConnectionProvider connectionProvider;
+
+    private final Cache<ClientKey, HttpClient> httpClients =
+            CacheBuilder.newBuilder().maximumSize(MAX_HTTP_CLIENTS).build();
+
+    private HttpClientPool(int maxConnections) {
+        this.maxConnections = maxConnections;
+        this.connectionProvider = ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxConnections)
+                .maxIdleTime(MAX_IDLE_TIME)
+                .maxLifeTime(MAX_LIFE_TIME)
+                .evictInBackground(EVICTION_INTERVAL)
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * Returns the pool opening at most the given number of connections to each host, shared by all the callers asking
+     * for the same maximum.
+     */
+    public static HttpClientPool getInstance(int maxConnections) {
+        return poolsByMaxConnections.computeIfAbsent(maxConnections, HttpClientPool::new);
+    }
+
+    public static HttpClientPool getInstance() {
+        return getInstance(DEFAULT_MAX_CONNECTIONS);
+    }
+
+    /**
+     * Returns the client for the SSL configuration of the datasource and the HTTP protocol, creating it the first time.
+     * When HTTP/2 is asked for, HTTP/1.1 is offered as well, so that servers without HTTP/2 can still be called, and
+     * the requests to the ones supporting it are multiplexed over a single connection.
+     */
+    public HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
+        if (httpProtocol == null) {
+            httpProtocol = HttpProtocol.HTTP11;
+        }
+
+        ClientKey key = ClientKey.of(datasourceConfiguration, httpProtocol);
+        try {
+            return httpClients.get(key, () -> createHttpClient(datasourceConfiguration, key.protocol()));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private HttpClient createHttpClient(DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
+        HttpProtocol[] protocols = HttpProtocol.H2.equals(httpProtocol)
+                ? new HttpProtocol[] {HttpProtocol.H2, HttpProtocol.HTTP11}
+                : new HttpProtocol[] {httpProtocol};
+
+        return HttpClient.create(connectionProvider)
+                .protocol(protocols)
+                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
+                .compress(true);
+    }
+
+    /**
+     * What the client depends on, which is the certificate trusted by the datasource, if it has one, and the protocol.
+     */
+    private record ClientKey(HttpProtocol protocol, String certificate) {
+
+        static ClientKey of(DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
+            String certificate = null;
+            if (datasourceConfiguration.getConnection() != null
+                    && datasourceConfiguration.getConnection().getSsl() != null
+                    && datasourceConfiguration.getConnection().getSsl().getAuthType()
+                            == SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE) {
+                UploadedFile certificateFile =
+                        datasourceConfiguration.getConnection().getSsl().getCertificateFile();
+                // Kept apart from the clients trusting the default certificates, even without a certificate file
+                certificate = certificateFile == null || certificateFile.getBase64Content() == null
+                        ? ""
+                        : certificateFile.getBase64Content();
+            }
+            return new ClientKey(httpProtocol, certificate);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.appsmith.external.models;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.fasterxml.jackson.core.JsonToken.START_ARRAY;
+
+/**
+ * Body of an {@link ActionExecutionResult} for a table of rows, holding the column names once and the values of every
+ * row in an array, instead of a map of column names to values per row and a JSON tree of the whole table.
+ * <p>
+ * It is serialized as an array of objects, exactly like a list of {@link LinkedHashMap} rows with the same columns, so
+ * the response sent to the client is the same. When a column name repeats, like in the result of a join selecting two
+ * columns of the same name, the field is written once, at the place of its first column and with the value of its last
+ * one, as putting the values in a map would.
+ */
+public class TabularBody implements JsonSerializable {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Getter
+    private final List<String> columns;
+
+    private final List<Object[]> rows = new ArrayList<>();
+
+    /**
+     * Distinct column names in the order of their first column, and the index of the column whose value is written for
+     * each of them.
+     */
+    private final String[] fieldNames;
+
+    private final int[] valueIndexes;
+
+    public TabularBody(List<String> columns) {
+        this.columns = Collections.unmodifiableList(new ArrayList<>(columns));
+
+        Map<String, Integer> lastIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            lastIndexes.put(columns.get(i), i);
+        }
+        this.fieldNames = lastIndexes.keySet().toArray(new String[0]);
+        this.valueIndexes =
+                lastIndexes.values().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Adds a row, given as the values of the columns in order. The array is kept as is and must not be changed after.
+     */
+    public void addRow(Object[] values) {
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException(
+                    "Row has " + values.length + " values but the table has " + columns.size() + " columns");
+        }
+        rows.add(values);
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+
+    /**
+     * Returns the row at the given index as a new map of column names to values, in the order of the columns.
+     */
+    public Map<String, Object> getRow(int index) {
+        Object[] values = rows.get(index);
+        Map<String, Object> row = new LinkedHashMap<>(fieldNames.length);
+        for (int i = 0; i < fieldNames.length; i++) {
+            row.put(fieldNames[i], values[valueIndexes[i]]);
+        }
+        return row;
+    }
+
+    /**
+     * Returns a view of the rows as maps of column names to values, each map being created when its row is read.
+     */
+    public List<Map<String, Object>> asRowMaps() {
+        return new AbstractList<>() {
+            @Override
+            public Map<String, Object> get(int index) {
+                return getRow(index);
+            }
+
+            @Override
+            public int size() {
+                return rows.size();
+            }
+        };
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartArray(this, rows.size());
+        writeRows(gen, serializers);
+        gen.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(this, START_ARRAY));
+        writeRows(gen, serializers);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    private void writeRows(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        for (Object[] values : rows) {
+            gen.writeStartObject();
+            for (int i = 0; i < fieldNames.length; i++) {
+                gen.writeFieldName(fieldNames[i]);
+                serializers.defaultSerializeValue(values[valueIndexes[i]], gen);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * Returns the JSON text of the table, like the JSON tree of its rows would.
+     */
+    @Override
+    public String toString() {
+        try {
+            return objectMapper.writeValueAsString(this);
+        } catch (JsonProcessingException e) {
+            return "TabularBody(columns=" + columns + ", rows=" + rows.size() + ")";
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.appsmith.external.helpers.restApiUtils.helpers.DataUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.DatasourceUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.HeaderUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.HintMessageUtils;
+import com.appsmith.external.helpers.restApiUtils.helpers.HttpClientPool;
 import com.appsmith.external.helpers.restApiUtils.helpers.InitUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.RestAPIActivateUtils;
 import com.appsmith.external.helpers.restApiUtils.helpers.SmartSubstitutionUtils;
@@ -50,7 +51,8 @@ public class BaseRestApiPluginExecutor implements PluginExecutor<APIConnection>,
         this.dataUtils = new DataUtils();
         this.smartSubstitutionUtils = new SmartSubstitutionUtils();
         this.uriUtils = new URIUtils();
-        this.restAPIActivateUtils = new RestAPIActivateUtils();
+        this.restAPIActivateUtils =
+                new RestAPIActivateUtils(HttpClientPool.getInstance(sharedConfig.getRestApiMaxConnections()));
         this.initUtils = new InitUtils();
         this.headerUtils = new HeaderUtils();
         this.datasourceUtils = new DatasourceUtils();
@@ -12,16 +12,20 @@ import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceStructure.Template;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Param;
+import com.appsmith.external.models.TabularBody;
 import com.appsmith.external.models.TriggerRequestDTO;
 import com.appsmith.external.models.TriggerResultDTO;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import io.micrometer.observation.ObservationRegistry;
 import org.pf4j.ExtensionPoint;
 import org.springframework.util.StringUtils;
 import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.util.function.Tuple2;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -283,6 +287,55 @@ public interface PluginExecutor<C> extends ExtensionPoint, CrudTemplateService {
                 .tap(Micrometer.observation(observationRegistry));
     }
 
+    /**
+     * Streaming variant of {@link #executeParameterized}, for results too large to be held in memory as one
+     * {@link ActionExecutionResult}. Emits the rows of the result one by one, honouring the demand of the subscriber, and
+     * errors out if the execution fails.
+     * <p>
+     * Plugins that can read the rows of their result incrementally should override this function. The default
+     * implementation executes the action as usual and emits the rows of the complete body.
+     *
+     * @param connection              : This is the connection that is established to the data source. This connection is according
+     *                                to the parameters in Datasource Configuration
+     * @param executeActionDTO        : This is the data structure sent by the client during execute. This contains the params
+     *                                which would be used for substitution
+     * @param datasourceConfiguration : These are the configurations which have been used to create a Datasource from a Plugin
+     * @param actionConfiguration     : These are the configurations which have been used to create an Action from a Datasource.
+     * @return Flux of rows, each one an element of the body that executeParameterized would have returned
+     */
+    default Flux<Object> executeParameterizedStreaming(
+            C connection,
+            ExecuteActionDTO executeActionDTO,
+            DatasourceConfiguration datasourceConfiguration,
+            ActionConfiguration actionConfiguration) {
+        return this.executeParameterized(connection, executeActionDTO, datasourceConfiguration, actionConfiguration)
+                .flatMapMany(PluginExecutor::getResultRows);
+    }
+
+    /**
+     * Emits the rows of the body of an execution result, for plugins streaming the result of executions they can only
+     * run as a whole. A body that is not an array is emitted as a single row.
+     *
+     * @param result : The result of the execution
+     * @return Flux of rows, or an error if the execution failed
+     */
+    static Flux<Object> getResultRows(ActionExecutionResult result) {
+        if (!Boolean.TRUE.equals(result.getIsExecutionSuccess())) {
+            return Flux.error(
+                    new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, String.valueOf(result.getBody())));
+        }
+
+        Object body = result.getBody();
+        if (body instanceof ArrayNode arrayNode) {
+            return Flux.<Object>fromIterable(arrayNode);
+        } else if (body instanceof TabularBody tabularBody) {
+            return Flux.<Object>fromIterable(tabularBody.asRowMaps());
+        } else if (body instanceof Collection<?> collection) {
+            return Flux.<Object>fromIterable(collection);
+        }
+        return Mono.justOrEmpty(body).flux();
+    }
+
     default Mono<TriggerResultDTO> triggerWithFlags(
             C connection,
             DatasourceConfiguration datasourceConfiguration,
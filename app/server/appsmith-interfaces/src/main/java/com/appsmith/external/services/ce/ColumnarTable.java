@@ -0,0 +1,984 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.SortType;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.getBindingDataType;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Column oriented copy of the rows filtered by {@link FilterDataServiceCE}. Every column of the schema is parsed once
+ * into an array of its data type, along with the rows where it is null, and the where clause, sorting and pagination
+ * are evaluated on these arrays.
+ * <p>
+ * The results are the ones of the H2 table the rows used to be inserted into: values are parsed and nulled as they
+ * were bound to the statements, conditions never match null values, nulls sort first in ascending order and the values
+ * returned have the Java types H2 returned for the column types.
+ */
+final class ColumnarTable {
+
+    private static final Set<ConditionalOperator> NULL_MATCHING_OPERATORS = Set.of(
+            ConditionalOperator.EQ,
+            ConditionalOperator.IN,
+            ConditionalOperator.CONTAINS,
+            ConditionalOperator.LTE,
+            ConditionalOperator.LT);
+
+    private static final Set<ConditionalOperator> NOT_NULL_MATCHING_OPERATORS = Set.of(
+            ConditionalOperator.NOT_IN, ConditionalOperator.NOT_EQ, ConditionalOperator.GTE, ConditionalOperator.GT);
+
+    private static final String DEFAULT_LIMIT = "20";
+    private static final String DEFAULT_OFFSET = "0";
+
+    private final int size;
+    private final Map<String, Column> columns;
+
+    private ColumnarTable(int size, Map<String, Column> columns) {
+        this.size = size;
+        this.columns = columns;
+    }
+
+    /**
+     * Parses the items into columns of the types of the schema. Columns of types that H2 did not support natively are
+     * kept as strings, like they were stored in VARCHAR columns.
+     */
+    static ColumnarTable load(
+            ArrayNode items, Map<String, DataType> schema, Map<DataType, DataType> dataTypeConversionMap) {
+        int size = items.size();
+        Map<String, Column> columns = new LinkedHashMap<>(schema.size());
+
+        List<String> columnNames = new ArrayList<>(schema.keySet());
+        DataType[] topRowDataTypes = new DataType[columnNames.size()];
+        Column[] columnsInOrder = new Column[columnNames.size()];
+        for (int i = 0; i < columnNames.size(); i++) {
+            DataType topRowDataType = schema.get(columnNames.get(i));
+            DataType columnDataType = dataTypeConversionMap == null
+                    ? topRowDataType
+                    : dataTypeConversionMap.getOrDefault(topRowDataType, topRowDataType);
+            topRowDataTypes[i] = topRowDataType;
+            columnsInOrder[i] = Column.of(columnDataType, size);
+            columns.put(columnNames.get(i), columnsInOrder[i]);
+        }
+
+        // Rows are read one after the other, which reads each item once rather than once per column
+        int row = 0;
+        for (JsonNode item : items) {
+            for (int i = 0; i < columnsInOrder.length; i++) {
+                Column column = columnsInOrder[i];
+                JsonNode fieldNode = item.get(columnNames.get(i));
+                String value = fieldNode == null ? null : fieldNode.asText();
+                if (value == null
+                        || getBindingDataType(value, topRowDataTypes[i], dataTypeConversionMap) == DataType.NULL) {
+                    column.nulls.set(row);
+                } else {
+                    try {
+                        column.set(row, value);
+                    } catch (IllegalArgumentException e) {
+                        throw parseError(value, column.dataType, e);
+                    }
+                }
+            }
+            row++;
+        }
+
+        return new ColumnarTable(size, columns);
+    }
+
+    /**
+     * Returns the rows matching the where clause of the filter params, sorted, paginated and with the projected columns
+     * only. Null values are returned as empty strings.
+     */
+    List<Map<String, Object>> select(UQIDataFilterParams uqiDataFilterParams, ObjectMapper objectMapper) {
+        Condition condition = uqiDataFilterParams.getCondition();
+        List<String> projectionColumns = uqiDataFilterParams.getProjectionColumns();
+        List<Map<String, String>> sortBy = uqiDataFilterParams.getSortBy();
+        Map<String, String> paginateBy = uqiDataFilterParams.getPaginateBy();
+
+        Map<String, Column> projection = columns;
+        if (!CollectionUtils.isEmpty(projectionColumns)) {
+            projection = new LinkedHashMap<>(projectionColumns.size());
+            for (String columnName : projectionColumns) {
+                projection.put(columnName, getColumn(columnName));
+            }
+        }
+
+        BitSet matches = null;
+        if (Condition.isValid(condition)) {
+            matches = evaluate((List<Condition>) condition.getValue(), condition.getOperator(), objectMapper);
+        }
+
+        int[] rows = matches == null ? allRows() : matches.stream().toArray();
+        rows = sort(rows, sortBy);
+
+        int from = 0;
+        int to = rows.length;
+        if (!CollectionUtils.isEmpty(paginateBy)) {
+            Integer limit = parsePaginationValue(paginateBy.get(PAGINATE_LIMIT_KEY), DEFAULT_LIMIT);
+            Integer offset = parsePaginationValue(paginateBy.get(PAGINATE_OFFSET_KEY), DEFAULT_OFFSET);
+            // Like SQL, a null limit does not limit the rows and a null offset does not skip any
+            from = offset == null ? 0 : Math.min(offset, rows.length);
+            to = limit == null ? rows.length : (int) Math.min((long) from + limit, rows.length);
+        }
+
+        List<Map<String, Object>> rowsList = new ArrayList<>(Math.max(to - from, 0));
+        for (int i = from; i < to; i++) {
+            int row = rows[i];
+            Map<String, Object> resultRow = new LinkedHashMap<>(projection.size());
+            for (Map.Entry<String, Column> entry : projection.entrySet()) {
+                Column column = entry.getValue();
+                // Set null values to empty strings
+                resultRow.put(entry.getKey(), column.nulls.get(row) ? "" : column.get(row));
+            }
+            rowsList.add(resultRow);
+        }
+
+        return rowsList;
+    }
+
+    private int[] allRows() {
+        int[] rows = new int[size];
+        Arrays.setAll(rows, row -> row);
+        return rows;
+    }
+
+    private Column getColumn(String columnName) {
+        Column column = columns.get(columnName);
+        if (column == null) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Filtering failure seen : Column \"" + columnName + "\" not found");
+        }
+        return column;
+    }
+
+    /**
+     * Returns the rows matching the conditions joined by the logical operator, or null when none of the conditions
+     * applies to a column, in which case all the rows match.
+     */
+    private BitSet evaluate(List<Condition> conditions, ConditionalOperator logicOp, ObjectMapper objectMapper) {
+        BitSet result = null;
+
+        for (Condition condition : conditions) {
+            ConditionalOperator operator = condition.getOperator();
+            BitSet matches;
+            if (operator == ConditionalOperator.AND || operator == ConditionalOperator.OR) {
+                matches = evaluate((List<Condition>) condition.getValue(), operator, objectMapper);
+            } else if (StringUtils.isNotEmpty(condition.getPath())) {
+                matches = evaluate(condition, objectMapper);
+            } else {
+                matches = null;
+            }
+
+            if (matches == null) {
+                continue;
+            }
+            if (result == null) {
+                result = matches;
+            } else if (logicOp == ConditionalOperator.OR) {
+                result.or(matches);
+            } else {
+                result.and(matches);
+            }
+        }
+
+        return result;
+    }
+
+    private BitSet evaluate(Condition condition, ObjectMapper objectMapper) {
+        Column column = getColumn(condition.getPath());
+        ConditionalOperator operator = condition.getOperator();
+        String value = (String) condition.getValue();
+
+        // Empty values filter on the presence of a value rather than on the value itself
+        if (StringUtils.isEmpty(value)) {
+            if (NULL_MATCHING_OPERATORS.contains(operator)) {
+                return (BitSet) column.nulls.clone();
+            }
+            if (NOT_NULL_MATCHING_OPERATORS.contains(operator)) {
+                return nonNullRows(column);
+            }
+            throw unsupportedOperator(operator);
+        }
+
+        return switch (operator) {
+            case LT -> compare(column, value, comparison -> comparison < 0);
+            case LTE -> compare(column, value, comparison -> comparison <= 0);
+            case EQ -> compare(column, value, comparison -> comparison == 0);
+            case NOT_EQ -> compare(column, value, comparison -> comparison != 0);
+            case GT -> compare(column, value, comparison -> comparison > 0);
+            case GTE -> compare(column, value, comparison -> comparison >= 0);
+            case IN -> in(column, value, true, objectMapper);
+            case NOT_IN -> in(column, value, false, objectMapper);
+            case CONTAINS -> contains(column, value);
+            default -> throw unsupportedOperator(operator);
+        };
+    }
+
+    private BitSet nonNullRows(Column column) {
+        BitSet result = new BitSet(size);
+        result.set(0, size);
+        result.andNot(column.nulls);
+        return result;
+    }
+
+    private BitSet compare(Column column, String value, IntPredicate test) {
+        BitSet result = new BitSet(size);
+        Object parsedValue = parseConditionValue(column, value);
+        if (parsedValue == null) {
+            // Comparisons with null are never true
+            return result;
+        }
+
+        for (int row = column.nulls.nextClearBit(0); row < size; row = column.nulls.nextClearBit(row + 1)) {
+            if (test.test(column.compare(row, parsedValue))) {
+                result.set(row);
+            }
+        }
+        return result;
+    }
+
+    private BitSet in(Column column, String value, boolean in, ObjectMapper objectMapper) {
+        List<Object> arrayValues;
+        try {
+            arrayValues = objectMapper.readValue(value, List.class);
+        } catch (IOException e) {
+            arrayValues = null;
+        }
+        if (arrayValues == null) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, value + " could not be parsed into an array");
+        }
+
+        BitSet result = new BitSet(size);
+        if (arrayValues.isEmpty()) {
+            if (!in) {
+                result.set(0, size);
+            }
+            return result;
+        }
+
+        List<Object> parsedValues = new ArrayList<>(arrayValues.size());
+        boolean hasNull = false;
+        for (Object arrayValue : arrayValues) {
+            Object parsedValue = parseConditionValue(column, String.valueOf(arrayValue));
+            if (parsedValue == null) {
+                hasNull = true;
+            } else {
+                parsedValues.add(parsedValue);
+            }
+        }
+        if (!in && hasNull) {
+            // A value that is not found may be the null one, so NOT IN is never true
+            return result;
+        }
+
+        for (int row = column.nulls.nextClearBit(0); row < size; row = column.nulls.nextClearBit(row + 1)) {
+            boolean found = false;
+            for (Object parsedValue : parsedValues) {
+                if (column.compare(row, parsedValue) == 0) {
+                    found = true;
+                    break;
+                }
+            }
+            if (found == in) {
+                result.set(row);
+            }
+        }
+        return result;
+    }
+
+    private BitSet contains(Column column, String value) {
+        if (!column.isText()) {
+            // The LIKE pattern was bound with the type of the column, which fails for numbers
+            String pattern = "%" + value + "%";
+            parseConditionValue(column, pattern);
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Filtering failure seen : Values of type " + column.dataType + " can not be matched with "
+                            + ConditionalOperator.CONTAINS);
+        }
+
+        BitSet result = new BitSet(size);
+        for (int row = column.nulls.nextClearBit(0); row < size; row = column.nulls.nextClearBit(row + 1)) {
+            if (column.text(row).contains(value)) {
+                result.set(row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parses a value of a condition with the type of the column, or returns null when the value is bound as null.
+     */
+    private static Object parseConditionValue(Column column, String value) {
+        if (getBindingDataType(value, column.dataType, null) == DataType.NULL) {
+            return null;
+        }
+        try {
+            return column.parse(value);
+        } catch (IllegalArgumentException e) {
+            throw parseError(value, column.dataType, e);
+        }
+    }
+
+    private int[] sort(int[] rows, List<Map<String, String>> sortBy) {
+        if (CollectionUtils.isEmpty(sortBy)) {
+            return rows;
+        }
+
+        Comparator<Integer> comparator = null;
+        for (Map<String, String> sortCondition : sortBy) {
+            String columnName = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
+            if (isBlank(columnName)) {
+                continue;
+            }
+
+            SortType sortType = getSortType(sortCondition.get(SORT_BY_TYPE_KEY));
+            Column column = getColumn(columnName);
+            // Nulls are lower than any value, so they come first in ascending order and last in descending order
+            Comparator<Integer> columnComparator = (row, otherRow) -> {
+                boolean isNull = column.nulls.get(row);
+                boolean isOtherNull = column.nulls.get(otherRow);
+                if (isNull || isOtherNull) {
+                    return Boolean.compare(!isNull, !isOtherNull);
+                }
+                return column.compareRows(row, otherRow);
+            };
+            if (sortType == SortType.DESCENDING) {
+                columnComparator = columnComparator.reversed();
+            }
+            comparator = comparator == null ? columnComparator : comparator.thenComparing(columnComparator);
+        }
+
+        if (comparator == null) {
+            return rows;
+        }
+
+        Integer[] sortedRows = Arrays.stream(rows).boxed().toArray(Integer[]::new);
+        Arrays.sort(sortedRows, comparator);
+        return Arrays.stream(sortedRows).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static SortType getSortType(String sortType) {
+        try {
+            return SortType.valueOf(String.valueOf(sortType).toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_ERROR,
+                    "Appsmith server failed "
+                            + "to parse the type of sort condition. Please reach out to Appsmith customer support "
+                            + "to resolve this.");
+        }
+    }
+
+    private static Integer parsePaginationValue(String value, String defaultValue) {
+        if (isBlank(value)) {
+            value = defaultValue;
+        }
+        if (getBindingDataType(value, DataType.INTEGER, null) == DataType.NULL) {
+            return null;
+        }
+
+        int parsedValue;
+        try {
+            parsedValue = parseInteger(value);
+        } catch (IllegalArgumentException e) {
+            throw parseError(value, DataType.INTEGER, e);
+        }
+        if (parsedValue < 0) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Filtering failure seen : Invalid value " + parsedValue + " for limit or offset");
+        }
+        return parsedValue;
+    }
+
+    private static AppsmithPluginException parseError(String value, DataType dataType, IllegalArgumentException e) {
+        return new AppsmithPluginException(
+                AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                "Error while interacting with value " + value + " : " + e.getMessage()
+                        + ". The data type value was being parsed to was : " + dataType);
+    }
+
+    private static AppsmithPluginException unsupportedOperator(ConditionalOperator operator) {
+        return new AppsmithPluginException(
+                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                operator + " is not supported currently for filtering.");
+    }
+
+    private static String toNumericString(String value) {
+        return value.trim().replace(",", "");
+    }
+
+    private static int parseInteger(String value) {
+        return Integer.parseInt(toNumericString(value));
+    }
+
+    private static long parseLong(String value) {
+        return Long.parseLong(toNumericString(value));
+    }
+
+    private static BigDecimal parseDecimal(String value) {
+        return new BigDecimal(toNumericString(value));
+    }
+
+    /**
+     * Whether the value is a date in the yyyy-MM-dd format, which is parsed without going through the lenient patterns.
+     */
+    private static boolean isIsoDate(String value) {
+        return value.length() == 10
+                && value.charAt(4) == '-'
+                && value.charAt(7) == '-'
+                && isDigits(value, 0, 4)
+                && isDigits(value, 5, 7)
+                && isDigits(value, 8, 10);
+    }
+
+    private static boolean isDigits(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int parseDigits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            result = result * 10 + (value.charAt(i) - '0');
+        }
+        return result;
+    }
+
+    /**
+     * Column of values of one data type. Values are only read from rows that are not null.
+     */
+    private abstract static class Column {
+
+        final DataType dataType;
+        final BitSet nulls;
+
+        Column(DataType dataType, int size) {
+            this.dataType = dataType;
+            this.nulls = new BitSet(size);
+        }
+
+        static Column of(DataType dataType, int size) {
+            return switch (dataType) {
+                case INTEGER -> new IntegerColumn(size);
+                case LONG -> new LongColumn(size);
+                case FLOAT -> new FloatColumn(size);
+                case DOUBLE -> new DoubleColumn(size);
+                case BOOLEAN -> new BooleanColumn(size);
+                case DATE -> new DateColumn(size);
+                case TIMESTAMP -> new TimestampColumn(size);
+                default -> new StringColumn(size);
+            };
+        }
+
+        /**
+         * Sets the value of the row, parsed like it was converted when bound to a statement for the column type.
+         */
+        abstract void set(int row, String value);
+
+        /**
+         * Parses the value of a condition into the object that {@link #compare} takes.
+         */
+        abstract Object parse(String value);
+
+        abstract int compare(int row, Object parsedValue);
+
+        abstract int compareRows(int row, int otherRow);
+
+        /**
+         * Returns the value of the row as H2 returned it for the column type.
+         */
+        abstract Object get(int row);
+
+        /**
+         * Whether the values of the column are matched as text by {@link ConditionalOperator#CONTAINS}.
+         */
+        boolean isText() {
+            return false;
+        }
+
+        String text(int row) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class IntegerColumn extends Column {
+
+        private final int[] values;
+
+        IntegerColumn(int size) {
+            super(DataType.INTEGER, size);
+            this.values = new int[size];
+        }
+
+        @Override
+        void set(int row, String value) {
+            values[row] = parseInteger(value);
+        }
+
+        @Override
+        Object parse(String value) {
+            return parseInteger(value);
+        }
+
+        @Override
+        int compare(int row, Object parsedValue) {
+            return Integer.compare(values[row], (Integer) parsedValue);
+        }
+
+        @Override
+        int compareRows(int row, int otherRow) {
+            return Integer.compare(values[row], values[otherRow]);
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+    }
+
+    private static final class LongColumn extends Column {
+
+        private final long[] values;
+
+        LongColumn(int size) {
+            super(DataType.LONG, size);
+            this.values = new long[size];
+        }
+
+        @Override
+        void set(int row, String value) {
+            values[row] = parseLong(value);
+        }
+
+        @Override
+        Object parse(String value) {
+            return parseLong(value);
+        }
+
+        @Override
+        int compare(int row, Object parsedValue) {
+            return Long.compare(values[row], (Long) parsedValue);
+        }
+
+        @Override
+        int compareRows(int row, int otherRow) {
+            return Long.compare(values[row], values[otherRow]);
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+    }
+
+    /**
+     * Decimal value of a condition, compared with the decimal value of the shortest representation of each float or
+     * double of a column, like H2 compares REAL and DOUBLE columns with NUMERIC parameters. The nearest binary value
+     * orders the same as the decimal one against every other binary value, so only a tie needs the decimal comparison.
+     */
+    private record BinaryComparand(double value, int tie) {}
+
+    private static final class FloatColumn extends Column {
+
+        private final float[] values;
+
+        FloatColumn(int size) {
+            super(DataType.FLOAT, size);
+            this.values = new float[size];
+        }
+
+        @Override
+        void set(int row, String value) {
+            values[row] = parseDecimal(value).floatValue();
+        }
+
+        @Override
+        Object parse(String value) {
+            BigDecimal decimal = parseDecimal(value);
+            float nearest = decimal.floatValue();
+            int tie = Float.isInfinite(nearest)
+                    ? (nearest > 0 ? 1 : -1)
+                    : new BigDecimal(Float.toString(nearest)).compareTo(decimal);
+            return new BinaryComparand(nearest, tie);
+        }
+
+        @Override
+        int compare(int row, Object parsedValue) {
+            BinaryComparand comparand = (BinaryComparand) parsedValue;
+            int comparison = Float.compare(values[row], (float) comparand.value());
+            return comparison != 0 ? comparison : comparand.tie();
+        }
+
+        @Override
+        int compareRows(int row, int otherRow) {
+            return Float.compare(values[row], values[otherRow]);
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+
+        private final double[] values;
+
+        DoubleColumn(int size) {
+            super(DataType.DOUBLE, size);
+            this.values = new double[size];
+        }
+
+        @Override
+        void set(int row, String value) {
+            values[row] = parseDecimal(value).doubleValue();
+        }
+
+        @Override
+        Object parse(String value) {
+            BigDecimal decimal = parseDecimal(value);
+            double nearest = decimal.doubleValue();
+            int tie = Double.isInfinite(nearest)
+                    ? (nearest > 0 ? 1 : -1)
+                    : new BigDecimal(Double.toString(nearest)).compareTo(decimal);
+            return new BinaryComparand(nearest, tie);
+        }
+
+        @Override
+        int compare(int row, Object parsedValue) {
+            BinaryComparand comparand = (BinaryComparand) parsedValue;
+            int comparison = Double.compare(values[row], comparand.value());
+            return comparison != 0 ? comparison : comparand.tie();
+        }
+
+        @Override
+        int compareRows(int row, int otherRow) {
+            return Double.compare(values[row], values[otherRow]);
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+    }
+
+    private static final class BooleanColumn extends Column {
+
+        private final BitSet values;
+
+        BooleanColumn(int size) {
+            super(DataType.BOOLEAN, size);
+            this.values = new BitSet(size);
+        }
+
+        @Override
+        void set(int row, String value) {
+            values.set(row, Boolean.parseBoolean(value));
+        }
+
+        @Override
+        Object parse(String value) {
+            return Boolean.parseBoolean(value);
+        }
+
+        @Override
+        int compare(int row, Object parsedValue) {
+            return Boolean.compare(values.get(row), (Boolean) parsedValue);
+        }
+
+        @Override
+        int compareRows(int row, int otherRow) {
+            return Boolean.compare(values.get(row), values.get(otherRow));
+        }
+
+        @Override
+        Object get(int row) {
+            return values.get(row);
+        }
+    }
+
+    private static final class StringColumn extends Column {
+
+        private final String[] values;
+
+        StringColumn(int size) {
+            super(DataType.STRING, size);
+            this.values = new String[size];
+        }
+
+        @Override
+        void set(int row, String value) {
+            values[row] = value;
+        }
+
+        @Override
+        Object parse(String value) {
+            return value;
+        }
+
+        @Override
+        int compare(int row, Object parsedValue) {
+            return values[row].compareTo((String) parsedValue);
+        }
+
+        @Override
+        int compareRows(int row, int otherRow) {
+            return values[row].compareTo(values[otherRow]);
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        boolean isText() {
+            return true;
+        }
+
+        @Override
+        String text(int row) {
+            return values[row];
+        }
+    }
+
+    /**
+     * Dates, parsed with the lenient year-month-day format H2 accepts for DATE values.
+     */
+    private static final class DateColumn extends Column {
+
+        private static final Pattern DATE_PATTERN = Pattern.compile("([+-]?\\d{1,9})-(\\d{1,2})-(\\d{1,2})");
+
+        private final long[] epochDays;
+
+        DateColumn(int size) {
+            super(DataType.DATE, size);
+            this.epochDays = new long[size];
+        }
+
+        static LocalDate parseDate(String value) {
+            String trimmedValue = value.trim();
+            try {
+                if (isIsoDate(trimmedValue)) {
+                    return LocalDate.of(
+                            parseDigits(trimmedValue, 0, 4),
+                            parseDigits(trimmedValue, 5, 7),
+                            parseDigits(trimmedValue, 8, 10));
+                }
+                Matcher matcher = DATE_PATTERN.matcher(trimmedValue);
+                if (matcher.matches()) {
+                    return LocalDate.of(
+                            Integer.parseInt(matcher.group(1)),
+                            Integer.parseInt(matcher.group(2)),
+                            Integer.parseInt(matcher.group(3)));
+                }
+            } catch (DateTimeException e) {
+                // Not a valid date
+            }
+            throw new IllegalArgumentException("Cannot parse \"DATE\" constant \"" + value + "\"");
+        }
+
+        @Override
+        void set(int row, String value) {
+            epochDays[row] = parseDate(value).toEpochDay();
+        }
+
+        @Override
+        Object parse(String value) {
+            return parseDate(value).toEpochDay();
+        }
+
+        @Override
+        int compare(int row, Object parsedValue) {
+            return Long.compare(epochDays[row], (Long) parsedValue);
+        }
+
+        @Override
+        int compareRows(int row, int otherRow) {
+            return Long.compare(epochDays[row], epochDays[otherRow]);
+        }
+
+        @Override
+        Object get(int row) {
+            return Date.valueOf(LocalDate.ofEpochDay(epochDays[row]));
+        }
+
+        @Override
+        boolean isText() {
+            return true;
+        }
+
+        @Override
+        String text(int row) {
+            return LocalDate.ofEpochDay(epochDays[row]).toString();
+        }
+    }
+
+    /**
+     * Timestamps without time zone, parsed with the formats H2 accepts for TIMESTAMP values. Timestamps given with an
+     * offset are converted to the time zone of the JVM.
+     */
+    private static final class TimestampColumn extends Column {
+
+        private static final Pattern TIMESTAMP_PATTERN = Pattern.compile("([+-]?\\d{1,9})-(\\d{1,2})-(\\d{1,2})"
+                + "(?:[ T](\\d{1,2}):(\\d{1,2})(?::(\\d{1,2})(?:\\.(\\d{1,9}))?)?)?"
+                + "\\s*(Z|[+-]\\d{2}(?::?\\d{2})?)?");
+
+        private final long[] epochSeconds;
+        private final int[] nanos;
+
+        TimestampColumn(int size) {
+            super(DataType.TIMESTAMP, size);
+            this.epochSeconds = new long[size];
+            this.nanos = new int[size];
+        }
+
+        static LocalDateTime parseTimestamp(String value) {
+            String trimmedValue = value.trim();
+            try {
+                // yyyy-MM-dd HH:mm:ss, the format detected as a timestamp by stringToKnownDataTypeConverter
+                if (trimmedValue.length() == 19
+                        && isIsoDate(trimmedValue.substring(0, 10))
+                        && trimmedValue.charAt(10) == ' '
+                        && trimmedValue.charAt(13) == ':'
+                        && trimmedValue.charAt(16) == ':'
+                        && isDigits(trimmedValue, 11, 13)
+                        && isDigits(trimmedValue, 14, 16)
+                        && isDigits(trimmedValue, 17, 19)) {
+                    return LocalDateTime.of(
+                            parseDigits(trimmedValue, 0, 4),
+                            parseDigits(trimmedValue, 5, 7),
+                            parseDigits(trimmedValue, 8, 10),
+                            parseDigits(trimmedValue, 11, 13),
+                            parseDigits(trimmedValue, 14, 16),
+                            parseDigits(trimmedValue, 17, 19));
+                }
+                Matcher matcher = TIMESTAMP_PATTERN.matcher(trimmedValue);
+                if (matcher.matches()) {
+                    LocalDateTime timestamp = LocalDateTime.of(
+                            Integer.parseInt(matcher.group(1)),
+                            Integer.parseInt(matcher.group(2)),
+                            Integer.parseInt(matcher.group(3)),
+                            parseOrZero(matcher.group(4)),
+                            parseOrZero(matcher.group(5)),
+                            parseOrZero(matcher.group(6)),
+                            matcher.group(7) == null
+                                    ? 0
+                                    : Integer.parseInt(StringUtils.rightPad(matcher.group(7), 9, '0')));
+                    if (matcher.group(8) != null) {
+                        timestamp = OffsetDateTime.of(timestamp, ZoneOffset.of(matcher.group(8)))
+                                .atZoneSameInstant(ZoneId.systemDefault())
+                                .toLocalDateTime();
+                    }
+                    return timestamp;
+                }
+            } catch (DateTimeException e) {
+                // Not a valid timestamp
+            }
+            throw new IllegalArgumentException("Cannot parse \"TIMESTAMP\" constant \"" + value + "\"");
+        }
+
+        private static int parseOrZero(String value) {
+            return value == null ? 0 : Integer.parseInt(value);
+        }
+
+        private LocalDateTime getTimestamp(int row) {
+            return LocalDateTime.ofEpochSecond(epochSeconds[row], nanos[row], ZoneOffset.UTC);
+        }
+
+        @Override
+        void set(int row, String value) {
+            LocalDateTime timestamp = parseTimestamp(value);
+            epochSeconds[row] = timestamp.toEpochSecond(ZoneOffset.UTC);
+            nanos[row] = timestamp.getNano();
+        }
+
+        @Override
+        Object parse(String value) {
+            return parseTimestamp(value);
+        }
+
+        @Override
+        int compare(int row, Object parsedValue) {
+            LocalDateTime timestamp = (LocalDateTime) parsedValue;
+            int comparison = Long.compare(epochSeconds[row], timestamp.toEpochSecond(ZoneOffset.UTC));
+            return comparison != 0 ? comparison : Integer.compare(nanos[row], timestamp.getNano());
+        }
+
+        @Override
+        int compareRows(int row, int otherRow) {
+            int comparison = Long.compare(epochSeconds[row], epochSeconds[otherRow]);
+            return comparison != 0 ? comparison : Integer.compare(nanos[row], nanos[otherRow]);
+        }
+
+        @Override
+        Object get(int row) {
+            return Timestamp.valueOf(getTimestamp(row));
+        }
+
+        @Override
+        boolean isText() {
+            return true;
+        }
+
+        /**
+         * Returns the timestamp formatted like H2 casts it to text, with the fraction of second only when there is one.
+         */
+        @Override
+        String text(int row) {
+            LocalDateTime timestamp = getTimestamp(row);
+            StringBuilder sb = new StringBuilder(29);
+            sb.append(timestamp.toLocalDate()).append(' ');
+            sb.append(
+                    String.format("%02d:%02d:%02d", timestamp.getHour(), timestamp.getMinute(), timestamp.getSecond()));
+            if (timestamp.getNano() != 0) {
+                sb.append('.').append(StringUtils.stripEnd(String.format("%09d", timestamp.getNano()), "0"));
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -100,14 +100,7 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
 
         objectMapper = SerializationUtils.getObjectMapperWithSourceInLocationEnabled();
 
-        try {
-            connection = DriverManager.getConnection(URL);
-        } catch (SQLException e) {
-            log.error(e.getMessage());
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Failed to connect to the in memory database. Unable to perform filtering : " + e.getMessage());
-        }
+        // The in memory database is only connected to by the methods using it, see checkAndGetConnection
     }
 
     /**
@@ -133,6 +126,39 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             uqiDataFilterParams.setCondition(updatedCondition);
         }
 
+        Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
+
+        // Filter the data on a columnar copy of the items
+        ColumnarTable table = ColumnarTable.load(items, schema, dataTypeConversionMap);
+        List<Map<String, Object>> finalResults = table.select(uqiDataFilterParams, objectMapper);
+
+        ArrayNode finalResultsNode = objectMapper.valueToTree(finalResults);
+
+        return finalResultsNode;
+    }
+
+    /**
+     * Filters the data like {@link #filterDataNew(ArrayNode, UQIDataFilterParams, Map)} does, by inserting it into a
+     * table of the in memory H2 database and querying it. This was how all the data was filtered before the columnar
+     * table, it is kept to compare both in tests and benchmarks.
+     *
+     * @param items                 - data
+     * @param uqiDataFilterParams   - filter conditions to apply on data
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return filtered data
+     */
+    public ArrayNode filterDataInDatabase(
+            ArrayNode items, UQIDataFilterParams uqiDataFilterParams, Map<DataType, DataType> dataTypeConversionMap) {
+        if (items == null || items.size() == 0) {
+            return items;
+        }
+
+        Condition condition = uqiDataFilterParams.getCondition();
+        if (Condition.isValid(condition)) {
+            Condition updatedCondition = addValueDataType(condition);
+            uqiDataFilterParams.setCondition(updatedCondition);
+        }
+
         Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
         String tableName = generateTable(schema);
 
@@ -696,38 +722,10 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             DataType topRowDataType,
             Map<DataType, DataType> dataTypeConversionMap) {
 
-        DataType dataType = topRowDataType;
-        if (dataTypeConversionMap != null) {
-            // The input datatype will be converted to custom DatType as per implementing dataTypeConversionMap
-            dataType = dataTypeConversionMap.getOrDefault(topRowDataType, topRowDataType);
-        }
+        DataType dataType = getBindingDataType(value, topRowDataType, dataTypeConversionMap);
 
         String strNumericValue = value.trim().replaceAll(",", "");
 
-        // Override datatype to null for empty values
-        if (StringUtils.isEmpty(value)) {
-            dataType = DataType.NULL;
-        } else {
-            // value is not empty.
-            DataType currentRowDataType = stringToKnownDataTypeConverter(value);
-            DataType inputDataType = currentRowDataType;
-            if (dataTypeConversionMap != null) {
-                // Datatype of each row be processed, expected to be consistent to column datatype (first row datatype).
-                inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
-            }
-            if (DataType.NULL.equals(inputDataType)) {
-                dataType = DataType.NULL;
-            }
-            // We are setting incompatible datatypes of each row to Null, rather allowing it and exit with error.
-            if (dataTypeConversionMap != null
-                    && inputDataType != dataType
-                    && !datatypeCompatibilityMap
-                            .getOrDefault(dataType, Set.of())
-                            .contains(inputDataType)) {
-                dataType = DataType.NULL;
-            }
-        }
-
         try {
             switch (dataType) {
                 case NULL: {
@@ -775,6 +773,62 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         return preparedStatement;
     }
 
+    /**
+     * Returns the data type a value of a column is bound as: the data type of the column, or NULL for empty values,
+     * values detected as null and, with a conversion map, values of a type incompatible with the column.
+     *
+     * @param value                 - value of the column
+     * @param topRowDataType        - data type of the column
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return the data type to bind the value as
+     */
+    static DataType getBindingDataType(
+            String value, DataType topRowDataType, Map<DataType, DataType> dataTypeConversionMap) {
+
+        DataType dataType = topRowDataType;
+        if (dataTypeConversionMap != null) {
+            // The input datatype will be converted to custom DatType as per implementing dataTypeConversionMap
+            dataType = dataTypeConversionMap.getOrDefault(topRowDataType, topRowDataType);
+        }
+
+        // Override datatype to null for empty values
+        if (StringUtils.isEmpty(value)) {
+            return DataType.NULL;
+        }
+
+        if (dataTypeConversionMap == null) {
+            // Without conversions, only a value detected as null changes the data type. Checking for the values
+            // stringToKnownDataTypeConverter detects as null spares detecting the type of every value.
+            return isNullValue(value) ? DataType.NULL : dataType;
+        }
+
+        // value is not empty.
+        DataType currentRowDataType = stringToKnownDataTypeConverter(value);
+        // Datatype of each row be processed, expected to be consistent to column datatype (first row datatype).
+        DataType inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
+        if (DataType.NULL.equals(inputDataType)) {
+            return DataType.NULL;
+        }
+        // We are setting incompatible datatypes of each row to Null, rather allowing it and exit with error.
+        if (inputDataType != dataType
+                && !datatypeCompatibilityMap.getOrDefault(dataType, Set.of()).contains(inputDataType)) {
+            return DataType.NULL;
+        }
+
+        return dataType;
+    }
+
+    /**
+     * Whether stringToKnownDataTypeConverter detects the value as null: an empty array or the null literal.
+     */
+    private static boolean isNullValue(String value) {
+        if (value.startsWith("[") && value.endsWith("]")) {
+            return value.substring(1, value.length() - 1).trim().isEmpty();
+        }
+        // Same as comparing the trimmed lower case value, since only N, U and L lower case to the letters of null
+        return "null".equalsIgnoreCase(value.trim());
+    }
+
     public boolean validConditionList(List<Condition> conditionList, Map<String, DataType> schema) {
 
         conditionList.stream()
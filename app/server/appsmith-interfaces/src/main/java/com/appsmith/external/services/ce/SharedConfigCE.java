@@ -1,5 +1,7 @@
 package com.appsmith.external.services.ce;
 
+import com.appsmith.external.helpers.restApiUtils.helpers.HttpClientPool;
+
 public interface SharedConfigCE {
 
     int getCodecSize();
@@ -7,4 +9,19 @@ public interface SharedConfigCE {
     int getMaxResponseSize();
 
     String getRemoteExecutionUrl();
+
+    /**
+     * Maximum number of connections the REST API and GraphQL plugins open to a host, shared by all their executions.
+     */
+    default int getRestApiMaxConnections() {
+        return HttpClientPool.DEFAULT_MAX_CONNECTIONS;
+    }
+
+    /**
+     * Largest file, in bytes, the S3 plugin reads into a single result. Larger files need to be read in ranges. 0 reads
+     * files of any size.
+     */
+    default long getS3MaxReadFileSize() {
+        return 0;
+    }
 }
@@ -619,4 +619,61 @@ public class MustacheHelperTest {
                         "gtSymbol", "&gt;"));
         assertThat(rendered).isEqualTo("Testing html lt < and gt > symbols");
     }
+
+    @Test
+    public void tokenize_WhenReturnedTokensAreModified_DoesNotAffectLaterCalls() {
+        String template = "SELECT * FROM users WHERE id = {{ Input1.text }}";
+
+        List<MustacheBindingToken> tokens = tokenize(template);
+        tokens.get(1).setValue("{{ modified }}");
+        tokens.clear();
+        MustacheHelper.extractMustacheKeysInOrder(template).get(0).setValue("modified");
+
+        checkTokens(
+                template,
+                Arrays.asList(
+                        new MustacheBindingToken("SELECT * FROM users WHERE id = ", 0, false),
+                        new MustacheBindingToken("{{ Input1.text }}", 31, true)));
+        assertThat(MustacheHelper.extractMustacheKeysInOrder(template))
+                .containsExactly(new MustacheBindingToken("Input1.text", 33, false));
+    }
+
+    @Test
+    public void replaceMustacheWithQuestionMark_WhenCalledAgainWithOtherBindings_ReplacesOnlyThoseBindings() {
+        String query = "SELECT * FROM users WHERE id = '{{ Input1.text }}' AND name = {{ Input2.text }}";
+        List<MustacheBindingToken> bindings = MustacheHelper.extractMustacheKeysInOrder(query);
+
+        assertThat(MustacheHelper.replaceMustacheWithQuestionMark(query, bindings))
+                .isEqualTo("SELECT * FROM users WHERE id = ? AND name = ?");
+        assertThat(MustacheHelper.replaceMustacheWithQuestionMark(query, bindings.subList(1, 2)))
+                .isEqualTo("SELECT * FROM users WHERE id = '{{ Input1.text }}' AND name = ?");
+        assertThat(MustacheHelper.replaceMustacheWithPlaceholder(query, bindings))
+                .isEqualTo("SELECT * FROM users WHERE id = " + SmartSubstitutionHelper.APPSMITH_SUBSTITUTION_PLACEHOLDER
+                        + " AND name = " + SmartSubstitutionHelper.APPSMITH_SUBSTITUTION_PLACEHOLDER);
+    }
+
+    @Test
+    public void templateCache_WhenLimitsExceeded_EvictsOldestTemplates() {
+        MustacheTemplateCache templateCache = new MustacheTemplateCache(2, 100);
+
+        MustacheTemplateCache.ParsedTemplate first = templateCache.get("{{ a }}", MustacheHelper::tokenize);
+        assertThat(templateCache.get("{{ a }}", MustacheHelper::tokenize)).isSameAs(first);
+        templateCache.get("{{ b }}", MustacheHelper::tokenize);
+        templateCache.get("{{ c }}", MustacheHelper::tokenize);
+
+        assertThat(templateCache.size()).isEqualTo(2);
+        assertThat(templateCache.get("{{ a }}", MustacheHelper::tokenize)).isNotSameAs(first);
+
+        // Longer than all the templates allowed, so it's parsed every time without evicting the others
+        String longTemplate = "{{ a }}".repeat(20);
+        assertThat(templateCache.get(longTemplate, MustacheHelper::tokenize).getTokens())
+                .hasSize(20);
+        assertThat(templateCache.get(longTemplate, MustacheHelper::tokenize))
+                .isNotSameAs(templateCache.get(longTemplate, MustacheHelper::tokenize));
+        assertThat(templateCache.size()).isEqualTo(2);
+
+        // Adding up the length of the templates, the oldest ones go until it is within the limit
+        templateCache.get("{{ " + "d".repeat(90) + " }}", MustacheHelper::tokenize);
+        assertThat(templateCache.size()).isEqualTo(1);
+    }
 }
@@ -0,0 +1,93 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResultSizeEstimatorTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static Map<String, Object> row(int i) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", i);
+        row.put("username", "user" + i);
+        row.put("score", -1234567890123L * i);
+        row.put("active", i % 2 == 0);
+        row.put("dob", null);
+        row.put("tags", List.of("admin", "viewer"));
+        row.put("codes", new Integer[] {i, -i, 0});
+        row.put("price", new BigDecimal("-1234.50"));
+        row.put("views", new BigInteger("123456789012345678901234567890"));
+        return row;
+    }
+
+    @Test
+    public void testAddRow_exactTypes_matchesSerializedSize() throws JsonProcessingException {
+        ResultSizeEstimator estimator = new ResultSizeEstimator(Long.MAX_VALUE);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rows.add(row(i));
+            estimator.addRow(row(i));
+        }
+
+        long serializedSize = objectMapper.writeValueAsString(rows).length();
+        // A comma is counted after the last row, and big integers are estimated from their number of bits
+        assertThat(estimator.getSize()).isBetween(serializedSize, serializedSize + 1 + 2 * rows.size());
+    }
+
+    @Test
+    public void testAddRow_jsonAndBinaryValues_estimatesSerializedSize() throws JsonProcessingException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("document", objectMapper.readTree("{\"a\": [1, true, null, \"text\"], \"b\": {\"c\": -12}}"));
+        row.put("bytes", new byte[] {1, 2, 3, 4, 5, 6, 7});
+        row.put("ratio", 0.25d);
+
+        ResultSizeEstimator estimator = new ResultSizeEstimator(Long.MAX_VALUE);
+        estimator.addRow(row);
+
+        long serializedSize = objectMapper.writeValueAsString(List.of(row)).length();
+        // Floating point values are counted at their longest text
+        assertThat(estimator.getSize()).isBetween(serializedSize, serializedSize + 24);
+    }
+
+    @Test
+    public void testIsLimitExceeded_stopsOnceRowsGrowPastMaxSize() {
+        ResultSizeEstimator estimator = new ResultSizeEstimator(1024);
+
+        int rows = 0;
+        while (!estimator.isLimitExceeded()) {
+            estimator.addRow(row(rows++));
+        }
+
+        assertThat(rows).isGreaterThan(1);
+        assertThat(estimator.getSize()).isGreaterThan(1024);
+        assertThat(estimator.getSize() - ResultSizeEstimator.sizeOf(row(rows - 1)))
+                .isLessThanOrEqualTo(1024);
+    }
+
+    @Test
+    public void testDigitCount_matchesTextLength() {
+        for (long value : Arrays.asList(0L, 9L, 10L, -1L, -10L, 99_999L, Long.MAX_VALUE, Long.MIN_VALUE)) {
+            assertThat(ResultSizeEstimator.digitCount(value))
+                    .as("%d", value)
+                    .isEqualTo(Long.toString(value).length());
+        }
+    }
+
+    @Test
+    public void testGetMaxSizeInMb() {
+        assertThat(new ResultSizeEstimator(5 * 1024 * 1024).getMaxSizeInMb()).isEqualTo(5f);
+        assertThat(ResultSizeEstimator.unbounded().isLimitExceeded()).isFalse();
+    }
+}
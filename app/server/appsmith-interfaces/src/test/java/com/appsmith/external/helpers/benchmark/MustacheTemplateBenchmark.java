@@ -0,0 +1,173 @@
+package com.appsmith.external.helpers.benchmark;
+
+import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.MustacheBindingToken;
+import com.appsmith.external.models.Property;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the work {@link MustacheHelper} does on every execution of a SQL query, which is extracting its bindings and
+ * replacing them with question marks, and on every layout update, which is extracting the bindings of every string in a
+ * deeply nested action configuration.
+ * <p>
+ * The warm cases use the same templates over and over, as executions of the same action do. The cold cases go through
+ * more distinct templates than the template cache keeps, so every template is parsed again, as before templates were
+ * cached. Run main from the test classpath, after mvn test-compile, or run org.openjdk.jmh.Main MustacheTemplateBenchmark
+ * with the usual JMH options.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+        value = 1,
+        jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class MustacheTemplateBenchmark {
+
+    // Enough distinct templates to go over both the number and the total length of the templates cached
+    private static final int COLD_VARIANTS = 1024;
+
+    @Param({"10", "200"})
+    public int bindings;
+
+    private String[] queries;
+    private ActionConfiguration[] actionConfigurations;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        queries = new String[COLD_VARIANTS];
+        actionConfigurations = new ActionConfiguration[COLD_VARIANTS];
+        for (int variant = 0; variant < COLD_VARIANTS; variant++) {
+            queries[variant] = query(variant);
+            actionConfigurations[variant] = actionConfiguration(variant);
+        }
+    }
+
+    /**
+     * Returns a SQL query of about 20 KB, with the given number of bindings spread over its conditions.
+     */
+    private String query(int variant) {
+        StringBuilder query = new StringBuilder("-- variant ").append(variant).append('\n');
+        query.append("SELECT u.id, u.name, u.email, o.total, o.created_at FROM users u\n");
+        query.append("JOIN orders o ON o.user_id = u.id\nWHERE 1 = 1\n");
+        int conditions = 400;
+        for (int i = 0; i < conditions; i++) {
+            if (i % (conditions / bindings) == 0) {
+                query.append("  AND o.column_")
+                        .append(i)
+                        .append(" = '{{ Table1.selectedRow.column_")
+                        .append(i)
+                        .append(" }}'\n");
+            } else {
+                query.append("  AND (o.status <> 'cancelled' OR o.column_")
+                        .append(i)
+                        .append(" IS NULL)\n");
+            }
+        }
+        return query.append("ORDER BY o.created_at DESC LIMIT {{ Table1.pageSize }};")
+                .toString();
+    }
+
+    /**
+     * Returns an action configuration with headers, query parameters and form data nested a few levels deep, where one
+     * value in four has a binding.
+     */
+    private ActionConfiguration actionConfiguration(int variant) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(query(variant));
+        actionConfiguration.setPath("/api/v1/users/{{ Table1.selectedRow.id }}?variant=" + variant);
+
+        List<Property> headers = new ArrayList<>();
+        List<Property> queryParameters = new ArrayList<>();
+        for (int i = 0; i < bindings; i++) {
+            headers.add(new Property("X-Header-" + i, value(variant, i)));
+            queryParameters.add(new Property("param" + i, value(variant, i + 1)));
+        }
+        actionConfiguration.setHeaders(headers);
+        actionConfiguration.setQueryParameters(queryParameters);
+
+        Map<String, Object> formData = new LinkedHashMap<>();
+        for (int i = 0; i < bindings; i++) {
+            Map<String, Object> level = new LinkedHashMap<>();
+            level.put("data", value(variant, i));
+            Map<String, Object> nested = new LinkedHashMap<>();
+            nested.put("where", Map.of("condition", value(variant, i + 2), "value", value(variant, i + 3)));
+            nested.put("children", List.of(Map.of("data", value(variant, i + 1)), Map.of("viewType", "component")));
+            level.put("nested", nested);
+            formData.put("field" + i, level);
+        }
+        actionConfiguration.setFormData(formData);
+        return actionConfiguration;
+    }
+
+    private static String value(int variant, int i) {
+        return i % 4 == 0
+                ? "{{ Input" + i + ".text }} of variant " + variant
+                : "plain value " + i + " of variant " + variant;
+    }
+
+    private String coldQuery() {
+        next = (next + 1) % COLD_VARIANTS;
+        return queries[next];
+    }
+
+    private ActionConfiguration coldActionConfiguration() {
+        next = (next + 1) % COLD_VARIANTS;
+        return actionConfigurations[next];
+    }
+
+    private static String prepareQuery(String query) {
+        List<MustacheBindingToken> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
+        return MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+    }
+
+    @Benchmark
+    public String sqlQueryWarm() {
+        return prepareQuery(queries[0]);
+    }
+
+    @Benchmark
+    public String sqlQueryCold() {
+        return prepareQuery(coldQuery());
+    }
+
+    @Benchmark
+    public Set<MustacheBindingToken> actionConfigurationWarm() {
+        return MustacheHelper.extractMustacheKeysFromFields(actionConfigurations[0]);
+    }
+
+    @Benchmark
+    public Set<MustacheBindingToken> actionConfigurationCold() {
+        return MustacheHelper.extractMustacheKeysFromFields(coldActionConfiguration());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(MustacheTemplateBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,110 @@
+package com.appsmith.external.helpers.benchmark;
+
+import com.appsmith.external.helpers.ResultSizeEstimator;
+import com.appsmith.external.helpers.Sizeof;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the time spent checking the size of a query result while its rows are read, when every row is accounted for
+ * by a {@link ResultSizeEstimator} and when the rows read so far are serialized with {@link Sizeof} every 100 rows, as
+ * the Postgres plugin used to do. The rows are built beforehand, so the time is that of collecting them and checking
+ * their size, and the time per row is the time of a result divided by its number of rows.
+ * <p>
+ * Run main from the test classpath, after mvn test-compile, or run org.openjdk.jmh.Main ResultSizeAccountingBenchmark
+ * with the usual JMH options. Serializing the rows at 100000 rows takes minutes per operation, so that case is better
+ * run with fewer iterations, like -wi 1 -i 2 -p rows=100000.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+        value = 1,
+        jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ResultSizeAccountingBenchmark {
+
+    private static final int HEAVY_OP_FREQUENCY = 100;
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    private List<Map<String, Object>> resultRows;
+
+    @Setup
+    public void setUp() {
+        resultRows = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            row.put("username", "user" + i);
+            row.put("email", "user" + i + "@example.com");
+            row.put("role", i % 2 == 0 ? "admin" : "viewer");
+            row.put("balance", new BigDecimal(i).movePointLeft(2));
+            row.put("verified", i % 3 == 0);
+            row.put("dob", "1990-01-" + (i % 28 + 1));
+            row.put("created_at", "2024-05-01T10:15:30Z");
+            resultRows.add(row);
+        }
+    }
+
+    @Benchmark
+    public long incremental() {
+        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+        ResultSizeEstimator resultSizeEstimator = new ResultSizeEstimator(Long.MAX_VALUE);
+        for (Map<String, Object> row : resultRows) {
+            resultSizeEstimator.addRow(row);
+            if (resultSizeEstimator.isLimitExceeded()) {
+                throw new IllegalStateException();
+            }
+            rowsList.add(row);
+        }
+        return resultSizeEstimator.getSize() + rowsList.size();
+    }
+
+    @Benchmark
+    public long periodicSerialization() throws IOException {
+        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+        long objectSize = 0;
+        int iterator = 0;
+        for (Map<String, Object> row : resultRows) {
+            if (iterator % HEAVY_OP_FREQUENCY == 0) {
+                objectSize = Sizeof.sizeof(rowsList);
+                if (objectSize > Integer.MAX_VALUE) {
+                    throw new IllegalStateException();
+                }
+            }
+            rowsList.add(row);
+            iterator++;
+        }
+        return objectSize + rowsList.size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(ResultSizeAccountingBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,112 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import mockwebserver3.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HttpClientPoolTest {
+
+    private MockWebServer mockEndpoint;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        mockEndpoint = new MockWebServer();
+        mockEndpoint.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        mockEndpoint.shutdown();
+    }
+
+    private static DatasourceConfiguration selfSignedDatasourceConfiguration(String base64Content) {
+        SSLDetails sslDetails = new SSLDetails();
+        sslDetails.setAuthType(SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE);
+        sslDetails.setCertificateFile(new UploadedFile("certificate.pem", base64Content));
+        Connection connection = new Connection();
+        connection.setSsl(sslDetails);
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setConnection(connection);
+        return datasourceConfiguration;
+    }
+
+    @Test
+    public void testGetHttpClient_sameConfiguration_returnsSameClient() {
+        HttpClientPool pool = HttpClientPool.getInstance();
+
+        assertThat(pool.getHttpClient(new DatasourceConfiguration(), null))
+                .isSameAs(pool.getHttpClient(new DatasourceConfiguration(), HttpProtocol.HTTP11));
+        assertThat(pool.getHttpClient(selfSignedDatasourceConfiguration("Y2VydGlmaWNhdGU="), HttpProtocol.HTTP11))
+                .isSameAs(pool.getHttpClient(selfSignedDatasourceConfiguration("Y2VydGlmaWNhdGU="), null));
+        assertThat(HttpClientPool.getInstance(HttpClientPool.DEFAULT_MAX_CONNECTIONS))
+                .isSameAs(pool);
+    }
+
+    @Test
+    public void testGetHttpClient_differentCertificateOrProtocol_returnsDifferentClients() {
+        HttpClientPool pool = HttpClientPool.getInstance();
+
+        assertThat(pool.getHttpClient(new DatasourceConfiguration(), HttpProtocol.HTTP11))
+                .isNotSameAs(pool.getHttpClient(new DatasourceConfiguration(), HttpProtocol.H2))
+                .isNotSameAs(pool.getHttpClient(selfSignedDatasourceConfiguration("Y2VydGlmaWNhdGU="), null));
+        assertThat(pool.getHttpClient(selfSignedDatasourceConfiguration("Y2VydGlmaWNhdGU="), null))
+                .isNotSameAs(pool.getHttpClient(selfSignedDatasourceConfiguration("b3RoZXI="), null));
+    }
+
+    @Test
+    public void testGetHttpClient_moreCertificatesThanTheLimit_keepsRecentlyUsedClient() {
+        HttpClientPool pool = HttpClientPool.getInstance(3);
+        HttpClient recentlyUsed = pool.getHttpClient(new DatasourceConfiguration(), HttpProtocol.HTTP11);
+
+        for (int i = 0; i < 2000; i++) {
+            String certificate = Base64.getEncoder().encodeToString(("certificate-" + i).getBytes());
+            pool.getHttpClient(selfSignedDatasourceConfiguration(certificate), null);
+            assertThat(pool.getHttpClient(new DatasourceConfiguration(), HttpProtocol.HTTP11))
+                    .isSameAs(recentlyUsed);
+        }
+    }
+
+    @Test
+    public void testGetWebClientBuilder_consecutiveExecutions_reuseConnection() throws InterruptedException {
+        RestAPIActivateUtils restAPIActivateUtils = new RestAPIActivateUtils(HttpClientPool.getInstance(4));
+        String url = mockEndpoint.url("/users").toString();
+
+        for (int i = 0; i < 2; i++) {
+            mockEndpoint.enqueue(new MockResponse().setBody("[]"));
+            // Every execution builds its own web client, like the plugins do
+            WebClient webClient = restAPIActivateUtils
+                    .getWebClientBuilder(new ActionConfiguration(), new DatasourceConfiguration())
+                    .build();
+            assertThat(webClient
+                            .get()
+                            .uri(url)
+                            .retrieve()
+                            .bodyToMono(String.class)
+                            .block())
+                    .isEqualTo("[]");
+        }
+
+        RecordedRequest first = mockEndpoint.takeRequest(1, TimeUnit.SECONDS);
+        RecordedRequest second = mockEndpoint.takeRequest(1, TimeUnit.SECONDS);
+        // The sequence number is the index of the request on its connection
+        assertThat(first.getSequenceNumber()).isZero();
+        assertThat(second.getSequenceNumber()).isEqualTo(1);
+    }
+}
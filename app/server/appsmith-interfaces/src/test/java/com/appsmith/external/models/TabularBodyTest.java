@@ -0,0 +1,116 @@
+package com.appsmith.external.models;
+
+import com.appsmith.external.constants.DisplayDataType;
+import com.appsmith.external.helpers.DataTypeStringUtils;
+import com.appsmith.external.helpers.ResultSizeEstimator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TabularBodyTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final List<String> COLUMNS = List.of("id", "name", "price", "details", "id");
+
+    private static Object[] values(int i) throws JsonProcessingException {
+        return new Object[] {
+            i,
+            i % 2 == 0 ? null : "user" + i,
+            new BigDecimal("12.50").multiply(BigDecimal.valueOf(i)),
+            objectMapper.readTree("{\"tags\": [\"a\", \"b\"], \"count\": " + i + "}"),
+            "second" + i
+        };
+    }
+
+    private static Map<String, Object> rowMap(Object[] values) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            row.put(COLUMNS.get(i), values[i]);
+        }
+        return row;
+    }
+
+    @Test
+    public void testSerialize_sameAsListOfRowMaps() throws JsonProcessingException {
+        TabularBody body = new TabularBody(COLUMNS);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            body.addRow(values(i));
+            rows.add(rowMap(values(i)));
+        }
+
+        assertThat(objectMapper.writeValueAsString(body)).isEqualTo(objectMapper.writeValueAsString(rows));
+        assertThat((Object) objectMapper.valueToTree(body)).isEqualTo(objectMapper.valueToTree(rows));
+        assertThat(body.toString()).isEqualTo(objectMapper.writeValueAsString(rows));
+    }
+
+    @Test
+    public void testSerialize_insideActionExecutionResult() throws JsonProcessingException {
+        TabularBody body = new TabularBody(List.of("id"));
+        body.addRow(new Object[] {1});
+
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setBody(body);
+
+        assertThat(objectMapper
+                        .readTree(objectMapper.writeValueAsString(result))
+                        .get("body"))
+                .isEqualTo(objectMapper.readTree("[{\"id\": 1}]"));
+    }
+
+    @Test
+    public void testGetRow_duplicateColumns_keepsLastValueAtFirstPosition() throws JsonProcessingException {
+        TabularBody body = new TabularBody(COLUMNS);
+        body.addRow(values(1));
+
+        Map<String, Object> row = body.getRow(0);
+
+        assertThat(row.keySet()).containsExactly("id", "name", "price", "details");
+        assertThat(row.get("id")).isEqualTo("second1");
+        assertThat(body.asRowMaps()).containsExactly(rowMap(values(1)));
+    }
+
+    @Test
+    public void testAddRow_wrongNumberOfValues_throwsException() {
+        TabularBody body = new TabularBody(List.of("id", "name"));
+
+        assertThrows(IllegalArgumentException.class, () -> body.addRow(new Object[] {1}));
+        assertThat(body.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testGetDisplayDataTypes_tabularBody_isTable() {
+        TabularBody body = new TabularBody(List.of("id"));
+        body.addRow(new Object[] {1});
+
+        assertThat(DataTypeStringUtils.getDisplayDataTypes(body))
+                .extracting(ParsedDataType::getDataType)
+                .containsExactly(DisplayDataType.TABLE, DisplayDataType.JSON, DisplayDataType.RAW);
+    }
+
+    @Test
+    public void testResultSizeEstimator_arrayRow_sameAsRowMap() throws JsonProcessingException {
+        List<String> columns = List.of("id", "name", "price", "details");
+        Object[] values = Arrays.copyOf(values(3), columns.size());
+
+        ResultSizeEstimator arrayEstimator = ResultSizeEstimator.unbounded();
+        arrayEstimator.addRow(columns, values);
+        TabularBody body = new TabularBody(columns);
+        body.addRow(values);
+        ResultSizeEstimator mapEstimator = ResultSizeEstimator.unbounded();
+        mapEstimator.addRow(body.getRow(0));
+
+        assertThat(arrayEstimator.getSize()).isEqualTo(mapEstimator.getSize());
+    }
+}
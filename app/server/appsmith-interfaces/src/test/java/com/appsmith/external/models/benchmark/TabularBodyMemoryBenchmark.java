@@ -0,0 +1,171 @@
+package com.appsmith.external.models.benchmark;
+
+import com.appsmith.external.helpers.DataTypeStringUtils;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.TabularBody;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.ref.Reference;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Compares the heap used by the result of a query returning a large table, when its body is the JSON tree of a list of
+ * row maps, as the SQL plugins used to return, and when it is a {@link TabularBody}. For each of them it prints the heap
+ * retained by the result once built, and the peak live heap while the result is built, its display data types are
+ * detected and it is written to the response.
+ * <p>
+ * Run main from the test classpath, after mvn test-compile, with a fixed heap small enough for collections to happen
+ * while the results are written, like -Xms512m -Xmx512m. The number of rows can be given as the first argument.
+ */
+public class TabularBodyMemoryBenchmark {
+
+    private static final int DEFAULT_ROWS = 100_000;
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final List<String> COLUMNS =
+            List.of("id", "username", "email", "role", "balance", "verified", "dob", "created_at");
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROWS;
+
+        // Warm up both paths so that class loading and JIT do not count against the first one measured
+        respond(treeResult(1_000));
+        respond(tabularResult(1_000));
+
+        report("tree", rows, () -> treeResult(rows));
+        report("tabular", rows, () -> tabularResult(rows));
+    }
+
+    private static void report(String name, int rows, Supplier<ActionExecutionResult> resultSupplier) {
+        long retained = measureRetainedHeap(resultSupplier);
+        long peak = measurePeakHeap(() -> {
+            ActionExecutionResult result = resultSupplier.get();
+            // Collect once the result is built, so that the peak is seen even if writing it needs no collection
+            System.gc();
+            respond(result);
+        });
+        System.out.printf(
+                "%-8s %,10d rows %,8d MB retained %,8d MB peak heap%n",
+                name, rows, retained / (1024 * 1024), peak / (1024 * 1024));
+    }
+
+    private static Object[] values(int i) {
+        return new Object[] {
+            i,
+            "user" + i,
+            "user" + i + "@example.com",
+            i % 2 == 0 ? "admin" : "viewer",
+            new BigDecimal(i).movePointLeft(2),
+            i % 3 == 0,
+            "1990-01-" + (i % 28 + 1),
+            "2024-05-01T10:15:30Z"
+        };
+    }
+
+    private static ActionExecutionResult treeResult(int rows) {
+        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+        for (int i = 0; i < rows; i++) {
+            Object[] values = values(i);
+            Map<String, Object> row = new LinkedHashMap<>(COLUMNS.size());
+            for (int j = 0; j < COLUMNS.size(); j++) {
+                row.put(COLUMNS.get(j), values[j]);
+            }
+            rowsList.add(row);
+        }
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setBody(objectMapper.valueToTree(rowsList));
+        result.setIsExecutionSuccess(true);
+        return result;
+    }
+
+    private static ActionExecutionResult tabularResult(int rows) {
+        TabularBody body = new TabularBody(COLUMNS);
+        for (int i = 0; i < rows; i++) {
+            body.addRow(values(i));
+        }
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setBody(body);
+        result.setIsExecutionSuccess(true);
+        return result;
+    }
+
+    /**
+     * Detects the display data types of the result and writes it, like the server does before sending the response.
+     */
+    private static void respond(ActionExecutionResult result) {
+        result.setDataTypes(DataTypeStringUtils.getDisplayDataTypes(result.getBody()));
+        try {
+            objectMapper.writeValue(OutputStream.nullOutputStream(), result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the heap still used, after a garbage collection, by the result of the supplier compared to before.
+     */
+    private static long measureRetainedHeap(Supplier<ActionExecutionResult> resultSupplier) {
+        System.gc();
+        long baseline = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        ActionExecutionResult result = resultSupplier.get();
+        System.gc();
+        long used = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        Reference.reachabilityFence(result);
+        return used - baseline;
+    }
+
+    /**
+     * Returns the highest heap usage seen after a garbage collection while the runnable ran, that is the memory the run
+     * kept alive rather than the garbage it allocated, compared to the heap used before.
+     */
+    private static long measurePeakHeap(Runnable runnable) {
+        System.gc();
+        long baseline = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+
+        AtomicLong peak = new AtomicLong(baseline);
+        NotificationListener listener = (notification, handback) -> {
+            if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                GcInfo gcInfo = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData())
+                        .getGcInfo();
+                long used = gcInfo.getMemoryUsageAfterGc().values().stream()
+                        .mapToLong(MemoryUsage::getUsed)
+                        .sum();
+                peak.accumulateAndGet(used, Math::max);
+            }
+        };
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        for (GarbageCollectorMXBean collector : collectors) {
+            ((NotificationEmitter) collector).addNotificationListener(listener, null, null);
+        }
+
+        try {
+            runnable.run();
+        } finally {
+            for (GarbageCollectorMXBean collector : collectors) {
+                try {
+                    ((NotificationEmitter) collector).removeNotificationListener(listener);
+                } catch (ListenerNotFoundException e) {
+                    // Not registered, nothing to remove
+                }
+            }
+        }
+        return peak.get() - baseline;
+    }
+}
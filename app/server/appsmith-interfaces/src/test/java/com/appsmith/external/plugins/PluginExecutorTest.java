@@ -0,0 +1,75 @@
+package com.appsmith.external.plugins;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.TabularBody;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PluginExecutorTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static ActionExecutionResult result(boolean success, Object body) {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(success);
+        result.setBody(body);
+        return result;
+    }
+
+    @Test
+    public void testGetResultRows_arrayBody_emitsEveryRow() {
+        Object body = objectMapper.valueToTree(List.of(Map.of("id", 1), Map.of("id", 2), Map.of("id", 3)));
+
+        StepVerifier.create(PluginExecutor.getResultRows(result(true, body)))
+                .expectNext(objectMapper.valueToTree(Map.of("id", 1)))
+                .expectNext(objectMapper.valueToTree(Map.of("id", 2)))
+                .expectNext(objectMapper.valueToTree(Map.of("id", 3)))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testGetResultRows_tabularBody_emitsEveryRowAsMap() {
+        TabularBody body = new TabularBody(List.of("id", "name"));
+        body.addRow(new Object[] {1, "Alice"});
+        body.addRow(new Object[] {2, "Bob"});
+
+        StepVerifier.create(PluginExecutor.getResultRows(result(true, body)))
+                .expectNext(Map.of("id", 1, "name", "Alice"))
+                .expectNext(Map.of("id", 2, "name", "Bob"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testGetResultRows_listBody_emitsEveryRow() {
+        StepVerifier.create(PluginExecutor.getResultRows(result(true, List.of("a", "b"))))
+                .expectNext("a", "b")
+                .verifyComplete();
+    }
+
+    @Test
+    public void testGetResultRows_objectBody_emitsSingleRow() {
+        Map<String, Object> body = Map.of("affectedRows", 1);
+
+        StepVerifier.create(PluginExecutor.getResultRows(result(true, body)))
+                .expectNext(body)
+                .verifyComplete();
+        StepVerifier.create(PluginExecutor.getResultRows(result(true, null))).verifyComplete();
+    }
+
+    @Test
+    public void testGetResultRows_failedExecution_emitsError() {
+        StepVerifier.create(PluginExecutor.getResultRows(result(false, "relation \"users\" does not exist")))
+                .expectErrorSatisfies(error -> {
+                    assertThat(error).isInstanceOf(AppsmithPluginException.class);
+                    assertThat(error.getMessage()).contains("relation \"users\" does not exist");
+                })
+                .verify();
+    }
+}
@@ -0,0 +1,193 @@
+package com.appsmith.external.plugins.benchmark;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the peak live heap used to execute a query returning a large result and write it to the response, when the rows
+ * are collected into an {@link ActionExecutionResult} first and when they are streamed one by one through
+ * {@link PluginExecutor#executeParameterizedStreaming}.
+ * <p>
+ * The executor generates rows shaped like those of the SQL plugins, so the numbers do not depend on a database. Run main
+ * from the test classpath, after mvn test-compile, with a fixed heap like -Xms2g -Xmx2g so that the peaks are comparable.
+ * The number of rows can be given as the first argument.
+ */
+public class StreamingResultMemoryBenchmark {
+
+    private static final int DEFAULT_ROWS = 500_000;
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROWS;
+        RowsExecutor executor = new RowsExecutor(rows);
+
+        // Warm up both paths so that class loading and JIT do not count against the first one measured
+        runBuffered(new RowsExecutor(1_000));
+        runStreamed(new RowsExecutor(1_000));
+
+        long bufferedPeak = measurePeakHeap(() -> runBuffered(executor));
+        long streamedPeak = measurePeakHeap(() -> runStreamed(executor));
+
+        System.out.printf("%-10s %,12d rows %,10d MB peak heap%n", "buffered", rows, bufferedPeak / (1024 * 1024));
+        System.out.printf("%-10s %,12d rows %,10d MB peak heap%n", "streamed", rows, streamedPeak / (1024 * 1024));
+    }
+
+    private static void runBuffered(RowsExecutor executor) {
+        ObjectWriter writer = objectMapper.writer();
+        executor.executeParameterized(null, new ExecuteActionDTO(), null, new ActionConfiguration())
+                .doOnNext(result -> {
+                    try {
+                        writer.writeValue(OutputStream.nullOutputStream(), result);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .block();
+    }
+
+    private static void runStreamed(RowsExecutor executor) {
+        ObjectWriter writer = objectMapper.writer();
+        executor.executeParameterizedStreaming(null, new ExecuteActionDTO(), null, new ActionConfiguration())
+                .doOnNext(row -> {
+                    try {
+                        writer.writeValue(OutputStream.nullOutputStream(), row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                // Mirrors the demand of the response writer, which requests rows as the previous ones are flushed
+                .limitRate(256)
+                .blockLast();
+    }
+
+    /**
+     * Returns the highest heap usage seen after a garbage collection while the runnable ran, that is the memory the run
+     * kept alive rather than the garbage it allocated, compared to the heap used before.
+     */
+    private static long measurePeakHeap(Runnable runnable) {
+        System.gc();
+        long baseline = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+
+        AtomicLong peak = new AtomicLong(baseline);
+        NotificationListener listener = (notification, handback) -> {
+            if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                GcInfo gcInfo = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData())
+                        .getGcInfo();
+                long used = gcInfo.getMemoryUsageAfterGc().values().stream()
+                        .mapToLong(MemoryUsage::getUsed)
+                        .sum();
+                peak.accumulateAndGet(used, Math::max);
+            }
+        };
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        for (GarbageCollectorMXBean collector : collectors) {
+            ((NotificationEmitter) collector).addNotificationListener(listener, null, null);
+        }
+
+        try {
+            runnable.run();
+        } finally {
+            for (GarbageCollectorMXBean collector : collectors) {
+                try {
+                    ((NotificationEmitter) collector).removeNotificationListener(listener);
+                } catch (ListenerNotFoundException e) {
+                    // Not registered, nothing to remove
+                }
+            }
+        }
+        return peak.get() - baseline;
+    }
+
+    /**
+     * Executor returning rows of a user table, collected like the SQL plugins do in executeParameterized, and generated
+     * lazily as they are requested in executeParameterizedStreaming.
+     */
+    private static class RowsExecutor implements PluginExecutor<Object> {
+
+        private final int rows;
+
+        RowsExecutor(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public Mono<ActionExecutionResult> executeParameterized(
+                Object connection,
+                ExecuteActionDTO executeActionDTO,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration) {
+            return Mono.fromCallable(() -> {
+                List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                for (int i = 0; i < rows; i++) {
+                    rowsList.add(row(i));
+                }
+                ActionExecutionResult result = new ActionExecutionResult();
+                result.setBody(objectMapper.valueToTree(rowsList));
+                result.setIsExecutionSuccess(true);
+                return result;
+            });
+        }
+
+        @Override
+        public Flux<Object> executeParameterizedStreaming(
+                Object connection,
+                ExecuteActionDTO executeActionDTO,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration) {
+            return Flux.range(0, rows).map(RowsExecutor::row);
+        }
+
+        private static Map<String, Object> row(int i) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            row.put("username", "user" + i);
+            row.put("email", "user" + i + "@example.com");
+            row.put("role", i % 2 == 0 ? "admin" : "viewer");
+            row.put("dob", "1990-01-" + (i % 28 + 1));
+            row.put("created_at", "2024-05-01T10:15:30Z");
+            return row;
+        }
+
+        @Override
+        public Mono<ActionExecutionResult> execute(
+                Object connection,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration) {
+            return executeParameterized(connection, null, datasourceConfiguration, actionConfiguration);
+        }
+
+        @Override
+        public void datasourceDestroy(Object connection) {}
+
+        @Override
+        public Set<String> validateDatasource(DatasourceConfiguration datasourceConfiguration) {
+            return Set.of();
+        }
+    }
+}
@@ -1336,4 +1336,217 @@ public class FilterDataServiceTest {
             fail(e.getMessage());
         }
     }
+
+    private static Condition leaf(String path, ConditionalOperator operator, String value) {
+        Condition condition = new Condition();
+        condition.setPath(path);
+        condition.setOperator(operator);
+        condition.setValue(value);
+        return condition;
+    }
+
+    private static Condition group(ConditionalOperator operator, Condition... conditions) {
+        Condition condition = new Condition();
+        condition.setOperator(operator);
+        condition.setValue(new ArrayList<>(List.of(conditions)));
+        return condition;
+    }
+
+    /**
+     * Asserts that filtering on the columnar table returns the same rows as filtering in the in memory database, or
+     * fails when it does.
+     */
+    private void assertSameAsDatabase(
+            ArrayNode items,
+            Condition condition,
+            List<Map<String, String>> sortBy,
+            Map<String, String> paginateBy,
+            Map<DataType, DataType> dataTypeConversionMap) {
+        ArrayNode expected;
+        try {
+            expected = filterDataService.filterDataInDatabase(
+                    items.deepCopy(),
+                    new UQIDataFilterParams(condition, null, sortBy, paginateBy),
+                    dataTypeConversionMap);
+        } catch (RuntimeException e) {
+            // The database also failed with other exceptions, like a null pointer for IN values that are not arrays
+            assertThrows(
+                    AppsmithPluginException.class,
+                    () -> filterDataService.filterDataNew(
+                            items, new UQIDataFilterParams(condition, null, sortBy, paginateBy), dataTypeConversionMap),
+                    "Filtering in the database failed with : " + e.getMessage());
+            return;
+        }
+
+        ArrayNode actual = filterDataService.filterDataNew(
+                items, new UQIDataFilterParams(condition, null, sortBy, paginateBy), dataTypeConversionMap);
+        assertThat(actual)
+                .as("%s %s %s", condition == null ? null : condition.getValue(), sortBy, paginateBy)
+                .isEqualTo(expected);
+    }
+
+    @Test
+    public void testFilterDataNew_everyOperatorAndDataType_sameAsDatabase() throws IOException {
+        ArrayNode items = (ArrayNode) objectMapper.readTree("["
+                + "{\"i\": 1, \"l\": 10000000000, \"f\": 4.99, \"b\": true, \"s\": \"Ab\", \"d\": \"2021-09-01\","
+                + " \"t\": \"2021-09-01 10:00:00\", \"a\": \"[1, 2]\"},"
+                + "{\"i\": \"\", \"l\": \"5\", \"f\": \"1,000.5\", \"b\": false, \"s\": null, \"d\": \"\","
+                + " \"t\": \"2021-09-02 10:00:00.5\", \"a\": \"[]\"},"
+                + "{\"i\": \"3\", \"l\": \"\", \"f\": \"\", \"b\": \"\", \"s\": \"a_b%\", \"d\": \"2021-9-3\","
+                + " \"t\": \"\", \"a\": \"x\"},"
+                + "{\"i\": -7, \"l\": 0, \"f\": 0.1, \"b\": \"TRUE\", \"s\": \"ab\", \"d\": \"2020-02-29\","
+                + " \"t\": \"2021-09-01\", \"a\": \"null\"}"
+                + "]");
+
+        Map<String, List<String>> valuesByColumn = Map.of(
+                "i", List.of("1", "3", "-7", "0", "null", "x", "", "[1, \"3\"]", "[1, null]", "[]"),
+                "l", List.of("5", "10000000000", "1,0", "[5, 0]", "[\"5\", null]"),
+                "f", List.of("4.99", "4.990000001", "0.1", "1000.5", "1e3", "[0.1, 4.99]"),
+                "b", List.of("true", "false", "yes", "[true]"),
+                "s", List.of("Ab", "ab", "a", "_", "%", "null", "[\"Ab\", 3]", "[\"ab\", null]"),
+                "d",
+                        List.of(
+                                "2021-09-01",
+                                " 2021-09-03 ",
+                                "2021-9-1",
+                                "2021-09-01 10:00:00",
+                                "09-0",
+                                "x",
+                                "[\"2021-09-01\"]"),
+                "t",
+                        List.of(
+                                "2021-09-02",
+                                "2021-09-01 10:00",
+                                "2021-09-02 10:00:00.5",
+                                "2021-09-01T10:00:00Z",
+                                "10:00",
+                                ".5"),
+                "a", List.of("[1, 2]", "x", "null"));
+
+        for (Map.Entry<String, List<String>> entry : valuesByColumn.entrySet()) {
+            for (String value : entry.getValue()) {
+                for (ConditionalOperator operator : List.of(
+                        ConditionalOperator.LT,
+                        ConditionalOperator.LTE,
+                        ConditionalOperator.EQ,
+                        ConditionalOperator.NOT_EQ,
+                        ConditionalOperator.GT,
+                        ConditionalOperator.GTE,
+                        ConditionalOperator.IN,
+                        ConditionalOperator.NOT_IN,
+                        ConditionalOperator.CONTAINS)) {
+                    Condition condition = group(ConditionalOperator.AND, leaf(entry.getKey(), operator, value));
+                    assertSameAsDatabase(items, condition, null, null, null);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFilterDataNew_nestedConditions_sameAsDatabase() throws IOException {
+        ArrayNode items = (ArrayNode) objectMapper.readTree("["
+                + "{\"id\": 1, \"name\": \"a\", \"amount\": 4.99},"
+                + "{\"id\": 2, \"name\": \"b\", \"amount\": \"\"},"
+                + "{\"id\": 3, \"name\": \"\", \"amount\": 19.99},"
+                + "{\"id\": 4, \"name\": \"d\", \"amount\": 9.99}"
+                + "]");
+
+        assertSameAsDatabase(
+                items,
+                group(
+                        ConditionalOperator.OR,
+                        leaf("id", ConditionalOperator.EQ, "1"),
+                        leaf("amount", ConditionalOperator.GT, "5"),
+                        group(ConditionalOperator.AND, leaf("name", ConditionalOperator.EQ, "b"))),
+                null,
+                null,
+                null);
+        assertSameAsDatabase(
+                items,
+                group(
+                        ConditionalOperator.AND,
+                        leaf("id", ConditionalOperator.GT, "1"),
+                        group(
+                                ConditionalOperator.OR,
+                                leaf("name", ConditionalOperator.EQ, ""),
+                                leaf("amount", ConditionalOperator.LT, "")),
+                        group(ConditionalOperator.AND)),
+                null,
+                null,
+                null);
+        assertSameAsDatabase(
+                items,
+                group(
+                        ConditionalOperator.AND,
+                        leaf("id", ConditionalOperator.GT, "1"),
+                        leaf("id", ConditionalOperator.NOT_EQ, "3")),
+                null,
+                null,
+                null);
+        // Unknown columns fail in both
+        assertSameAsDatabase(
+                items, group(ConditionalOperator.AND, leaf("unknown", ConditionalOperator.EQ, "1")), null, null, null);
+    }
+
+    @Test
+    public void testFilterDataNew_sortAndPagination_sameAsDatabase() throws IOException {
+        ArrayNode items = (ArrayNode) objectMapper.readTree("["
+                + "{\"id\": 3, \"name\": \"b\", \"active\": true, \"date\": \"2021-09-02\"},"
+                + "{\"id\": 1, \"name\": \"B\", \"active\": \"\", \"date\": \"\"},"
+                + "{\"id\": \"\", \"name\": \"\", \"active\": false, \"date\": \"2021-09-01\"},"
+                + "{\"id\": 2, \"name\": \"a\", \"active\": false, \"date\": \"2021-09-03\"}"
+                + "]");
+
+        for (String column : List.of("id", "name", "active", "date")) {
+            for (String order : List.of("Ascending", VALUE_DESCENDING)) {
+                List<Map<String, String>> sortBy = List.of(
+                        Map.of(SORT_BY_COLUMN_NAME_KEY, column, SORT_BY_TYPE_KEY, order),
+                        Map.of(SORT_BY_COLUMN_NAME_KEY, "id", SORT_BY_TYPE_KEY, order));
+                assertSameAsDatabase(items, null, sortBy, null, null);
+            }
+        }
+
+        List<Map<String, String>> sortById =
+                List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "id", SORT_BY_TYPE_KEY, "Ascending"));
+        assertSameAsDatabase(items, null, sortById, Map.of(PAGINATE_LIMIT_KEY, "2", PAGINATE_OFFSET_KEY, "1"), null);
+        assertSameAsDatabase(items, null, sortById, Map.of(PAGINATE_LIMIT_KEY, "", PAGINATE_OFFSET_KEY, "3"), null);
+        assertSameAsDatabase(items, null, sortById, Map.of(PAGINATE_LIMIT_KEY, "0"), null);
+        assertSameAsDatabase(items, null, sortById, Map.of(PAGINATE_OFFSET_KEY, "10"), null);
+        assertSameAsDatabase(items, null, sortById, Map.of(PAGINATE_LIMIT_KEY, "x"), null);
+        assertSameAsDatabase(
+                items,
+                null,
+                List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "unknown", SORT_BY_TYPE_KEY, "Ascending")),
+                null,
+                null);
+        assertSameAsDatabase(
+                items, null, List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "id", SORT_BY_TYPE_KEY, "Sideways")), null, null);
+    }
+
+    @Test
+    public void testFilterDataNew_withDataTypeConversionMap_sameAsDatabase() throws IOException {
+        ArrayNode items = (ArrayNode) objectMapper.readTree("["
+                + "{\"amount\": 4, \"count\": \"1\", \"status\": \"READY\", \"date\": \"2021-09-01\"},"
+                + "{\"amount\": 9.99, \"count\": \"text\", \"status\": 3, \"date\": \"not a date\"},"
+                + "{\"amount\": \"USD 19.99\", \"count\": \"10000000000\", \"status\": true, \"date\": \"\"}"
+                + "]");
+        Map<DataType, DataType> dataTypeConversionMap = Map.of(
+                DataType.INTEGER, DataType.DOUBLE,
+                DataType.LONG, DataType.DOUBLE,
+                DataType.FLOAT, DataType.DOUBLE);
+
+        assertSameAsDatabase(items, null, null, null, dataTypeConversionMap);
+        assertSameAsDatabase(
+                items,
+                group(ConditionalOperator.AND, leaf("amount", ConditionalOperator.LT, "10")),
+                List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "count", SORT_BY_TYPE_KEY, VALUE_DESCENDING)),
+                null,
+                dataTypeConversionMap);
+        assertSameAsDatabase(
+                items,
+                group(ConditionalOperator.AND, leaf("status", ConditionalOperator.CONTAINS, "E")),
+                null,
+                null,
+                dataTypeConversionMap);
+    }
 }
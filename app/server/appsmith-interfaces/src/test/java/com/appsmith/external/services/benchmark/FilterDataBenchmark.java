@@ -0,0 +1,106 @@
+package com.appsmith.external.services.benchmark;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.FilterDataService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+
+/**
+ * Compares filtering rows on the columnar table with filtering them in the in memory H2 database, for a where clause,
+ * sorting and pagination like the ones of a table widget paginating through rows from Google Sheets or S3.
+ * <p>
+ * Run main from the test classpath, after mvn test-compile, or run org.openjdk.jmh.Main FilterDataBenchmark with the
+ * usual JMH options. Filtering a million rows in the database needs a few GB of heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+        value = 1,
+        jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class FilterDataBenchmark {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final List<String> STATUSES = List.of("READY", "SHIPPED", "DELIVERED", "CANCELLED");
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private final FilterDataService filterDataService = FilterDataService.getInstance();
+    private ArrayNode items;
+
+    @Setup
+    public void setUp() {
+        items = objectMapper.createArrayNode();
+        for (int i = 0; i < rows; i++) {
+            ObjectNode item = items.addObject();
+            item.put("id", i);
+            item.put("email", "user" + i + "@example.com");
+            item.put("orderAmount", String.valueOf((i * 7919 % 100_000) / 100.0));
+            item.put("orderStatus", STATUSES.get(i % STATUSES.size()));
+            item.put("orderDate", "2021-" + String.format("%02d-%02d", i % 12 + 1, i % 28 + 1));
+            item.put("rowIndex", String.valueOf(i));
+        }
+    }
+
+    private static UQIDataFilterParams newFilterParams() {
+        Condition amount = new Condition("orderAmount", ConditionalOperator.GTE.name(), "250.5");
+        Condition status = new Condition("orderStatus", ConditionalOperator.IN.name(), "[\"READY\", \"SHIPPED\"]");
+        Condition date = new Condition("orderDate", ConditionalOperator.LT.name(), "2021-07-01");
+        Condition where = new Condition();
+        where.setOperator(ConditionalOperator.AND);
+        where.setValue(new ArrayList<>(List.of(amount, status, date)));
+
+        return new UQIDataFilterParams(
+                where,
+                null,
+                List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "orderAmount", SORT_BY_TYPE_KEY, "Descending")),
+                Map.of(PAGINATE_LIMIT_KEY, "20", PAGINATE_OFFSET_KEY, "100"));
+    }
+
+    @Benchmark
+    public ArrayNode columnar() {
+        return filterDataService.filterDataNew(items, newFilterParams());
+    }
+
+    @Benchmark
+    public ArrayNode database() {
+        return filterDataService.filterDataInDatabase(items, newFilterParams(), null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(FilterDataBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
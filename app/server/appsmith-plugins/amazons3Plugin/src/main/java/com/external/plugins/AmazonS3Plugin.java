@@ -7,14 +7,18 @@ import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.services.s3.transfer.TransferManager;
 import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
-import com.amazonaws.util.IOUtils;
+import com.appsmith.external.constants.ConditionalOperator;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.dtos.MultipartFormDataDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
@@ -39,25 +43,37 @@ import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import com.appsmith.external.services.FilterDataService;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.constants.AmazonS3Action;
 import com.external.plugins.exceptions.S3ErrorMessages;
 import com.external.plugins.exceptions.S3PluginError;
 import com.external.utils.AmazonS3ErrorUtils;
+import com.external.utils.ObjectContentReader;
+import com.external.utils.PayloadUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.pf4j.util.StringUtils;
 import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -82,6 +98,7 @@ import static com.appsmith.external.helpers.PluginUtils.getDataValueSafelyFromFo
 import static com.appsmith.external.helpers.PluginUtils.parseList;
 import static com.appsmith.external.helpers.PluginUtils.parseWhereClause;
 import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
 import static com.external.plugins.constants.FieldName.BODY;
 import static com.external.plugins.constants.FieldName.BUCKET;
 import static com.external.plugins.constants.FieldName.COMMAND;
@@ -89,7 +106,10 @@ import static com.external.plugins.constants.FieldName.CREATE_DATATYPE;
 import static com.external.plugins.constants.FieldName.CREATE_EXPIRY;
 import static com.external.plugins.constants.FieldName.KEY_BUCKET;
 import static com.external.plugins.constants.FieldName.KEY_DATA;
+import static com.external.plugins.constants.FieldName.LIST_CURSOR;
+import static com.external.plugins.constants.FieldName.LIST_DELIMITER;
 import static com.external.plugins.constants.FieldName.LIST_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_PAGE_SIZE;
 import static com.external.plugins.constants.FieldName.LIST_PAGINATE;
 import static com.external.plugins.constants.FieldName.LIST_PREFIX;
 import static com.external.plugins.constants.FieldName.LIST_SIGNED_URL;
@@ -98,6 +118,8 @@ import static com.external.plugins.constants.FieldName.LIST_UNSIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
+import static com.external.plugins.constants.FieldName.READ_RANGE_LENGTH;
+import static com.external.plugins.constants.FieldName.READ_RANGE_START;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.S3PluginConstants.ACCESS_DENIED_ERROR_CODE;
 import static com.external.plugins.constants.S3PluginConstants.AWS_S3_SERVICE_PROVIDER;
@@ -106,8 +128,13 @@ import static com.external.plugins.constants.S3PluginConstants.CUSTOM_ENDPOINT_I
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_BUCKET_PROPERTY_INDEX;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_FILE_NAME;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_URL_EXPIRY_IN_MINUTES;
+import static com.external.plugins.constants.S3PluginConstants.FILE_NAME_KEY;
 import static com.external.plugins.constants.S3PluginConstants.GOOGLE_CLOUD_SERVICE_PROVIDER;
+import static com.external.plugins.constants.S3PluginConstants.MAX_KEYS_PER_LIST_REQUEST;
+import static com.external.plugins.constants.S3PluginConstants.MULTIPART_UPLOAD_PART_SIZE_IN_BYTES;
+import static com.external.plugins.constants.S3PluginConstants.MULTIPART_UPLOAD_THRESHOLD_IN_BYTES;
 import static com.external.plugins.constants.S3PluginConstants.NO;
+import static com.external.plugins.constants.S3PluginConstants.READ_BUFFER_SIZE_IN_BYTES;
 import static com.external.plugins.constants.S3PluginConstants.S3_DRIVER;
 import static com.external.plugins.constants.S3PluginConstants.S3_SERVICE_PROVIDER_PROPERTY_INDEX;
 import static com.external.plugins.constants.S3PluginConstants.YES;
@@ -127,6 +154,7 @@ public class AmazonS3Plugin extends BasePlugin {
     public static class S3PluginExecutor implements PluginExecutor<AmazonS3>, SmartSubstitutionInterface {
         private final Scheduler scheduler = Schedulers.boundedElastic();
         private final FilterDataService filterDataService;
+        private final SharedConfig sharedConfig;
         private static final AmazonS3ErrorUtils amazonS3ErrorUtils;
 
         static {
@@ -137,8 +165,9 @@ public class AmazonS3Plugin extends BasePlugin {
             }
         }
 
-        public S3PluginExecutor() {
+        public S3PluginExecutor(SharedConfig sharedConfig) {
             this.filterDataService = FilterDataService.getInstance();
+            this.sharedConfig = sharedConfig;
         }
 
         /*
@@ -151,8 +180,11 @@ public class AmazonS3Plugin extends BasePlugin {
                         S3ErrorMessages.FILE_CONTENT_FETCHING_ERROR_MSG);
             }
 
+            return getFilenamesFromObjectSummaries(objectListing.getObjectSummaries());
+        }
+
+        ArrayList<String> getFilenamesFromObjectSummaries(List<S3ObjectSummary> objects) {
             ArrayList<String> result = new ArrayList<>();
-            List<S3ObjectSummary> objects = objectListing.getObjectSummaries();
             for (S3ObjectSummary os : objects) {
                 result.add(os.getKey());
             }
@@ -199,6 +231,125 @@ public class AmazonS3Plugin extends BasePlugin {
             return fileList;
         }
 
+        /*
+         * - Lists a single page of the files in the bucket, starting at the given cursor, which is the continuation
+         *   token returned with the previous page.
+         * - With a delimiter, the files in the sub folders of the prefix are not listed, the folders are returned as
+         *   common prefixes instead.
+         * - Exception thrown by this method is expected to be handled by the caller.
+         */
+        ListObjectsV2Result listFilesInBucketPage(
+                AmazonS3 connection, String bucketName, String prefix, String delimiter, int pageSize, String cursor)
+                throws AppsmithPluginException {
+            if (connection == null) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, S3ErrorMessages.CONNECTIVITY_ERROR_MSG);
+            }
+
+            ListObjectsV2Request request = new ListObjectsV2Request()
+                    .withBucketName(bucketName)
+                    .withPrefix(prefix)
+                    .withMaxKeys(Math.min(pageSize, MAX_KEYS_PER_LIST_REQUEST));
+            if (!StringUtils.isNullOrEmpty(delimiter)) {
+                request.setDelimiter(delimiter);
+            }
+            if (!StringUtils.isNullOrEmpty(cursor)) {
+                request.setContinuationToken(cursor);
+            }
+
+            ListObjectsV2Result result = connection.listObjectsV2(request);
+            if (result == null) {
+                throw new AppsmithPluginException(
+                        S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
+                        S3ErrorMessages.FILE_CONTENT_FETCHING_ERROR_MSG);
+            }
+
+            return result;
+        }
+
+        /**
+         * Narrows the prefix of a listing down to the file name that the where condition requires, if any, since S3
+         * can only filter keys by prefix.
+         *
+         * @return The prefix to list, or null if no file can match both the prefix and the condition
+         */
+        String getKeyPrefix(String prefix, Condition condition) {
+            if (!Condition.isValid(condition)) {
+                return prefix;
+            }
+
+            List<Condition> conditions =
+                    ConditionalOperator.AND.equals(condition.getOperator()) && condition.getValue() instanceof List
+                            ? (List<Condition>) condition.getValue()
+                            : List.of(condition);
+            for (Condition keyCondition : conditions) {
+                if (FILE_NAME_KEY.equals(keyCondition.getPath())
+                        && ConditionalOperator.EQ.equals(keyCondition.getOperator())
+                        && keyCondition.getValue() instanceof String fileName) {
+                    return fileName.startsWith(prefix) ? fileName : null;
+                }
+            }
+
+            return prefix;
+        }
+
+        /**
+         * Checks whether the files are only filtered and sorted on their names, in which case their urls don't need to
+         * be generated before they're filtered.
+         */
+        boolean isFilteredOnFileNameOnly(Condition condition, List<Map<String, String>> sortBy) {
+            if (!CollectionUtils.isEmpty(sortBy)
+                    && sortBy.stream()
+                            .map(sortCondition -> sortCondition.get(SORT_BY_COLUMN_NAME_KEY))
+                            .anyMatch(column -> !StringUtils.isNullOrEmpty(column) && !FILE_NAME_KEY.equals(column))) {
+                return false;
+            }
+
+            return !Condition.isValid(condition) || isOnFileNameOnly(condition);
+        }
+
+        private boolean isOnFileNameOnly(Condition condition) {
+            if (condition.getValue() instanceof List) {
+                return ((List<Condition>) condition.getValue()).stream().allMatch(this::isOnFileNameOnly);
+            }
+
+            return StringUtils.isNullOrEmpty(condition.getPath()) || FILE_NAME_KEY.equals(condition.getPath());
+        }
+
+        ArrayNode getFileInfos(List<String> listOfFiles) {
+            ArrayNode fileInfos = objectMapper.createArrayNode();
+            for (String fileName : listOfFiles) {
+                fileInfos.addObject().put(FILE_NAME_KEY, fileName);
+            }
+
+            return fileInfos;
+        }
+
+        /**
+         * Adds the signed urls of the files if an expiry date is given, and their unsigned urls if required.
+         */
+        void addUrlsToFileInfos(
+                AmazonS3 connection,
+                String bucketName,
+                ArrayNode fileInfos,
+                Date expiryDateTime,
+                String expiryDateTimeString,
+                boolean isUnsignedUrl) {
+            for (JsonNode fileInfo : fileInfos) {
+                ObjectNode file = (ObjectNode) fileInfo;
+                String fileName = file.get(FILE_NAME_KEY).asText();
+                if (expiryDateTime != null) {
+                    ArrayList<String> signedUrls =
+                            getSignedUrls(connection, bucketName, new ArrayList<>(List.of(fileName)), expiryDateTime);
+                    file.put("signedUrl", signedUrls.get(0));
+                    file.put("urlExpiryDate", expiryDateTimeString);
+                }
+                if (isUnsignedUrl) {
+                    file.put("url", connection.getUrl(bucketName, fileName).toString());
+                }
+            }
+        }
+
         ArrayList<String> getSignedUrls(
                 AmazonS3 connection, String bucketName, ArrayList<String> listOfFiles, Date expiryDateTime) {
             ArrayList<String> urlList = new ArrayList<>();
@@ -259,7 +410,6 @@ public class AmazonS3Plugin extends BasePlugin {
                 Date expiryDateTime)
                 throws InterruptedException, AppsmithPluginException {
 
-            byte[] payload;
             MultipartFormDataDTO multipartFormDataDTO;
             try {
                 multipartFormDataDTO = objectMapper.readValue(body, MultipartFormDataDTO.class);
@@ -274,33 +424,7 @@ public class AmazonS3Plugin extends BasePlugin {
                         AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
                         S3ErrorMessages.UNPARSABLE_CONTENT_ERROR_MSG);
             }
-            if (Boolean.TRUE.equals(usingFilePicker)) {
-
-                String encodedPayload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO);
-
-                /*
-                 * - For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-
-                 *   base64-encoded-payload>".
-                 * - Strip off the redundant part in the beginning to get actual payload.
-                 */
-                if (encodedPayload.contains(BASE64_DELIMITER)) {
-                    List<String> bodyArrayList = Arrays.asList(encodedPayload.split(BASE64_DELIMITER));
-                    encodedPayload = bodyArrayList.get(bodyArrayList.size() - 1);
-                }
-
-                try {
-                    payload = Base64.getDecoder().decode(encodedPayload);
-                } catch (IllegalArgumentException e) {
-                    throw new AppsmithPluginException(
-                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                            S3ErrorMessages.UNEXPECTED_ENCODING_IN_FILE_CONTENT_ERROR_MSG);
-                }
-            } else {
-                payload =
-                        getEncodedPayloadFromMultipartDTO(multipartFormDataDTO).getBytes();
-            }
-
-            uploadFileInS3(payload, connection, multipartFormDataDTO, bucketName, path);
+            uploadPayloadInS3(connection, multipartFormDataDTO, usingFilePicker, bucketName, path);
             ArrayList<String> listOfFiles = new ArrayList<>();
             listOfFiles.add(path);
             ArrayList<String> listOfUrls = getSignedUrls(connection, bucketName, listOfFiles, expiryDateTime);
@@ -339,35 +463,8 @@ public class AmazonS3Plugin extends BasePlugin {
             ArrayList<String> listOfFiles = new ArrayList<>();
             multipartFormDataDTOs.forEach(multipartFormDataDTO -> {
                 final String filePath = path + multipartFormDataDTO.getName();
-                byte[] payload;
-                if (Boolean.TRUE.equals(usingFilePicker)) {
-
-                    String encodedPayload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO);
-                    /*
-                     * - For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-
-                     *   base64-encoded-payload>".
-                     * - Strip off the redundant part in the beginning to get actual payload.
-                     */
-                    if (encodedPayload.contains(BASE64_DELIMITER)) {
-                        List<String> bodyArrayList = Arrays.asList(encodedPayload.split(BASE64_DELIMITER));
-                        encodedPayload = bodyArrayList.get(bodyArrayList.size() - 1);
-                    }
-
-                    try {
-                        payload = Base64.getDecoder().decode(encodedPayload);
-                    } catch (IllegalArgumentException e) {
-                        throw new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                S3ErrorMessages.UNEXPECTED_ENCODING_IN_FILE_CONTENT_ERROR_MSG,
-                                e.getMessage());
-                    }
-                } else {
-                    payload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO)
-                            .getBytes();
-                }
-
                 try {
-                    uploadFileInS3(payload, connection, multipartFormDataDTO, bucketName, filePath);
+                    uploadPayloadInS3(connection, multipartFormDataDTO, usingFilePicker, bucketName, filePath);
                 } catch (InterruptedException e) {
                     throw new AppsmithPluginException(
                             S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
@@ -382,21 +479,111 @@ public class AmazonS3Plugin extends BasePlugin {
         }
 
         /*
+         * - Reads the file, or the given range of bytes of it, into the returned content. The content is held in full,
+         *   once as it is read and once more as the returned string.
+         * - Files larger than the configured maximum read file size need to be read in ranges, or streamed.
          * - Exception thrown here needs to be handled by the caller.
          */
-        String readFile(AmazonS3 connection, String bucketName, String path, Boolean encodeContent) throws IOException {
-            S3Object fullObject = connection.getObject(bucketName, path);
-            S3ObjectInputStream content = fullObject.getObjectContent();
-            byte[] bytes = IOUtils.toByteArray(content);
-
-            String result;
-            if (Boolean.TRUE.equals(encodeContent)) {
-                result = new String(Base64.getEncoder().encode(bytes));
-            } else {
-                result = new String(bytes);
+        String readFile(
+                AmazonS3 connection,
+                String bucketName,
+                String path,
+                Boolean encodeContent,
+                Long rangeStart,
+                Long rangeLength)
+                throws IOException {
+            S3Object s3Object = getObject(connection, bucketName, path, rangeStart, rangeLength);
+            long maxReadFileSize = sharedConfig.getS3MaxReadFileSize();
+
+            try (S3ObjectInputStream content = s3Object.getObjectContent()) {
+                // The content length is that of the requested range, and is unknown if S3 didn't send it
+                long contentLength = s3Object.getObjectMetadata() == null
+                        ? -1
+                        : s3Object.getObjectMetadata().getContentLength();
+                if (maxReadFileSize > 0 && contentLength > maxReadFileSize) {
+                    // Closing the stream would download the rest of the file, so the connection is dropped instead
+                    content.abort();
+                    throw getFileTooLargeToReadException(maxReadFileSize);
+                }
+
+                int size = (int) Math.max(contentLength, 0);
+                ByteArrayOutputStream output =
+                        new ByteArrayOutputStream(Boolean.TRUE.equals(encodeContent) ? 4 * ((size + 2) / 3) : size);
+                try (OutputStream encodedOutput =
+                        Boolean.TRUE.equals(encodeContent) ? Base64.getEncoder().wrap(output) : output) {
+                    byte[] buffer = new byte[READ_BUFFER_SIZE_IN_BYTES];
+                    long bytesRead = 0;
+                    int count;
+                    while ((count = content.read(buffer)) != -1) {
+                        bytesRead += count;
+                        if (maxReadFileSize > 0 && bytesRead > maxReadFileSize) {
+                            content.abort();
+                            throw getFileTooLargeToReadException(maxReadFileSize);
+                        }
+                        encodedOutput.write(buffer, 0, count);
+                    }
+                }
+
+                return Boolean.TRUE.equals(encodeContent)
+                        ? output.toString(StandardCharsets.ISO_8859_1)
+                        : output.toString();
             }
+        }
 
-            return result;
+        /*
+         * - Returns the file, or the given range of bytes of it, with its content still to be read.
+         * - Exception thrown here needs to be handled by the caller.
+         */
+        private S3Object getObject(
+                AmazonS3 connection, String bucketName, String path, Long rangeStart, Long rangeLength) {
+            GetObjectRequest getObjectRequest = new GetObjectRequest(bucketName, path);
+            long start = rangeStart == null ? 0 : rangeStart;
+            if (rangeLength != null) {
+                getObjectRequest.setRange(start, start + rangeLength - 1);
+            } else if (rangeStart != null) {
+                getObjectRequest.setRange(start);
+            }
+
+            S3Object s3Object = connection.getObject(getObjectRequest);
+            if (s3Object == null) {
+                throw new AppsmithPluginException(
+                        S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
+                        S3ErrorMessages.FILE_CONTENT_FETCHING_ERROR_MSG);
+            }
+            return s3Object;
+        }
+
+        private static AppsmithPluginException getFileTooLargeToReadException(long maxReadFileSize) {
+            return new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    String.format(S3ErrorMessages.FILE_TOO_LARGE_TO_READ_ERROR_MSG, maxReadFileSize));
+        }
+
+        /*
+         * - Returns the range start or range length given in the form data, or null if it is empty.
+         * - Exception thrown here needs to be handled by the caller.
+         */
+        private static Long getRangeValue(Map<String, Object> formData, String field, long minimum) {
+            String value = getDataValueSafelyFromFormData(formData, field, STRING_TYPE, "");
+            if (StringUtils.isNullOrEmpty(value)) {
+                return null;
+            }
+
+            long rangeValue;
+            try {
+                rangeValue = Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        S3ErrorMessages.RANGE_NOT_A_NUMBER_ERROR_MSG,
+                        e.getMessage());
+            }
+            if (rangeValue < minimum) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        S3ErrorMessages.RANGE_NOT_A_NUMBER_ERROR_MSG);
+            }
+            return rangeValue;
         }
 
         @Override
@@ -460,6 +647,85 @@ public class AmazonS3Plugin extends BasePlugin {
             return this.executeCommon(connection, datasourceConfiguration, actionConfiguration);
         }
 
+        /**
+         * Streams the content of the file read by a READ_FILE command as rows of fileData, each one with a chunk of the
+         * content, so that files of any size are read without holding them in memory. Other commands are executed as a
+         * whole, and their result is streamed.
+         */
+        @Override
+        public Flux<Object> executeParameterizedStreaming(
+                AmazonS3 connection,
+                ExecuteActionDTO executeActionDTO,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration) {
+
+            log.debug(
+                    Thread.currentThread().getName() + ": executeParameterizedStreaming() called for AmazonS3 plugin.");
+            final Map<String, Object> formData = actionConfiguration == null ? null : actionConfiguration.getFormData();
+            if (connection == null
+                    || !AmazonS3Action.READ_FILE
+                            .name()
+                            .equals(getDataValueSafelyFromFormData(formData, COMMAND, STRING_TYPE))) {
+                return PluginExecutor.super.executeParameterizedStreaming(
+                        connection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+            }
+
+            prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+
+            return Flux.using(
+                            () -> {
+                                final String bucketName = getDataValueSafelyFromFormData(formData, BUCKET, STRING_TYPE);
+                                if (StringUtils.isNullOrEmpty(bucketName)) {
+                                    throw new AppsmithPluginException(
+                                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                            S3ErrorMessages.MANDATORY_PARAMETER_BUCKET_MISSING_ERROR_MSG);
+                                }
+                                final String path = getDataValueSafelyFromFormData(formData, PATH, STRING_TYPE, "");
+                                if (StringUtils.isNullOrEmpty(path)) {
+                                    throw new AppsmithPluginException(
+                                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                            S3ErrorMessages.MANDATORY_PARAMETER_FILE_PATH_MISSING_ERROR_MSG);
+                                }
+                                Long rangeStart = getRangeValue(formData, READ_RANGE_START, 0);
+                                Long rangeLength = getRangeValue(formData, READ_RANGE_LENGTH, 1);
+                                boolean encodeContent = YES.equals(
+                                        getDataValueSafelyFromFormData(formData, READ_DATATYPE, STRING_TYPE));
+
+                                return new ObjectContentReader(
+                                        getObject(connection, bucketName, path, rangeStart, rangeLength)
+                                                .getObjectContent(),
+                                        encodeContent,
+                                        READ_BUFFER_SIZE_IN_BYTES);
+                            },
+                            reader -> Flux.<Object>generate(sink -> {
+                                try {
+                                    String chunk = reader.readChunk();
+                                    if (chunk == null) {
+                                        sink.complete();
+                                    } else {
+                                        sink.next(Map.of("fileData", chunk));
+                                    }
+                                } catch (IOException e) {
+                                    sink.error(e);
+                                }
+                            }),
+                            reader -> {
+                                try {
+                                    reader.close();
+                                } catch (IOException e) {
+                                    log.debug("Error closing the content of the file read from S3.", e);
+                                }
+                            })
+                    .onErrorMap(IllegalStateException.class, error -> new StaleConnectionException(error.getMessage()))
+                    .onErrorMap(
+                            e -> !(e instanceof AppsmithPluginException) && !(e instanceof StaleConnectionException),
+                            e -> new AppsmithPluginException(
+                                    e,
+                                    S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
+                                    S3ErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG))
+                    .subscribeOn(scheduler);
+        }
+
         private Mono<ActionExecutionResult> executeCommon(
                 AmazonS3 connection,
                 DatasourceConfiguration datasourceConfiguration,
@@ -540,17 +806,17 @@ public class AmazonS3Plugin extends BasePlugin {
                         }
                         Object actionResult;
                         switch (s3Action) {
-                            case LIST:
+                            case LIST: {
                                 log.debug(
                                         Thread.currentThread().getName() + ": LIST action called for AmazonS3 plugin.");
                                 String prefix = getDataValueSafelyFromFormData(formData, LIST_PREFIX, STRING_TYPE, "");
                                 requestParams.add(new RequestParamDTO(LIST_PREFIX, prefix, null, null, null));
 
-                                ArrayList<String> listOfFiles = listAllFilesInBucket(connection, bucketName, prefix);
-
                                 Boolean isSignedUrl = YES.equals(
                                         getDataValueSafelyFromFormData(formData, LIST_SIGNED_URL, STRING_TYPE));
 
+                                Date expiryDateTime = null;
+                                String expiryDateTimeString = null;
                                 if (isSignedUrl) {
                                     requestParams.add(new RequestParamDTO(LIST_SIGNED_URL, YES, null, null, null));
 
@@ -571,52 +837,17 @@ public class AmazonS3Plugin extends BasePlugin {
 
                                     Calendar calendar = Calendar.getInstance();
                                     calendar.add(Calendar.MINUTE, durationInMinutes);
-                                    Date expiryDateTime = calendar.getTime();
+                                    expiryDateTime = calendar.getTime();
                                     DateFormat dateTimeFormat = new SimpleDateFormat("dd MMM yyyy HH:mm:ss:SSS z");
-                                    String expiryDateTimeString = dateTimeFormat.format(expiryDateTime);
-
-                                    ArrayList<String> listOfSignedUrls =
-                                            getSignedUrls(connection, bucketName, listOfFiles, expiryDateTime);
-                                    if (listOfFiles.size() != listOfSignedUrls.size()) {
-                                        return Mono.error(new AppsmithPluginException(
-                                                S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
-                                                S3ErrorMessages.ACTION_LIST_OF_FILE_FETCHING_ERROR_MSG));
-                                    }
-
-                                    actionResult = new ArrayList<>();
-                                    for (int i = 0; i < listOfFiles.size(); i++) {
-                                        HashMap<String, Object> fileInfo = new HashMap<>();
-                                        fileInfo.put("fileName", listOfFiles.get(i));
-                                        fileInfo.put("signedUrl", listOfSignedUrls.get(i));
-                                        fileInfo.put("urlExpiryDate", expiryDateTimeString);
-                                        ((ArrayList<Object>) actionResult).add(fileInfo);
-                                    }
+                                    expiryDateTimeString = dateTimeFormat.format(expiryDateTime);
                                 } else {
                                     requestParams.add(new RequestParamDTO(LIST_SIGNED_URL, "", null, null, null));
-                                    actionResult = new ArrayList<>();
-                                    for (int i = 0; i < listOfFiles.size(); i++) {
-                                        HashMap<String, Object> fileInfo = new HashMap<>();
-                                        fileInfo.put("fileName", listOfFiles.get(i));
-                                        ((ArrayList<Object>) actionResult).add(fileInfo);
-                                    }
                                 }
 
-                                String isUnsignedUrl =
-                                        getDataValueSafelyFromFormData(formData, LIST_UNSIGNED_URL, STRING_TYPE);
-
-                                if (YES.equals(isUnsignedUrl)) {
-
-                                    requestParams.add(new RequestParamDTO(LIST_UNSIGNED_URL, YES, null, null, null));
-                                    ((ArrayList<Object>) actionResult).stream().forEach(item -> ((Map) item)
-                                            .put(
-                                                    "url", // key
-                                                    connection
-                                                            .getUrl(bucketName, (String) ((Map) item).get("fileName"))
-                                                            .toString() // value
-                                                    ));
-                                } else {
-                                    requestParams.add(new RequestParamDTO(LIST_UNSIGNED_URL, NO, null, null, null));
-                                }
+                                Boolean isUnsignedUrl = YES.equals(
+                                        getDataValueSafelyFromFormData(formData, LIST_UNSIGNED_URL, STRING_TYPE));
+                                requestParams.add(new RequestParamDTO(
+                                        LIST_UNSIGNED_URL, isUnsignedUrl ? YES : NO, null, null, null));
 
                                 // Check if where condition is configured
                                 Object whereFormObject =
@@ -631,15 +862,118 @@ public class AmazonS3Plugin extends BasePlugin {
                                 List<Map<String, String>> sortBy = getDataValueSafelyFromFormData(
                                         formData, LIST_SORT, new TypeReference<List<Map<String, String>>>() {});
 
+                                String pageSizeString =
+                                        getDataValueSafelyFromFormData(formData, LIST_PAGE_SIZE, STRING_TYPE, "");
+
+                                if (!StringUtils.isNullOrEmpty(pageSizeString)) {
+                                    /*
+                                     * - Paginated listing: a single page of files is listed from S3, starting at the
+                                     *   cursor returned with the previous page, and only this page is filtered, sorted
+                                     *   and signed.
+                                     */
+                                    int pageSize;
+                                    try {
+                                        pageSize = Integer.parseInt(pageSizeString.trim());
+                                    } catch (NumberFormatException e) {
+                                        return Mono.error(new AppsmithPluginException(
+                                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                                S3ErrorMessages.PAGE_SIZE_NOT_A_NUMBER_ERROR_MSG,
+                                                e.getMessage()));
+                                    }
+                                    if (pageSize <= 0) {
+                                        return Mono.error(new AppsmithPluginException(
+                                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                                S3ErrorMessages.PAGE_SIZE_NOT_A_NUMBER_ERROR_MSG));
+                                    }
+                                    requestParams.add(new RequestParamDTO(LIST_PAGE_SIZE, pageSize, null, null, null));
+
+                                    String cursor = getDataValueSafelyFromFormData(formData, LIST_CURSOR, STRING_TYPE);
+                                    requestParams.add(new RequestParamDTO(LIST_CURSOR, cursor, null, null, null));
+
+                                    String delimiter =
+                                            getDataValueSafelyFromFormData(formData, LIST_DELIMITER, STRING_TYPE);
+                                    requestParams.add(new RequestParamDTO(LIST_DELIMITER, delimiter, null, null, null));
+
+                                    String keyPrefix = getKeyPrefix(prefix, condition);
+                                    ListObjectsV2Result listing = keyPrefix == null
+                                            ? null
+                                            : listFilesInBucketPage(
+                                                    connection, bucketName, keyPrefix, delimiter, pageSize, cursor);
+
+                                    ArrayList<String> listOfFiles = listing == null
+                                            ? new ArrayList<>()
+                                            : getFilenamesFromObjectSummaries(listing.getObjectSummaries());
+                                    UQIDataFilterParams pageFilterParams =
+                                            new UQIDataFilterParams(condition, null, sortBy, null);
+                                    ArrayNode files;
+                                    if (isFilteredOnFileNameOnly(condition, sortBy)) {
+                                        files = filterDataService.filterDataNew(
+                                                getFileInfos(listOfFiles), pageFilterParams);
+                                        addUrlsToFileInfos(
+                                                connection,
+                                                bucketName,
+                                                files,
+                                                expiryDateTime,
+                                                expiryDateTimeString,
+                                                isUnsignedUrl);
+                                    } else {
+                                        // Urls may be filtered or sorted on, so they're added to the page first
+                                        files = getFileInfos(listOfFiles);
+                                        addUrlsToFileInfos(
+                                                connection,
+                                                bucketName,
+                                                files,
+                                                expiryDateTime,
+                                                expiryDateTimeString,
+                                                isUnsignedUrl);
+                                        files = filterDataService.filterDataNew(files, pageFilterParams);
+                                    }
+
+                                    Map<String, Object> page = new HashMap<>();
+                                    page.put("files", files);
+                                    page.put(
+                                            "folders",
+                                            listing == null ? new ArrayList<>() : listing.getCommonPrefixes());
+                                    page.put("nextCursor", listing == null ? null : listing.getNextContinuationToken());
+                                    page.put("hasMore", listing != null && listing.isTruncated());
+                                    actionResult = page;
+                                    break;
+                                }
+
                                 Map<String, String> paginateBy = getDataValueSafelyFromFormData(
                                         formData, LIST_PAGINATE, new TypeReference<Map<String, String>>() {});
 
-                                ArrayNode preFilteringResponse = objectMapper.valueToTree(actionResult);
-                                actionResult = filterDataService.filterDataNew(
-                                        preFilteringResponse,
-                                        new UQIDataFilterParams(condition, null, sortBy, paginateBy));
+                                ArrayList<String> listOfFiles = listAllFilesInBucket(connection, bucketName, prefix);
+                                UQIDataFilterParams filterParams =
+                                        new UQIDataFilterParams(condition, null, sortBy, paginateBy);
+
+                                if (isFilteredOnFileNameOnly(condition, sortBy)) {
+                                    // Only the files of the requested page are signed
+                                    ArrayNode files =
+                                            filterDataService.filterDataNew(getFileInfos(listOfFiles), filterParams);
+                                    addUrlsToFileInfos(
+                                            connection,
+                                            bucketName,
+                                            files,
+                                            expiryDateTime,
+                                            expiryDateTimeString,
+                                            isUnsignedUrl);
+                                    actionResult = files;
+                                } else {
+                                    // Urls may be filtered or sorted on, so they're added to all the files first
+                                    ArrayNode files = getFileInfos(listOfFiles);
+                                    addUrlsToFileInfos(
+                                            connection,
+                                            bucketName,
+                                            files,
+                                            expiryDateTime,
+                                            expiryDateTimeString,
+                                            isUnsignedUrl);
+                                    actionResult = filterDataService.filterDataNew(files, filterParams);
+                                }
 
                                 break;
+                            }
                             case UPLOAD_FILE_FROM_BODY: {
                                 log.debug(Thread.currentThread().getName()
                                         + ": UPLOAD_FILE_FROM_BODY action called for AmazonS3 plugin.");
@@ -757,12 +1091,23 @@ public class AmazonS3Plugin extends BasePlugin {
 
                                 String isBase64 = getDataValueSafelyFromFormData(formData, READ_DATATYPE, STRING_TYPE);
 
+                                Long rangeStart = getRangeValue(formData, READ_RANGE_START, 0);
+                                Long rangeLength = getRangeValue(formData, READ_RANGE_LENGTH, 1);
+                                if (rangeStart != null) {
+                                    requestParams.add(
+                                            new RequestParamDTO(READ_RANGE_START, rangeStart, null, null, null));
+                                }
+                                if (rangeLength != null) {
+                                    requestParams.add(
+                                            new RequestParamDTO(READ_RANGE_LENGTH, rangeLength, null, null, null));
+                                }
+
                                 if (YES.equals(isBase64)) {
                                     requestParams.add(new RequestParamDTO(READ_DATATYPE, YES, null, null, null));
-                                    result = readFile(connection, bucketName, path, true);
+                                    result = readFile(connection, bucketName, path, true, rangeStart, rangeLength);
                                 } else {
                                     requestParams.add(new RequestParamDTO(READ_DATATYPE, NO, null, null, null));
-                                    result = readFile(connection, bucketName, path, false);
+                                    result = readFile(connection, bucketName, path, false, rangeStart, rangeLength);
                                 }
                                 actionResult = Map.of("fileData", result);
                                 break;
@@ -1121,11 +1466,12 @@ public class AmazonS3Plugin extends BasePlugin {
         private String getOneFileNameOrDefault(AmazonS3 connection, String bucketName, String defaultFileName) {
             ArrayList<String> listOfFiles;
             try {
-                listOfFiles = listAllFilesInBucket(connection, bucketName, "");
+                listOfFiles =
+                        getFilenamesFromObjectSummaries(listFilesInBucketPage(connection, bucketName, "", null, 1, null)
+                                .getObjectSummaries());
             } catch (AppsmithPluginException e) {
                 return defaultFileName;
             }
-
             return CollectionUtils.isEmpty(listOfFiles) ? defaultFileName : listOfFiles.get(0);
         }
 
@@ -1156,24 +1502,108 @@ public class AmazonS3Plugin extends BasePlugin {
             return encodedPayload;
         }
 
+        /*
+         * - Uploads the content of the body, which is decoded while it is uploaded when it is Base64 encoded.
+         * - Throws exception on upload failure.
+         */
+        void uploadPayloadInS3(
+                AmazonS3 connection,
+                MultipartFormDataDTO multipartFormDataDTO,
+                Boolean usingFilePicker,
+                String bucketName,
+                String path)
+                throws InterruptedException {
+            String encodedPayload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO);
+            if (Boolean.TRUE.equals(usingFilePicker)) {
+                /*
+                 * - For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-
+                 *   base64-encoded-payload>".
+                 * - Skip the redundant part in the beginning to get actual payload.
+                 */
+                int payloadStart = 0;
+                int delimiterIndex = encodedPayload.lastIndexOf(BASE64_DELIMITER);
+                if (delimiterIndex >= 0) {
+                    payloadStart = delimiterIndex + BASE64_DELIMITER.length();
+                }
+
+                long payloadLength = PayloadUtils.getDecodedLength(encodedPayload, payloadStart);
+                if (payloadLength < 0) {
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            S3ErrorMessages.UNEXPECTED_ENCODING_IN_FILE_CONTENT_ERROR_MSG);
+                }
+                uploadFileInS3(
+                        PayloadUtils.getDecodedInputStream(encodedPayload, payloadStart),
+                        payloadLength,
+                        connection,
+                        multipartFormDataDTO,
+                        bucketName,
+                        path);
+            } else {
+                byte[] payload = encodedPayload.getBytes();
+                uploadFileInS3(
+                        new ByteArrayInputStream(payload),
+                        payload.length,
+                        connection,
+                        multipartFormDataDTO,
+                        bucketName,
+                        path);
+            }
+        }
+
+        /*
+         * - Payloads larger than MULTIPART_UPLOAD_THRESHOLD_IN_BYTES are uploaded in parts, in parallel.
+         * - Throws exception on upload failure.
+         */
         void uploadFileInS3(
-                byte[] payload,
+                InputStream payload,
+                long payloadLength,
                 AmazonS3 connection,
                 MultipartFormDataDTO multipartFormDataDTO,
                 String bucketName,
                 String path)
                 throws InterruptedException {
-            InputStream inputStream = new ByteArrayInputStream(payload);
-            TransferManager transferManager =
-                    TransferManagerBuilder.standard().withS3Client(connection).build();
             final ObjectMetadata objectMetadata = new ObjectMetadata();
             // Only add content type if the user has mentioned it in the body
             if (multipartFormDataDTO.getType() != null) {
                 objectMetadata.setContentType(multipartFormDataDTO.getType());
             }
-            transferManager
-                    .upload(bucketName, path, inputStream, objectMetadata)
-                    .waitForUploadResult();
+            // Without the length, the SDK would buffer the whole payload in memory to find it
+            objectMetadata.setContentLength(payloadLength);
+
+            TransferManager transferManager = TransferManagerBuilder.standard()
+                    .withS3Client(connection)
+                    .withMultipartUploadThreshold(MULTIPART_UPLOAD_THRESHOLD_IN_BYTES)
+                    .withMinimumUploadPartSize(MULTIPART_UPLOAD_PART_SIZE_IN_BYTES)
+                    .build();
+            File spooledPayload = null;
+            try {
+                PutObjectRequest putObjectRequest;
+                if (payloadLength > MULTIPART_UPLOAD_THRESHOLD_IN_BYTES) {
+                    // Parts are only uploaded in parallel from a file, so large payloads are spooled to disk first
+                    spooledPayload =
+                            Files.createTempFile("appsmith-s3-upload-", null).toFile();
+                    try (OutputStream outputStream = new FileOutputStream(spooledPayload)) {
+                        payload.transferTo(outputStream);
+                    }
+                    putObjectRequest =
+                            new PutObjectRequest(bucketName, path, spooledPayload).withMetadata(objectMetadata);
+                } else {
+                    putObjectRequest = new PutObjectRequest(bucketName, path, payload, objectMetadata);
+                }
+                transferManager.upload(putObjectRequest).waitForUploadResult();
+            } catch (IOException e) {
+                throw new AppsmithPluginException(
+                        S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
+                        S3ErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                        e.getMessage());
+            } finally {
+                // The connection is shared with other queries, so only the threads of the transfer manager are stopped
+                transferManager.shutdownNow(false);
+                if (spooledPayload != null && !spooledPayload.delete()) {
+                    log.debug("Failed to delete the spooled payload of the S3 upload: " + spooledPayload);
+                }
+            }
         }
 
         /**
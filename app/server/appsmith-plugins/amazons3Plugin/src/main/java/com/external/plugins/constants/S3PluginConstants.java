@@ -16,4 +16,9 @@ public class S3PluginConstants {
     public static final String ACCESS_DENIED_ERROR_CODE = "AccessDenied";
     public static final String GOOGLE_CLOUD_SERVICE_PROVIDER = "google-cloud-storage";
     public static final String AUTO = "auto";
+    public static final int MAX_KEYS_PER_LIST_REQUEST = 1000; // max keys returned by S3 for a single list request
+    public static final String FILE_NAME_KEY = "fileName";
+    public static final int READ_BUFFER_SIZE_IN_BYTES = 64 * 1024;
+    public static final long MULTIPART_UPLOAD_THRESHOLD_IN_BYTES = 16L * 1024 * 1024;
+    public static final long MULTIPART_UPLOAD_PART_SIZE_IN_BYTES = 8L * 1024 * 1024; // min 5 MB is allowed by S3
 }
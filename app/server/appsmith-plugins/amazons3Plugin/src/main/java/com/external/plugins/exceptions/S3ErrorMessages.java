@@ -65,6 +65,20 @@ public class S3ErrorMessages extends BasePluginErrorMessages {
                     + "any non-negative integer. Please note that the maximum expiry "
                     + "duration supported by Amazon S3 is 7 days i.e. 10080 minutes.";
 
+    public static final String PAGE_SIZE_NOT_A_NUMBER_ERROR_MSG =
+            "Parameter 'Page size' is NOT a number. Please ensure that the input to 'Page size' field is a valid "
+                    + "number - i.e. any positive integer. Please note that Amazon S3 returns at most 1000 files per "
+                    + "page.";
+
+    public static final String RANGE_NOT_A_NUMBER_ERROR_MSG =
+            "Parameters 'Range start' and 'Range length' need to be numbers. Please ensure that the input to "
+                    + "'Range start' is any non-negative integer, and that the input to 'Range length' is any "
+                    + "positive integer.";
+
+    public static final String FILE_TOO_LARGE_TO_READ_ERROR_MSG =
+            "The file is larger than the maximum supported size of %d bytes that can be read at once. Please use "
+                    + "the 'Range start' and 'Range length' fields to read the file in parts.";
+
     public static final String ACTION_LIST_OF_FILE_FETCHING_ERROR_MSG =
             "Appsmith server has encountered an unexpected error when getting "
                     + "list of files from AWS S3 server. Please reach out to Appsmith customer "
@@ -0,0 +1,78 @@
+package com.external.utils;
+
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Reads the content of an S3 object in chunks, as Base64 or as text, without holding more than a chunk of it. Base64
+ * chunks are encoded from a multiple of 3 bytes, so that they join up into the encoding of the whole content.
+ */
+public class ObjectContentReader implements Closeable {
+
+    private final S3ObjectInputStream content;
+    private final Reader textContent;
+    private final byte[] bytes;
+    private final char[] chars;
+    private boolean finished;
+
+    public ObjectContentReader(S3ObjectInputStream content, boolean encodeContent, int chunkSize) {
+        this.content = content;
+        if (encodeContent) {
+            this.textContent = null;
+            this.bytes = new byte[chunkSize / 4 * 3];
+            this.chars = null;
+        } else {
+            // Same charset the content of a file read at once is decoded with
+            this.textContent = new InputStreamReader(content, Charset.defaultCharset());
+            this.bytes = null;
+            this.chars = new char[chunkSize];
+        }
+    }
+
+    /**
+     * @return The next chunk of the content, or null once all of it has been read
+     */
+    public String readChunk() throws IOException {
+        int count = textContent == null ? content.readNBytes(bytes, 0, bytes.length) : readChars();
+        if (count == 0) {
+            finished = true;
+            return null;
+        }
+
+        if (textContent != null) {
+            return new String(chars, 0, count);
+        }
+        ByteBuffer encoded = Base64.getEncoder().encode(ByteBuffer.wrap(bytes, 0, count));
+        return new String(encoded.array(), 0, encoded.limit(), StandardCharsets.ISO_8859_1);
+    }
+
+    private int readChars() throws IOException {
+        int count = 0;
+        int read;
+        while (count < chars.length && (read = textContent.read(chars, count, chars.length - count)) != -1) {
+            count += read;
+        }
+        return count;
+    }
+
+    /**
+     * Closing the stream before the end of the content would download the rest of it, so the connection is dropped
+     * instead.
+     */
+    @Override
+    public void close() throws IOException {
+        if (finished) {
+            content.close();
+        } else {
+            content.abort();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.external.utils;
+
+import java.io.InputStream;
+import java.util.Base64;
+
+public class PayloadUtils {
+
+    /**
+     * Computes the length of the content decoded from the Base64 encoded payload, which starts at the given index.
+     *
+     * @return The decoded length, or -1 if the payload is not Base64 encoded
+     */
+    public static long getDecodedLength(String encodedPayload, int start) {
+        int end = encodedPayload.length();
+        int padding = 0;
+        while (padding < 2 && end > start && encodedPayload.charAt(end - 1) == '=') {
+            padding++;
+            end--;
+        }
+
+        for (int i = start; i < end; i++) {
+            if (!isBase64Character(encodedPayload.charAt(i))) {
+                return -1;
+            }
+        }
+
+        int length = end - start;
+        int remainder = length % 4;
+        if (remainder == 1 || (padding > 0 && (length + padding) % 4 != 0)) {
+            return -1;
+        }
+        return (long) length / 4 * 3 + (remainder == 0 ? 0 : remainder - 1);
+    }
+
+    /**
+     * Decodes the Base64 encoded payload, which starts at the given index, as it is read. The payload is expected to
+     * have been validated with {@link #getDecodedLength(String, int)}.
+     */
+    public static InputStream getDecodedInputStream(String encodedPayload, int start) {
+        return Base64.getDecoder().wrap(new StringInputStream(encodedPayload, start));
+    }
+
+    private static boolean isBase64Character(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '+' || c == '/';
+    }
+
+    /**
+     * Reads the characters of an ASCII string as bytes, without copying it.
+     */
+    private static class StringInputStream extends InputStream {
+
+        private final String content;
+        private int position;
+
+        StringInputStream(String content, int start) {
+            this.content = content;
+            this.position = start;
+        }
+
+        @Override
+        public int read() {
+            return position < content.length() ? content.charAt(position++) & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (position >= content.length()) {
+                return -1;
+            }
+            int count = Math.min(length, content.length() - position);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) content.charAt(position++);
+            }
+            return count;
+        }
+    }
+}
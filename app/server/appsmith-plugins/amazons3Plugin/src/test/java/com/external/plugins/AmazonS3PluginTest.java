@@ -5,15 +5,28 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
 import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartListing;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
 import com.amazonaws.util.Base64;
 import com.appsmith.external.datatypes.ClientDataType;
 import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.dtos.MultipartFormDataDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.PluginUtils;
 import com.appsmith.external.models.ActionConfiguration;
@@ -26,21 +39,28 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.Param;
 import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.constants.AmazonS3Action;
 import com.external.plugins.exceptions.S3ErrorMessages;
 import com.external.plugins.exceptions.S3PluginError;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.methods.HttpRequestBase;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.MalformedURLException;
@@ -51,6 +71,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_PATH;
@@ -61,14 +87,21 @@ import static com.external.plugins.constants.FieldName.BUCKET;
 import static com.external.plugins.constants.FieldName.COMMAND;
 import static com.external.plugins.constants.FieldName.CREATE_DATATYPE;
 import static com.external.plugins.constants.FieldName.CREATE_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_CURSOR;
+import static com.external.plugins.constants.FieldName.LIST_DELIMITER;
 import static com.external.plugins.constants.FieldName.LIST_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_PAGE_SIZE;
+import static com.external.plugins.constants.FieldName.LIST_PAGINATE;
 import static com.external.plugins.constants.FieldName.LIST_PREFIX;
 import static com.external.plugins.constants.FieldName.LIST_SIGNED_URL;
+import static com.external.plugins.constants.FieldName.LIST_SORT;
 import static com.external.plugins.constants.FieldName.LIST_UNSIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
 import static com.external.plugins.constants.FieldName.READ_EXPIRY;
+import static com.external.plugins.constants.FieldName.READ_RANGE_LENGTH;
+import static com.external.plugins.constants.FieldName.READ_RANGE_START;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_FILE_NAME;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_URL_EXPIRY_IN_MINUTES;
@@ -86,13 +119,16 @@ import static com.external.utils.TemplateUtils.FILE_PICKER_MULTIPLE_FILES_DATA_E
 import static com.external.utils.TemplateUtils.LIST_FILES_TEMPLATE_NAME;
 import static com.external.utils.TemplateUtils.LIST_OF_FILES_STRING;
 import static com.external.utils.TemplateUtils.READ_FILE_TEMPLATE_NAME;
+import static java.lang.Boolean.TRUE;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
@@ -111,6 +147,8 @@ public class AmazonS3PluginTest {
     @InjectMocks
     private AmazonS3Plugin amazonS3Plugin;
 
+    static SharedConfig mockSharedConfig = mock(SharedConfig.class);
+
     @BeforeAll
     public static void setUp() {
         accessKey = "access_key";
@@ -146,7 +184,7 @@ public class AmazonS3PluginTest {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         datasourceConfiguration.setAuthentication(authDTOWithEmptyAccessKey);
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -170,7 +208,7 @@ public class AmazonS3PluginTest {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         datasourceConfiguration.setAuthentication(authDTOWithEmptyAccessKey);
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -192,7 +230,7 @@ public class AmazonS3PluginTest {
         datasourceConfiguration.getProperties().get(1).setValue("other");
         datasourceConfiguration.getProperties().get(2).setValue("");
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -212,7 +250,7 @@ public class AmazonS3PluginTest {
         Property defaultBucketProperty = new Property("default bucket", "");
         datasourceConfiguration.getProperties().add(defaultBucketProperty);
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -234,7 +272,7 @@ public class AmazonS3PluginTest {
         Property defaultBucketProperty = new Property("default bucket", "default-bucket");
         datasourceConfiguration.getProperties().add(defaultBucketProperty);
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -256,7 +294,7 @@ public class AmazonS3PluginTest {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         datasourceConfiguration.getProperties().get(2).setValue("");
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -274,7 +312,7 @@ public class AmazonS3PluginTest {
         datasourceConfiguration.getProperties().get(2).setValue("");
         datasourceConfiguration.getEndpoints().get(0).setHost("");
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -293,7 +331,7 @@ public class AmazonS3PluginTest {
     @Test
     public void testTestDatasourceWithFalseCredentials() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
         StepVerifier.create(pluginExecutor.testDatasource(datasourceConfiguration))
                 .assertNext(datasourceTestResult -> {
                     assertNotEquals(0, datasourceTestResult.getInvalids().size());
@@ -312,7 +350,8 @@ public class AmazonS3PluginTest {
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setFormData(new HashMap<>());
-        Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(new AmazonS3Plugin.S3PluginExecutor());
+        Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono =
+                Mono.just(new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig));
         Mono<ActionExecutionResult> resultMono = pluginExecutorMono.flatMap(executor -> {
             return executor.executeParameterized(null, executeActionDTO, datasourceConfiguration, actionConfiguration);
         });
@@ -324,7 +363,7 @@ public class AmazonS3PluginTest {
     public void testListFilesInBucketWithNoUrl() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -380,7 +419,7 @@ public class AmazonS3PluginTest {
     public void testCreateFileFromBodyWithFalseCredentialsAndNonNullDuration() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -420,7 +459,7 @@ public class AmazonS3PluginTest {
     public void testFileUploadFromBodyWithMissingDuration() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -463,7 +502,7 @@ public class AmazonS3PluginTest {
         Param param = new Param("dynamicallyFoundFilePickerObject", "<html>Random\"Unescaped'String</html>");
         param.setClientDataType(ClientDataType.OBJECT);
         executeActionDTO.setParams(List.of(param));
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -497,7 +536,7 @@ public class AmazonS3PluginTest {
     public void testFileUploadFromBody_withMalformedBody_returnsErrorMessage() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -549,7 +588,7 @@ public class AmazonS3PluginTest {
     public void testFileUploadFromBodyWithFilepickerAndNonBase64() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -607,7 +646,7 @@ public class AmazonS3PluginTest {
     public void testCreateMultipleFilesFromBodyWithFalseCredentialsAndNonNullDuration() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -641,7 +680,7 @@ public class AmazonS3PluginTest {
     public void testReadFileFromPathWithoutBase64Encoding() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -656,7 +695,7 @@ public class AmazonS3PluginTest {
 
         S3Object mockS3Object = mock(S3Object.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.getObject(anyString(), anyString())).thenReturn(mockS3Object);
+        when(mockConnection.getObject(any(GetObjectRequest.class))).thenReturn(mockS3Object);
 
         String dummyContent = "Hello World !!!\n";
         InputStream dummyInputStream = new ByteArrayInputStream(dummyContent.getBytes());
@@ -679,7 +718,7 @@ public class AmazonS3PluginTest {
     public void testReadFileFromPathWithBase64Encoding() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -694,7 +733,7 @@ public class AmazonS3PluginTest {
 
         S3Object mockS3Object = mock(S3Object.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.getObject(anyString(), anyString())).thenReturn(mockS3Object);
+        when(mockConnection.getObject(any(GetObjectRequest.class))).thenReturn(mockS3Object);
 
         String dummyContent = "Hello World !!!\n";
         InputStream dummyInputStream = new ByteArrayInputStream(dummyContent.getBytes());
@@ -733,7 +772,7 @@ public class AmazonS3PluginTest {
     public void testDeleteFile() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -778,7 +817,7 @@ public class AmazonS3PluginTest {
     public void testListFilesWithPrefix() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -828,7 +867,7 @@ public class AmazonS3PluginTest {
     public void testListFilesWithUnsignedUrl() throws MalformedURLException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -892,7 +931,7 @@ public class AmazonS3PluginTest {
     public void testListFilesWithSignedUrl() throws MalformedURLException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -957,7 +996,7 @@ public class AmazonS3PluginTest {
     public void testListFilesWithSignedUrlAndNullDuration() throws MalformedURLException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -1039,7 +1078,7 @@ public class AmazonS3PluginTest {
     @Test
     public void testGetStructure() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
 
         Bucket mockS3Bucket1 = mock(Bucket.class);
         when(mockS3Bucket1.getName()).thenReturn("dummy_bucket_1");
@@ -1242,7 +1281,7 @@ public class AmazonS3PluginTest {
     public void testDeleteMultipleFiles() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -1296,7 +1335,7 @@ public class AmazonS3PluginTest {
         amazonS3Exception.setErrorCode(errorCode);
 
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
         AmazonS3 mockConnection = Mockito.mock(AmazonS3.class);
         Method executeCommon = AmazonS3Plugin.S3PluginExecutor.class.getDeclaredMethod(
                 "executeCommon", AmazonS3.class, DatasourceConfiguration.class, ActionConfiguration.class);
@@ -1318,7 +1357,8 @@ public class AmazonS3PluginTest {
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
         ActionConfiguration mockActionConfiguration = mock(ActionConfiguration.class);
         Mockito.when(mockActionConfiguration.getFormData()).thenCallRealMethod().thenThrow(new IllegalStateException());
-        Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(new AmazonS3Plugin.S3PluginExecutor());
+        Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono =
+                Mono.just(new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig));
         Mono<ActionExecutionResult> resultMono = pluginExecutorMono.flatMap(executor -> {
             return executor.executeParameterized(
                     null, executeActionDTO, datasourceConfiguration, mockActionConfiguration);
@@ -1336,7 +1376,7 @@ public class AmazonS3PluginTest {
         amazonServiceException.setErrorCode(errorCode);
 
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
         AmazonS3 mockConnection = Mockito.mock(AmazonS3.class);
         Method executeCommon = AmazonS3Plugin.S3PluginExecutor.class.getDeclaredMethod(
                 "executeCommon", AmazonS3.class, DatasourceConfiguration.class, ActionConfiguration.class);
@@ -1354,7 +1394,7 @@ public class AmazonS3PluginTest {
     public void uploadsSingleFileWithFilePicker() throws InterruptedException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor spyS3PluginExecutor = spy(AmazonS3Plugin.S3PluginExecutor.class);
+        AmazonS3Plugin.S3PluginExecutor spyS3PluginExecutor = spy(new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig));
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -1377,7 +1417,7 @@ public class AmazonS3PluginTest {
                 spyS3PluginExecutor.datasourceCreate(datasourceConfiguration).block();
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url");
-        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), any(), any(), anyString(), anyString());
+        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), anyLong(), any(), any(), anyString(), anyString());
         doReturn(signedURLS).when(spyS3PluginExecutor).getSignedUrls(any(), anyString(), any(), any());
         String unsignedURL = "https://example.unsigned.url";
         doReturn(unsignedURL).when(spyS3PluginExecutor).createFileUrl(any(), anyString(), anyString());
@@ -1397,7 +1437,7 @@ public class AmazonS3PluginTest {
     public void uploadsMultipleFilesWithFilePicker() throws InterruptedException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor spyS3PluginExecutor = spy(AmazonS3Plugin.S3PluginExecutor.class);
+        AmazonS3Plugin.S3PluginExecutor spyS3PluginExecutor = spy(new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig));
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -1419,7 +1459,7 @@ public class AmazonS3PluginTest {
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url1");
         signedURLS.add("https://example.signed.url2");
-        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), any(), any(), anyString(), anyString());
+        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), anyLong(), any(), any(), anyString(), anyString());
         doReturn(signedURLS).when(spyS3PluginExecutor).getSignedUrls(any(), anyString(), any(), any());
         ArrayList<String> unsignedURLS = new ArrayList<>();
         unsignedURLS.add("https://example.unsigned.url1");
@@ -1449,7 +1489,7 @@ public class AmazonS3PluginTest {
     public void uploadsSingleFileWithoutFilePicker() throws InterruptedException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor spyS3PluginExecutor = spy(AmazonS3Plugin.S3PluginExecutor.class);
+        AmazonS3Plugin.S3PluginExecutor spyS3PluginExecutor = spy(new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig));
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -1472,7 +1512,7 @@ public class AmazonS3PluginTest {
                 spyS3PluginExecutor.datasourceCreate(datasourceConfiguration).block();
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url");
-        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), any(), any(), anyString(), anyString());
+        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), anyLong(), any(), any(), anyString(), anyString());
         doReturn(signedURLS).when(spyS3PluginExecutor).getSignedUrls(any(), anyString(), any(), any());
         Mono<ActionExecutionResult> resultMono = spyS3PluginExecutor.executeParameterized(
                 connection, executeActionDTO, datasourceConfiguration, actionConfiguration);
@@ -1489,7 +1529,7 @@ public class AmazonS3PluginTest {
     public void uploadsMultipleFilesWithoutFilePicker() throws InterruptedException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor spyS3PluginExecutor = spy(AmazonS3Plugin.S3PluginExecutor.class);
+        AmazonS3Plugin.S3PluginExecutor spyS3PluginExecutor = spy(new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig));
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -1511,7 +1551,7 @@ public class AmazonS3PluginTest {
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url1");
         signedURLS.add("https://example.signed.url2");
-        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), any(), any(), anyString(), anyString());
+        doNothing().when(spyS3PluginExecutor).uploadFileInS3(any(), anyLong(), any(), any(), anyString(), anyString());
         doReturn(signedURLS).when(spyS3PluginExecutor).getSignedUrls(any(), anyString(), any(), any());
         Mono<ActionExecutionResult> resultMono = spyS3PluginExecutor.executeParameterized(
                 connection, executeActionDTO, datasourceConfiguration, actionConfiguration);
@@ -1550,7 +1590,7 @@ public class AmazonS3PluginTest {
         AmazonS3 mockConnection = mock(AmazonS3.class);
         when(mockConnection.listBuckets()).thenThrow(accessDeniedException);
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
         Mono<DatasourceTestResult> datasourceTestResultMono = pluginExecutor.testDatasource(mockConnection);
         StepVerifier.create(datasourceTestResultMono)
                 .assertNext(result -> assertEquals(0, result.getInvalids().size()))
@@ -1559,7 +1599,7 @@ public class AmazonS3PluginTest {
 
     @Test
     public void verify_sanitizeGenerateCRUDPageTemplateInfo_doesNothing_onEmptyActionConfig() {
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
         List<ActionConfiguration> actionConfigurationList = new ArrayList<>();
         Map<String, String> mappedColumnsAndTableName = new HashMap<>();
         pluginExecutor
@@ -1577,11 +1617,555 @@ public class AmazonS3PluginTest {
         Map<String, Object> formData = new HashMap<>();
         setDataValueSafelyInFormData(formData, "bucket", "templateBucket");
         actionConfiguration.setFormData(formData);
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
         pluginExecutor
                 .sanitizeGenerateCRUDPageTemplateInfo(
                         List.of(actionConfiguration), mappedColumnsAndTableName, userSelectedBucketName)
                 .block();
         assertEquals(userSelectedBucketName, mappedColumnsAndTableName.get("templateBucket"));
     }
+
+    private AmazonS3 createConnection(InMemoryS3Bucket bucket) {
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.listObjectsV2(any(ListObjectsV2Request.class)))
+                .thenAnswer(invocation -> bucket.listObjectsV2(invocation.getArgument(0)));
+        return mockConnection;
+    }
+
+    private ActionConfiguration createListActionConfiguration(String pageSize, String cursor, String delimiter) {
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "LIST");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, LIST_PREFIX, "");
+        setDataValueSafelyInFormData(configMap, LIST_PAGE_SIZE, pageSize);
+        setDataValueSafelyInFormData(configMap, LIST_CURSOR, cursor);
+        setDataValueSafelyInFormData(configMap, LIST_DELIMITER, delimiter);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+        return actionConfiguration;
+    }
+
+    @Test
+    public void testListFilesInBucketPage_withMillionObjects_listsEveryObjectOncePageByPage() {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
+        InMemoryS3Bucket bucket = new InMemoryS3Bucket(1_000_000, 100_000);
+        AmazonS3 mockConnection = createConnection(bucket);
+
+        long fileCount = 0;
+        String lastFileName = null;
+        String cursor = null;
+        do {
+            ListObjectsV2Result page =
+                    pluginExecutor.listFilesInBucketPage(mockConnection, "bucket_name", "", null, 5000, cursor);
+            for (S3ObjectSummary objectSummary : page.getObjectSummaries()) {
+                assertTrue(lastFileName == null || lastFileName.compareTo(objectSummary.getKey()) < 0);
+                lastFileName = objectSummary.getKey();
+                fileCount++;
+            }
+            cursor = page.getNextContinuationToken();
+        } while (cursor != null);
+
+        assertEquals(1_000_000, fileCount);
+        assertEquals(bucket.getKey(999_999), lastFileName);
+        // Pages are capped to the maximum number of keys S3 returns per request
+        assertEquals(1000, bucket.getRequests().size());
+        assertTrue(bucket.getRequests().stream().allMatch(request -> request.getMaxKeys() == 1000));
+        Mockito.verify(mockConnection, Mockito.never()).listObjects(anyString(), anyString());
+    }
+
+    @Test
+    public void testListFilesWithPageSize_returnsPageWithCursorAndSignsOnlyThatPage() throws MalformedURLException {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
+        InMemoryS3Bucket bucket = new InMemoryS3Bucket(1_000_000, 100_000);
+        AmazonS3 mockConnection = createConnection(bucket);
+        when(mockConnection.generatePresignedUrl(any())).thenReturn(new URL("http", "signed_url", ""));
+
+        ActionConfiguration actionConfiguration = createListActionConfiguration("50", "", "");
+        setDataValueSafelyInFormData(actionConfiguration.getFormData(), LIST_SIGNED_URL, YES);
+        setDataValueSafelyInFormData(actionConfiguration.getFormData(), LIST_UNSIGNED_URL, NO);
+
+        String[] nextCursor = new String[1];
+        StepVerifier.create(pluginExecutor.executeParameterized(
+                        mockConnection, new ExecuteActionDTO(), datasourceConfiguration, actionConfiguration))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    Map<String, Object> page = (Map<String, Object>) result.getBody();
+                    ArrayNode files = (ArrayNode) page.get("files");
+                    assertEquals(50, files.size());
+                    assertEquals(bucket.getKey(0), files.get(0).get("fileName").asText());
+                    assertEquals(
+                            "http://signed_url", files.get(0).get("signedUrl").asText());
+                    assertNotNull(files.get(0).get("urlExpiryDate"));
+                    assertEquals(TRUE, page.get("hasMore"));
+                    nextCursor[0] = (String) page.get("nextCursor");
+                    assertNotNull(nextCursor[0]);
+                })
+                .verifyComplete();
+        Mockito.verify(mockConnection, Mockito.times(50)).generatePresignedUrl(any());
+
+        setDataValueSafelyInFormData(actionConfiguration.getFormData(), LIST_CURSOR, nextCursor[0]);
+        StepVerifier.create(pluginExecutor.executeParameterized(
+                        mockConnection, new ExecuteActionDTO(), datasourceConfiguration, actionConfiguration))
+                .assertNext(result -> {
+                    ArrayNode files = (ArrayNode) ((Map<String, Object>) result.getBody()).get("files");
+                    assertEquals(50, files.size());
+                    assertEquals(bucket.getKey(50), files.get(0).get("fileName").asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testListFilesWithPageSizeAndDelimiter_returnsFolders() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
+        InMemoryS3Bucket bucket = new InMemoryS3Bucket(1_000_000, 100_000);
+        AmazonS3 mockConnection = createConnection(bucket);
+
+        ActionConfiguration actionConfiguration = createListActionConfiguration("100", "", "/");
+
+        StepVerifier.create(pluginExecutor.executeParameterized(
+                        mockConnection, new ExecuteActionDTO(), datasourceConfiguration, actionConfiguration))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    Map<String, Object> page = (Map<String, Object>) result.getBody();
+                    assertEquals(0, ((ArrayNode) page.get("files")).size());
+                    assertEquals(
+                            List.of(
+                                    "folder-000/",
+                                    "folder-001/",
+                                    "folder-002/",
+                                    "folder-003/",
+                                    "folder-004/",
+                                    "folder-005/",
+                                    "folder-006/",
+                                    "folder-007/",
+                                    "folder-008/",
+                                    "folder-009/"),
+                            page.get("folders"));
+                    assertEquals(false, page.get("hasMore"));
+                    assertEquals(null, page.get("nextCursor"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testListFilesWithPageSize_whenFilteredOnFileName_narrowsPrefix() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
+        InMemoryS3Bucket bucket = new InMemoryS3Bucket(1_000_000, 100_000);
+        AmazonS3 mockConnection = createConnection(bucket);
+
+        ActionConfiguration actionConfiguration = createListActionConfiguration("100", "", "");
+        String fileName = bucket.getKey(123_456);
+        setDataValueSafelyInFormData(
+                actionConfiguration.getFormData(),
+                LIST_WHERE,
+                Map.of(
+                        "condition",
+                        "AND",
+                        "children",
+                        List.of(Map.of("key", "fileName", "condition", "EQ", "value", fileName))));
+
+        StepVerifier.create(pluginExecutor.executeParameterized(
+                        mockConnection, new ExecuteActionDTO(), datasourceConfiguration, actionConfiguration))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    ArrayNode files = (ArrayNode) ((Map<String, Object>) result.getBody()).get("files");
+                    assertEquals(1, files.size());
+                    assertEquals(fileName, files.get(0).get("fileName").asText());
+                })
+                .verifyComplete();
+        assertEquals(fileName, bucket.getRequests().get(0).getPrefix());
+    }
+
+    @Test
+    public void testListFilesWithPageSize_whenFilteredOnSignedUrl_signsPageBeforeFiltering() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
+        InMemoryS3Bucket bucket = new InMemoryS3Bucket(1_000_000, 100_000);
+        AmazonS3 mockConnection = createConnection(bucket);
+        AtomicInteger signedUrls = new AtomicInteger();
+        when(mockConnection.generatePresignedUrl(any()))
+                .thenAnswer(invocation -> new URL("http", "signed_url_" + signedUrls.getAndIncrement(), ""));
+
+        ActionConfiguration actionConfiguration = createListActionConfiguration("10", "", "");
+        setDataValueSafelyInFormData(actionConfiguration.getFormData(), LIST_SIGNED_URL, YES);
+        setDataValueSafelyInFormData(actionConfiguration.getFormData(), LIST_UNSIGNED_URL, NO);
+        setDataValueSafelyInFormData(
+                actionConfiguration.getFormData(),
+                LIST_WHERE,
+                Map.of(
+                        "condition",
+                        "AND",
+                        "children",
+                        List.of(Map.of("key", "signedUrl", "condition", "EQ", "value", "http://signed_url_3"))));
+
+        StepVerifier.create(pluginExecutor.executeParameterized(
+                        mockConnection, new ExecuteActionDTO(), datasourceConfiguration, actionConfiguration))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    ArrayNode files = (ArrayNode) ((Map<String, Object>) result.getBody()).get("files");
+                    assertEquals(1, files.size());
+                    assertEquals(bucket.getKey(3), files.get(0).get("fileName").asText());
+                    assertEquals(
+                            "http://signed_url_3", files.get(0).get("signedUrl").asText());
+                })
+                .verifyComplete();
+        Mockito.verify(mockConnection, Mockito.times(10)).generatePresignedUrl(any());
+    }
+
+    @Test
+    public void testListFilesWithPagination_signsOnlyReturnedFiles() throws MalformedURLException {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
+
+        ObjectListing mockObjectListing = mock(ObjectListing.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        List<S3ObjectSummary> objectSummaries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            S3ObjectSummary objectSummary = new S3ObjectSummary();
+            objectSummary.setKey(String.format("file_%03d", i));
+            objectSummaries.add(objectSummary);
+        }
+        when(mockObjectListing.getObjectSummaries()).thenReturn(objectSummaries);
+        when(mockObjectListing.isTruncated()).thenReturn(false);
+        when(mockConnection.generatePresignedUrl(any())).thenReturn(new URL("http", "signed_url", ""));
+
+        ActionConfiguration actionConfiguration = createListActionConfiguration("", "", "");
+        setDataValueSafelyInFormData(actionConfiguration.getFormData(), LIST_SIGNED_URL, YES);
+        setDataValueSafelyInFormData(
+                actionConfiguration.getFormData(),
+                LIST_SORT,
+                List.of(Map.of("column", "fileName", "order", "DESCENDING")));
+        setDataValueSafelyInFormData(
+                actionConfiguration.getFormData(), LIST_PAGINATE, Map.of("limit", "10", "offset", "20"));
+
+        StepVerifier.create(pluginExecutor.executeParameterized(
+                        mockConnection, new ExecuteActionDTO(), datasourceConfiguration, actionConfiguration))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    ArrayNode files = (ArrayNode) result.getBody();
+                    assertEquals(10, files.size());
+                    assertEquals("file_079", files.get(0).get("fileName").asText());
+                    assertEquals(
+                            "http://signed_url", files.get(0).get("signedUrl").asText());
+                })
+                .verifyComplete();
+        Mockito.verify(mockConnection, Mockito.times(10)).generatePresignedUrl(any());
+    }
+
+    private static byte getGeneratedByte(long index) {
+        return (byte) (index * 31 + (index >>> 11));
+    }
+
+    private static byte[] getGeneratedBytes(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = getGeneratedByte(i);
+        }
+        return bytes;
+    }
+
+    private static long getCurrentThreadAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Content of an S3 object which is generated as it is read, so that large objects don't take up memory in tests.
+     */
+    private static class GeneratedInputStream extends InputStream {
+
+        private final long size;
+        private long position;
+
+        GeneratedInputStream(long size) {
+            this.size = size;
+        }
+
+        @Override
+        public int read() {
+            return position < size ? getGeneratedByte(position++) & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position >= size) {
+                return -1;
+            }
+            int count = (int) Math.min(length, size - position);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = getGeneratedByte(position++);
+            }
+            return count;
+        }
+
+        long getPosition() {
+            return position;
+        }
+    }
+
+    private static S3Object createGeneratedS3Object(GeneratedInputStream content, long contentLength) {
+        S3Object s3Object = new S3Object();
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(contentLength);
+        s3Object.setObjectMetadata(objectMetadata);
+        s3Object.setObjectContent(new S3ObjectInputStream(content, mock(HttpRequestBase.class)));
+        return s3Object;
+    }
+
+    @Test
+    public void testReadFileWithRange_requestsOnlyTheRange() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "NO");
+        setDataValueSafelyInFormData(configMap, READ_RANGE_START, "6");
+        setDataValueSafelyInFormData(configMap, READ_RANGE_LENGTH, "5");
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        List<GetObjectRequest> getObjectRequests = new ArrayList<>();
+        when(mockConnection.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            getObjectRequests.add(invocation.getArgument(0));
+            S3Object s3Object = new S3Object();
+            s3Object.setObjectContent(new ByteArrayInputStream("World".getBytes()));
+            return s3Object;
+        });
+
+        StepVerifier.create(pluginExecutor.executeParameterized(
+                        mockConnection, new ExecuteActionDTO(), datasourceConfiguration, actionConfiguration))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals("World", ((Map<String, Object>) result.getBody()).get("fileData"));
+                })
+                .verifyComplete();
+        assertEquals(1, getObjectRequests.size());
+        assertEquals("bucket_name", getObjectRequests.get(0).getBucketName());
+        assertEquals("path", getObjectRequests.get(0).getKey());
+        assertArrayEquals(new long[] {6, 10}, getObjectRequests.get(0).getRange());
+    }
+
+    @Test
+    public void testReadFileWithInvalidRange_returnsError() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_RANGE_LENGTH, "0");
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        StepVerifier.create(pluginExecutor.executeParameterized(
+                        mockConnection, new ExecuteActionDTO(), datasourceConfiguration, actionConfiguration))
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(
+                            S3ErrorMessages.RANGE_NOT_A_NUMBER_ERROR_MSG,
+                            result.getPluginErrorDetails().getAppsmithErrorMessage());
+                })
+                .verifyComplete();
+        Mockito.verify(mockConnection, Mockito.never()).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    public void testReadFileLargerThanMaxSize_abortsWithoutDownloadingIt() {
+        SharedConfig sharedConfig = mock(SharedConfig.class);
+        when(sharedConfig.getS3MaxReadFileSize()).thenReturn(50L * 1024 * 1024);
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(sharedConfig);
+        GeneratedInputStream content = new GeneratedInputStream(1024L * 1024 * 1024);
+        S3Object s3Object = createGeneratedS3Object(content, 1024L * 1024 * 1024);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.getObject(any(GetObjectRequest.class))).thenReturn(s3Object);
+
+        AppsmithPluginException exception = assertThrows(
+                AppsmithPluginException.class,
+                () -> pluginExecutor.readFile(mockConnection, "bucket_name", "path", true, null, null));
+
+        assertEquals(
+                String.format(S3ErrorMessages.FILE_TOO_LARGE_TO_READ_ERROR_MSG, 50L * 1024 * 1024),
+                exception.getMessage());
+        assertEquals(0, content.getPosition());
+        Mockito.verify(s3Object.getObjectContent().getHttpRequest()).abort();
+    }
+
+    @Test
+    public void testReadFileWithBase64Encoding_staysWithinMemoryCeiling() throws IOException {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        int size = 8 * 1024 * 1024;
+        when(mockConnection.getObject(any(GetObjectRequest.class)))
+                .thenAnswer(invocation -> createGeneratedS3Object(new GeneratedInputStream(size), size));
+        // Warm up, so that the allocations of the first call to the mock are not counted
+        pluginExecutor.readFile(mockConnection, "bucket_name", "path", true, null, null);
+
+        long allocatedBytesBefore = getCurrentThreadAllocatedBytes();
+        String fileData = pluginExecutor.readFile(mockConnection, "bucket_name", "path", true, null, null);
+        long allocatedBytes = getCurrentThreadAllocatedBytes() - allocatedBytesBefore;
+
+        // The encoded content is held once while it is read, and once more as the returned string
+        long encodedSize = 4L * ((size + 2) / 3);
+        assertTrue(
+                allocatedBytes < 2 * encodedSize + 1024 * 1024,
+                "Reading the file allocated " + allocatedBytes + " bytes");
+        assertEquals(encodedSize, fileData.length());
+        assertArrayEquals(getGeneratedBytes(size), java.util.Base64.getDecoder().decode(fileData));
+    }
+
+    @Test
+    public void testReadFileStreamingWithBase64Encoding_emitsChunksOfTheEncodedFile() {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
+        int size = 1024 * 1024 + 1;
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        S3Object s3Object = createGeneratedS3Object(new GeneratedInputStream(size), size);
+        when(mockConnection.getObject(any(GetObjectRequest.class))).thenReturn(s3Object);
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "YES");
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+
+        List<Object> rows = pluginExecutor
+                .executeParameterizedStreaming(
+                        mockConnection, new ExecuteActionDTO(), createDatasourceConfiguration(), actionConfiguration)
+                .collectList()
+                .block();
+
+        // Every chunk is read on its own, and together they are the encoding of the whole file
+        assertTrue(rows.size() > 1);
+        String fileData = rows.stream()
+                .map(row -> (String) ((Map<String, Object>) row).get("fileData"))
+                .collect(Collectors.joining());
+        assertArrayEquals(getGeneratedBytes(size), java.util.Base64.getDecoder().decode(fileData));
+        Mockito.verify(s3Object.getObjectContent().getHttpRequest(), Mockito.never())
+                .abort();
+    }
+
+    @Test
+    public void testReadFileStreaming_cancelled_abortsWithoutDownloadingTheRest() {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
+        GeneratedInputStream content = new GeneratedInputStream(1024L * 1024 * 1024);
+        S3Object s3Object = createGeneratedS3Object(content, 1024L * 1024 * 1024);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.getObject(any(GetObjectRequest.class))).thenReturn(s3Object);
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "NO");
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+
+        Flux<Object> rows = pluginExecutor.executeParameterizedStreaming(
+                mockConnection, new ExecuteActionDTO(), createDatasourceConfiguration(), actionConfiguration);
+
+        StepVerifier.create(rows, 2).expectNextCount(2).thenCancel().verify();
+        Mockito.verify(s3Object.getObjectContent().getHttpRequest(), Mockito.timeout(5000))
+                .abort();
+        assertTrue(content.getPosition() < 1024 * 1024);
+    }
+
+    @Test
+    public void testUploadFileWithBase64Payload_decodesPayloadWhileUploadingIt() throws InterruptedException {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        List<byte[]> uploadedPayloads = new ArrayList<>();
+        List<ObjectMetadata> uploadedMetadata = new ArrayList<>();
+        when(mockConnection.putObject(any(PutObjectRequest.class))).thenAnswer(invocation -> {
+            PutObjectRequest putObjectRequest = invocation.getArgument(0);
+            uploadedPayloads.add(putObjectRequest.getInputStream().readAllBytes());
+            uploadedMetadata.add(putObjectRequest.getMetadata());
+            return new PutObjectResult();
+        });
+
+        MultipartFormDataDTO multipartFormDataDTO = new MultipartFormDataDTO();
+        multipartFormDataDTO.setType("text/plain");
+        multipartFormDataDTO.setData("data:text/plain;base64,SGVsbG8gV29ybGQhCg==");
+        pluginExecutor.uploadPayloadInS3(mockConnection, multipartFormDataDTO, true, "bucket_name", "path");
+
+        assertEquals(1, uploadedPayloads.size());
+        assertEquals("Hello World!\n", new String(uploadedPayloads.get(0)));
+        assertEquals(13, uploadedMetadata.get(0).getContentLength());
+        assertEquals("text/plain", uploadedMetadata.get(0).getContentType());
+
+        multipartFormDataDTO.setData("data:text/plain;base64,SGVsbG8gV29ybGQhCg=");
+        AppsmithPluginException exception = assertThrows(
+                AppsmithPluginException.class,
+                () -> pluginExecutor.uploadPayloadInS3(
+                        mockConnection, multipartFormDataDTO, true, "bucket_name", "path"));
+        assertEquals(S3ErrorMessages.UNEXPECTED_ENCODING_IN_FILE_CONTENT_ERROR_MSG, exception.getMessage());
+        assertEquals(1, uploadedPayloads.size());
+    }
+
+    @Test
+    public void testUploadFileWithLargePayload_uploadsPartsInParallelWithinMemoryCeiling() throws Exception {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(mockSharedConfig);
+        int size = 40 * 1024 * 1024;
+        MultipartFormDataDTO multipartFormDataDTO = new MultipartFormDataDTO();
+        multipartFormDataDTO.setData(java.util.Base64.getEncoder().encodeToString(getGeneratedBytes(size)));
+
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.putObject(any(PutObjectRequest.class))).thenReturn(new PutObjectResult());
+        InitiateMultipartUploadResult initiateMultipartUploadResult = new InitiateMultipartUploadResult();
+        initiateMultipartUploadResult.setUploadId("upload_id");
+        when(mockConnection.initiateMultipartUpload(any())).thenReturn(initiateMultipartUploadResult);
+        when(mockConnection.listParts(any())).thenReturn(new PartListing());
+        when(mockConnection.completeMultipartUpload(any())).thenReturn(new CompleteMultipartUploadResult());
+        // Parts are checked against the generated payload, and the first two only complete once both have started
+        CountDownLatch concurrentParts = new CountDownLatch(2);
+        Map<Integer, Long> partSizes = new ConcurrentHashMap<>();
+        List<File> spooledPayloads = new CopyOnWriteArrayList<>();
+        when(mockConnection.uploadPart(any())).thenAnswer(invocation -> {
+            UploadPartRequest uploadPartRequest = invocation.getArgument(0);
+            spooledPayloads.add(uploadPartRequest.getFile());
+            concurrentParts.countDown();
+            concurrentParts.await(10, TimeUnit.SECONDS);
+            try (InputStream part = new FileInputStream(uploadPartRequest.getFile())) {
+                part.skipNBytes(uploadPartRequest.getFileOffset());
+                byte[] bytes = part.readNBytes((int) uploadPartRequest.getPartSize());
+                for (int i = 0; i < bytes.length; i++) {
+                    if (bytes[i] != getGeneratedByte(uploadPartRequest.getFileOffset() + i)) {
+                        throw new IllegalStateException(
+                                "Unexpected content in part " + uploadPartRequest.getPartNumber());
+                    }
+                }
+            }
+            partSizes.put(uploadPartRequest.getPartNumber(), uploadPartRequest.getPartSize());
+            UploadPartResult uploadPartResult = new UploadPartResult();
+            uploadPartResult.setPartNumber(uploadPartRequest.getPartNumber());
+            uploadPartResult.setETag("etag" + uploadPartRequest.getPartNumber());
+            return uploadPartResult;
+        });
+        // Warm up, so that the allocations of the first upload are not counted
+        MultipartFormDataDTO smallMultipartFormDataDTO = new MultipartFormDataDTO();
+        smallMultipartFormDataDTO.setData("SGVsbG8gV29ybGQhCg==");
+        pluginExecutor.uploadPayloadInS3(mockConnection, smallMultipartFormDataDTO, true, "bucket_name", "small");
+
+        long allocatedBytesBefore = getCurrentThreadAllocatedBytes();
+        pluginExecutor.uploadPayloadInS3(mockConnection, multipartFormDataDTO, true, "bucket_name", "path");
+        long allocatedBytes = getCurrentThreadAllocatedBytes() - allocatedBytesBefore;
+
+        assertEquals(0, concurrentParts.getCount());
+        assertEquals(Map.of(1, 8L << 20, 2, 8L << 20, 3, 8L << 20, 4, 8L << 20, 5, 8L << 20), new TreeMap<>(partSizes));
+        Mockito.verify(mockConnection).completeMultipartUpload(any());
+        Mockito.verify(mockConnection, Mockito.times(1)).putObject(any(PutObjectRequest.class));
+        // The payload is decoded to disk, and not in memory
+        assertTrue(allocatedBytes < size / 10, "Uploading the file allocated " + allocatedBytes + " bytes");
+        assertFalse(spooledPayloads.get(0).exists());
+    }
 }
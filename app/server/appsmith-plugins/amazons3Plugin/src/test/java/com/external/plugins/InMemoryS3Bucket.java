@@ -0,0 +1,89 @@
+package com.external.plugins;
+
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stand-in for an S3 bucket with a large number of objects, which answers list requests the way S3 does: keys in
+ * ascending order, at most max keys per page, folders rolled up into common prefixes with a delimiter, and an opaque
+ * continuation token. Keys are generated from their index instead of being stored, so that buckets with millions of
+ * objects can be listed without holding them in memory.
+ */
+class InMemoryS3Bucket {
+
+    private final int objectCount;
+    private final int objectsPerFolder;
+
+    private final List<ListObjectsV2Request> requests = new ArrayList<>();
+
+    InMemoryS3Bucket(int objectCount, int objectsPerFolder) {
+        this.objectCount = objectCount;
+        this.objectsPerFolder = objectsPerFolder;
+    }
+
+    String getKey(int index) {
+        return String.format("folder-%03d/file-%07d.txt", index / objectsPerFolder, index);
+    }
+
+    List<ListObjectsV2Request> getRequests() {
+        return requests;
+    }
+
+    ListObjectsV2Result listObjectsV2(ListObjectsV2Request request) {
+        requests.add(request);
+        String prefix = request.getPrefix() == null ? "" : request.getPrefix();
+        String delimiter = request.getDelimiter();
+        int maxKeys = request.getMaxKeys() == null ? 1000 : request.getMaxKeys();
+
+        ListObjectsV2Result result = new ListObjectsV2Result();
+        result.setBucketName(request.getBucketName());
+        result.setPrefix(prefix);
+        result.setDelimiter(delimiter);
+        result.setMaxKeys(maxKeys);
+
+        int index = request.getContinuationToken() == null
+                ? getFirstIndexNotBefore(prefix)
+                : Integer.parseInt(request.getContinuationToken());
+        int keyCount = 0;
+        while (index < objectCount && getKey(index).startsWith(prefix) && keyCount < maxKeys) {
+            String key = getKey(index);
+            int delimiterIndex = delimiter == null ? -1 : key.indexOf(delimiter, prefix.length());
+            if (delimiterIndex >= 0) {
+                String commonPrefix = key.substring(0, delimiterIndex + delimiter.length());
+                result.getCommonPrefixes().add(commonPrefix);
+                index = getFirstIndexNotBefore(commonPrefix + Character.MAX_VALUE);
+            } else {
+                S3ObjectSummary objectSummary = new S3ObjectSummary();
+                objectSummary.setBucketName(request.getBucketName());
+                objectSummary.setKey(key);
+                result.getObjectSummaries().add(objectSummary);
+                index++;
+            }
+            keyCount++;
+        }
+
+        result.setKeyCount(keyCount);
+        boolean isTruncated = index < objectCount && getKey(index).startsWith(prefix);
+        result.setTruncated(isTruncated);
+        result.setNextContinuationToken(isTruncated ? String.valueOf(index) : null);
+        return result;
+    }
+
+    private int getFirstIndexNotBefore(String key) {
+        int low = 0;
+        int high = objectCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (getKey(middle).compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,43 @@
+package com.external.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PayloadUtilsTest {
+
+    @Test
+    public void getDecodedLengthMatchesDecodedContent() throws IOException {
+        for (int length = 0; length < 10; length++) {
+            byte[] content = new byte[length];
+            for (int i = 0; i < length; i++) {
+                content[i] = (byte) (i * 67);
+            }
+            String padded = "prefix" + Base64.getEncoder().encodeToString(content);
+            String unpadded = "prefix" + Base64.getEncoder().withoutPadding().encodeToString(content);
+
+            assertEquals(length, PayloadUtils.getDecodedLength(padded, 6));
+            assertEquals(length, PayloadUtils.getDecodedLength(unpadded, 6));
+            try (InputStream decoded = PayloadUtils.getDecodedInputStream(padded, 6)) {
+                assertArrayEquals(content, decoded.readAllBytes());
+            }
+            try (InputStream decoded = PayloadUtils.getDecodedInputStream(unpadded, 6)) {
+                assertArrayEquals(content, decoded.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    public void getDecodedLengthWithInvalidEncoding() {
+        assertEquals(-1, PayloadUtils.getDecodedLength("SGVsbG8h!", 0));
+        assertEquals(-1, PayloadUtils.getDecodedLength("SGVsb", 0));
+        assertEquals(-1, PayloadUtils.getDecodedLength("SGVsbG8h=", 0));
+        assertEquals(-1, PayloadUtils.getDecodedLength("SGVs\nbG8h", 0));
+        assertEquals(-1, PayloadUtils.getDecodedLength("SG==VsbG8h", 0));
+    }
+}
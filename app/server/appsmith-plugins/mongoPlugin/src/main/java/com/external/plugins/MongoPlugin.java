@@ -43,11 +43,14 @@ import com.mongodb.ConnectionString;
 import com.mongodb.DBRefCodecProvider;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCommandException;
+import com.mongodb.MongoServerException;
 import com.mongodb.MongoSocketWriteException;
 import com.mongodb.MongoTimeoutException;
 import com.mongodb.client.gridfs.codecs.GridFSFileCodecProvider;
 import com.mongodb.client.model.geojson.codecs.GeoJsonCodecProvider;
 import com.mongodb.connection.ConnectionPoolSettings;
+import com.mongodb.reactivestreams.client.AggregatePublisher;
+import com.mongodb.reactivestreams.client.FindPublisher;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
 import com.mongodb.reactivestreams.client.MongoDatabase;
@@ -72,6 +75,7 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
@@ -216,6 +220,16 @@ public class MongoPlugin extends BasePlugin {
 
     private static final BsonTypeClassMap DEFAULT_BSON_TYPE_CLASS_MAP = new org.bson.codecs.BsonTypeClassMap();
 
+    private static final String FIND_COMMAND = "find";
+
+    private static final String AGGREGATE_COMMAND = "aggregate";
+
+    private static final Set<String> STREAMABLE_FIND_FIELDS =
+            Set.of(FIND_COMMAND, "filter", "projection", "sort", "skip", "limit", "batchSize");
+
+    private static final Set<String> STREAMABLE_AGGREGATE_FIELDS =
+            Set.of(AGGREGATE_COMMAND, "pipeline", "cursor", "allowDiskUse");
+
     public MongoPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -245,6 +259,22 @@ public class MongoPlugin extends BasePlugin {
                 ActionConfiguration actionConfiguration) {
 
             log.debug(Thread.currentThread().getName() + ": executeParameterized() called for Mongo plugin.");
+            List<Map.Entry<String, String>> parameters =
+                    prepareCommand(executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+            return this.executeCommon(mongoClient, datasourceConfiguration, actionConfiguration, parameters);
+        }
+
+        /**
+         * Substitutes the bindings of the execution in the command, and converts commands written with the form into
+         * raw commands, in the body of the form data.
+         *
+         * @return the parameters substituted in the command
+         */
+        private List<Map.Entry<String, String>> prepareCommand(
+                ExecuteActionDTO executeActionDTO,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration) {
             final Map<String, Object> formData = actionConfiguration.getFormData();
             List<Map.Entry<String, String>> parameters = new ArrayList<>();
 
@@ -286,8 +316,125 @@ public class MongoPlugin extends BasePlugin {
             }
 
             actionConfiguration.setFormData(formData);
+            return parameters;
+        }
 
-            return this.executeCommon(mongoClient, datasourceConfiguration, actionConfiguration, parameters);
+        /**
+         * Streams the documents matched by find and aggregate commands through a cursor, fetching them batch by batch as
+         * the subscriber requests them, instead of returning only the first batch. Other commands, and find or aggregate
+         * commands using options that the cursor is not given, are executed as a whole and their result is emitted.
+         */
+        @Override
+        public Flux<Object> executeParameterizedStreaming(
+                MongoClient mongoClient,
+                ExecuteActionDTO executeActionDTO,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration) {
+
+            log.debug(Thread.currentThread().getName() + ": executeParameterizedStreaming() called for Mongo plugin.");
+            List<Map.Entry<String, String>> parameters =
+                    prepareCommand(executeActionDTO, datasourceConfiguration, actionConfiguration);
+            if (mongoClient == null) {
+                log.debug("Encountered null connection in MongoDB plugin. Reporting back.");
+                return Flux.error(new StaleConnectionException(MONGO_CLIENT_NULL_ERROR_MSG));
+            }
+
+            final Publisher<Document> documents;
+            try {
+                MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
+                String query = PluginUtils.getDataValueSafelyFromFormData(
+                        actionConfiguration.getFormData(), BODY, STRING_TYPE);
+                documents = getCursor(database, Document.parse(query));
+            } catch (Exception error) {
+                return Flux.error(new AppsmithPluginException(
+                        MongoPluginError.QUERY_EXECUTION_FAILED,
+                        MongoPluginErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                        error));
+            }
+
+            if (documents == null) {
+                return this.executeCommon(mongoClient, datasourceConfiguration, actionConfiguration, parameters)
+                        .flatMapMany(PluginExecutor::getResultRows);
+            }
+
+            DocumentCodec documentCodec = new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP);
+            return Flux.from(documents)
+                    .handle((Document document, SynchronousSink<Object> sink) -> {
+                        try {
+                            sink.next(objectMapper.readTree(cleanUp(new JSONObject(document.toJson(documentCodec)))
+                                    .toString()));
+                        } catch (JsonProcessingException e) {
+                            sink.error(e);
+                        }
+                    })
+                    .onErrorMap(
+                            MongoTimeoutException.class,
+                            error -> new AppsmithPluginException(
+                                    AppsmithPluginError.PLUGIN_QUERY_TIMEOUT_ERROR, error.getMessage()))
+                    .onErrorMap(
+                            MongoServerException.class,
+                            error -> new AppsmithPluginException(
+                                    error,
+                                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                    MongoPluginErrorMessages.QUERY_INVALID_ERROR_MSG))
+                    .onErrorMap(IllegalStateException.class, error -> new StaleConnectionException(error.getMessage()))
+                    .onErrorMap(
+                            MongoSocketWriteException.class, error -> new StaleConnectionException(error.getMessage()))
+                    .onErrorMap(
+                            error -> !(error instanceof AppsmithPluginException)
+                                    && !(error instanceof StaleConnectionException),
+                            error -> new AppsmithPluginException(
+                                    MongoPluginError.QUERY_EXECUTION_FAILED,
+                                    MongoPluginErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                                    error))
+                    .subscribeOn(scheduler);
+        }
+
+        /**
+         * Returns a cursor over the documents of a find or aggregate command, or null for commands that have to be run
+         * with runCommand.
+         */
+        private static Publisher<Document> getCursor(MongoDatabase database, Document command) {
+            if (command.isEmpty()) {
+                return null;
+            }
+
+            String commandName = command.keySet().iterator().next();
+            if (FIND_COMMAND.equals(commandName)
+                    && command.get(FIND_COMMAND) instanceof String collection
+                    && STREAMABLE_FIND_FIELDS.containsAll(command.keySet())) {
+                FindPublisher<Document> find = database.getCollection(collection)
+                        .find(command.get("filter", new Document()))
+                        .projection(command.get("projection", Document.class))
+                        .sort(command.get("sort", Document.class));
+                if (command.get("skip") instanceof Number skip) {
+                    find = find.skip(skip.intValue());
+                }
+                if (command.get("limit") instanceof Number limit) {
+                    find = find.limit(limit.intValue());
+                }
+                if (command.get("batchSize") instanceof Number batchSize) {
+                    find = find.batchSize(batchSize.intValue());
+                }
+                return find;
+            }
+
+            if (AGGREGATE_COMMAND.equals(commandName)
+                    && command.get(AGGREGATE_COMMAND) instanceof String collection
+                    && STREAMABLE_AGGREGATE_FIELDS.containsAll(command.keySet())) {
+                AggregatePublisher<Document> aggregate = database.getCollection(collection)
+                        .aggregate(command.getList("pipeline", Document.class, List.of()));
+                if (command.get("allowDiskUse") instanceof Boolean allowDiskUse) {
+                    aggregate = aggregate.allowDiskUse(allowDiskUse);
+                }
+                if (command.get("cursor") instanceof Document cursor
+                        && cursor.get("batchSize") instanceof Number batchSize) {
+                    aggregate = aggregate.batchSize(batchSize.intValue());
+                }
+                return aggregate;
+            }
+
+            return null;
         }
 
         /**
@@ -1,5 +1,8 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.ResultSizeEstimator;
+import com.external.plugins.exceptions.MssqlPluginError;
 import org.apache.commons.lang.ObjectUtils;
 
 import java.sql.Connection;
@@ -72,7 +75,8 @@ public class MssqlExecuteUtils {
             boolean isResultSet,
             Boolean preparedStatement,
             Statement statement,
-            PreparedStatement preparedQuery)
+            PreparedStatement preparedQuery,
+            ResultSizeEstimator resultSizeEstimator)
             throws SQLException {
 
         if (!isResultSet) {
@@ -124,6 +128,12 @@ public class MssqlExecuteUtils {
                     row.put(metaData.getColumnName(i), value);
                 }
 
+                resultSizeEstimator.addRow(row);
+                if (resultSizeEstimator.isLimitExceeded()) {
+                    throw new AppsmithPluginException(
+                            MssqlPluginError.RESPONSE_SIZE_TOO_LARGE, resultSizeEstimator.getMaxSizeInMb());
+                }
+
                 rowsList.add(row);
             }
         }
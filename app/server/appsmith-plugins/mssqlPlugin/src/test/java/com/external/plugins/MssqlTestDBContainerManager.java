@@ -4,6 +4,7 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.utils.MssqlDatasourceUtils;
 import com.zaxxer.hikari.HikariDataSource;
 import org.testcontainers.containers.MSSQLServerContainer;
@@ -15,10 +16,13 @@ import java.util.List;
 
 import static com.appsmith.external.constants.PluginConstants.PluginName.MSSQL_PLUGIN_NAME;
 import static com.external.plugins.utils.MssqlExecuteUtils.closeConnectionPostExecution;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class MssqlTestDBContainerManager {
+    static SharedConfig mockSharedConfig = mockSharedConfig();
 
-    static MssqlPlugin.MssqlPluginExecutor mssqlPluginExecutor = new MssqlPlugin.MssqlPluginExecutor();
+    static MssqlPlugin.MssqlPluginExecutor mssqlPluginExecutor = new MssqlPlugin.MssqlPluginExecutor(mockSharedConfig);
 
     public static MssqlDatasourceUtils mssqlDatasourceUtils = new MssqlDatasourceUtils();
 
@@ -64,4 +68,10 @@ public class MssqlTestDBContainerManager {
         statement.execute(sqlQuery);
         closeConnectionPostExecution(null, statement, null, connectionFromPool);
     }
+
+    private static SharedConfig mockSharedConfig() {
+        SharedConfig sharedConfig = mock(SharedConfig.class);
+        when(sharedConfig.getMaxResponseSize()).thenReturn(5 * 1024 * 1024);
+        return sharedConfig;
+    }
 }
@@ -7,6 +7,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResultSizeEstimator;
 import com.appsmith.external.helpers.SSHTunnelContext;
 import com.appsmith.external.helpers.SSHUtils;
 import com.appsmith.external.helpers.Stopwatch;
@@ -28,6 +29,7 @@ import com.appsmith.external.models.SSHConnection;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.datatypes.MySQLSpecificDataTypes;
 import com.external.plugins.exceptions.MySQLErrorMessages;
 import com.external.plugins.exceptions.MySQLPluginError;
@@ -162,6 +164,12 @@ public class MySqlPlugin extends BasePlugin {
         private static final int PREPARED_STATEMENT_INDEX = 0;
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final SharedConfig sharedConfig;
+
+        public MySqlPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * to use PreparedStatement (if configured) which requires the variable substitution, etc. to happen in a particular format
@@ -186,24 +194,7 @@ public class MySqlPlugin extends BasePlugin {
             log.debug(Thread.currentThread().getName() + ": executeParameterized() called for MySQL plugin.");
             final Map<String, Object> requestData = new HashMap<>();
 
-            Boolean isPreparedStatement;
-
-            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
-            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
-                // In case the prepared statement configuration is missing, default to true
-                isPreparedStatement = true;
-            } else if (properties.get(PREPARED_STATEMENT_INDEX) != null) {
-                Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
-                if (psValue instanceof Boolean) {
-                    isPreparedStatement = (Boolean) psValue;
-                } else if (psValue instanceof String) {
-                    isPreparedStatement = Boolean.parseBoolean((String) psValue);
-                } else {
-                    isPreparedStatement = true;
-                }
-            } else {
-                isPreparedStatement = true;
-            }
+            Boolean isPreparedStatement = isPreparedStatement(actionConfiguration);
 
             requestData.put("preparedStatement", TRUE.equals(isPreparedStatement));
 
@@ -314,6 +305,7 @@ public class MySqlPlugin extends BasePlugin {
 
             final List<Map<String, Object>> rowsList = new ArrayList<>(50);
             final List<String> columnsList = new ArrayList<>();
+            final ResultSizeEstimator resultSizeEstimator = new ResultSizeEstimator(sharedConfig.getMaxResponseSize());
             Map<String, Object> psParams = preparedStatement ? new LinkedHashMap<>() : null;
             String transformedQuery = preparedStatement ? replaceQuestionMarkWithDollarIndex(finalQuery) : finalQuery;
             List<RequestParamDTO> requestParams =
@@ -351,7 +343,14 @@ public class MySqlPlugin extends BasePlugin {
                                 if (isSelectOrShowOrDescQuery) {
                                     resultMono = resultFlux
                                             .flatMap(result -> result.map((row, meta) -> {
-                                                rowsList.add(getRow(row, meta));
+                                                Map<String, Object> rowMap = getRow(row, meta);
+                                                resultSizeEstimator.addRow(rowMap);
+                                                if (resultSizeEstimator.isLimitExceeded()) {
+                                                    throw new AppsmithPluginException(
+                                                            MySQLPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                            resultSizeEstimator.getMaxSizeInMb());
+                                                }
+                                                rowsList.add(rowMap);
 
                                                 if (columnsList.isEmpty()) {
                                                     meta.getColumnMetadatas().stream()
@@ -405,36 +404,10 @@ public class MySqlPlugin extends BasePlugin {
                                         .onErrorResume(error -> {
                                             if (error instanceof StaleConnectionException) {
                                                 return Mono.error(error);
-                                            } else if (error instanceof R2dbcBadGrammarException) {
-                                                R2dbcBadGrammarException r2dbcBadGrammarException =
-                                                        ((R2dbcBadGrammarException) error);
-                                                error = new AppsmithPluginException(
-                                                        MySQLPluginError.INVALID_QUERY_SYNTAX,
-                                                        r2dbcBadGrammarException.getMessage(),
-                                                        "SQLSTATE: " + r2dbcBadGrammarException.getSqlState());
-                                            } else if (error instanceof R2dbcPermissionDeniedException) {
-                                                R2dbcPermissionDeniedException r2dbcPermissionDeniedException =
-                                                        (R2dbcPermissionDeniedException) error;
-                                                error = new AppsmithPluginException(
-                                                        MySQLPluginError.MISSING_REQUIRED_PERMISSION,
-                                                        r2dbcPermissionDeniedException.getMessage(),
-                                                        "SQLSTATE: " + r2dbcPermissionDeniedException.getSqlState());
-                                            } else if (error instanceof R2dbcException) {
-                                                R2dbcException r2dbcException = (R2dbcException) error;
-                                                error = new AppsmithPluginException(
-                                                        MySQLPluginError.QUERY_EXECUTION_FAILED,
-                                                        MySQLErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                                                        r2dbcException.getMessage(),
-                                                        "SQLSTATE: " + r2dbcException.getSqlState());
-                                            } else if (!(error instanceof AppsmithPluginException)) {
-                                                error = new AppsmithPluginException(
-                                                        MySQLPluginError.QUERY_EXECUTION_FAILED,
-                                                        MySQLErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                                                        error);
                                             }
                                             ActionExecutionResult result = new ActionExecutionResult();
                                             result.setIsExecutionSuccess(false);
-                                            result.setErrorInfo(error);
+                                            result.setErrorInfo(toPluginException(error));
                                             return Mono.just(result);
                                         })
                                         // Now set the request in the result to be returned to the server
@@ -456,15 +429,146 @@ public class MySqlPlugin extends BasePlugin {
                                         });
                             },
                             Connection::close)
-                    .onErrorMap(TimeoutException.class, error -> new StaleConnectionException(error.getMessage()))
-                    .onErrorMap(PoolShutdownException.class, error -> new StaleConnectionException(error.getMessage()))
                     .onErrorMap(
-                            R2dbcNonTransientResourceException.class,
+                            MySqlPluginExecutor::isStaleConnectionError,
+                            error -> new StaleConnectionException(error.getMessage()))
+                    .subscribeOn(scheduler);
+        }
+
+        /**
+         * Streams the rows of the query as the driver decodes them from the connection, instead of collecting them into
+         * a single result. Statements other than select, show and describe emit the number of affected rows.
+         */
+        @Override
+        public Flux<Object> executeParameterizedStreaming(
+                ConnectionContext<ConnectionPool> connectionContext,
+                ExecuteActionDTO executeActionDTO,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration) {
+
+            log.debug(Thread.currentThread().getName() + ": executeParameterizedStreaming() called for MySQL plugin.");
+            String query = actionConfiguration.getBody();
+            if (!StringUtils.hasLength(query)) {
+                return Flux.error(new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        MySQLErrorMessages.MISSING_PARAMETER_QUERY_ERROR_MSG));
+            }
+
+            final Boolean preparedStatement = isPreparedStatement(actionConfiguration);
+            List<MustacheBindingToken> mustacheKeysInOrder = null;
+            actionConfiguration.setBody(query.trim());
+            if (FALSE.equals(preparedStatement)) {
+                prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+            } else {
+                mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
+                actionConfiguration.setBody(
+                        MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder));
+            }
+
+            String finalQuery = QueryUtils.removeQueryComments(actionConfiguration.getBody());
+            if (preparedStatement && isIsOperatorUsed(finalQuery)) {
+                return Flux.error(new AppsmithPluginException(
+                        MySQLPluginError.IS_KEYWORD_NOT_ALLOWED_IN_PREPARED_STATEMENT,
+                        MySQLErrorMessages.IS_KEYWORD_NOT_SUPPORTED_IN_PS_ERROR_MSG));
+            }
+
+            boolean isSelectOrShowOrDescQuery = getIsSelectOrShowOrDescQuery(finalQuery);
+            ConnectionPool connectionPool = connectionContext.getConnection();
+            SSHTunnelContext sshTunnelContext = connectionContext.getSshTunnelContext();
+            final List<MustacheBindingToken> mustacheValuesInOrder = mustacheKeysInOrder;
+            Map<String, Object> psParams = preparedStatement ? new LinkedHashMap<>() : null;
+
+            return Flux.usingWhen(
+                            connectionPool.create(),
+                            connection -> {
+                                Flux<Result> resultFlux = Mono.from(connection.validate(ValidationDepth.LOCAL))
+                                        .timeout(Duration.ofSeconds(VALIDATION_CHECK_TIMEOUT))
+                                        .onErrorMap(
+                                                TimeoutException.class,
+                                                error -> new StaleConnectionException(error.getMessage()))
+                                        .map(isConnectionValid ->
+                                                isConnectionValid && isSSHTunnelConnected(sshTunnelContext))
+                                        .flatMapMany(isValid -> {
+                                            if (isValid) {
+                                                return createAndExecuteQueryFromConnection(
+                                                        finalQuery,
+                                                        connection,
+                                                        preparedStatement,
+                                                        mustacheValuesInOrder,
+                                                        executeActionDTO,
+                                                        new HashMap<>(),
+                                                        psParams);
+                                            }
+                                            return Flux.error(new StaleConnectionException(
+                                                    CONNECTION_VALIDITY_CHECK_FAILED_ERROR_MSG));
+                                        });
+
+                                if (isSelectOrShowOrDescQuery) {
+                                    return resultFlux.concatMap(
+                                            result -> result.map((row, meta) -> (Object) getRow(row, meta)));
+                                }
+                                return resultFlux
+                                        .concatMap(Result::getRowsUpdated)
+                                        .last(0L)
+                                        .map(rowsUpdated -> (Object) Map.of("affectedRows", rowsUpdated));
+                            },
+                            Connection::close)
+                    .onErrorMap(
+                            MySqlPluginExecutor::isStaleConnectionError,
                             error -> new StaleConnectionException(error.getMessage()))
-                    .onErrorMap(IllegalStateException.class, error -> new StaleConnectionException(error.getMessage()))
+                    .onErrorMap(error -> error instanceof StaleConnectionException ? error : toPluginException(error))
                     .subscribeOn(scheduler);
         }
 
+        private static Boolean isPreparedStatement(ActionConfiguration actionConfiguration) {
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
+                // In case the prepared statement configuration is missing, default to true
+                return true;
+            }
+
+            Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
+            if (psValue instanceof Boolean) {
+                return (Boolean) psValue;
+            } else if (psValue instanceof String) {
+                return Boolean.parseBoolean((String) psValue);
+            }
+            return true;
+        }
+
+        private static boolean isStaleConnectionError(Throwable error) {
+            return error instanceof TimeoutException
+                    || error instanceof PoolShutdownException
+                    || error instanceof R2dbcNonTransientResourceException
+                    || error instanceof IllegalStateException;
+        }
+
+        private static Throwable toPluginException(Throwable error) {
+            if (error instanceof R2dbcBadGrammarException r2dbcBadGrammarException) {
+                return new AppsmithPluginException(
+                        MySQLPluginError.INVALID_QUERY_SYNTAX,
+                        r2dbcBadGrammarException.getMessage(),
+                        "SQLSTATE: " + r2dbcBadGrammarException.getSqlState());
+            } else if (error instanceof R2dbcPermissionDeniedException r2dbcPermissionDeniedException) {
+                return new AppsmithPluginException(
+                        MySQLPluginError.MISSING_REQUIRED_PERMISSION,
+                        r2dbcPermissionDeniedException.getMessage(),
+                        "SQLSTATE: " + r2dbcPermissionDeniedException.getSqlState());
+            } else if (error instanceof R2dbcException r2dbcException) {
+                return new AppsmithPluginException(
+                        MySQLPluginError.QUERY_EXECUTION_FAILED,
+                        MySQLErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                        r2dbcException.getMessage(),
+                        "SQLSTATE: " + r2dbcException.getSqlState());
+            } else if (!(error instanceof AppsmithPluginException)) {
+                return new AppsmithPluginException(
+                        MySQLPluginError.QUERY_EXECUTION_FAILED,
+                        MySQLErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                        error);
+            }
+            return error;
+        }
+
         boolean isIsOperatorUsed(String query) {
             String queryKeyWordsOnly = query.replaceAll(MATCH_QUOTED_WORDS_REGEX, "");
             return Arrays.stream(queryKeyWordsOnly.split("\\s")).anyMatch(word -> IS_KEY.equalsIgnoreCase(word.trim()));
@@ -5,6 +5,7 @@ import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionExceptio
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.ConnectionContext;
+import com.appsmith.external.services.SharedConfig;
 import com.external.utils.MySqlDatasourceUtils;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.spi.Connection;
@@ -26,7 +27,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public class MySqlStaleConnectionErrorMessageTest {
-    static MySqlPlugin.MySqlPluginExecutor pluginExecutor = new MySqlPlugin.MySqlPluginExecutor();
+    static SharedConfig mockSharedConfig = mockSharedConfig();
+
+    static MySqlPlugin.MySqlPluginExecutor pluginExecutor = new MySqlPlugin.MySqlPluginExecutor(mockSharedConfig);
     static MySqlDatasourceUtils mysqlDatasourceUtils = new MySqlDatasourceUtils();
 
     @Test
@@ -126,4 +129,10 @@ public class MySqlStaleConnectionErrorMessageTest {
                 })
                 .verify();
     }
+
+    private static SharedConfig mockSharedConfig() {
+        SharedConfig sharedConfig = mock(SharedConfig.class);
+        when(sharedConfig.getMaxResponseSize()).thenReturn(5 * 1024 * 1024);
+        return sharedConfig;
+    }
 }
@@ -1,6 +1,9 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.ResultSizeEstimator;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.external.plugins.exceptions.OraclePluginError;
 import oracle.jdbc.OracleArray;
 import oracle.jdbc.OracleBlob;
 import oracle.sql.CLOB;
@@ -122,7 +125,8 @@ public class OracleExecuteUtils implements SmartSubstitutionInterface {
             Boolean isResultSet,
             Boolean preparedStatement,
             Statement statement,
-            PreparedStatement preparedQuery)
+            PreparedStatement preparedQuery,
+            ResultSizeEstimator resultSizeEstimator)
             throws SQLException {
         if (!isResultSet) {
             Object updateCount = FALSE.equals(preparedStatement)
@@ -187,6 +191,12 @@ public class OracleExecuteUtils implements SmartSubstitutionInterface {
                     row.put(metaData.getColumnName(i), value);
                 }
 
+                resultSizeEstimator.addRow(row);
+                if (resultSizeEstimator.isLimitExceeded()) {
+                    throw new AppsmithPluginException(
+                            OraclePluginError.RESPONSE_SIZE_TOO_LARGE, resultSizeEstimator.getMaxSizeInMb());
+                }
+
                 rowsList.add(row);
             }
         }
@@ -1,6 +1,7 @@
 package com.external.plugins;
 
 import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.services.SharedConfig;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.OracleContainer;
 import org.testcontainers.junit.jupiter.Container;
@@ -12,11 +13,13 @@ import java.util.ArrayList;
 
 import static com.external.plugins.OracleTestDBContainerManager.getDefaultDatasourceConfig;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
 
 @Testcontainers
 public class OracleConnectionRateLimitTest {
+    static SharedConfig mockSharedConfig = mock(SharedConfig.class);
 
-    OraclePlugin.OraclePluginExecutor oraclePluginExecutor = new OraclePlugin.OraclePluginExecutor();
+    OraclePlugin.OraclePluginExecutor oraclePluginExecutor = new OraclePlugin.OraclePluginExecutor(mockSharedConfig);
 
     @SuppressWarnings("rawtypes") // The type parameter for the container type is just itself and is pseudo-optional.
     @Container
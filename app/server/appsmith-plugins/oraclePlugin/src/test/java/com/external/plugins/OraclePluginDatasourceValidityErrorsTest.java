@@ -2,6 +2,7 @@ package com.external.plugins;
 
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.services.SharedConfig;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -13,10 +14,12 @@ import static com.external.plugins.exceptions.OracleErrorMessages.DS_MISSING_HOS
 import static com.external.plugins.exceptions.OracleErrorMessages.DS_MISSING_PASSWORD_ERROR_MSG;
 import static com.external.plugins.exceptions.OracleErrorMessages.DS_MISSING_USERNAME_ERROR_MSG;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 
 public class OraclePluginDatasourceValidityErrorsTest {
+    static SharedConfig mockSharedConfig = mock(SharedConfig.class);
 
-    OraclePlugin.OraclePluginExecutor oraclePluginExecutor = new OraclePlugin.OraclePluginExecutor();
+    OraclePlugin.OraclePluginExecutor oraclePluginExecutor = new OraclePlugin.OraclePluginExecutor(mockSharedConfig);
 
     @Test
     public void testErrorOnMissingUsername() {
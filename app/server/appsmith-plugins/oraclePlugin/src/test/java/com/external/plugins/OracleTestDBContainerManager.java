@@ -5,6 +5,7 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.utils.OracleDatasourceUtils;
 import com.zaxxer.hikari.HikariDataSource;
 import org.testcontainers.containers.OracleContainer;
@@ -15,15 +16,20 @@ import java.util.ArrayList;
 
 import static com.appsmith.external.constants.PluginConstants.PluginName.ORACLE_PLUGIN_NAME;
 import static com.external.plugins.utils.OracleExecuteUtils.closeConnectionPostExecution;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class OracleTestDBContainerManager {
+    static SharedConfig mockSharedConfig = mockSharedConfig();
+
     public static final String ORACLE_USERNAME = "testUser";
     public static final String ORACLE_PASSWORD = "testPassword";
     public static final String ORACLE_DB_NAME = "testDB";
     public static final String ORACLE_DOCKER_HUB_CONTAINER = "gvenzl/oracle-xe:21-slim-faststart";
 
     public static OracleDatasourceUtils oracleDatasourceUtils = new OracleDatasourceUtils();
-    static OraclePlugin.OraclePluginExecutor oraclePluginExecutor = new OraclePlugin.OraclePluginExecutor();
+    static OraclePlugin.OraclePluginExecutor oraclePluginExecutor =
+            new OraclePlugin.OraclePluginExecutor(mockSharedConfig);
 
     public static OracleContainer getOracleDBForTest() {
         return new OracleContainer(ORACLE_DOCKER_HUB_CONTAINER)
@@ -58,4 +64,10 @@ public class OracleTestDBContainerManager {
         statement.execute(sqlQuery);
         closeConnectionPostExecution(null, statement, null, connectionFromPool);
     }
+
+    private static SharedConfig mockSharedConfig() {
+        SharedConfig sharedConfig = mock(SharedConfig.class);
+        when(sharedConfig.getMaxResponseSize()).thenReturn(5 * 1024 * 1024);
+        return sharedConfig;
+    }
 }
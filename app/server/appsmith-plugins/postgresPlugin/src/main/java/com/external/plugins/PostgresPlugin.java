@@ -9,6 +9,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResultSizeEstimator;
 import com.appsmith.external.helpers.SSHUtils;
 import com.appsmith.external.helpers.Stopwatch;
 import com.appsmith.external.models.ActionConfiguration;
@@ -27,6 +28,7 @@ import com.appsmith.external.models.PsParameterDTO;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSHConnection;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.TabularBody;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
@@ -51,7 +53,9 @@ import org.postgresql.util.PSQLException;
 import org.postgresql.util.PSQLState;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
@@ -100,7 +104,6 @@ import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
 import static com.appsmith.external.helpers.SSHUtils.getConnectionContext;
 import static com.appsmith.external.helpers.SSHUtils.isSSHEnabled;
-import static com.appsmith.external.helpers.Sizeof.sizeof;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.BOOL;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.DATE;
@@ -142,12 +145,8 @@ public class PostgresPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
-    private static final int HEAVY_OP_FREQUENCY = 100;
-
     public static final Long DEFAULT_POSTGRES_PORT = 5432L;
 
-    private static int MAX_SIZE_SUPPORTED;
-
     private static final int CONNECTION_METHOD_INDEX = 1;
 
     public static PostgresDatasourceUtils postgresDatasourceUtils = new PostgresDatasourceUtils();
@@ -203,13 +202,14 @@ public class PostgresPlugin extends BasePlugin {
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
+        private static final int STREAMING_FETCH_SIZE = 1000;
+
         private final SharedConfig sharedConfig;
         private final ConnectionPoolConfig connectionPoolConfig;
 
         public PostgresPluginExecutor(SharedConfig sharedConfig, ConnectionPoolConfig connectionPoolConfig) {
             this.sharedConfig = sharedConfig;
             this.connectionPoolConfig = connectionPoolConfig;
-            MAX_SIZE_SUPPORTED = sharedConfig.getMaxResponseSize();
         }
 
         /**
@@ -252,24 +252,7 @@ public class PostgresPlugin extends BasePlugin {
                         PostgresErrorMessages.MISSING_QUERY_ERROR_MSG));
             }
 
-            Boolean isPreparedStatement;
-
-            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
-            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
-                // In case the prepared statement configuration is missing, default to true.
-                isPreparedStatement = true;
-            } else if (properties.get(PREPARED_STATEMENT_INDEX) != null) {
-                Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
-                if (psValue instanceof Boolean) {
-                    isPreparedStatement = (Boolean) psValue;
-                } else if (psValue instanceof String) {
-                    isPreparedStatement = Boolean.parseBoolean((String) psValue);
-                } else {
-                    isPreparedStatement = true;
-                }
-            } else {
-                isPreparedStatement = true;
-            }
+            Boolean isPreparedStatement = isPreparedStatement(actionConfiguration);
 
             // In case of non-prepared statement, simply do bind replacement and execute
             if (FALSE.equals(isPreparedStatement)) {
@@ -295,6 +278,287 @@ public class PostgresPlugin extends BasePlugin {
                     explicitCastDataTypes);
         }
 
+        private static Boolean isPreparedStatement(ActionConfiguration actionConfiguration) {
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
+                // In case the prepared statement configuration is missing, default to true.
+                return true;
+            }
+
+            Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
+            if (psValue instanceof Boolean) {
+                return (Boolean) psValue;
+            } else if (psValue instanceof String) {
+                return Boolean.parseBoolean((String) psValue);
+            }
+            return true;
+        }
+
+        /**
+         * Streams the rows of the query through a server side cursor, fetching {@link #STREAMING_FETCH_SIZE} rows at a
+         * time as the subscriber requests them, so that the result is never held in memory as a whole. The size limit
+         * applied to the result of executeParameterized does not apply here.
+         */
+        @Override
+        public Flux<Object> executeParameterizedStreaming(
+                HikariDataSource connection,
+                ExecuteActionDTO executeActionDTO,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration) {
+
+            log.debug(Thread.currentThread().getName()
+                    + ": executeParameterizedStreaming() called for Postgres plugin.");
+            String query = actionConfiguration.getBody();
+            if (!StringUtils.hasLength(query)) {
+                return Flux.error(new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        PostgresErrorMessages.MISSING_QUERY_ERROR_MSG));
+            }
+
+            final Boolean isPreparedStatement = isPreparedStatement(actionConfiguration);
+            final List<MustacheBindingToken> mustacheKeysInOrder;
+            final List<DataType> explicitCastDataTypes;
+            if (FALSE.equals(isPreparedStatement)) {
+                prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+                mustacheKeysInOrder = null;
+                explicitCastDataTypes = null;
+            } else {
+                mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
+                String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+                explicitCastDataTypes = extractExplicitCasting(updatedQuery);
+                actionConfiguration.setBody(updatedQuery);
+            }
+            final String finalQuery = actionConfiguration.getBody();
+
+            return Flux.using(
+                            () -> openStreamingCursor(
+                                    connection,
+                                    finalQuery,
+                                    isPreparedStatement,
+                                    mustacheKeysInOrder,
+                                    executeActionDTO,
+                                    explicitCastDataTypes),
+                            cursor -> Flux.<Object>generate(cursor::next),
+                            StreamingCursor::close)
+                    .onErrorMap(
+                            error -> !(error instanceof StaleConnectionException)
+                                    && !(error instanceof AppsmithPluginException),
+                            error -> error instanceof SQLException e
+                                    ? new AppsmithPluginException(
+                                            PostgresPluginError.QUERY_EXECUTION_FAILED,
+                                            PostgresErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                                            e.getMessage(),
+                                            "SQLSTATE: " + e.getSQLState())
+                                    : new AppsmithPluginException(
+                                            PostgresPluginError.QUERY_EXECUTION_FAILED,
+                                            PostgresErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                                            error.getMessage()))
+                    .subscribeOn(scheduler);
+        }
+
+        private StreamingCursor openStreamingCursor(
+                HikariDataSource connection,
+                String query,
+                Boolean preparedStatement,
+                List<MustacheBindingToken> mustacheValuesInOrder,
+                ExecuteActionDTO executeActionDTO,
+                List<DataType> explicitCastDataTypes)
+                throws SQLException {
+            Connection connectionFromPool;
+            try {
+                connectionFromPool =
+                        postgresDatasourceUtils.getConnectionFromHikariConnectionPool(connection, POSTGRES_PLUGIN_NAME);
+            } catch (SQLException e) {
+                throw new StaleConnectionException(e.getMessage());
+            }
+
+            StreamingCursor cursor = new StreamingCursor(connectionFromPool);
+            try {
+                // The driver only fetches the rows in batches, through a cursor, when it is inside a transaction
+                connectionFromPool.setAutoCommit(false);
+                final Statement statement;
+                final boolean isResultSet;
+                if (FALSE.equals(preparedStatement)) {
+                    statement = connectionFromPool.createStatement();
+                    cursor.statement = statement;
+                    statement.setFetchSize(STREAMING_FETCH_SIZE);
+                    isResultSet = statement.execute(query);
+                } else {
+                    PreparedStatement preparedQuery = connectionFromPool.prepareStatement(query);
+                    cursor.statement = preparedQuery;
+                    preparedQuery.setFetchSize(STREAMING_FETCH_SIZE);
+                    preparedQuery = (PreparedStatement) smartSubstitutionOfBindings(
+                            preparedQuery,
+                            mustacheValuesInOrder,
+                            executeActionDTO.getParams(),
+                            new ArrayList<>(),
+                            connectionFromPool,
+                            explicitCastDataTypes);
+                    statement = preparedQuery;
+                    isResultSet = preparedQuery.execute();
+                }
+
+                if (isResultSet) {
+                    cursor.resultSet = statement.getResultSet();
+                    cursor.metaData = cursor.resultSet.getMetaData();
+                } else {
+                    cursor.updateCount = ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0);
+                }
+                return cursor;
+            } catch (SQLException | RuntimeException e) {
+                cursor.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Converts the current row of the result set to a map of column names to values, as returned to the client.
+         */
+        private static Map<String, Object> getRow(ResultSet resultSet, ResultSetMetaData metaData, int colCount)
+                throws SQLException, IOException {
+            Object[] values = getRowValues(resultSet, metaData, colCount);
+
+            // Use `LinkedHashMap` here so that the column ordering is preserved in the
+            // response.
+            Map<String, Object> row = new LinkedHashMap<>(colCount);
+            for (int i = 1; i <= colCount; i++) {
+                row.put(metaData.getColumnName(i), values[i - 1]);
+            }
+
+            return row;
+        }
+
+        /**
+         * Converts the current row of the result set to the values of its columns in order, as returned to the client.
+         */
+        private static Object[] getRowValues(ResultSet resultSet, ResultSetMetaData metaData, int colCount)
+                throws SQLException, IOException {
+            Object[] values = new Object[colCount];
+
+            for (int i = 1; i <= colCount; i++) {
+                Object value;
+                final String typeName = metaData.getColumnTypeName(i);
+
+                if (resultSet.getObject(i) == null) {
+                    value = null;
+
+                } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE.format(
+                            resultSet.getDate(i).toLocalDate());
+
+                } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
+                                    resultSet.getDate(i).toLocalDate(),
+                                    resultSet.getTime(i).toLocalTime()))
+                            + "Z";
+
+                } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class));
+
+                } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = resultSet.getString(i);
+
+                } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = resultSet.getObject(i).toString();
+
+                } else if (typeName.startsWith("_")) {
+                    value = resultSet.getArray(i).getArray();
+
+                } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName) || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    log.debug(Thread.currentThread().getName() + ": objectMapper readTree for Postgres plugin.");
+                    Stopwatch processStopwatch = new Stopwatch("Postgres Plugin objectMapper readTree");
+                    value = objectMapper.readTree(resultSet.getString(i));
+                    processStopwatch.stopAndLogTimeInMillis();
+                } else {
+                    value = resultSet.getObject(i);
+
+                    /**
+                     * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
+                     * two attributes: type and value. Hence, when PGobject gets serialized, it gets
+                     * converted into a JSON like {"type":"citext", "value":"someText"}. Since we
+                     * are
+                     * only interested in the value and not the type, it makes sense to extract out
+                     * the value as a string.
+                     * Reference:
+                     * https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
+                     */
+                    if (value instanceof PGobject) {
+                        value = ((PGobject) value).getValue();
+                    }
+                }
+
+                values[i - 1] = value;
+            }
+
+            return values;
+        }
+
+        /**
+         * Open query whose rows are being streamed. The transaction holding the cursor is committed once all the rows
+         * have been read, and rolled back if the stream fails or is cancelled before.
+         */
+        private static class StreamingCursor {
+            private final Connection connection;
+            private Statement statement;
+            private ResultSet resultSet;
+            private ResultSetMetaData metaData;
+            private Object updateCount;
+            private boolean completed;
+
+            StreamingCursor(Connection connection) {
+                this.connection = connection;
+            }
+
+            void next(SynchronousSink<Object> sink) {
+                try {
+                    if (resultSet == null) {
+                        if (updateCount != null) {
+                            sink.next(Map.of("affectedRows", updateCount));
+                            updateCount = null;
+                        } else {
+                            complete(sink);
+                        }
+                    } else if (resultSet.next()) {
+                        sink.next(getRow(resultSet, metaData, metaData.getColumnCount()));
+                    } else {
+                        complete(sink);
+                    }
+                } catch (SQLException | IOException e) {
+                    sink.error(e);
+                }
+            }
+
+            private void complete(SynchronousSink<Object> sink) throws SQLException {
+                connection.commit();
+                completed = true;
+                sink.complete();
+            }
+
+            void close() {
+                try {
+                    if (resultSet != null) {
+                        resultSet.close();
+                    }
+                    if (statement != null) {
+                        statement.close();
+                    }
+                    if (!completed) {
+                        connection.rollback();
+                    }
+                    connection.setAutoCommit(true);
+                } catch (SQLException e) {
+                    log.error("Execute Error closing Postgres streaming cursor", e);
+                } finally {
+                    try {
+                        // Return the connection back to the pool
+                        connection.close();
+                    } catch (SQLException e) {
+                        log.error("Execute Error returning Postgres connection to pool", e);
+                    }
+                }
+            }
+        }
+
         @Override
         public ActionConfiguration getSchemaPreviewActionConfig(Template queryTemplate, Boolean isMock) {
             log.debug(
@@ -381,6 +645,7 @@ public class PostgresPlugin extends BasePlugin {
 
                         List<Map<String, Object>> rowsList = new ArrayList<>(50);
                         final List<String> columnsList = new ArrayList<>();
+                        TabularBody tabularBody = null;
 
                         Statement statement = null;
                         ResultSet resultSet = null;
@@ -442,92 +707,24 @@ public class PostgresPlugin extends BasePlugin {
                                 ResultSetMetaData metaData = resultSet.getMetaData();
                                 int colCount = metaData.getColumnCount();
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
+                                tabularBody = new TabularBody(columnsList);
 
-                                int iterator = 0;
+                                ResultSizeEstimator resultSizeEstimator =
+                                        new ResultSizeEstimator(sharedConfig.getMaxResponseSize());
                                 while (resultSet.next()) {
-
-                                    // Only check the data size at low frequency to ensure the performance is not
-                                    // impacted heavily
-                                    if (iterator % HEAVY_OP_FREQUENCY == 0) {
-                                        int objectSize = sizeof(rowsList);
-
-                                        if (objectSize > MAX_SIZE_SUPPORTED) {
-                                            log.debug(String.format(
-                                                    "[PostgresPlugin] Result size greater than maximum supported size of %d bytes. Current size: %d",
-                                                    MAX_SIZE_SUPPORTED, objectSize));
-                                            return Mono.error(new AppsmithPluginException(
-                                                    PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
-                                                    (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
-                                        }
-                                    }
-
-                                    // Use `LinkedHashMap` here so that the column ordering is preserved in the
-                                    // response.
-                                    Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                                    for (int i = 1; i <= colCount; i++) {
-                                        Object value;
-                                        final String typeName = metaData.getColumnTypeName(i);
-
-                                        if (resultSet.getObject(i) == null) {
-                                            value = null;
-
-                                        } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE.format(
-                                                    resultSet.getDate(i).toLocalDate());
-
-                                        } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
-                                                            resultSet.getDate(i).toLocalDate(),
-                                                            resultSet.getTime(i).toLocalTime()))
-                                                    + "Z";
-
-                                        } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                                    resultSet.getObject(i, OffsetDateTime.class));
-
-                                        } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName)
-                                                || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getString(i);
-
-                                        } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getObject(i).toString();
-
-                                        } else if (typeName.startsWith("_")) {
-                                            value = resultSet.getArray(i).getArray();
-
-                                        } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName)
-                                                || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            log.debug(Thread.currentThread().getName()
-                                                    + ": objectMapper readTree for Postgres plugin.");
-                                            Stopwatch processStopwatch =
-                                                    new Stopwatch("Postgres Plugin objectMapper readTree");
-                                            value = objectMapper.readTree(resultSet.getString(i));
-                                            processStopwatch.stopAndLogTimeInMillis();
-                                        } else {
-                                            value = resultSet.getObject(i);
-
-                                            /**
-                                             * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
-                                             * two attributes: type and value. Hence, when PGobject gets serialized, it gets
-                                             * converted into a JSON like {"type":"citext", "value":"someText"}. Since we
-                                             * are
-                                             * only interested in the value and not the type, it makes sense to extract out
-                                             * the value as a string.
-                                             * Reference:
-                                             * https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
-                                             */
-                                            if (value instanceof PGobject) {
-                                                value = ((PGobject) value).getValue();
-                                            }
-                                        }
-
-                                        row.put(metaData.getColumnName(i), value);
+                                    Object[] values = getRowValues(resultSet, metaData, colCount);
+                                    resultSizeEstimator.addRow(columnsList, values);
+
+                                    if (resultSizeEstimator.isLimitExceeded()) {
+                                        log.debug(String.format(
+                                                "[PostgresPlugin] Result size greater than maximum supported size of %d bytes. Current size: %d",
+                                                resultSizeEstimator.getMaxSize(), resultSizeEstimator.getSize()));
+                                        return Mono.error(new AppsmithPluginException(
+                                                PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                resultSizeEstimator.getMaxSizeInMb()));
                                     }
 
-                                    rowsList.add(row);
-
-                                    iterator++;
+                                    tabularBody.addRow(values);
                                 }
                             }
 
@@ -594,10 +791,16 @@ public class PostgresPlugin extends BasePlugin {
                         }
 
                         ActionExecutionResult result = new ActionExecutionResult();
-                        log.debug(Thread.currentThread().getName() + ": objectMapper valueToTree for Postgres plugin.");
-                        Stopwatch processStopwatch = new Stopwatch("Postgres Plugin objectMapper valueToTree");
-                        result.setBody(objectMapper.valueToTree(rowsList));
-                        processStopwatch.stopAndLogTimeInMillis();
+                        if (tabularBody != null) {
+                            // Rows are kept as arrays of values, and only written as objects when the response is sent
+                            result.setBody(tabularBody);
+                        } else {
+                            log.debug(Thread.currentThread().getName()
+                                    + ": objectMapper valueToTree for Postgres plugin.");
+                            Stopwatch processStopwatch = new Stopwatch("Postgres Plugin objectMapper valueToTree");
+                            result.setBody(objectMapper.valueToTree(rowsList));
+                            processStopwatch.stopAndLogTimeInMillis();
+                        }
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         log.debug(Thread.currentThread().getName()
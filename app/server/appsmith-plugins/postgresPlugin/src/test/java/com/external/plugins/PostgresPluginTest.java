@@ -293,6 +293,14 @@ public class PostgresPluginTest {
         }
     }
 
+    /**
+     * Returns the body of a result as the JSON tree it is sent as, since rows of a table are returned as a
+     * {@link com.appsmith.external.models.TabularBody}.
+     */
+    private static ArrayNode bodyAsArrayNode(Object body) {
+        return new ObjectMapper().valueToTree(body);
+    }
+
     private DatasourceConfiguration createDatasourceConfiguration() {
         DBAuth authDTO = new DBAuth();
         authDTO.setAuthType(DBAuth.Type.USERNAME_PASSWORD);
@@ -626,7 +634,7 @@ public class PostgresPluginTest {
 
         StepVerifier.create(executeMono)
                 .assertNext(result -> {
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = bodyAsArrayNode(result.getBody()).get(0);
                     assertArrayEquals(
                             new String[] {"user_id"},
                             new ObjectMapper()
@@ -659,7 +667,7 @@ public class PostgresPluginTest {
                     assertNotNull(result);
                     assertTrue(result.getIsExecutionSuccess());
                     assertNotNull(result.getBody());
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = bodyAsArrayNode(result.getBody()).get(0);
                     assertTrue(node.get("count").asInt() > 0);
                 })
                 .verifyComplete();
@@ -686,7 +694,7 @@ public class PostgresPluginTest {
                     assertTrue(result.getIsExecutionSuccess());
                     assertNotNull(result.getBody());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = bodyAsArrayNode(result.getBody()).get(0);
                     assertEquals("2018-12-31", node.get("dob").asText());
                     assertEquals("18:32:45", node.get("time1").asText());
                     assertEquals("04:05:06-08", node.get("time_tz").asText());
@@ -734,6 +742,65 @@ public class PostgresPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testExecuteStreaming_sameRowsAsExecute() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        HikariDataSource connection = pluginExecutor.datasourceCreate(dsConfig).block();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT * FROM users WHERE id > {{binding1}} ORDER BY id");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "true")));
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setParams(List.of(new Param("binding1", "0")));
+
+        ActionExecutionResult result = pluginExecutor
+                .executeParameterized(connection, executeActionDTO, dsConfig, actionConfiguration)
+                .block();
+        actionConfiguration.setBody("SELECT * FROM users WHERE id > {{binding1}} ORDER BY id");
+        List<Object> rows = pluginExecutor
+                .executeParameterizedStreaming(connection, executeActionDTO, dsConfig, actionConfiguration)
+                .collectList()
+                .block();
+
+        assertTrue(result.getIsExecutionSuccess());
+        assertEquals(bodyAsArrayNode(result.getBody()), new ObjectMapper().valueToTree(rows));
+        // The connection is handed back to the pool once all the rows are read
+        assertEquals(0, connection.getHikariPoolMXBean().getActiveConnections());
+    }
+
+    @Test
+    public void testExecuteStreaming_updateEmitsAffectedRows() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        HikariDataSource connection = pluginExecutor.datasourceCreate(dsConfig).block();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("UPDATE users SET username = username WHERE id = 1");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "false")));
+
+        StepVerifier.create(pluginExecutor.executeParameterizedStreaming(
+                        connection, new ExecuteActionDTO(), dsConfig, actionConfiguration))
+                .expectNext(Map.of("affectedRows", 1))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteStreaming_invalidQuery_emitsPluginError() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        HikariDataSource connection = pluginExecutor.datasourceCreate(dsConfig).block();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT * FROM missing_table");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", "false")));
+
+        StepVerifier.create(pluginExecutor.executeParameterizedStreaming(
+                        connection, new ExecuteActionDTO(), dsConfig, actionConfiguration))
+                .expectErrorMatches(error -> error instanceof AppsmithPluginException
+                        && error.getMessage().contains("missing_table"))
+                .verify();
+        assertEquals(0, connection.getHikariPoolMXBean().getActiveConnections());
+    }
+
     @Test
     public void testStructure() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
@@ -1061,7 +1128,7 @@ public class PostgresPluginTest {
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = bodyAsArrayNode(result.getBody()).get(0);
                     assertEquals("2018-12-31", node.get("dob").asText());
                     assertEquals("18:32:45", node.get("time1").asText());
                     assertEquals("04:05:06-08", node.get("time_tz").asText());
@@ -1140,7 +1207,7 @@ public class PostgresPluginTest {
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = bodyAsArrayNode(result.getBody()).get(0);
                     assertEquals("2018-12-31", node.get("dob").asText());
                     assertEquals("18:32:45", node.get("time1").asText());
                     assertEquals("04:05:06-08", node.get("time_tz").asText());
@@ -1230,7 +1297,7 @@ public class PostgresPluginTest {
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = bodyAsArrayNode(result.getBody()).get(0);
                     assertEquals("2018-12-31", node.get("dob").asText());
                     assertEquals("18:32:45", node.get("time1").asText());
                     assertEquals("04:05:06-08", node.get("time_tz").asText());
@@ -1321,7 +1388,7 @@ public class PostgresPluginTest {
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = bodyAsArrayNode(result.getBody()).get(0);
                     assertTrue(node.get("dob").isNull());
                     assertTrue(node.get("time1").isNull());
                     assertTrue(node.get("time_tz").isNull());
@@ -1386,7 +1453,7 @@ public class PostgresPluginTest {
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = bodyAsArrayNode(result.getBody()).get(0);
                     assertTrue(node.get("dob").isNull());
                     assertTrue(node.get("time1").isNull());
                     assertTrue(node.get("time_tz").isNull());
@@ -1596,7 +1663,7 @@ public class PostgresPluginTest {
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = bodyAsArrayNode(result.getBody()).get(0);
                     assertEquals(node.get("created_on").asText(), "2021-03-24T14:05:34Z");
                 })
                 .verifyComplete();
@@ -1650,7 +1717,7 @@ public class PostgresPluginTest {
                     assertTrue(result.getIsExecutionSuccess());
                     assertNotNull(result.getBody());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = bodyAsArrayNode(result.getBody()).get(0);
                     assertEquals("racket", node.get("item").get("type").asText());
                     assertEquals(
                             "butterfly", node.get("item").get("manufacturer").asText());
@@ -1712,7 +1779,7 @@ public class PostgresPluginTest {
         StepVerifier.create(resultMono)
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = bodyAsArrayNode(result.getBody()).get(0);
                     assertEquals(node.get("affectedRows").asText(), "1");
 
                     List<RequestParamDTO> requestParams =
@@ -1748,7 +1815,7 @@ public class PostgresPluginTest {
 
         // Check that precision for decimal value is maintained
         assert actionExecutionResult != null;
-        final JsonNode node = ((ArrayNode) actionExecutionResult.getBody()).get(0);
+        final JsonNode node = bodyAsArrayNode(actionExecutionResult.getBody()).get(0);
         assertEquals("5.1", node.get("rating").asText());
 
         // Delete the newly added row to not affect any other test case
@@ -1799,7 +1866,7 @@ public class PostgresPluginTest {
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
 
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = bodyAsArrayNode(result.getBody()).get(0);
                     assertEquals(node.get("created_on_tz").asText(), "2022-04-11T05:30:00Z"); // UTC time
                 })
                 .verifyComplete();
@@ -1869,7 +1936,7 @@ public class PostgresPluginTest {
         StepVerifier.create(resultMono)
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = bodyAsArrayNode(result.getBody()).get(0);
                     assertEquals(node.get("affectedRows").asText(), "1");
 
                     List<RequestParamDTO> requestParams =
@@ -1932,7 +1999,7 @@ public class PostgresPluginTest {
         StepVerifier.create(resultMono)
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
-                    final JsonNode node = ((ArrayNode) result.getBody()).get(0);
+                    final JsonNode node = bodyAsArrayNode(result.getBody()).get(0);
                     assertArrayEquals(
                             new String[] {"numeric_string"},
                             new ObjectMapper()
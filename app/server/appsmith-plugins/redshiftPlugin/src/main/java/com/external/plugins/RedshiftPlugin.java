@@ -3,6 +3,7 @@ package com.external.plugins;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.ResultSizeEstimator;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -13,6 +14,7 @@ import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.RedshiftErrorMessages;
 import com.external.plugins.exceptions.RedshiftPluginError;
 import com.external.utils.RedshiftDatasourceUtils;
@@ -71,6 +73,12 @@ public class RedshiftPlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final SharedConfig sharedConfig;
+
+        public RedshiftPluginExecutor(SharedConfig sharedConfig) {
+            this.sharedConfig = sharedConfig;
+        }
+
         private static final String TABLES_QUERY =
                 "select a.attname                                                      as name,\n"
                         + "       t1.typname                                                     as column_type,\n"
@@ -252,8 +260,21 @@ public class RedshiftPlugin extends BasePlugin {
                                 ResultSetMetaData metaData = resultSet.getMetaData();
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
+                                ResultSizeEstimator resultSizeEstimator =
+                                        new ResultSizeEstimator(sharedConfig.getMaxResponseSize());
                                 while (resultSet.next()) {
                                     Map<String, Object> row = getRow(resultSet);
+                                    resultSizeEstimator.addRow(row);
+
+                                    if (resultSizeEstimator.isLimitExceeded()) {
+                                        log.debug(String.format(
+                                                "[RedshiftPlugin] Result size greater than maximum supported size of %d bytes. Current size: %d",
+                                                resultSizeEstimator.getMaxSize(), resultSizeEstimator.getSize()));
+                                        return Mono.error(new AppsmithPluginException(
+                                                RedshiftPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                resultSizeEstimator.getMaxSizeInMb()));
+                                    }
+
                                     rowsList.add(row);
                                 }
                             } else {
@@ -2,6 +2,7 @@ package com.external.utils;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.ResultSizeEstimator;
 import com.external.plugins.exceptions.SnowflakeErrorMessages;
 import com.external.plugins.exceptions.SnowflakePluginError;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +33,23 @@ public class ExecutionUtils {
      */
     public static List<Map<String, Object>> getRowsFromQueryResult(Connection connection, String query)
             throws AppsmithPluginException, StaleConnectionException {
+        return getRowsFromQueryResult(connection, query, ResultSizeEstimator.unbounded());
+    }
+
+    /**
+     * Execute query and return the resulting table as a list of rows, failing as soon as the rows read are larger than
+     * the maximum size of the estimator.
+     *
+     * @param connection          - Connection object to execute query.
+     * @param query               - Query string
+     * @param resultSizeEstimator - Estimator accounting for the size of the rows read.
+     * @return List of rows from the response table.
+     * @throws AppsmithPluginException
+     * @throws StaleConnectionException
+     */
+    public static List<Map<String, Object>> getRowsFromQueryResult(
+            Connection connection, String query, ResultSizeEstimator resultSizeEstimator)
+            throws AppsmithPluginException, StaleConnectionException {
         List<Map<String, Object>> rowsList = new ArrayList<>();
         ResultSet resultSet = null;
         Statement statement = null;
@@ -56,6 +74,13 @@ public class ExecutionUtils {
                     Object value = resultSet.getObject(i);
                     row.put(metaData.getColumnName(i), value);
                 }
+
+                resultSizeEstimator.addRow(row);
+                if (resultSizeEstimator.isLimitExceeded()) {
+                    throw new AppsmithPluginException(
+                            SnowflakePluginError.RESPONSE_SIZE_TOO_LARGE, resultSizeEstimator.getMaxSizeInMb());
+                }
+
                 rowsList.add(row);
             }
         } catch (SQLException e) {
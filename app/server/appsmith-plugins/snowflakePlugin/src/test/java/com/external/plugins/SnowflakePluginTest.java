@@ -10,6 +10,7 @@ import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.KeyPairAuth;
 import com.appsmith.external.models.Property;
 import com.appsmith.external.models.UploadedFile;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.SnowflakeErrorMessages;
 import com.external.plugins.exceptions.SnowflakePluginError;
 import com.external.utils.ExecutionUtils;
@@ -51,8 +52,10 @@ import static org.mockito.Mockito.*;
 
 @Slf4j
 public class SnowflakePluginTest {
+    static SharedConfig mockSharedConfig = mockSharedConfig();
 
-    SnowflakePlugin.SnowflakePluginExecutor pluginExecutor = new SnowflakePlugin.SnowflakePluginExecutor();
+    SnowflakePlugin.SnowflakePluginExecutor pluginExecutor =
+            new SnowflakePlugin.SnowflakePluginExecutor(mockSharedConfig);
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -402,4 +405,10 @@ public class SnowflakePluginTest {
                 auth.getPrivateKey().getDecodedContent(), auth.getPassphrase());
         assertInstanceOf(PrivateKey.class, privateKey);
     }
+
+    private static SharedConfig mockSharedConfig() {
+        SharedConfig sharedConfig = mock(SharedConfig.class);
+        when(sharedConfig.getMaxResponseSize()).thenReturn(5 * 1024 * 1024);
+        return sharedConfig;
+    }
 }
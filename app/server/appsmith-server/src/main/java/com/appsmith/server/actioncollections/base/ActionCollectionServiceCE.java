@@ -84,6 +84,9 @@ public interface ActionCollectionServiceCE extends CrudService<ActionCollection,
 
     Mono<ActionCollectionViewDTO> generateActionCollectionViewDTO(ActionCollection actionCollection);
 
+    ActionCollectionViewDTO generateActionCollectionViewDTO(
+            ActionCollection actionCollection, ActionCollectionDTO actionCollectionDTO, List<ActionDTO> actions);
+
     Mono<Void> bulkValidateAndInsertActionCollectionInRepository(List<ActionCollection> actionCollectionList);
 
     Mono<Void> bulkValidateAndUpdateActionCollectionInRepository(List<ActionCollection> actionCollectionList);
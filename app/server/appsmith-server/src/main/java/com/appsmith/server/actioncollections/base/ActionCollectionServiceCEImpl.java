@@ -222,6 +222,19 @@ public class ActionCollectionServiceCEImpl extends BaseService<ActionCollectionR
         if (Objects.isNull(actionCollectionDTO)) {
             return Mono.empty();
         }
+        final ActionCollectionDTO finalActionCollectionDTO = actionCollectionDTO;
+
+        return newActionService
+                .findByCollectionIdAndViewMode(actionCollection.getId(), viewMode, aclPermission)
+                .map(action -> newActionService.generateActionByViewMode(action, viewMode))
+                .collectList()
+                .map(actionDTOList ->
+                        generateActionCollectionViewDTO(actionCollection, finalActionCollectionDTO, actionDTOList));
+    }
+
+    @Override
+    public ActionCollectionViewDTO generateActionCollectionViewDTO(
+            ActionCollection actionCollection, ActionCollectionDTO actionCollectionDTO, List<ActionDTO> actions) {
         ActionCollectionViewDTO actionCollectionViewDTO = new ActionCollectionViewDTO();
         actionCollectionViewDTO.setId(actionCollection.getId());
         actionCollectionViewDTO.setBaseId(actionCollection.getBaseId());
@@ -230,15 +243,8 @@ public class ActionCollectionServiceCEImpl extends BaseService<ActionCollectionR
         actionCollectionViewDTO.setApplicationId(actionCollection.getApplicationId());
         actionCollectionViewDTO.setVariables(actionCollectionDTO.getVariables());
         actionCollectionViewDTO.setBody(actionCollectionDTO.getBody());
-
-        return newActionService
-                .findByCollectionIdAndViewMode(actionCollection.getId(), viewMode, aclPermission)
-                .map(action -> newActionService.generateActionByViewMode(action, viewMode))
-                .collectList()
-                .map(actionDTOList -> {
-                    actionCollectionViewDTO.setActions(actionDTOList);
-                    return actionCollectionViewDTO;
-                });
+        actionCollectionViewDTO.setActions(actions);
+        return actionCollectionViewDTO;
     }
 
     @Override
@@ -73,6 +73,13 @@ public class CommonConfig {
     @Value("${appsmith.observability.metrics.interval.millis:60000}")
     private int metricsIntervalMillis;
 
+    // Bounds of a streamed action execution, whose timeout only applies to the wait for every row
+    @Value("${appsmith.action.execution.streaming.max-duration-seconds:600}")
+    private long streamingMaxDurationSeconds;
+
+    @Value("${appsmith.action.execution.streaming.max-rows:1000000}")
+    private long streamingMaxRows;
+
     private List<String> allowedDomains;
 
     private String mongoDBVersion;
@@ -0,0 +1,54 @@
+package com.appsmith.server.configurations;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Limits of the datasource contexts, i.e. the open connections and connection pools, kept by the
+ * DatasourceContextService. Each context weighs as many connections as its plugin may keep open, and the least
+ * recently used contexts are destroyed when the total weight goes over the maximum, or when they are not used for the
+ * idle timeout.
+ */
+@Getter
+@Setter
+@Configuration
+public class DatasourceContextConfig {
+
+    private static final int DEFAULT_WEIGHT = 1;
+
+    @Value("${appsmith.datasource.context.max-weight:3000}")
+    private long maximumWeight;
+
+    @Value("${appsmith.datasource.context.idle-timeout-minutes:120}")
+    private long idleTimeoutMinutes;
+
+    @Setter(AccessLevel.NONE)
+    private Map<String, Integer> pluginWeights = Map.of();
+
+    /**
+     * Parses the weights of the plugins, as a comma separated list of pluginPackageName:weight.
+     */
+    @Autowired
+    public void setPluginWeights(@Value("${appsmith.datasource.context.plugin-weights:}") String value) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String entry : StringUtils.commaDelimitedListToStringArray(value)) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length == 2) {
+                weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+            }
+        }
+        pluginWeights = Map.copyOf(weights);
+    }
+
+    public int getWeight(String pluginPackageName) {
+        return pluginWeights.getOrDefault(pluginPackageName, DEFAULT_WEIGHT);
+    }
+}
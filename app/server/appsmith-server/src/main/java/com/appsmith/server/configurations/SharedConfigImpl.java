@@ -17,6 +17,12 @@ public class SharedConfigImpl implements SharedConfig {
     @Value("${appsmith.plugin.response.size.max:5}")
     private float maxPluginResponseSize = 5;
 
+    @Value("${appsmith.plugin.rest-api.max-connections:500}")
+    private int restApiMaxConnections;
+
+    @Value("${appsmith.plugin.s3.max-read-file-size:0}")
+    private long s3MaxReadFileSize;
+
     private final CloudServicesConfig cloudServicesConfig;
 
     @Override
@@ -33,4 +39,14 @@ public class SharedConfigImpl implements SharedConfig {
     public String getRemoteExecutionUrl() {
         return cloudServicesConfig.getBaseUrl() + "/api/v1/actions/execute";
     }
+
+    @Override
+    public int getRestApiMaxConnections() {
+        return restApiMaxConnections;
+    }
+
+    @Override
+    public long getS3MaxReadFileSize() {
+        return s3MaxReadFileSize;
+    }
 }
@@ -75,6 +75,7 @@ public class FieldNameCE {
     public static final String ASSET = "asset";
     public static final String APPLICATION = "application";
     public static final String SOURCE_APPLICATION = "sourceApplication";
+    public static final String APPLICATION_SNAPSHOT = "application snapshot";
     public static final String COMMENT = "comment";
     public static final String COMMENT_THREAD = "commentThread";
     public static final String PUBLISHED_APPLICATION = "deployed application";
@@ -196,6 +197,7 @@ public class FieldNameCE {
     public static final String FILE_LOCK_DURATION = "fileLockDuration";
 
     public static final String REMOTE_PLUGINS = "remotePlugins";
+    public static final String PAGE_DSL_MIGRATION = "pageDslMigration";
     public static final String INSTANCE_ID = "instanceId";
     public static final String IP_ADDRESS = "ipAddress";
     public static final String VERSION = "version";
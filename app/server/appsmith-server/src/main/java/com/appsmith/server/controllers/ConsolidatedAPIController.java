@@ -10,12 +10,14 @@ import com.appsmith.server.services.ConsolidatedAPIService;
 import com.fasterxml.jackson.annotation.JsonView;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Mono;
 
@@ -67,12 +69,18 @@ public class ConsolidatedAPIController {
                 .tap(Micrometer.observation(observationRegistry));
     }
 
+    /**
+     * Same as the edit mode endpoint, for viewers of deployed applications. Responses come with an ETag whenever all
+     * their sections are fetched successfully, so that clients can revalidate the response they already have, and get
+     * a 304 Not Modified instead of the whole response when it hasn't changed.
+     */
     @JsonView(Views.Public.class)
     @GetMapping("/view")
     public Mono<ResponseDTO<ConsolidatedAPIResponseDTO>> getAllDataForFirstPageLoadForViewMode(
             @RequestParam(required = false) String applicationId,
             @RequestParam(required = false) String defaultPageId,
-            @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName) {
+            @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName,
+            ServerWebExchange exchange) {
         log.debug(
                 "Going to fetch consolidatedAPI response for applicationId: {}, defaultPageId: {}, branchName: {}, "
                         + "mode: {}",
@@ -83,8 +91,19 @@ public class ConsolidatedAPIController {
 
         return consolidatedAPIService
                 .getConsolidatedInfoForPageLoad(defaultPageId, applicationId, branchName, ApplicationMode.PUBLISHED)
-                .map(consolidatedAPIResponseDTO ->
-                        new ResponseDTO<>(HttpStatus.OK.value(), consolidatedAPIResponseDTO, null))
+                .flatMap(consolidatedAPIResponseDTO -> {
+                    String etag = consolidatedAPIResponseDTO.getEtag();
+                    if (etag != null) {
+                        // Responses depend on the user, and must be revalidated before being reused
+                        exchange.getResponse()
+                                .getHeaders()
+                                .setCacheControl(CacheControl.noCache().cachePrivate());
+                        if (exchange.checkNotModified(etag)) {
+                            return Mono.empty();
+                        }
+                    }
+                    return Mono.just(new ResponseDTO<>(HttpStatus.OK.value(), consolidatedAPIResponseDTO, null));
+                })
                 .tag("pageId", Objects.toString(defaultPageId))
                 .tag("applicationId", Objects.toString(applicationId))
                 .tag("branchName", Objects.toString(branchName))
@@ -85,6 +85,23 @@ public class ActionControllerCE {
                 .map(updatedResource -> new ResponseDTO<>(HttpStatus.OK.value(), updatedResource, null));
     }
 
+    /**
+     * Opt-in variant of the execute endpoint for queries returning large results. Rows are written to the response as
+     * they are read from the datasource, as newline delimited JSON or as a JSON array, instead of being collected into
+     * a single {@link ActionExecutionResult} first.
+     */
+    @PostMapping(
+            value = "/execute/stream",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<Object> executeActionStreaming(
+            @RequestBody Flux<Part> partFlux,
+            @RequestHeader(name = FieldName.HEADER_ENVIRONMENT_ID, required = false) String environmentId,
+            ServerWebExchange serverWebExchange) {
+        return actionExecutionSolution.executeActionStreaming(
+                partFlux, environmentId, serverWebExchange.getRequest().getHeaders());
+    }
+
     @JsonView(Views.Public.class)
     @PutMapping("/move")
     public Mono<ResponseDTO<ActionDTO>> moveAction(@RequestBody @Valid ActionMoveDTO actionMoveDTO) {
@@ -9,13 +9,29 @@ import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.apache.commons.io.input.BoundedInputStream;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
 public class ArtifactExchangeJsonAdapterCE implements JsonDeserializer<ArtifactExchangeJson> {
     private static final String FIELD_NAME = "artifactJsonType";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Bytes read ahead to find artifactJsonType. Exports write it first, so a JSON without it in its first bytes is a
+     * legacy export, which is read as an application.
+     */
+    private static final int TYPE_LOOKAHEAD_LIMIT = 64 * 1024;
+
     protected Map<ArtifactType, Class<? extends ArtifactExchangeJson>> artifactTypeRegistry;
     private final Gson gson;
 
@@ -36,9 +52,60 @@ public class ArtifactExchangeJsonAdapterCE implements JsonDeserializer<ArtifactE
         JsonElement artifactJsonTypeElement = jsonObject.get(FIELD_NAME);
         Class<? extends ArtifactExchangeJson> instanceClass = ApplicationJson.class;
         if (artifactJsonTypeElement != null) {
-            ArtifactType artifactType = ArtifactType.valueOf(artifactJsonTypeElement.getAsString());
-            instanceClass = artifactTypeRegistry.getOrDefault(artifactType, ApplicationJson.class);
+            instanceClass = getInstanceClass(artifactJsonTypeElement.getAsString());
         }
         return gson.fromJson(json, instanceClass);
     }
+
+    /**
+     * Reads an artifact from the JSON in the stream, as it is read, without holding its text or a tree of it in memory.
+     * The type of the artifact is found first by skipping through the top level fields up to artifactJsonType, which
+     * exports write first, reading ahead at most {@link #TYPE_LOOKAHEAD_LIMIT} bytes, which are kept to be read again
+     * as the artifact.
+     *
+     * @param inputStream : stream of the JSON, in UTF-8, which is left open
+     * @return the artifact, or null if the stream is empty
+     */
+    public ArtifactExchangeJson fromJson(InputStream inputStream) throws IOException {
+        BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream, BUFFER_SIZE);
+        bufferedInputStream.mark(TYPE_LOOKAHEAD_LIMIT);
+        InputStream lookahead = BoundedInputStream.builder()
+                .setInputStream(bufferedInputStream)
+                .setMaxCount(TYPE_LOOKAHEAD_LIMIT)
+                .setPropagateClose(false)
+                .get();
+        Class<? extends ArtifactExchangeJson> instanceClass =
+                readInstanceClass(new JsonReader(new InputStreamReader(lookahead, StandardCharsets.UTF_8)));
+
+        bufferedInputStream.reset();
+        // Lets the bytes read ahead be dropped once they have been read again
+        bufferedInputStream.mark(0);
+        return gson.fromJson(new InputStreamReader(bufferedInputStream, StandardCharsets.UTF_8), instanceClass);
+    }
+
+    private Class<? extends ArtifactExchangeJson> readInstanceClass(JsonReader reader) {
+        // As lenient as Gson is when reading the artifact
+        reader.setLenient(true);
+        try {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                return ApplicationJson.class;
+            }
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (FIELD_NAME.equals(reader.nextName()) && reader.peek() != JsonToken.NULL) {
+                    return getInstanceClass(reader.nextString());
+                }
+                reader.skipValue();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Not a valid JSON object, which reading it as the default artifact reports, or no type in the bytes read
+            // ahead
+        }
+        return ApplicationJson.class;
+    }
+
+    private Class<? extends ArtifactExchangeJson> getInstanceClass(String artifactJsonType) {
+        ArtifactType artifactType = ArtifactType.valueOf(artifactJsonType);
+        return artifactTypeRegistry.getOrDefault(artifactType, ApplicationJson.class);
+    }
 }
@@ -32,6 +32,12 @@ public class ApplicationSnapshot extends BaseDomain {
      */
     private int chunkOrder;
 
+    /**
+     * compression: algorithm the data of all the chunks was compressed with before being split into chunks, as in
+     * "zstd". Snapshots created before compression was introduced don't have it, their data is the plain JSON.
+     */
+    private String compression;
+
     /**
      * Adding this method as updatedAt field in BaseDomain is annotated with @JsonIgnore
      *
@@ -12,6 +12,7 @@ import java.time.Instant;
 public class DatasourcePluginContext<T> {
     private T connection;
     private String pluginId;
+    private String pluginPackageName;
     private Instant creationTime;
 
     public DatasourcePluginContext() {
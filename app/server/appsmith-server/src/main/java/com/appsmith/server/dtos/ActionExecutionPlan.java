@@ -0,0 +1,11 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.server.domains.Plugin;
+
+/**
+ * Everything that has to be read from the database before an action can be handed over to its plugin: the action as
+ * it is executed in the requested mode, the validated datasource storage for the environment, and the plugin.
+ */
+public record ActionExecutionPlan(ActionDTO actionDTO, DatasourceStorage datasourceStorage, Plugin plugin) {}
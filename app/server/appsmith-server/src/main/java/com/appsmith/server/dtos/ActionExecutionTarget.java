@@ -0,0 +1,8 @@
+package com.appsmith.server.dtos;
+
+/**
+ * What an execution request resolves to before its plan is loaded: the action, the workspace and application it
+ * belongs to, its datasource in the requested mode, and the true environment it is executed in.
+ */
+public record ActionExecutionTarget(
+        String actionId, String workspaceId, String applicationId, String datasourceId, String environmentId) {}
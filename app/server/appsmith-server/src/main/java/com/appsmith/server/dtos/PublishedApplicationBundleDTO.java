@@ -0,0 +1,32 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.server.domains.CustomJSLib;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Published data of an application that is materialized when the application is deployed, so that view mode page
+ * loads can be served from a single lookup. The bundle is shared by every viewer of the application, and keeps the
+ * permission groups of the resources it holds so that the data can be filtered for each viewer.
+ */
+@Getter
+@Setter
+public class PublishedApplicationBundleDTO {
+
+    // Version of the deployed application the bundle was built from
+    String version;
+
+    List<CustomJSLib> customJSLibraries;
+
+    List<ActionCollectionViewDTO> actionCollections;
+
+    // Serialized PublishedPageBundleDTO by branched page id, so that only the page being loaded is parsed
+    Map<String, String> pages;
+
+    // Permission groups that are granted each permission on the actions and action collections, by id
+    Map<String, Map<String, Set<String>>> permissionGroups;
+}
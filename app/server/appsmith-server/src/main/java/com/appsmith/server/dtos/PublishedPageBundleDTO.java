@@ -0,0 +1,23 @@
+package com.appsmith.server.dtos;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Published data of a page in a {@link PublishedApplicationBundleDTO}.
+ */
+@Getter
+@Setter
+public class PublishedPageBundleDTO {
+
+    PageDTO page;
+
+    List<ActionViewDTO> actions;
+
+    // Permission groups that are granted each permission on the page
+    Map<String, Set<String>> permissionGroups;
+}
@@ -15,6 +15,7 @@ import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.dtos.ProductAlertResponseDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.dtos.UserProfileDTO;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -82,4 +83,12 @@ public class ConsolidatedAPIResponseCE_DTO {
 
     /* v1/datasources/mock */
     ResponseDTO<List<MockDataSet>> mockDatasources;
+
+    /* Version of the published application data in the response, in view mode only */
+    @JsonIgnore
+    String publishedDataVersion;
+
+    /* ETag of the response, in view mode only, which is sent as a header */
+    @JsonIgnore
+    String etag;
 }
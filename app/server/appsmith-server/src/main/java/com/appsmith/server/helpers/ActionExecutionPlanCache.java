@@ -0,0 +1,374 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.dtos.ActionExecutionPlan;
+import com.appsmith.server.dtos.ActionExecutionTarget;
+import com.appsmith.server.services.PermissionGroupService;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Per pod cache of {@link ActionExecutionPlan}s, so that actions which are executed over and over again, like queries
+ * polled by an app every few seconds, do not read the action, datasource, datasource storage and plugin from the
+ * database on every execution. The {@link ActionExecutionTarget} an execution request resolves to, which is needed
+ * before the plan can be looked up, is cached alongside the plans.
+ * <p>
+ * Plans and targets are keyed by the action, the environment, the view mode and the permission groups of the user
+ * executing the action, so they are only ever served to users that were allowed to load them. They are versioned against the action,
+ * its datasource and its application: saving any of these on this pod invalidates the plans loaded before, which
+ * covers edits and publishing. Writes that skip the repository save, and writes made on other pods, are bounded by the
+ * short time to live of the plans.
+ * <p>
+ * Plugins substitute the parameters of an execution into the action and datasource configurations they are given, so
+ * the cache only keeps pristine copies and hands a fresh copy of the action and the datasource storage to every
+ * execution.
+ */
+@Component
+public class ActionExecutionPlanCache extends AbstractMongoEventListener<BaseDomain> {
+
+    // Queries made to load a plan for an action with a saved datasource: action, datasource, storage and plugin
+    private static final int QUERIES_PER_PLAN = 4;
+    // Queries made to load a plan for an action with an embedded datasource: action and plugin
+    private static final int QUERIES_PER_EMBEDDED_DATASOURCE_PLAN = 2;
+    // Queries made to resolve a target: the action. The environment is resolved without a query.
+    private static final int QUERIES_PER_TARGET = 1;
+
+    /*
+     * Types the copies may be read back as: the Appsmith models and the JDK collections and values they hold, so that a
+     * type id in a copied value can never make the mapper instantiate any other class.
+     */
+    private static final BasicPolymorphicTypeValidator COPY_TYPE_VALIDATOR = BasicPolymorphicTypeValidator.builder()
+            .allowIfSubType("com.appsmith.")
+            .allowIfSubType("java.util.")
+            .allowIfSubType("java.time.")
+            .allowIfSubType("java.math.")
+            .allowIfSubTypeIsArray()
+            .build();
+
+    private final PermissionGroupService permissionGroupService;
+    private final Duration timeToLive;
+    private final boolean enabled;
+
+    private final Cache<PlanKey, CachedPlan> plans;
+    private final Cache<PlanKey, CachedTarget> targets;
+
+    /*
+     * Version of every action, datasource and application saved recently, taken from a single counter. A plan is valid
+     * as long as none of the entities it was loaded from has been saved after the plan started loading. Versions are
+     * kept twice as long as plans live, which is enough since plans that took longer than that to load are not cached.
+     */
+    private final Cache<String, Long> versions;
+    private final AtomicLong versionCounter = new AtomicLong();
+
+    private final ObjectMapper copyMapper;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter targetHits;
+    private final Counter targetMisses;
+    private final Counter savedQueries;
+
+    public ActionExecutionPlanCache(
+            PermissionGroupService permissionGroupService,
+            MeterRegistry meterRegistry,
+            @Value("${appsmith.action.execution.plan-cache.ttl-seconds:5}") long timeToLiveSeconds,
+            @Value("${appsmith.action.execution.plan-cache.max-size:10000}") long maximumSize) {
+        this.permissionGroupService = permissionGroupService;
+        this.timeToLive = Duration.ofSeconds(Math.max(timeToLiveSeconds, 0));
+        this.enabled = timeToLiveSeconds > 0 && maximumSize > 0;
+
+        this.plans = CacheBuilder.newBuilder()
+                .maximumSize(Math.max(maximumSize, 0))
+                .expireAfterWrite(timeToLive)
+                .build();
+        this.targets = CacheBuilder.newBuilder()
+                .maximumSize(Math.max(maximumSize, 0))
+                .expireAfterWrite(timeToLive)
+                .build();
+        this.versions = CacheBuilder.newBuilder()
+                .expireAfterWrite(timeToLive.multipliedBy(2))
+                .build();
+
+        // Copies every field as is, without going through the JSON views and access rules of the domain classes,
+        // which hide fields like credentials from the API.
+        this.copyMapper = JsonMapper.builder()
+                .disable(MapperFeature.USE_ANNOTATIONS)
+                .visibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .activateDefaultTyping(COPY_TYPE_VALIDATOR, ObjectMapper.DefaultTyping.NON_FINAL)
+                .addModule(new JavaTimeModule())
+                .build();
+
+        this.hits = Counter.builder("appsmith.action.execution.plan.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("appsmith.action.execution.plan.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.targetHits = Counter.builder("appsmith.action.execution.target.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.targetMisses = Counter.builder("appsmith.action.execution.target.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.savedQueries = Counter.builder("appsmith.action.execution.plan.cache.saved.queries")
+                .description("Database queries not made because the execution plan or target was served from the cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the plan to execute the given action, from the cache when a valid one was loaded recently by a user with
+     * the same permission groups, or from the loader otherwise. Executions without a session user always go to the
+     * loader.
+     */
+    public Mono<ActionExecutionPlan> getOrLoad(
+            String actionId,
+            String environmentId,
+            boolean viewMode,
+            boolean operateWithoutPermission,
+            Supplier<Mono<ActionExecutionPlan>> loader) {
+        return getKey(actionId, environmentId, viewMode, operateWithoutPermission)
+                .flatMap(key -> {
+                    if (key.isEmpty()) {
+                        return Mono.defer(loader);
+                    }
+
+                    CachedPlan cachedPlan = getIfValid(key.get());
+                    if (cachedPlan != null) {
+                        hits.increment();
+                        savedQueries.increment(queriesPerPlan(cachedPlan.plan()));
+                        return Mono.just(copy(cachedPlan.plan()));
+                    }
+
+                    misses.increment();
+                    long loadStartedAt = System.nanoTime();
+                    long loadStartVersion = versionCounter.get();
+                    return Mono.defer(loader).doOnNext(plan -> put(key.get(), plan, loadStartVersion, loadStartedAt));
+                });
+    }
+
+    /**
+     * Returns the target the execution of the given action in the given environment resolves to, from the cache when a
+     * valid one was resolved recently by a user with the same permission groups, or from the resolver otherwise.
+     * Executions without a session user always go to the resolver.
+     */
+    public Mono<ActionExecutionTarget> getOrResolve(
+            String actionId,
+            String environmentId,
+            boolean viewMode,
+            boolean operateWithoutPermission,
+            Supplier<Mono<ActionExecutionTarget>> resolver) {
+        return getKey(actionId, environmentId, viewMode, operateWithoutPermission)
+                .flatMap(key -> {
+                    if (key.isEmpty()) {
+                        return Mono.defer(resolver);
+                    }
+
+                    CachedTarget cachedTarget = targets.getIfPresent(key.get());
+                    if (cachedTarget != null && isValid(cachedTarget)) {
+                        targetHits.increment();
+                        savedQueries.increment(QUERIES_PER_TARGET);
+                        return Mono.just(cachedTarget.target());
+                    }
+
+                    targetMisses.increment();
+                    long resolveStartedAt = System.nanoTime();
+                    long resolveStartVersion = versionCounter.get();
+                    return Mono.defer(resolver)
+                            .doOnNext(target -> put(key.get(), target, resolveStartVersion, resolveStartedAt));
+                });
+    }
+
+    /**
+     * Returns the key of the plan or target of the given execution, empty when the cache is disabled or there is no
+     * session user.
+     */
+    private Mono<Optional<PlanKey>> getKey(
+            String actionId, String environmentId, boolean viewMode, boolean operateWithoutPermission) {
+        if (!enabled || actionId == null) {
+            return Mono.just(Optional.empty());
+        }
+
+        return permissionGroupService
+                .getSessionUserPermissionGroupIds()
+                .map(permissionGroupIds -> Optional.of(new PlanKey(
+                        actionId, environmentId, viewMode, operateWithoutPermission, Set.copyOf(permissionGroupIds))))
+                .defaultIfEmpty(Optional.empty());
+    }
+
+    public void invalidateAction(String actionId) {
+        bumpVersion(actionId);
+    }
+
+    public void invalidateActions(Collection<String> actionIds) {
+        actionIds.forEach(this::bumpVersion);
+    }
+
+    public void invalidateDatasource(String datasourceId) {
+        bumpVersion(datasourceId);
+    }
+
+    public void invalidateApplication(String applicationId) {
+        bumpVersion(applicationId);
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<BaseDomain> event) {
+        invalidate(event.getSource());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<BaseDomain> event) {
+        // Deleted documents are only known by the query that deleted them, fall back to dropping all plans.
+        if (isPlanSource(event.getType())) {
+            plans.invalidateAll();
+            targets.invalidateAll();
+        }
+    }
+
+    private void invalidate(BaseDomain domain) {
+        if (domain instanceof NewAction || domain instanceof Datasource || domain instanceof Application) {
+            bumpVersion(domain.getId());
+        } else if (domain instanceof DatasourceStorage datasourceStorage) {
+            bumpVersion(datasourceStorage.getDatasourceId());
+        }
+    }
+
+    private static boolean isPlanSource(Class<?> type) {
+        return type != null
+                && (NewAction.class.isAssignableFrom(type)
+                        || Datasource.class.isAssignableFrom(type)
+                        || DatasourceStorage.class.isAssignableFrom(type)
+                        || Application.class.isAssignableFrom(type));
+    }
+
+    private void bumpVersion(String id) {
+        if (enabled && id != null) {
+            versions.put(id, versionCounter.incrementAndGet());
+        }
+    }
+
+    private long getVersion(String id) {
+        if (id == null) {
+            return 0;
+        }
+        Long version = versions.getIfPresent(id);
+        return version == null ? 0 : version;
+    }
+
+    private boolean isValid(CachedPlan cachedPlan) {
+        ActionDTO actionDTO = cachedPlan.plan().actionDTO();
+        return getVersion(actionDTO.getId()) <= cachedPlan.version()
+                && getVersion(cachedPlan.plan().datasourceStorage().getDatasourceId()) <= cachedPlan.version()
+                && getVersion(actionDTO.getApplicationId()) <= cachedPlan.version();
+    }
+
+    private boolean isValid(CachedTarget cachedTarget) {
+        ActionExecutionTarget target = cachedTarget.target();
+        return getVersion(target.actionId()) <= cachedTarget.version()
+                && getVersion(target.datasourceId()) <= cachedTarget.version()
+                && getVersion(target.applicationId()) <= cachedTarget.version();
+    }
+
+    private CachedPlan getIfValid(PlanKey key) {
+        CachedPlan cachedPlan = plans.getIfPresent(key);
+        if (cachedPlan == null) {
+            return null;
+        }
+        if (!isValid(cachedPlan)) {
+            plans.invalidate(key);
+            return null;
+        }
+        return cachedPlan;
+    }
+
+    private void put(PlanKey key, ActionExecutionPlan plan, long loadStartVersion, long loadStartedAt) {
+        if (Duration.ofNanos(System.nanoTime() - loadStartedAt).compareTo(timeToLive) > 0) {
+            return;
+        }
+
+        CachedPlan cachedPlan = new CachedPlan(copy(plan), loadStartVersion);
+        if (isValid(cachedPlan)) {
+            plans.put(key, cachedPlan);
+        }
+    }
+
+    private void put(PlanKey key, ActionExecutionTarget target, long resolveStartVersion, long resolveStartedAt) {
+        if (Duration.ofNanos(System.nanoTime() - resolveStartedAt).compareTo(timeToLive) > 0) {
+            return;
+        }
+
+        CachedTarget cachedTarget = new CachedTarget(target, resolveStartVersion);
+        if (isValid(cachedTarget)) {
+            targets.put(key, cachedTarget);
+        }
+    }
+
+    private static int queriesPerPlan(ActionExecutionPlan plan) {
+        return plan.datasourceStorage().getDatasourceId() == null
+                ? QUERIES_PER_EMBEDDED_DATASOURCE_PLAN
+                : QUERIES_PER_PLAN;
+    }
+
+    /**
+     * Deep copies the action and the datasource storage of the plan. The plugin is never modified by executions and is
+     * shared.
+     */
+    ActionExecutionPlan copy(ActionExecutionPlan plan) {
+        return new ActionExecutionPlan(
+                deepCopy(plan.actionDTO(), ActionDTO.class),
+                deepCopy(plan.datasourceStorage(), DatasourceStorage.class),
+                plan.plugin());
+    }
+
+    private <T> T deepCopy(T value, Class<T> type) {
+        try {
+            return copyMapper.readValue(copyMapper.writeValueAsBytes(value), type);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to copy " + type.getSimpleName() + " of the execution plan", e);
+        }
+    }
+
+    private record PlanKey(
+            String actionId,
+            String environmentId,
+            boolean viewMode,
+            boolean operateWithoutPermission,
+            Set<String> permissionGroupIds) {}
+
+    private record CachedPlan(ActionExecutionPlan plan, long version) {}
+
+    private record CachedTarget(ActionExecutionTarget target, long version) {}
+}
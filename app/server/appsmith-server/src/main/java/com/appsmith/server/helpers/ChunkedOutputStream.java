@@ -0,0 +1,78 @@
+package com.appsmith.server.helpers;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Stream that splits the bytes written to it into chunks of a maximum size, handing each chunk to the consumer once it
+ * is full, and the last one, which can be smaller, when the stream is closed. Only one chunk is held in memory at a
+ * time, so that large content can be stored as several documents without being held as a whole.
+ */
+public class ChunkedOutputStream extends OutputStream {
+
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+
+    private final int chunkSize;
+    private final Consumer<byte[]> chunkConsumer;
+    private byte[] chunk;
+    private int position;
+    private long count;
+    private boolean closed;
+
+    public ChunkedOutputStream(int chunkSize, Consumer<byte[]> chunkConsumer) {
+        this.chunkSize = chunkSize;
+        this.chunkConsumer = chunkConsumer;
+    }
+
+    @Override
+    public void write(int b) {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        while (length > 0) {
+            if (chunk == null) {
+                chunk = new byte[Math.min(chunkSize, INITIAL_CAPACITY)];
+            } else if (position == chunk.length) {
+                // Grow up to the chunk size, so that small content does not take a whole chunk
+                chunk = Arrays.copyOf(chunk, (int) Math.min(chunkSize, 2L * chunk.length));
+            }
+            int copied = Math.min(length, chunk.length - position);
+            System.arraycopy(bytes, offset, chunk, position, copied);
+            position += copied;
+            offset += copied;
+            length -= copied;
+            count += copied;
+            if (position == chunkSize) {
+                emit();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bytes written so far.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (position > 0) {
+            emit();
+        }
+    }
+
+    private void emit() {
+        byte[] full = position == chunkSize ? chunk : Arrays.copyOf(chunk, position);
+        chunk = null;
+        position = 0;
+        chunkConsumer.accept(full);
+    }
+}
@@ -8,19 +8,39 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 @Component
 @RequiredArgsConstructor
 public class DSLMigrationUtils {
 
     private final RTSCaller rtsCaller;
 
+    // The latest DSL version only changes when RTS is upgraded, which restarts it. It is forgotten whenever a call to
+    // RTS fails, so that the version of a restarted RTS is fetched again, and refreshed by the page DSL migration task.
+    private final AtomicReference<Integer> latestDslVersion = new AtomicReference<>();
+
     public Mono<Integer> getLatestDslVersion() {
+        Integer cachedDslVersion = latestDslVersion.get();
+        if (cachedDslVersion != null) {
+            return Mono.just(cachedDslVersion);
+        }
+        return refreshLatestDslVersion();
+    }
+
+    /**
+     * Fetches the latest DSL version from RTS, bypassing and then updating the cached version.
+     * @return The latest DSL version
+     */
+    public Mono<Integer> refreshLatestDslVersion() {
         ParameterizedTypeReference<ResponseDTO<DslVersionDTO>> parameterizedTypeReference =
                 new ParameterizedTypeReference<>() {};
         return rtsCaller
                 .get("/rts-api/v1/dsl/version")
                 .flatMap(spec -> spec.retrieve().bodyToMono(parameterizedTypeReference))
-                .map(responseDTO -> responseDTO.getData().getVersion());
+                .map(responseDTO -> responseDTO.getData().getVersion())
+                .doOnNext(latestDslVersion::set)
+                .doOnError(error -> latestDslVersion.set(null));
     }
 
     /**
@@ -35,6 +55,7 @@ public class DSLMigrationUtils {
         return rtsCaller
                 .post("/rts-api/v1/dsl/migrate", pageDsl)
                 .flatMap(spec -> spec.retrieve().bodyToMono(parameterizedTypeReference))
-                .map(responseDTO -> responseDTO.getData());
+                .map(responseDTO -> responseDTO.getData())
+                .doOnError(error -> latestDslVersion.set(null));
     }
 }
@@ -0,0 +1,151 @@
+package com.appsmith.server.helpers;
+
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Blocking stream of the bytes of a publisher of buffers, like the content of an uploaded file, which requests a few
+ * buffers at a time as they are read and releases each one once read, so that the content is never held in memory as a
+ * whole. Reading blocks until the next buffer arrives, so it must not be done on an event loop thread. Closing the
+ * stream before the end cancels the publisher and releases the buffers received but not read.
+ */
+public class DataBufferInputStream extends InputStream {
+
+    private static final Object COMPLETE = new Object();
+
+    private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+    private final BufferSubscriber subscriber;
+    private DataBuffer current;
+    private boolean done;
+
+    public DataBufferInputStream(Flux<DataBuffer> content, int prefetch) {
+        this.subscriber = new BufferSubscriber(prefetch);
+        content.subscribe(subscriber);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!nextReadableBuffer()) {
+            return -1;
+        }
+        return current.read() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!nextReadableBuffer()) {
+            return -1;
+        }
+        int count = Math.min(length, current.readableByteCount());
+        current.read(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return current == null ? 0 : current.readableByteCount();
+    }
+
+    /**
+     * Makes the current buffer one with bytes left to read, if there are any left, releasing the ones read.
+     */
+    private boolean nextReadableBuffer() throws IOException {
+        while (current == null || current.readableByteCount() == 0) {
+            releaseCurrent();
+            if (done) {
+                return false;
+            }
+
+            Object signal;
+            try {
+                signal = signals.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the content");
+            }
+
+            if (signal == COMPLETE) {
+                done = true;
+            } else if (signal instanceof Throwable error) {
+                done = true;
+                throw Exceptions.propagate(error);
+            } else {
+                current = (DataBuffer) signal;
+                subscriber.request(1);
+            }
+        }
+        return true;
+    }
+
+    private void releaseCurrent() {
+        if (current != null) {
+            DataBufferUtils.release(current);
+            current = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        releaseCurrent();
+        done = true;
+        subscriber.close();
+    }
+
+    private class BufferSubscriber extends BaseSubscriber<DataBuffer> {
+
+        private final int prefetch;
+        private boolean closed;
+
+        BufferSubscriber(int prefetch) {
+            this.prefetch = prefetch;
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            request(prefetch);
+        }
+
+        @Override
+        protected synchronized void hookOnNext(DataBuffer buffer) {
+            if (closed) {
+                DataBufferUtils.release(buffer);
+            } else {
+                signals.add(buffer);
+            }
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            signals.add(COMPLETE);
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            signals.add(throwable);
+        }
+
+        synchronized void close() {
+            closed = true;
+            dispose();
+            for (Object signal : signals) {
+                if (signal instanceof DataBuffer buffer) {
+                    DataBufferUtils.release(buffer);
+                }
+            }
+            signals.clear();
+        }
+    }
+}
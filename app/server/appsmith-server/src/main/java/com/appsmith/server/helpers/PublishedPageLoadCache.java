@@ -0,0 +1,197 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.external.views.Views;
+import com.appsmith.server.configurations.ProjectProperties;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.CustomJSLib;
+import com.appsmith.server.dtos.ActionCollectionViewDTO;
+import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.ConsolidatedAPIResponseDTO;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.dtos.ResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Per pod cache of the published application data returned by the consolidated API in view mode, that is the data of
+ * the deployed application which doesn't depend on anything but the deployment and on who is viewing it.
+ * <p>
+ * Data is cached by version, which is computed from what it depends on: the server version, the branched application
+ * and page, when the application was last deployed, its policies and the permission groups of the user. So data never
+ * needs to be invalidated, since deploying the application, sharing it, or changing the roles of the user all change
+ * the version. The current theme can be edited without a deployment, so it is left out and fetched on every request.
+ * The version also makes up the ETag of view mode responses, along with the content of the other sections of the
+ * response, so that clients can skip downloading responses they already have.
+ */
+@Slf4j
+@Component
+public class PublishedPageLoadCache {
+
+    public static final String HIT = "hit";
+    public static final String MISS = "miss";
+
+    private static final String PUBLISHED_PAGE_LOAD_CACHE_METRIC = "appsmith.consolidated.api.published.cache";
+
+    private final MeterRegistry meterRegistry;
+    private final ProjectProperties projectProperties;
+    private final ObjectWriter etagObjectWriter;
+    private final Cache<String, PublishedPageLoadData> publishedPageLoadData;
+
+    public PublishedPageLoadCache(
+            MeterRegistry meterRegistry,
+            ProjectProperties projectProperties,
+            ObjectMapper objectMapper,
+            @Value("${appsmith.consolidated-api.published-cache.max-size:200}") long maximumSize,
+            @Value("${appsmith.consolidated-api.published-cache.ttl-minutes:10}") long timeToLiveMinutes) {
+        this.meterRegistry = meterRegistry;
+        this.projectProperties = projectProperties;
+        // Sections are serialized as they are in responses, with map entries sorted so that equal sections always
+        // give the same ETag
+        this.etagObjectWriter =
+                objectMapper.writerWithView(Views.Public.class).with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        this.publishedPageLoadData = CacheBuilder.newBuilder()
+                .maximumSize(Math.max(maximumSize, 0))
+                .expireAfterAccess(Duration.ofMinutes(Math.max(timeToLiveMinutes, 0)))
+                .build();
+    }
+
+    /**
+     * Computes the version of the published data of the given page, as seen by a user with the given permission
+     * groups.
+     */
+    public String getVersion(
+            Application branchedApplication, String branchedPageId, Collection<String> permissionGroups) {
+        StringBuilder version = new StringBuilder()
+                .append(projectProperties.getVersion())
+                .append('\n')
+                .append(projectProperties.getCommitSha())
+                .append('\n')
+                .append(branchedApplication.getId())
+                .append('\n')
+                .append(branchedPageId)
+                .append('\n')
+                .append(branchedApplication.getLastDeployedAt())
+                .append('\n')
+                .append(getPoliciesVersion(branchedApplication.getPolicyMap()))
+                .append('\n')
+                .append(new TreeSet<>(permissionGroups));
+        return hash(version.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Describes who is granted each permission in the given policies, in a stable order.
+     */
+    public static String getPoliciesVersion(Map<String, Policy> policyMap) {
+        Map<String, TreeSet<String>> policies = new TreeMap<>();
+        if (policyMap != null) {
+            policyMap.forEach((permission, policy) -> policies.put(
+                    permission,
+                    policy.getPermissionGroups() == null
+                            ? new TreeSet<>()
+                            : new TreeSet<>(policy.getPermissionGroups())));
+        }
+        return policies.toString();
+    }
+
+    public PublishedPageLoadData get(String version) {
+        PublishedPageLoadData data = publishedPageLoadData.getIfPresent(version);
+        meterRegistry
+                .counter(PUBLISHED_PAGE_LOAD_CACHE_METRIC, "result", data == null ? MISS : HIT)
+                .increment();
+        return data;
+    }
+
+    public void put(String version, PublishedPageLoadData data) {
+        publishedPageLoadData.put(version, data);
+    }
+
+    /**
+     * Computes the ETag of a view mode response, from the version of its published data and from the content of its
+     * other sections.
+     * @return The ETag, or null if the response has no published data or a section is missing or has an error
+     */
+    public String getETag(String publishedDataVersion, List<ResponseDTO<?>> sections) {
+        if (publishedDataVersion == null || !isSuccessful(sections)) {
+            return null;
+        }
+        try {
+            byte[] content = etagObjectWriter.writeValueAsBytes(sections);
+            return hash((publishedDataVersion + "\n" + hash(content)).getBytes(StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            log.debug("Error while computing the ETag of a consolidated API response", e);
+            return null;
+        }
+    }
+
+    private static boolean isSuccessful(List<ResponseDTO<?>> sections) {
+        return sections.stream()
+                .allMatch(section -> section != null
+                        && section.getResponseMeta() != null
+                        && section.getResponseMeta().getStatus() == HttpStatus.OK.value());
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(messageDigest.digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Sections of the consolidated API response in view mode that only depend on the published application data.
+     */
+    public record PublishedPageLoadData(
+            ResponseDTO<List<CustomJSLib>> customJSLibraries,
+            ResponseDTO<PageDTO> pageWithMigratedDsl,
+            ResponseDTO<List<ActionViewDTO>> publishedActions,
+            ResponseDTO<List<ActionCollectionViewDTO>> publishedActionCollections) {
+
+        /**
+         * Takes the published application data of the response, if every section of it was fetched successfully.
+         */
+        public static PublishedPageLoadData from(ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO) {
+            PublishedPageLoadData data = new PublishedPageLoadData(
+                    consolidatedAPIResponseDTO.getCustomJSLibraries(),
+                    consolidatedAPIResponseDTO.getPageWithMigratedDsl(),
+                    consolidatedAPIResponseDTO.getPublishedActions(),
+                    consolidatedAPIResponseDTO.getPublishedActionCollections());
+            return isSuccessful(data.sections()) ? data : null;
+        }
+
+        public void copyTo(ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO) {
+            consolidatedAPIResponseDTO.setCustomJSLibraries(customJSLibraries);
+            consolidatedAPIResponseDTO.setPageWithMigratedDsl(pageWithMigratedDsl);
+            consolidatedAPIResponseDTO.setPublishedActions(publishedActions);
+            consolidatedAPIResponseDTO.setPublishedActionCollections(publishedActionCollections);
+        }
+
+        private List<ResponseDTO<?>> sections() {
+            return Arrays.asList(customJSLibraries, pageWithMigratedDsl, publishedActions, publishedActionCollections);
+        }
+    }
+}
@@ -22,6 +22,10 @@ public class RedisUtils {
     private static final String AUTO_COMMIT_KEY_FORMAT = "autocommit_%s";
     private static final String AUTO_COMMIT_PROGRESS_KEY_FORMAT = "autocommit_progress_%s";
 
+    private static final String PAGE_DSL_MIGRATION_KEY = "page_dsl_migration";
+
+    private static final String PUBLISHED_BUNDLE_REBUILD_KEY_FORMAT = "published_bundle_rebuild_%s";
+
     private static final Duration FILE_LOCK_TIME_LIMIT = Duration.ofSeconds(120);
 
     private static final Duration AUTO_COMMIT_TIME_LIMIT = Duration.ofMinutes(3);
@@ -82,6 +86,33 @@ public class RedisUtils {
         return redisOperations.opsForValue().delete(key);
     }
 
+    /**
+     * Marks the page DSL migration as running, unless it is already running on another instance.
+     * @return true if the migration was marked as running by this call
+     */
+    public Mono<Boolean> startPageDslMigration(Duration timeLimit) {
+        return redisOperations.opsForValue().setIfAbsent(PAGE_DSL_MIGRATION_KEY, REDIS_FILE_LOCK_VALUE, timeLimit);
+    }
+
+    public Mono<Boolean> finishPageDslMigration() {
+        return redisOperations.opsForValue().delete(PAGE_DSL_MIGRATION_KEY);
+    }
+
+    /**
+     * Marks the published bundle of the application as being rebuilt, unless it is already being rebuilt on another
+     * instance.
+     * @return true if the rebuild was marked as running by this call
+     */
+    public Mono<Boolean> startPublishedApplicationBundleRebuild(String branchedApplicationId, Duration timeLimit) {
+        String key = String.format(PUBLISHED_BUNDLE_REBUILD_KEY_FORMAT, branchedApplicationId);
+        return redisOperations.opsForValue().setIfAbsent(key, REDIS_FILE_LOCK_VALUE, timeLimit);
+    }
+
+    public Mono<Boolean> finishPublishedApplicationBundleRebuild(String branchedApplicationId) {
+        String key = String.format(PUBLISHED_BUNDLE_REBUILD_KEY_FORMAT, branchedApplicationId);
+        return redisOperations.opsForValue().delete(key);
+    }
+
     public Mono<String> getRunningAutoCommitBranchName(String defaultApplicationId) {
         String key = String.format(AUTO_COMMIT_KEY_FORMAT, defaultApplicationId);
         return redisOperations.hasKey(key).flatMap(hasKey -> {
@@ -1,8 +1,10 @@
 package com.appsmith.server.helpers;
 
+import com.appsmith.external.models.TabularBody;
 import com.appsmith.external.models.WidgetSuggestionDTO;
 import com.appsmith.external.models.WidgetType;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 import lombok.Getter;
@@ -19,6 +21,8 @@ import java.util.Set;
 @Slf4j
 public class WidgetSuggestionHelper {
 
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -39,6 +43,8 @@ public class WidgetSuggestionHelper {
 
         if (data instanceof ArrayNode) {
             widgetTypeList = handleArrayNode((ArrayNode) data);
+        } else if (data instanceof TabularBody) {
+            widgetTypeList = handleTabularBody((TabularBody) data);
         } else if (data instanceof JsonNode) {
             widgetTypeList = handleJsonNode((JsonNode) data);
         } else if (data instanceof List && !((List) data).isEmpty()) {
@@ -70,6 +76,20 @@ public class WidgetSuggestionHelper {
         return new ArrayList<>();
     }
 
+    /**
+     * A table is suggested the same widgets as the array of objects it is serialized to, which only depends on the
+     * types of the values of its first row.
+     */
+    private static List<WidgetSuggestionDTO> handleTabularBody(TabularBody tabularBody) {
+        if (tabularBody.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        JsonNode firstRow = objectMapper.valueToTree(tabularBody.getRow(0));
+        DataFields dataFields = collectFieldsFromData(firstRow.fields());
+        return getWidgetsForTypeArray(dataFields.getFields(), dataFields.getNumericFields());
+    }
+
     private static List<WidgetSuggestionDTO> handleJsonNode(JsonNode node) {
         List<WidgetSuggestionDTO> widgetTypeList = new ArrayList<>();
         if (node.isEmpty()) {
@@ -34,6 +34,7 @@ import com.appsmith.server.dtos.LayoutExecutableUpdateDTO;
 import com.appsmith.server.dtos.PluginTypeAndCountDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.newactions.helpers.NewActionHelper;
 import com.appsmith.server.newpages.base.NewPageService;
@@ -118,6 +119,7 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
     protected final ActionPermission actionPermission;
     private final EntityValidationService entityValidationService;
     private final ObservationRegistry observationRegistry;
+    private final ActionExecutionPlanCache actionExecutionPlanCache;
     private final Map<String, Plugin> defaultPluginMap = new HashMap<>();
     private final AtomicReference<Plugin> jsTypePluginReference = new AtomicReference<>();
 
@@ -140,7 +142,8 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
             PagePermission pagePermission,
             ActionPermission actionPermission,
             EntityValidationService entityValidationService,
-            ObservationRegistry observationRegistry) {
+            ObservationRegistry observationRegistry,
+            ActionExecutionPlanCache actionExecutionPlanCache) {
 
         super(validator, repository, analyticsService);
         this.repository = repository;
@@ -155,6 +158,7 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
         this.newActionHelper = newActionHelper;
         this.entityValidationService = entityValidationService;
         this.observationRegistry = observationRegistry;
+        this.actionExecutionPlanCache = actionExecutionPlanCache;
         this.configService = configService;
         this.datasourcePermission = datasourcePermission;
         this.applicationPermission = applicationPermission;
@@ -442,7 +446,10 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
         return Flux.fromIterable(newActionList)
                 .flatMap(newAction -> validateAction(newAction, true))
                 .collectList()
-                .flatMap(repository::bulkUpdate);
+                .flatMap(actions -> repository
+                        .bulkUpdate(actions)
+                        .then(Mono.fromRunnable(() -> actionExecutionPlanCache.invalidateActions(
+                                actions.stream().map(NewAction::getId).toList()))));
     }
 
     protected boolean isValidActionName(ActionDTO action) {
@@ -1650,7 +1657,10 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
                     return newAction;
                 })
                 .collectList()
-                .flatMap(actions -> repository.bulkUpdate(actions))
+                .flatMap(actions -> repository
+                        .bulkUpdate(actions)
+                        .then(Mono.fromRunnable(() -> actionExecutionPlanCache.invalidateActions(
+                                actions.stream().map(NewAction::getId).toList()))))
                 .thenReturn(mapsDTO);
     }
 
@@ -1669,7 +1679,9 @@ public class NewActionServiceCEImpl extends BaseService<NewActionRepository, New
         return repository
                 .archiveDeletedUnpublishedActions(applicationId, permission)
                 // copy the unpublished action dto to published action dto
-                .then(repository.publishActions(applicationId, permission));
+                .then(repository.publishActions(applicationId, permission))
+                // the published actions are updated in bulk, drop the execution plans of the whole application
+                .then(Mono.fromRunnable(() -> actionExecutionPlanCache.invalidateApplication(applicationId)));
     }
 
     @Override
@@ -3,6 +3,7 @@ package com.appsmith.server.newactions.base;
 import com.appsmith.server.acl.PolicyGenerator;
 import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.datasources.base.DatasourceService;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.newactions.helpers.NewActionHelper;
 import com.appsmith.server.newpages.base.NewPageService;
@@ -45,7 +46,8 @@ public class NewActionServiceImpl extends NewActionServiceCEImpl implements NewA
             PagePermission pagePermission,
             ActionPermission actionPermission,
             EntityValidationService entityValidationService,
-            ObservationRegistry observationRegistry) {
+            ObservationRegistry observationRegistry,
+            ActionExecutionPlanCache actionExecutionPlanCache) {
         super(
                 validator,
                 repository,
@@ -65,6 +67,7 @@ public class NewActionServiceImpl extends NewActionServiceCEImpl implements NewA
                 pagePermission,
                 actionPermission,
                 entityValidationService,
-                observationRegistry);
+                observationRegistry,
+                actionExecutionPlanCache);
     }
 }
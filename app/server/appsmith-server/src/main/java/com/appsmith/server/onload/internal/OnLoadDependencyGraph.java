@@ -0,0 +1,146 @@
+package com.appsmith.server.onload.internal;
+
+import com.appsmith.external.models.EntityReferenceType;
+import com.appsmith.external.models.Executable;
+import com.appsmith.server.domains.ExecutableDependencyEdge;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Dependency graph of the executables and widgets of a page, as computed by {@link OnLoadExecutablesUtilCEImpl} the last
+ * time the on load executables of the page were found, along with everything the graph was computed from.
+ * <p>
+ * When a layout update changes none of these inputs, which is the case when widgets are only moved or resized, the
+ * schedule of the graph is served as is. Otherwise, the relationships between widgets are only computed again for the
+ * widget paths whose bindings changed.
+ */
+@Getter
+public class OnLoadDependencyGraph {
+
+    private final int evaluatedVersion;
+    private final Set<String> widgetNames;
+    private final Map<String, Set<String>> widgetDynamicBindings;
+
+    // Edges between a widget path and the widget properties referred to in its bindings, by widget path
+    private final Map<String, Set<ExecutableDependencyEdge>> widgetRelationshipEdges;
+
+    // State of every executable of the page, by id
+    private final Map<String, ExecutableState> executableStates;
+
+    // Bindings of the executables walked while computing the graph, by executable name and then by path
+    private final Map<String, Map<String, Set<String>>> walkedExecutableBindings;
+
+    private final Set<ExecutableDependencyEdge> edges;
+    private final Set<String> executablesUsedInDsl;
+    private final Set<String> onLoadExecutableNames;
+    private final List<Set<String>> onLoadSchedule;
+
+    public OnLoadDependencyGraph(
+            int evaluatedVersion,
+            Set<String> widgetNames,
+            Map<String, Set<String>> widgetDynamicBindings,
+            Map<String, Set<ExecutableDependencyEdge>> widgetRelationshipEdges,
+            Collection<Executable> executables,
+            Map<String, Map<String, Set<String>>> walkedExecutableBindings,
+            Set<ExecutableDependencyEdge> edges,
+            Set<String> executablesUsedInDsl,
+            Set<String> onLoadExecutableNames,
+            List<Set<String>> onLoadSchedule) {
+        this.evaluatedVersion = evaluatedVersion;
+        this.widgetNames = new HashSet<>(widgetNames);
+        this.widgetDynamicBindings = copyOf(widgetDynamicBindings);
+        this.widgetRelationshipEdges = new HashMap<>(widgetRelationshipEdges);
+        this.executableStates = getExecutableStates(executables);
+        this.walkedExecutableBindings = new HashMap<>(walkedExecutableBindings);
+        this.edges = new HashSet<>(edges);
+        this.executablesUsedInDsl = new HashSet<>(executablesUsedInDsl);
+        this.onLoadExecutableNames = new HashSet<>(onLoadExecutableNames);
+        this.onLoadSchedule = copyOf(onLoadSchedule);
+    }
+
+    /**
+     * Checks whether the graph was computed from the same widgets, widget bindings and executables. The bindings of the
+     * executables walked are not checked here, since finding them requires the self referencing paths of executables.
+     */
+    public boolean hasSameInputs(
+            int evaluatedVersion,
+            Set<String> widgetNames,
+            Map<String, Set<String>> widgetDynamicBindings,
+            Collection<Executable> executables) {
+        return this.evaluatedVersion == evaluatedVersion
+                && this.widgetNames.equals(widgetNames)
+                && this.widgetDynamicBindings.equals(widgetDynamicBindings)
+                && this.executableStates.equals(getExecutableStates(executables));
+    }
+
+    /**
+     * Returns the relationships found for the given widget path when its bindings are the same as when the graph was
+     * computed, or null if they have to be found again.
+     */
+    public Set<ExecutableDependencyEdge> getWidgetRelationshipEdges(
+            int evaluatedVersion, String widgetPath, Set<String> bindings) {
+        if (this.evaluatedVersion != evaluatedVersion
+                || !Objects.equals(this.widgetDynamicBindings.get(widgetPath), bindings)) {
+            return null;
+        }
+        return widgetRelationshipEdges.get(widgetPath);
+    }
+
+    /**
+     * Returns a copy of the schedule, which callers are free to modify.
+     */
+    public List<Set<String>> copyOnLoadSchedule() {
+        return copyOf(onLoadSchedule);
+    }
+
+    private static Map<String, ExecutableState> getExecutableStates(Collection<Executable> executables) {
+        Map<String, ExecutableState> executableStates = new HashMap<>();
+        // Executables are listed once for every name they can be referred to with
+        for (Executable executable : executables) {
+            executableStates.putIfAbsent(executable.getId(), ExecutableState.of(executable));
+        }
+        return executableStates;
+    }
+
+    private static Map<String, Set<String>> copyOf(Map<String, Set<String>> map) {
+        Map<String, Set<String>> copy = new HashMap<>();
+        map.forEach((key, values) -> copy.put(key, values == null ? null : new HashSet<>(values)));
+        return copy;
+    }
+
+    private static List<Set<String>> copyOf(List<Set<String>> list) {
+        List<Set<String>> copy = new ArrayList<>();
+        list.forEach(values -> copy.add(new HashSet<>(values)));
+        return copy;
+    }
+
+    /**
+     * What the graph depends on in an executable, apart from its bindings.
+     */
+    record ExecutableState(
+            Set<String> names,
+            EntityReferenceType entityReferenceType,
+            String configurationPath,
+            Boolean executeOnLoad,
+            Boolean userSetOnLoad,
+            boolean deleted) {
+
+        static ExecutableState of(Executable executable) {
+            return new ExecutableState(
+                    new HashSet<>(executable.getExecutableNames()),
+                    executable.getEntityReferenceType(),
+                    executable.getConfigurationPath(),
+                    executable.getExecuteOnLoad(),
+                    executable.getUserSetOnLoad(),
+                    executable.getDeletedAt() != null);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.appsmith.server.onload.internal;
+
+import com.appsmith.external.models.CreatorContextType;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Per pod cache of the last {@link OnLoadDependencyGraph} computed for each page, so that layout updates which change
+ * neither the bindings nor the executables of a page do not compute its dependency graph all over again.
+ * <p>
+ * Graphs are never trusted as is: every layout update fetches the executables of the page and checks them, along with
+ * the widgets and their bindings, against the inputs of the graph. So graphs need no invalidation when executables
+ * are updated, on this pod or on any other.
+ */
+@Component
+public class OnLoadDependencyGraphCache {
+
+    public static final String HIT = "hit";
+    public static final String CHANGED = "changed";
+    public static final String MISS = "miss";
+
+    private static final String GRAPH_CACHE_METRIC = "appsmith.onload.dependency.graph.cache";
+
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, OnLoadDependencyGraph> graphs;
+
+    public OnLoadDependencyGraphCache(
+            MeterRegistry meterRegistry,
+            @Value("${appsmith.onload.dependency-graph-cache.max-size:500}") long maximumSize,
+            @Value("${appsmith.onload.dependency-graph-cache.ttl-minutes:30}") long timeToLiveMinutes) {
+        this.meterRegistry = meterRegistry;
+        this.graphs = CacheBuilder.newBuilder()
+                .maximumSize(Math.max(maximumSize, 0))
+                .expireAfterAccess(Duration.ofMinutes(Math.max(timeToLiveMinutes, 0)))
+                .build();
+    }
+
+    public OnLoadDependencyGraph get(String creatorId, CreatorContextType creatorType) {
+        if (creatorId == null) {
+            return null;
+        }
+        return graphs.getIfPresent(getKey(creatorId, creatorType));
+    }
+
+    public void put(String creatorId, CreatorContextType creatorType, OnLoadDependencyGraph graph) {
+        if (creatorId == null) {
+            return;
+        }
+        graphs.put(getKey(creatorId, creatorType), graph);
+    }
+
+    /**
+     * Counts whether the graph of a page was served from the cache, computed again because its inputs changed, or
+     * computed for the first time on this pod.
+     */
+    public void recordLookup(String result) {
+        meterRegistry.counter(GRAPH_CACHE_METRIC, "result", result).increment();
+    }
+
+    private static String getKey(String creatorId, CreatorContextType creatorType) {
+        return creatorType + ":" + creatorId;
+    }
+}
@@ -88,6 +88,7 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
     private final Set<String> APPSMITH_GLOBAL_VARIABLES = Set.of();
     private final ObservationRegistry observationRegistry;
     private final ObservationHelperImpl observationHelper;
+    private final OnLoadDependencyGraphCache onLoadDependencyGraphCache;
 
     /**
      * This function computes the sequenced on page load executables.
@@ -122,19 +123,6 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
             CreatorContextType creatorType) {
 
         Set<String> onLoadExecutableSetRef = new HashSet<>();
-        Set<String> explicitUserSetOnLoadExecutablesRef = new HashSet<>();
-        Set<String> bindingsFromExecutablesRef = ConcurrentHashMap.newKeySet();
-
-        // Function `extractAndSetExecutableBindingsInGraphEdges` updates this map to keep a track of all the
-        // executables which have been discovered while walking the executables to ensure that we don't end up in a
-        // recursive infinite loop
-        // in case of a cyclical relationship between executables (and not specific paths) and helps us exit at the
-        // appropriate junction.
-        // e.g : Consider the following relationships :
-        // Api1.actionConfiguration.body <- Api2.data.users[0].name
-        // Api2.actionConfiguration.url <- Api1.actionConfiguration.url
-        // In the above case, the two executables depend on each other without there being a real cyclical dependency.
-        Map<String, EntityDependencyNode> executablesFoundDuringWalkRef = new HashMap<>();
 
         Flux<Executable> allExecutablesByCreatorIdFlux = getAllExecutablesByCreatorIdFlux(creatorId, creatorType);
 
@@ -150,6 +138,105 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
                 .tap(Micrometer.observation(observationRegistry))
                 .cache();
 
+        OnLoadDependencyGraph previousGraph = onLoadDependencyGraphCache.get(creatorId, creatorType);
+
+        // Most layout updates come from widgets being moved around, which changes neither the bindings nor the
+        // executables of the page. The schedule computed for the page the last time is still valid in that case.
+        Mono<List<Set<String>>> computeOnPageLoadScheduleNamesMono = executableNameToExecutableMapMono
+                .flatMap(executableNameToExecutableMap -> isDependencyGraphUnchanged(
+                        previousGraph,
+                        evaluatedVersion,
+                        widgetNames,
+                        widgetDynamicBindingsMap,
+                        executableNameToExecutableMap))
+                .flatMap(isUnchanged -> {
+                    if (TRUE.equals(isUnchanged)) {
+                        onLoadDependencyGraphCache.recordLookup(OnLoadDependencyGraphCache.HIT);
+                        edgesRef.addAll(previousGraph.getEdges());
+                        executablesUsedInDSLRef.addAll(previousGraph.getExecutablesUsedInDsl());
+                        onLoadExecutableSetRef.addAll(previousGraph.getOnLoadExecutableNames());
+                        return Mono.just(previousGraph.copyOnLoadSchedule());
+                    }
+
+                    onLoadDependencyGraphCache.recordLookup(
+                            previousGraph == null
+                                    ? OnLoadDependencyGraphCache.MISS
+                                    : OnLoadDependencyGraphCache.CHANGED);
+                    return computeOnPageLoadScheduleNames(
+                            creatorId,
+                            evaluatedVersion,
+                            widgetNames,
+                            edgesRef,
+                            widgetDynamicBindingsMap,
+                            executablesUsedInDSLRef,
+                            creatorType,
+                            onLoadExecutableSetRef,
+                            allExecutablesByCreatorIdFlux,
+                            executableNameToExecutableMapMono,
+                            previousGraph);
+                });
+
+        // Transform the schedule order into client feasible DTO
+        Mono<List<Set<DslExecutableDTO>>> computeCompletePageLoadExecutableScheduleMono =
+                filterAndTransformSchedulingOrderToDTO(
+                                onLoadExecutableSetRef,
+                                executableNameToExecutableMapMono,
+                                computeOnPageLoadScheduleNamesMono)
+                        .name(FILTER_AND_TRANSFORM_SCHEDULING_ORDER_TO_DTO)
+                        .tap(Micrometer.observation(observationRegistry))
+                        .cache();
+
+        // With the final on page load scheduling order, also set the on page load executables which would be updated
+        // by the caller function
+        Mono<List<Executable>> flatPageLoadExecutablesMono = computeCompletePageLoadExecutableScheduleMono
+                .then(executableNameToExecutableMapMono)
+                .map(executableMap -> {
+                    onLoadExecutableSetRef.stream()
+                            .forEach(executableName ->
+                                    flatPageLoadExecutablesRef.add(executableMap.get(executableName)));
+                    return flatPageLoadExecutablesRef;
+                });
+
+        return flatPageLoadExecutablesMono.then(computeCompletePageLoadExecutableScheduleMono);
+    }
+
+    /**
+     * Computes the dependency graph of the page, and the sequenced on page load executables from it, as described in
+     * {@link #findAllOnLoadExecutables}. Relationships between widgets are taken from the previous graph of the page for
+     * the widget paths whose bindings did not change, and the graph computed is kept for the next layout update.
+     *
+     * @param previousGraph : The graph computed the last time for the page, if any
+     * @return Returns the names of the page load executables, in the order in which they would be executed
+     */
+    private Mono<List<Set<String>>> computeOnPageLoadScheduleNames(
+            String creatorId,
+            Integer evaluatedVersion,
+            Set<String> widgetNames,
+            Set<ExecutableDependencyEdge> edgesRef,
+            Map<String, Set<String>> widgetDynamicBindingsMap,
+            Set<String> executablesUsedInDSLRef,
+            CreatorContextType creatorType,
+            Set<String> onLoadExecutableSetRef,
+            Flux<Executable> allExecutablesByCreatorIdFlux,
+            Mono<Map<String, Executable>> executableNameToExecutableMapMono,
+            OnLoadDependencyGraph previousGraph) {
+
+        Set<String> explicitUserSetOnLoadExecutablesRef = new HashSet<>();
+        Set<String> bindingsFromExecutablesRef = ConcurrentHashMap.newKeySet();
+
+        // Function `extractAndSetExecutableBindingsInGraphEdges` updates this map to keep a track of all the
+        // executables which have been discovered while walking the executables to ensure that we don't end up in a
+        // recursive infinite loop
+        // in case of a cyclical relationship between executables (and not specific paths) and helps us exit at the
+        // appropriate junction.
+        // e.g : Consider the following relationships :
+        // Api1.actionConfiguration.body <- Api2.data.users[0].name
+        // Api2.actionConfiguration.url <- Api1.actionConfiguration.url
+        // In the above case, the two executables depend on each other without there being a real cyclical dependency.
+        Map<String, EntityDependencyNode> executablesFoundDuringWalkRef = new HashMap<>();
+
+        Map<String, Set<ExecutableDependencyEdge>> widgetRelationshipEdgesRef = new ConcurrentHashMap<>();
+
         Mono<Set<String>> executablesInCreatorContextMono = allExecutablesByCreatorIdFlux
                 .flatMapIterable(Executable::getExecutableNames)
                 .collect(Collectors.toSet())
@@ -203,7 +290,12 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
                 .zipWith(executablesInCreatorContextMono)
                 .flatMap(tuple -> {
                     Set<ExecutableDependencyEdge> updatedEdges = tuple.getT1();
-                    return addWidgetRelationshipToGraph(updatedEdges, widgetDynamicBindingsMap, evaluatedVersion)
+                    return addWidgetRelationshipToGraph(
+                                    updatedEdges,
+                                    widgetDynamicBindingsMap,
+                                    evaluatedVersion,
+                                    previousGraph,
+                                    widgetRelationshipEdgesRef)
                             .name(ADD_WIDGET_RELATIONSHIP_TO_GRAPH)
                             .tap(Micrometer.observation(observationRegistry));
                 });
@@ -267,28 +359,34 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
                     return onPageLoadExecutablesSchedulingOrder;
                 });
 
-        // Transform the schedule order into client feasible DTO
-        Mono<List<Set<DslExecutableDTO>>> computeCompletePageLoadExecutableScheduleMono =
-                filterAndTransformSchedulingOrderToDTO(
-                                onLoadExecutableSetRef,
-                                executableNameToExecutableMapMono,
-                                computeOnPageLoadScheduleNamesMono)
-                        .name(FILTER_AND_TRANSFORM_SCHEDULING_ORDER_TO_DTO)
-                        .tap(Micrometer.observation(observationRegistry))
-                        .cache();
+        // Keep the graph, and what it was computed from, for the next layout update of the page
+        return computeOnPageLoadScheduleNamesMono
+                .zipWith(executableNameToExecutableMapMono)
+                .map(tuple -> {
+                    List<Set<String>> onPageLoadExecutablesSchedulingOrder = tuple.getT1();
+                    Map<String, Executable> executableNameToExecutableMap = tuple.getT2();
+
+                    Map<String, Map<String, Set<String>>> walkedExecutableBindings = new HashMap<>();
+                    executablesFoundDuringWalkRef.forEach((name, entityDependencyNode) -> walkedExecutableBindings.put(
+                            name, getExecutableBindingsMap(entityDependencyNode.getExecutable())));
+
+                    onLoadDependencyGraphCache.put(
+                            creatorId,
+                            creatorType,
+                            new OnLoadDependencyGraph(
+                                    evaluatedVersion,
+                                    widgetNames,
+                                    widgetDynamicBindingsMap,
+                                    widgetRelationshipEdgesRef,
+                                    executableNameToExecutableMap.values(),
+                                    walkedExecutableBindings,
+                                    edgesRef,
+                                    executablesUsedInDSLRef,
+                                    onLoadExecutableSetRef,
+                                    onPageLoadExecutablesSchedulingOrder));
 
-        // With the final on page load scheduling order, also set the on page load executables which would be updated
-        // by the caller function
-        Mono<List<Executable>> flatPageLoadExecutablesMono = computeCompletePageLoadExecutableScheduleMono
-                .then(executableNameToExecutableMapMono)
-                .map(executableMap -> {
-                    onLoadExecutableSetRef.stream()
-                            .forEach(executableName ->
-                                    flatPageLoadExecutablesRef.add(executableMap.get(executableName)));
-                    return flatPageLoadExecutablesRef;
+                    return onPageLoadExecutablesSchedulingOrder;
                 });
-
-        return createGraphMono.then(flatPageLoadExecutablesMono).then(computeCompletePageLoadExecutableScheduleMono);
     }
 
     @Override
@@ -815,6 +913,9 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
 
         Set<ExecutableDependencyEdge> implicitParentChildEdges = new HashSet<>();
 
+        // Most vertices are shared by many edges, so whether a vertex is valid is only found once
+        Map<String, Boolean> validVertices = new HashMap<>();
+
         // Remove any edge which contains an unknown entity - aka neither a known executable nor a known widget
         // Note : appsmith world objects like `appsmith` would also count as an unknown here.
         // TODO : Handle the above global variables provided by appsmith in the following filtering.
@@ -838,19 +939,22 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
                     // Assert that the vertices which are entire property paths have a possible parent which is either
                     // an executable or a widget or a static variable provided by appsmith at page/application level.
                     for (String vertex : vertices) {
-                        Optional<String> validEntity = getPossibleParents(vertex).stream()
-                                .filter(parent -> {
-                                    if (!executableNames.contains(parent)
-                                            && !widgetNames.contains(parent)
-                                            && !APPSMITH_GLOBAL_VARIABLES.contains(parent)) {
-                                        return false;
-                                    }
-                                    return true;
-                                })
-                                .findFirst();
+                        boolean isValidVertex = validVertices.computeIfAbsent(vertex, key -> {
+                            Optional<String> validEntity = getPossibleParents(key).stream()
+                                    .filter(parent -> {
+                                        if (!executableNames.contains(parent)
+                                                && !widgetNames.contains(parent)
+                                                && !APPSMITH_GLOBAL_VARIABLES.contains(parent)) {
+                                            return false;
+                                        }
+                                        return true;
+                                    })
+                                    .findFirst();
+                            return validEntity.isPresent();
+                        });
                         // If any of the generated entity names from the path are valid appsmith entity name,
                         // the vertex is considered valid
-                        if (!validEntity.isPresent()) {
+                        if (!isValidVertex) {
                             isValidEdge = FALSE;
                             break;
                         }
@@ -870,7 +974,8 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
         edges.addAll(executableDataFromConfigurationEdges);
 
         // Now add the relationship aka when a child gets updated, the parent should get updated as well. Aka
-        // parent depends on the child.
+        // parent depends on the child. The relationships of a path are the same for all the edges it is a vertex of.
+        Set<String> verticesWithParentRelationships = new HashSet<>();
         for (ExecutableDependencyEdge edge : edges) {
             EntityDependencyNode source = edge.getSourceNode();
             EntityDependencyNode target = edge.getTargetNode();
@@ -878,6 +983,7 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
             Set<EntityDependencyNode> edgeVertices = Set.of(source, target);
 
             edgeVertices.stream()
+                    .filter(vertex -> verticesWithParentRelationships.add(vertex.getReferenceString()))
                     .forEach(vertex -> implicitParentChildEdges.addAll(generateParentChildRelationships(vertex)));
         }
 
@@ -1212,41 +1318,105 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
      *
      * @param edges
      * @param widgetBindingMap
+     * @param previousGraph              : The graph computed the last time for the page, if any
+     * @param widgetRelationshipEdgesRef : Map where this function adds the relationships found, by widget path
      * @return
      */
     private Mono<Set<ExecutableDependencyEdge>> addWidgetRelationshipToGraph(
-            Set<ExecutableDependencyEdge> edges, Map<String, Set<String>> widgetBindingMap, int evalVersion) {
+            Set<ExecutableDependencyEdge> edges,
+            Map<String, Set<String>> widgetBindingMap,
+            int evalVersion,
+            OnLoadDependencyGraph previousGraph,
+            Map<String, Set<ExecutableDependencyEdge>> widgetRelationshipEdgesRef) {
         final int entityTypes = WIDGET_ENTITY_REFERENCES;
         // This part will ensure that we are discovering widget to widget relationships.
         return Flux.fromIterable(widgetBindingMap.entrySet())
-                .flatMap(widgetBindingEntries -> getPossibleEntityParentsMap(
-                                new ArrayList<>(widgetBindingEntries.getValue()), entityTypes, evalVersion)
-                        .map(possibleParentsMap -> {
-                            possibleParentsMap.entrySet().stream().forEach(entry -> {
-                                if (entry.getValue() == null || entry.getValue().isEmpty()) {
-                                    return;
-                                }
-                                String widgetPath =
-                                        widgetBindingEntries.getKey().trim();
-                                String[] widgetPathParts = widgetPath.split("\\.");
-                                String widgetName = widgetPath;
-                                if (widgetPathParts.length > 0) {
-                                    widgetName = widgetPathParts[0];
-                                }
-                                EntityDependencyNode entityDependencyNode = new EntityDependencyNode(
-                                        EntityReferenceType.WIDGET, widgetName, widgetPath, null, null);
-                                entry.getValue().stream().forEach(widgetDependencyNode -> {
-                                    ExecutableDependencyEdge edge =
-                                            new ExecutableDependencyEdge(widgetDependencyNode, entityDependencyNode);
-                                    edges.add(edge);
+                .flatMap(widgetBindingEntries -> {
+                    // The relationships of a widget path only depend on its bindings, reuse them if these did not
+                    // change since the previous graph of the page
+                    Set<ExecutableDependencyEdge> previousWidgetEdges = previousGraph == null
+                            ? null
+                            : previousGraph.getWidgetRelationshipEdges(
+                                    evalVersion, widgetBindingEntries.getKey(), widgetBindingEntries.getValue());
+                    if (previousWidgetEdges != null) {
+                        edges.addAll(previousWidgetEdges);
+                        widgetRelationshipEdgesRef.put(widgetBindingEntries.getKey(), previousWidgetEdges);
+                        return Mono.just(previousWidgetEdges);
+                    }
+
+                    Set<ExecutableDependencyEdge> widgetEdges = new HashSet<>();
+                    return getPossibleEntityParentsMap(
+                                    new ArrayList<>(widgetBindingEntries.getValue()), entityTypes, evalVersion)
+                            .map(possibleParentsMap -> {
+                                possibleParentsMap.entrySet().stream().forEach(entry -> {
+                                    if (entry.getValue() == null
+                                            || entry.getValue().isEmpty()) {
+                                        return;
+                                    }
+                                    String widgetPath =
+                                            widgetBindingEntries.getKey().trim();
+                                    String[] widgetPathParts = widgetPath.split("\\.");
+                                    String widgetName = widgetPath;
+                                    if (widgetPathParts.length > 0) {
+                                        widgetName = widgetPathParts[0];
+                                    }
+                                    EntityDependencyNode entityDependencyNode = new EntityDependencyNode(
+                                            EntityReferenceType.WIDGET, widgetName, widgetPath, null, null);
+                                    entry.getValue().stream().forEach(widgetDependencyNode -> {
+                                        ExecutableDependencyEdge edge = new ExecutableDependencyEdge(
+                                                widgetDependencyNode, entityDependencyNode);
+                                        widgetEdges.add(edge);
+                                    });
                                 });
+                                edges.addAll(widgetEdges);
+                                widgetRelationshipEdgesRef.put(widgetBindingEntries.getKey(), widgetEdges);
+                                return widgetEdges;
                             });
-                            return possibleParentsMap;
-                        }))
+                })
                 .collectList()
                 .then(Mono.just(edges));
     }
 
+    /**
+     * Checks whether the given graph, computed for the page the last time, was computed from the same widgets, bindings
+     * and executables as the ones of the page now. Only the bindings of the executables which were walked while
+     * computing the graph are checked, since the others could not make it into the graph without another change.
+     *
+     * @param previousGraph                 : The graph computed the last time for the page, if any
+     * @param executableNameToExecutableMap : All the executables of the page, by name
+     * @return Returns true if the schedule of the graph is still valid
+     */
+    private Mono<Boolean> isDependencyGraphUnchanged(
+            OnLoadDependencyGraph previousGraph,
+            int evalVersion,
+            Set<String> widgetNames,
+            Map<String, Set<String>> widgetDynamicBindingsMap,
+            Map<String, Executable> executableNameToExecutableMap) {
+        if (previousGraph == null
+                || !previousGraph.hasSameInputs(
+                        evalVersion, widgetNames, widgetDynamicBindingsMap, executableNameToExecutableMap.values())) {
+            return Mono.just(FALSE);
+        }
+
+        return Flux.fromIterable(previousGraph.getWalkedExecutableBindings().entrySet())
+                .concatMap(walkedExecutable -> {
+                    String name = walkedExecutable.getKey();
+                    Executable executable = executableNameToExecutableMap.get(name);
+                    if (executable == null) {
+                        return Mono.just(FALSE);
+                    }
+                    // Executables used in the DSL had their self referencing paths filled before their bindings were
+                    // found, and these paths are left out of the bindings
+                    Mono<Executable> executableMono =
+                            previousGraph.getExecutablesUsedInDsl().contains(name)
+                                    ? fillSelfReferencingPaths(executable)
+                                    : Mono.just(executable);
+                    return executableMono.map(filledExecutable ->
+                            walkedExecutable.getValue().equals(getExecutableBindingsMap(filledExecutable)));
+                })
+                .all(Boolean::booleanValue);
+    }
+
     private boolean hasUserSetExecutableToNotRunOnPageLoad(Executable executable) {
         if (TRUE.equals(executable.getUserSetOnLoad()) && !TRUE.equals(executable.getExecuteOnLoad())) {
             return true;
@@ -1373,22 +1543,21 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
         String parent;
 
         while (true) {
-            try {
-                Matcher matcher = parentPattern.matcher(entityDependencyNode.getReferenceString());
-                matcher.find();
-                parent = matcher.group(1);
-                EntityDependencyNode parentDependencyNode = new EntityDependencyNode(
-                        entityDependencyNode.getEntityReferenceType(),
-                        entityDependencyNode.getValidEntityName(),
-                        parent,
-                        entityDependencyNode.getIsFunctionCall(),
-                        entityDependencyNode.getExecutable());
-                edges.add(new ExecutableDependencyEdge(entityDependencyNode, parentDependencyNode));
-                entityDependencyNode = parentDependencyNode;
-            } catch (IllegalStateException | IndexOutOfBoundsException e) {
-                // No matches being found. Break out of infinite loop
+            Matcher matcher = parentPattern.matcher(entityDependencyNode.getReferenceString());
+            if (!matcher.find()) {
+                // No matches being found. Break out of infinite loop. This is checked rather than left to the matcher
+                // to throw, since it happens for every vertex of the graph.
                 break;
             }
+            parent = matcher.group(1);
+            EntityDependencyNode parentDependencyNode = new EntityDependencyNode(
+                    entityDependencyNode.getEntityReferenceType(),
+                    entityDependencyNode.getValidEntityName(),
+                    parent,
+                    entityDependencyNode.getIsFunctionCall(),
+                    entityDependencyNode.getExecutable());
+            edges.add(new ExecutableDependencyEdge(entityDependencyNode, parentDependencyNode));
+            entityDependencyNode = parentDependencyNode;
         }
 
         return edges;
@@ -18,7 +18,14 @@ public class OnLoadExecutablesUtilImpl extends OnLoadExecutablesUtilCEImpl imple
             ObjectMapper objectMapper,
             ExecutableOnLoadService<NewPage> pageExecutableOnLoadService,
             ObservationRegistry observationRegistry,
-            ObservationHelperImpl observationHelper) {
-        super(astService, objectMapper, pageExecutableOnLoadService, observationRegistry, observationHelper);
+            ObservationHelperImpl observationHelper,
+            OnLoadDependencyGraphCache onLoadDependencyGraphCache) {
+        super(
+                astService,
+                objectMapper,
+                pageExecutableOnLoadService,
+                observationRegistry,
+                observationHelper,
+                onLoadDependencyGraphCache);
     }
 }
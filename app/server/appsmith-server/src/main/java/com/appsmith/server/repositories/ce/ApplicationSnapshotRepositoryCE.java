@@ -10,6 +10,8 @@ public interface ApplicationSnapshotRepositoryCE
         extends CustomApplicationSnapshotRepositoryCE, BaseRepository<ApplicationSnapshot, String> {
     Flux<ApplicationSnapshot> findByApplicationId(String applicationId);
 
+    Flux<ApplicationSnapshot> findByApplicationIdOrderByChunkOrder(String applicationId);
+
     Mono<Void> deleteAllByApplicationId(String applicationId);
 
     Mono<ApplicationSnapshotResponseDTO> findByApplicationIdAndChunkOrder(String applicationId, Integer chunkOrder);
@@ -42,4 +42,11 @@ public interface CustomNewPageRepositoryCE extends AppsmithRepository<NewPage> {
     Flux<NewPage> findAllByApplicationIdsWithoutPermission(List<String> applicationIds, List<String> includeFields);
 
     Mono<Integer> updateDependencyMap(String pageId, Map<String, List<String>> dependencyMap);
+
+    Flux<NewPage> findAllWithDslVersionOlderThan(Integer dslVersion, String afterPageId, int limit);
+
+    Mono<Long> countWithDslVersionOlderThan(Integer dslVersion);
+
+    Mono<Integer> updateLayoutsIfNotModified(
+            NewPage page, List<Integer> readUnpublishedDslVersions, List<Integer> readPublishedDslVersions);
 }
@@ -10,9 +10,12 @@ import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.helpers.ce.bridge.BridgeUpdate;
 import com.appsmith.server.projections.IdOnly;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
+import com.appsmith.server.repositories.ce.params.QueryAllParams;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
@@ -23,6 +26,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -240,7 +245,13 @@ public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Ne
                         return mongoTemplate.aggregate(combinedAggregation, NewPage.class, NewPage.class);
                     })
                     .subscribeOn(Schedulers.boundedElastic())
-                    .flatMap(updatedResults -> bulkUpdate(updatedResults.getMappedResults()));
+                    .flatMap(updatedResults -> {
+                        // Publishing modifies the pages, which writers guarding on the updated time need to know
+                        Instant updatedAt = Instant.now();
+                        List<NewPage> publishedPages = updatedResults.getMappedResults();
+                        publishedPages.forEach(newPage -> newPage.setUpdatedAt(updatedAt));
+                        return bulkUpdate(publishedPages);
+                    });
         });
     }
 
@@ -261,4 +272,94 @@ public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Ne
         update.set(NewPage.Fields.unpublishedPage_dependencyMap, dependencyMap);
         return queryBuilder().criteria(q).updateFirst(update);
     }
+
+    /**
+     * Finds the pages whose edit or view mode DSL is older than the given version, by increasing id, so that all of
+     * them can be walked through in batches.
+     */
+    @Override
+    public Flux<NewPage> findAllWithDslVersionOlderThan(Integer dslVersion, String afterPageId, int limit) {
+        final QueryAllParams<NewPage> queryAllParams = queryBuilder().criteria(getOlderDslVersionCriteria(dslVersion));
+        if (afterPageId != null) {
+            queryAllParams.criteria(where(NewPage.Fields.id).gt(new ObjectId(afterPageId)));
+        }
+
+        return queryAllParams
+                .fields(
+                        NewPage.Fields.id,
+                        NewPage.Fields.updatedAt,
+                        NewPage.Fields.unpublishedPage_layouts,
+                        NewPage.Fields.publishedPage_layouts)
+                .sort(Sort.by(Sort.Direction.ASC, NewPage.Fields.id))
+                .limit(limit)
+                .all();
+    }
+
+    @Override
+    public Mono<Long> countWithDslVersionOlderThan(Integer dslVersion) {
+        return queryBuilder().criteria(getOlderDslVersionCriteria(dslVersion)).count();
+    }
+
+    /**
+     * Saves the migrated layouts of the page, unless the page was modified since it was read, so that changes made in
+     * the meantime are not overwritten. The page is considered unmodified if it has the same updated time, and each
+     * of its saved sides has the same layouts, with the DSL versions that were read.
+     * @param readUnpublishedDslVersions The DSL versions of the edit mode layouts when they were read, or null if they
+     *                                   were not migrated and must not be saved
+     * @param readPublishedDslVersions The DSL versions of the view mode layouts when they were read, or null if they
+     *                                 were not migrated and must not be saved
+     * @return The number of pages updated, which is 0 if the page was modified
+     */
+    @Override
+    public Mono<Integer> updateLayoutsIfNotModified(
+            NewPage page, List<Integer> readUnpublishedDslVersions, List<Integer> readPublishedDslVersions) {
+        final Criteria criteria = where(NewPage.Fields.id)
+                .is(page.getId())
+                .and(NewPage.Fields.updatedAt)
+                .is(page.getUpdatedAt());
+
+        BridgeUpdate update = Bridge.update();
+        if (readUnpublishedDslVersions != null) {
+            addDslVersionsCriteria(criteria, NewPage.Fields.unpublishedPage_layouts, readUnpublishedDslVersions);
+            update.set(
+                    NewPage.Fields.unpublishedPage_layouts,
+                    page.getUnpublishedPage().getLayouts());
+        }
+        if (readPublishedDslVersions != null) {
+            addDslVersionsCriteria(criteria, NewPage.Fields.publishedPage_layouts, readPublishedDslVersions);
+            update.set(
+                    NewPage.Fields.publishedPage_layouts,
+                    page.getPublishedPage().getLayouts());
+        }
+        update.set(NewPage.Fields.updatedAt, Instant.now());
+        return queryBuilder().criteria(criteria).updateFirst(update);
+    }
+
+    /**
+     * Matches pages which have as many layouts as there are versions, with these DSL versions.
+     */
+    private static void addDslVersionsCriteria(Criteria criteria, String layoutsKey, List<Integer> dslVersions) {
+        for (int i = 0; i < dslVersions.size(); i++) {
+            final String versionKey = dotted(layoutsKey, String.valueOf(i), Layout.Fields.dsl, FieldName.VERSION);
+            if (dslVersions.get(i) == null) {
+                criteria.and(versionKey).exists(false);
+            } else {
+                criteria.and(versionKey).is(dslVersions.get(i));
+            }
+        }
+        criteria.and(dotted(layoutsKey, String.valueOf(dslVersions.size()))).exists(false);
+    }
+
+    private static Criteria getOlderDslVersionCriteria(Integer dslVersion) {
+        List<Criteria> criteria = new ArrayList<>();
+        for (String layoutsKey :
+                List.of(NewPage.Fields.unpublishedPage_layouts, NewPage.Fields.publishedPage_layouts)) {
+            final String dslKey = dotted(layoutsKey, Layout.Fields.dsl);
+            final String versionKey = dotted(dslKey, FieldName.VERSION);
+            criteria.add(where(versionKey).lt(dslVersion));
+            // DSLs without a version are migrated as well
+            criteria.add(where(dslKey).ne(null).and(versionKey).exists(false));
+        }
+        return new Criteria().orOperator(criteria);
+    }
 }
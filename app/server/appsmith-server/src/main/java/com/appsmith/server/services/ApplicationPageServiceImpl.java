@@ -62,7 +62,8 @@ public class ApplicationPageServiceImpl extends ApplicationPageServiceCEImpl imp
             ClonePageService<NewAction> actionClonePageService,
             ClonePageService<ActionCollection> actionCollectionClonePageService,
             ObservationRegistry observationRegistry,
-            CacheableRepositoryHelper cacheableRepositoryHelper) {
+            CacheableRepositoryHelper cacheableRepositoryHelper,
+            PublishedApplicationBundleService publishedApplicationBundleService) {
         super(
                 workspaceService,
                 applicationService,
@@ -92,6 +93,7 @@ public class ApplicationPageServiceImpl extends ApplicationPageServiceCEImpl imp
                 actionClonePageService,
                 actionCollectionClonePageService,
                 observationRegistry,
-                cacheableRepositoryHelper);
+                cacheableRepositoryHelper,
+                publishedApplicationBundleService);
     }
 }
@@ -4,6 +4,7 @@ import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.configurations.InstanceConfig;
 import com.appsmith.server.helpers.RTSCaller;
 import com.appsmith.server.services.ce.AstServiceCEImpl;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -11,7 +12,11 @@ import org.springframework.stereotype.Service;
 @Service
 public class AstServiceImpl extends AstServiceCEImpl implements AstService {
 
-    public AstServiceImpl(CommonConfig commonConfig, InstanceConfig instanceConfig, RTSCaller rtsCaller) {
-        super(commonConfig, instanceConfig, rtsCaller);
+    public AstServiceImpl(
+            CommonConfig commonConfig,
+            InstanceConfig instanceConfig,
+            RTSCaller rtsCaller,
+            MeterRegistry meterRegistry) {
+        super(commonConfig, instanceConfig, rtsCaller, meterRegistry);
     }
 }
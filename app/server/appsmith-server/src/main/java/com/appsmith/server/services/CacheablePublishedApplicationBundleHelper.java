@@ -0,0 +1,5 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.CacheablePublishedApplicationBundleHelperCE;
+
+public interface CacheablePublishedApplicationBundleHelper extends CacheablePublishedApplicationBundleHelperCE {}
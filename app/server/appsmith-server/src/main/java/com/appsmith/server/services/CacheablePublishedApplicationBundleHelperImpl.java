@@ -0,0 +1,54 @@
+package com.appsmith.server.services;
+
+import com.appsmith.caching.components.CacheManager;
+import com.appsmith.server.actioncollections.base.ActionCollectionService;
+import com.appsmith.server.configurations.ProjectProperties;
+import com.appsmith.server.helpers.DSLMigrationUtils;
+import com.appsmith.server.layouts.UpdateLayoutService;
+import com.appsmith.server.newactions.base.NewActionService;
+import com.appsmith.server.newpages.base.NewPageService;
+import com.appsmith.server.repositories.ActionCollectionRepository;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.CustomJSLibRepository;
+import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.services.ce.CacheablePublishedApplicationBundleHelperCEImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CacheablePublishedApplicationBundleHelperImpl extends CacheablePublishedApplicationBundleHelperCEImpl
+        implements CacheablePublishedApplicationBundleHelper {
+    public CacheablePublishedApplicationBundleHelperImpl(
+            ApplicationRepository applicationRepository,
+            NewPageRepository newPageRepository,
+            NewActionRepository newActionRepository,
+            ActionCollectionRepository actionCollectionRepository,
+            CustomJSLibRepository customJSLibRepository,
+            NewPageService newPageService,
+            NewActionService newActionService,
+            ActionCollectionService actionCollectionService,
+            UpdateLayoutService updateLayoutService,
+            DSLMigrationUtils dslMigrationUtils,
+            ProjectProperties projectProperties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            CacheManager cacheManager) {
+        super(
+                applicationRepository,
+                newPageRepository,
+                newActionRepository,
+                actionCollectionRepository,
+                customJSLibRepository,
+                newPageService,
+                newActionService,
+                actionCollectionService,
+                updateLayoutService,
+                dslMigrationUtils,
+                projectProperties,
+                objectMapper,
+                meterRegistry,
+                cacheManager);
+    }
+}
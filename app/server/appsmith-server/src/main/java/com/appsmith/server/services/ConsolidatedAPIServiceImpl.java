@@ -3,6 +3,7 @@ package com.appsmith.server.services;
 import com.appsmith.server.actioncollections.base.ActionCollectionService;
 import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.datasources.base.DatasourceService;
+import com.appsmith.server.helpers.PublishedPageLoadCache;
 import com.appsmith.server.jslibs.base.CustomJSLibService;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
@@ -35,7 +36,9 @@ public class ConsolidatedAPIServiceImpl extends ConsolidatedAPIServiceCECompatib
             DatasourceService datasourceService,
             MockDataService mockDataService,
             ObservationRegistry observationRegistry,
-            CacheableRepositoryHelper cacheableRepositoryHelper) {
+            CacheableRepositoryHelper cacheableRepositoryHelper,
+            PublishedPageLoadCache publishedPageLoadCache,
+            PublishedApplicationBundleService publishedApplicationBundleService) {
         super(
                 sessionUserService,
                 userService,
@@ -53,6 +56,8 @@ public class ConsolidatedAPIServiceImpl extends ConsolidatedAPIServiceCECompatib
                 datasourceService,
                 mockDataService,
                 observationRegistry,
-                cacheableRepositoryHelper);
+                cacheableRepositoryHelper,
+                publishedPageLoadCache,
+                publishedApplicationBundleService);
     }
 }
@@ -0,0 +1,5 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.PublishedApplicationBundleServiceCE;
+
+public interface PublishedApplicationBundleService extends PublishedApplicationBundleServiceCE {}
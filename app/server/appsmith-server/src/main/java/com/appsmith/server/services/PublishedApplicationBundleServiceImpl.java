@@ -0,0 +1,36 @@
+package com.appsmith.server.services;
+
+import com.appsmith.server.helpers.DSLMigrationUtils;
+import com.appsmith.server.helpers.RedisUtils;
+import com.appsmith.server.services.ce.PublishedApplicationBundleServiceCEImpl;
+import com.appsmith.server.solutions.ActionPermission;
+import com.appsmith.server.solutions.PagePermission;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PublishedApplicationBundleServiceImpl extends PublishedApplicationBundleServiceCEImpl
+        implements PublishedApplicationBundleService {
+
+    public PublishedApplicationBundleServiceImpl(
+            CacheablePublishedApplicationBundleHelper cacheablePublishedApplicationBundleHelper,
+            DSLMigrationUtils dslMigrationUtils,
+            ObjectMapper objectMapper,
+            PagePermission pagePermission,
+            ActionPermission actionPermission,
+            MeterRegistry meterRegistry,
+            RedisUtils redisUtils,
+            @Value("${appsmith.published-bundle.enabled:true}") boolean enabled) {
+        super(
+                cacheablePublishedApplicationBundleHelper,
+                dslMigrationUtils,
+                objectMapper,
+                pagePermission,
+                actionPermission,
+                meterRegistry,
+                redisUtils,
+                enabled);
+    }
+}
@@ -69,4 +69,6 @@ public interface ApplicationPageServiceCE {
             Application branchedApplication, ApplicationMode applicationMode);
 
     Mono<PageDTO> getPageDTOAfterMigratingDSL(NewPage newPage, boolean viewMode, boolean migrateDsl);
+
+    Mono<NewPage> sendPageViewAnalyticsEvent(NewPage newPage, boolean viewMode);
 }
@@ -50,6 +50,7 @@ import com.appsmith.server.repositories.NewPageRepository;
 import com.appsmith.server.repositories.WorkspaceRepository;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.PermissionGroupService;
+import com.appsmith.server.services.PublishedApplicationBundleService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.WorkspaceService;
 import com.appsmith.server.solutions.ActionPermission;
@@ -130,6 +131,7 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
     private final ClonePageService<ActionCollection> actionCollectionClonePageService;
     private final ObservationRegistry observationRegistry;
     private final CacheableRepositoryHelper cacheableRepositoryHelper;
+    private final PublishedApplicationBundleService publishedApplicationBundleService;
 
     @Override
     public Mono<PageDTO> createPage(PageDTO page) {
@@ -1022,6 +1024,17 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                     ApplicationPublishingMetaDTO metaDTO = tuple2.getT2();
                     return sendApplicationPublishedEvent(metaDTO);
                 })
+                .flatMap(application -> publishedApplicationBundleService
+                        .materializePublishedApplicationBundle(application.getId())
+                        // The bundle is otherwise built when the application is first viewed
+                        .onErrorResume(error -> {
+                            log.warn(
+                                    "Error while materializing the published bundle of application {}",
+                                    application.getId(),
+                                    error);
+                            return Mono.empty();
+                        })
+                        .thenReturn(application))
                 .elapsed()
                 .map(objects -> {
                     log.debug(
@@ -1358,7 +1371,8 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
      * @param viewMode Page is accessed in view mode or not
      * @return NewPage
      */
-    private Mono<NewPage> sendPageViewAnalyticsEvent(NewPage newPage, boolean viewMode) {
+    @Override
+    public Mono<NewPage> sendPageViewAnalyticsEvent(NewPage newPage, boolean viewMode) {
         String view = viewMode ? ApplicationMode.PUBLISHED.toString() : ApplicationMode.EDIT.toString();
         final Map<String, Object> eventData = Map.of(
                 FieldName.PAGE, newPage,
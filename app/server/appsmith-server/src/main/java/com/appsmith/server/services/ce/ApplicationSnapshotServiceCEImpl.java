@@ -10,20 +10,35 @@ import com.appsmith.server.dtos.ApplicationJson;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.exports.internal.ExportService;
+import com.appsmith.server.helpers.ChunkedOutputStream;
+import com.appsmith.server.helpers.DataBufferInputStream;
 import com.appsmith.server.imports.internal.ImportService;
 import com.appsmith.server.projections.ApplicationSnapshotResponseDTO;
 import com.appsmith.server.repositories.ApplicationSnapshotRepository;
 import com.appsmith.server.solutions.ApplicationPermission;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import com.google.common.io.CountingOutputStream;
 import com.google.gson.Gson;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
 
 @RequiredArgsConstructor
 public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServiceCE {
@@ -33,31 +48,98 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
     private final ExportService exportService;
     private final ApplicationPermission applicationPermission;
     private final Gson gson;
+    private final MeterRegistry meterRegistry;
 
     private static final int MAX_SNAPSHOT_SIZE = 15 * 1024 * 1024; // 15 MB
 
+    private static final String ZSTD_COMPRESSION = "zstd";
+    private static final int ZSTD_COMPRESSION_LEVEL = 3;
+
+    private static final String SNAPSHOT_SIZE_METRIC = "appsmith.application.snapshot.size";
+    private static final String SNAPSHOT_COMPRESSION_RATIO_METRIC = "appsmith.application.snapshot.compression.ratio";
+    private static final String SNAPSHOT_CREATION_METRIC = "appsmith.application.snapshot.creation";
+    private static final String SNAPSHOT_RESTORE_METRIC = "appsmith.application.snapshot.restore";
+
     @Override
     public Mono<Boolean> createApplicationSnapshot(String branchedApplicationId) {
-        return exportService
+        Mono<Boolean> createSnapshotMono = exportService
                 .exportByArtifactId(
                         branchedApplicationId, SerialiseArtifactObjective.VERSION_CONTROL, ArtifactType.APPLICATION)
                 .flatMapMany(artifactExchangeJson -> {
                     ApplicationJson applicationJson = (ApplicationJson) artifactExchangeJson;
                     return applicationSnapshotRepository
                             .deleteAllByApplicationId(branchedApplicationId)
-                            .thenMany(createSnapshots(branchedApplicationId, applicationJson));
+                            .thenMany(createSnapshots(branchedApplicationId, applicationJson))
+                            // chunks are saved as they are written, don't leave an incomplete snapshot behind
+                            .onErrorResume(error -> applicationSnapshotRepository
+                                    .deleteAllByApplicationId(branchedApplicationId)
+                                    .then(Mono.error(error)));
                 })
                 .then(Mono.just(Boolean.TRUE));
+        return recordLatency(createSnapshotMono, SNAPSHOT_CREATION_METRIC);
     }
 
+    /**
+     * The exported json is written straight into a zstd stream, whose output is split into chunks that stay within the
+     * mongodb document size limit. Each chunk is saved as soon as it is full, so neither the json nor its compressed
+     * form is ever held in memory as a whole. Writing the json waits whenever a chunk is full and the previous one has
+     * not been taken to be saved yet, so that a slow database does not pile up chunks in memory.
+     */
     private Flux<ApplicationSnapshot> createSnapshots(String applicationId, ApplicationJson applicationJson) {
-        String json = gson.toJson(applicationJson);
-        // check the size of the exported json before storing to avoid mongodb document size limit
-        byte[] utf8JsonString = json.getBytes(StandardCharsets.UTF_8);
-        List<ApplicationSnapshot> applicationSnapshots = createSnapshotsObjects(utf8JsonString, applicationId);
+        Flux<ApplicationSnapshot> applicationSnapshots = Flux.<ApplicationSnapshot>create(sink -> {
+                    Object demandLock = new Object();
+                    sink.onRequest(ignored -> signalDemandChange(demandLock));
+                    sink.onDispose(() -> signalDemandChange(demandLock));
+
+                    int[] chunkOrder = {0};
+                    ChunkedOutputStream chunkedOutputStream = new ChunkedOutputStream(MAX_SNAPSHOT_SIZE, chunk -> {
+                        awaitDemand(sink, demandLock);
+                        sink.next(createSnapshotObject(chunk, applicationId, ++chunkOrder[0]));
+                    });
+                    try {
+                        CountingOutputStream jsonOutputStream = new CountingOutputStream(
+                                new ZstdOutputStream(chunkedOutputStream, ZSTD_COMPRESSION_LEVEL));
+                        try (Writer writer = new OutputStreamWriter(jsonOutputStream, StandardCharsets.UTF_8)) {
+                            gson.toJson(applicationJson, writer);
+                        }
+                        recordSize(jsonOutputStream.getCount(), chunkedOutputStream.getCount());
+                        sink.complete();
+                    } catch (Exception e) {
+                        if (!sink.isCancelled()) {
+                            sink.error(e);
+                        }
+                    }
+                })
+                // Requests must not be scheduled on the thread writing the json, which waits for them
+                .subscribeOn(Schedulers.boundedElastic(), false)
+                // Requests chunks one at a time, whatever the demand of the repository
+                .limitRate(1);
         return applicationSnapshotRepository.saveAll(applicationSnapshots);
     }
 
+    private static void awaitDemand(FluxSink<ApplicationSnapshot> sink, Object demandLock) {
+        synchronized (demandLock) {
+            while (sink.requestedFromDownstream() == 0 && !sink.isCancelled()) {
+                try {
+                    demandLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("Interrupted while waiting to save a snapshot chunk");
+                }
+            }
+        }
+        if (sink.isCancelled()) {
+            // Stops writing the json, nothing is going to save the remaining chunks
+            throw new CancellationException("Snapshot creation was cancelled");
+        }
+    }
+
+    private static void signalDemandChange(Object demandLock) {
+        synchronized (demandLock) {
+            demandLock.notifyAll();
+        }
+    }
+
     @Override
     public Mono<ApplicationSnapshotResponseDTO> getWithoutDataByBranchedApplicationId(String branchedApplicationId) {
         // get application first to check the permission and get child aka branched application ID
@@ -68,16 +150,15 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
 
     @Override
     public Mono<Application> restoreSnapshot(String branchedApplicationId) {
-        return applicationService
+        Mono<Application> restoreSnapshotMono = applicationService
                 .findById(branchedApplicationId, applicationPermission.getEditPermission())
                 .switchIfEmpty(Mono.error(new AppsmithException(
                         AppsmithError.NO_RESOURCE_FOUND, FieldName.APPLICATION, branchedApplicationId)))
-                .flatMap(application -> getApplicationJsonStringFromSnapShot(application.getId())
-                        .zipWith(Mono.just(application)))
+                .flatMap(application ->
+                        getApplicationJsonFromSnapShot(application.getId()).zipWith(Mono.just(application)))
                 .flatMap(objects -> {
-                    String applicationJsonString = objects.getT1();
+                    ApplicationJson applicationJson = objects.getT1();
                     Application application = objects.getT2();
-                    ApplicationJson applicationJson = gson.fromJson(applicationJsonString, ApplicationJson.class);
                     return importService.restoreSnapshot(
                             application.getWorkspaceId(), application.getId(), applicationJson);
                 })
@@ -85,48 +166,80 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
                 .flatMap(application -> applicationSnapshotRepository
                         .deleteAllByApplicationId(application.getId())
                         .thenReturn(application));
+        return recordLatency(restoreSnapshotMono, SNAPSHOT_RESTORE_METRIC);
     }
 
-    private Mono<String> getApplicationJsonStringFromSnapShot(String applicationId) {
+    /**
+     * Reads the json of the snapshot while its chunks are fetched in order, decompressing it on the way if it was
+     * compressed, so that only the chunk being read is held in memory rather than the whole json.
+     */
+    private Mono<ApplicationJson> getApplicationJsonFromSnapShot(String applicationId) {
         return applicationSnapshotRepository
-                .findByApplicationId(applicationId)
-                .sort(Comparator.comparingInt(ApplicationSnapshot::getChunkOrder))
-                .map(ApplicationSnapshot::getData)
-                .collectList()
-                .map(bytes -> {
-                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-                    for (byte[] b : bytes) {
-                        outputStream.writeBytes(b);
+                .findByApplicationIdOrderByChunkOrder(applicationId)
+                .switchOnFirst((signal, applicationSnapshots) -> {
+                    if (!signal.hasValue()) {
+                        return Mono.error(new AppsmithException(
+                                AppsmithError.NO_RESOURCE_FOUND, FieldName.APPLICATION_SNAPSHOT, applicationId));
                     }
-                    return outputStream.toString(StandardCharsets.UTF_8);
-                });
+                    String compression = signal.get().getCompression();
+                    Flux<DataBuffer> data = applicationSnapshots.map(applicationSnapshot ->
+                            DefaultDataBufferFactory.sharedInstance.wrap(applicationSnapshot.getData()));
+                    return Mono.fromCallable(() -> readApplicationJson(data, compression))
+                            .subscribeOn(Schedulers.boundedElastic());
+                })
+                .next();
     }
 
-    private List<ApplicationSnapshot> createSnapshotsObjects(byte[] bytes, String applicationId) {
-        List<ApplicationSnapshot> applicationSnapshots = new ArrayList<>();
-        int total = bytes.length;
-        int copiedCount = 0;
-        int chunkOrder = 1;
+    private ApplicationJson readApplicationJson(Flux<DataBuffer> data, String compression) throws Exception {
+        try (InputStream dataInputStream = new DataBufferInputStream(data, 1);
+                InputStream jsonInputStream =
+                        ZSTD_COMPRESSION.equals(compression) ? new ZstdInputStream(dataInputStream) : dataInputStream;
+                Reader reader = new InputStreamReader(jsonInputStream, StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, ApplicationJson.class);
+        }
+    }
 
-        while (copiedCount < total) {
-            int currentChunkSize = MAX_SNAPSHOT_SIZE;
-            if (copiedCount + currentChunkSize > total) {
-                currentChunkSize = total - copiedCount;
-            }
-            byte[] sub = new byte[currentChunkSize];
-            System.arraycopy(bytes, copiedCount, sub, 0, currentChunkSize);
-            copiedCount += currentChunkSize;
-
-            // create snapshot that'll contain the chunk of data
-            ApplicationSnapshot applicationSnapshot = new ApplicationSnapshot();
-            applicationSnapshot.setData(sub);
-            applicationSnapshot.setApplicationId(applicationId);
-            applicationSnapshot.setChunkOrder(chunkOrder);
-            applicationSnapshots.add(applicationSnapshot);
-
-            chunkOrder++;
+    private ApplicationSnapshot createSnapshotObject(byte[] data, String applicationId, int chunkOrder) {
+        // create snapshot that'll contain the chunk of data
+        ApplicationSnapshot applicationSnapshot = new ApplicationSnapshot();
+        applicationSnapshot.setData(data);
+        applicationSnapshot.setApplicationId(applicationId);
+        applicationSnapshot.setChunkOrder(chunkOrder);
+        applicationSnapshot.setCompression(ZSTD_COMPRESSION);
+        return applicationSnapshot;
+    }
+
+    private void recordSize(long jsonSize, long compressedSize) {
+        DistributionSummary.builder(SNAPSHOT_SIZE_METRIC)
+                .baseUnit("bytes")
+                .tag("type", "json")
+                .register(meterRegistry)
+                .record(jsonSize);
+        DistributionSummary.builder(SNAPSHOT_SIZE_METRIC)
+                .baseUnit("bytes")
+                .tag("type", "compressed")
+                .register(meterRegistry)
+                .record(compressedSize);
+        if (compressedSize > 0) {
+            DistributionSummary.builder(SNAPSHOT_COMPRESSION_RATIO_METRIC)
+                    .register(meterRegistry)
+                    .record((double) jsonSize / compressedSize);
         }
-        return applicationSnapshots;
+    }
+
+    private <T> Mono<T> recordLatency(Mono<T> mono, String metric) {
+        return Mono.defer(() -> {
+            long startTime = System.nanoTime();
+            return mono.doOnSuccess(ignored -> recordLatency(metric, startTime, "success"))
+                    .doOnError(ignored -> recordLatency(metric, startTime, "failure"));
+        });
+    }
+
+    private void recordLatency(String metric, long startTime, String result) {
+        Timer.builder(metric)
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
     }
 
     @Override
@@ -8,6 +8,9 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.RTSCaller;
 import com.appsmith.util.WebClientUtils;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -25,14 +28,16 @@ import reactor.util.function.Tuples;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -44,6 +49,8 @@ public class AstServiceCEImpl implements AstServiceCE {
 
     private final RTSCaller rtsCaller;
 
+    private final MeterRegistry meterRegistry;
+
     private final WebClient webClient = WebClientUtils.create(ConnectionProvider.builder("rts-provider")
             .maxConnections(100)
             .maxIdleTime(Duration.ofSeconds(30))
@@ -54,6 +61,23 @@ public class AstServiceCEImpl implements AstServiceCE {
 
     private static final long MAX_API_RESPONSE_TIME_IN_MS = 50;
 
+    private static final String IDENTIFIERS_CACHE_METRIC = "appsmith.rts.ast.identifiers.cache";
+
+    // Total length of the bindings and references cached, about 32 MB
+    private static final long MAX_CACHED_IDENTIFIERS_WEIGHT = 16 * 1024 * 1024;
+
+    /*
+     * The references found in a binding only depend on the binding and the eval version, so they are kept for the
+     * bindings seen recently. Layout updates send every binding of the page while only a few of them have changed, and
+     * only those are sent to RTS.
+     */
+    private final Cache<IdentifiersKey, Set<String>> identifiersCache = CacheBuilder.newBuilder()
+            .maximumWeight(MAX_CACHED_IDENTIFIERS_WEIGHT)
+            .weigher((IdentifiersKey key, Set<String> references) ->
+                    key.binding().length()
+                            + references.stream().mapToInt(String::length).sum())
+            .build();
+
     @Override
     public Mono<Map<MustacheBindingToken, String>> replaceValueInMustacheKeys(
             Set<MustacheBindingToken> mustacheKeySet,
@@ -117,18 +141,48 @@ public class AstServiceCEImpl implements AstServiceCE {
                         Mono.just(new HashSet<>(MustacheHelper.getPossibleParentsOld(bindingValue))));
             });
         }
-        return rtsCaller
-                .post("/rts-api/v1/ast/multiple-script-data", new GetIdentifiersRequestBulk(bindingValues, evalVersion))
-                .flatMapMany(spec -> spec.retrieve()
-                        .bodyToMono(GetIdentifiersResponseBulk.class)
-                        .retryWhen(Retry.max(3))
-                        .flatMapIterable(getIdentifiersResponse -> getIdentifiersResponse.data)
-                        .index())
-                .flatMap(tuple2 -> {
-                    long currentIndex = tuple2.getT1();
-                    Set<String> references = tuple2.getT2().getReferences();
-                    return Mono.zip(Mono.just(bindingValues.get((int) currentIndex)), Mono.just(references));
-                });
+
+        Map<String, Set<String>> referencesByBinding = new HashMap<>();
+        Set<String> uncachedBindings = new LinkedHashSet<>();
+        for (String bindingValue : bindingValues) {
+            Set<String> references = identifiersCache.getIfPresent(new IdentifiersKey(bindingValue, evalVersion));
+            if (references != null) {
+                referencesByBinding.put(bindingValue, references);
+            } else {
+                uncachedBindings.add(bindingValue);
+            }
+        }
+        meterRegistry
+                .counter(IDENTIFIERS_CACHE_METRIC, "result", "hit")
+                .increment(bindingValues.size() - uncachedBindings.size());
+        meterRegistry.counter(IDENTIFIERS_CACHE_METRIC, "result", "miss").increment(uncachedBindings.size());
+
+        Mono<Map<String, Set<String>>> referencesMono = Mono.just(referencesByBinding);
+        if (!uncachedBindings.isEmpty()) {
+            List<String> scripts = new ArrayList<>(uncachedBindings);
+            referencesMono = rtsCaller
+                    .post("/rts-api/v1/ast/multiple-script-data", new GetIdentifiersRequestBulk(scripts, evalVersion))
+                    .flatMap(spec -> spec.retrieve()
+                            .bodyToMono(GetIdentifiersResponseBulk.class)
+                            .retryWhen(Retry.max(3)))
+                    .map(getIdentifiersResponse -> {
+                        List<GetIdentifiersResponseDetails> data = getIdentifiersResponse.getData();
+                        for (int i = 0; i < scripts.size() && i < data.size(); i++) {
+                            Set<String> references = data.get(i).getReferences();
+                            if (references != null) {
+                                references = Set.copyOf(references);
+                                identifiersCache.put(new IdentifiersKey(scripts.get(i), evalVersion), references);
+                                referencesByBinding.put(scripts.get(i), references);
+                            }
+                        }
+                        return referencesByBinding;
+                    });
+        }
+
+        return referencesMono.flatMapIterable(references -> bindingValues.stream()
+                .filter(references::containsKey)
+                .map(bindingValue -> Tuples.of(bindingValue, (Set<String>) new HashSet<>(references.get(bindingValue))))
+                .toList());
         // TODO: add error handling scenario for when RTS is not accessible in fat container
     }
 
@@ -143,60 +197,106 @@ public class AstServiceCEImpl implements AstServiceCE {
             return Mono.empty();
         }
 
-        return Flux.fromIterable(bindingValues)
-                .flatMap(bindingValue -> {
-                    if (!StringUtils.hasText(bindingValue.getValue())) {
-                        // If the binding value is null or empty, it indicates an incorrect entry in the
-                        // dynamicBindingPathList.
-                        // Such bindings are considered invalid and can be safely discarded during refactoring.
-                        // Therefore, we return an empty response.
+        Map<MustacheBindingToken, String> refactoredBindings = new HashMap<>();
+        List<MustacheBindingToken> bindingsToRefactor = new ArrayList<>();
+        for (MustacheBindingToken bindingValue : bindingValues) {
+            if (!StringUtils.hasText(bindingValue.getValue())) {
+                // If the binding value is null or empty, it indicates an incorrect entry in the
+                // dynamicBindingPathList.
+                // Such bindings are considered invalid and can be safely discarded during refactoring.
+                continue;
+            }
+            if (!bindingValue.getValue().contains(oldName)) {
+                // This case is not handled in RTS either, so skipping the RTS call here will not affect the
+                // behavior.
+                // Example:
+                // - Old name: foo.bar
+                // - New name: foo.baz
+                // - Binding: "foo['bar']"
+                refactoredBindings.put(bindingValue, bindingValue.getValue());
+                continue;
+            }
+            bindingsToRefactor.add(bindingValue);
+        }
+
+        if (bindingsToRefactor.isEmpty()) {
+            return Mono.just(refactoredBindings);
+        }
 
-                        return Mono.empty();
+        // All the bindings are refactored in a single request, falling back to a request per binding if RTS can't
+        // refactor them in bulk
+        MultipleEntityRefactorRequest multipleEntityRefactorRequest = new MultipleEntityRefactorRequest(
+                bindingsToRefactor.stream().map(MustacheBindingToken::getValue).toList(),
+                oldName,
+                newName,
+                evalVersion,
+                isJSObject);
+        return rtsCaller
+                .post("/rts-api/v1/ast/multiple-entity-refactor", multipleEntityRefactorRequest)
+                .flatMap(spec -> spec.retrieve().bodyToMono(EntityRefactorResponseBulk.class))
+                .elapsed()
+                .map(tuple -> {
+                    if (tuple.getT1() > MAX_API_RESPONSE_TIME_IN_MS) {
+                        log.debug(
+                                "Time elapsed since AST refactor call for {} bindings: {} ms",
+                                bindingsToRefactor.size(),
+                                tuple.getT1());
                     }
-                    if (!bindingValue.getValue().contains(oldName)) {
-                        // This case is not handled in RTS either, so skipping the RTS call here will not affect the
-                        // behavior.
-                        // Example:
-                        // - Old name: foo.bar
-                        // - New name: foo.baz
-                        // - Binding: "foo['bar']"
-                        return Mono.just(Tuples.of(bindingValue, bindingValue.getValue()));
+                    List<EntityRefactorResponseDetails> data = tuple.getT2().getData();
+                    for (int i = 0; i < bindingsToRefactor.size() && i < data.size(); i++) {
+                        EntityRefactorResponseDetails details = data.get(i);
+                        // Bindings that could not be parsed have no refactor count, the expectation is that these
+                        // would error out during eval anyway
+                        if (details != null && details.refactorCount > 0) {
+                            refactoredBindings.put(bindingsToRefactor.get(i), details.script);
+                        }
                     }
-                    EntityRefactorRequest entityRefactorRequest = new EntityRefactorRequest(
-                            bindingValue.getValue(), oldName, newName, evalVersion, isJSObject);
-                    return rtsCaller
-                            .post("/rts-api/v1/ast/entity-refactor", entityRefactorRequest)
-                            .flatMap(spec -> spec.retrieve().toEntity(EntityRefactorResponse.class))
-                            .flatMap(entityRefactorResponseResponseEntity -> {
-                                if (HttpStatus.OK.equals(entityRefactorResponseResponseEntity.getStatusCode())) {
-                                    return Mono.just(
-                                            Objects.requireNonNull(entityRefactorResponseResponseEntity.getBody()));
-                                }
-                                return Mono.error(new AppsmithException(
-                                        AppsmithError.RTS_SERVER_ERROR,
-                                        entityRefactorResponseResponseEntity.getStatusCodeValue()));
-                            })
-                            .elapsed()
-                            .map(tuple -> {
-                                if (tuple.getT1() > MAX_API_RESPONSE_TIME_IN_MS) {
-                                    log.debug("Time elapsed since AST refactor call: {} ms", tuple.getT1());
-                                    log.debug("This call took longer than expected. The binding was: {}", bindingValue);
-                                }
-                                return tuple.getT2();
-                            })
-                            .map(EntityRefactorResponse::getData)
-                            .filter(details -> details.refactorCount > 0)
-                            .flatMap(response -> Mono.just(bindingValue).zipWith(Mono.just(response.script)))
-                            .onErrorResume(error -> {
-                                // If there is a problem with parsing and refactoring this binding, we just ignore it
-                                // and move ahead
-                                // The expectation is that this binding would error out during eval anyway
-                                return Mono.empty();
-                            });
+                    return refactoredBindings;
                 })
-                .collect(Collectors.toMap(Tuple2::getT1, Tuple2::getT2));
+                .onErrorResume(error -> {
+                    log.warn("Unable to refactor bindings in bulk, refactoring them one by one", error);
+                    return Flux.fromIterable(bindingsToRefactor)
+                            .flatMap(bindingValue -> refactorNameInDynamicBinding(
+                                    bindingValue, oldName, newName, evalVersion, isJSObject))
+                            .collect(() -> refactoredBindings, (map, tuple) -> map.put(tuple.getT1(), tuple.getT2()));
+                });
     }
 
+    private Mono<Tuple2<MustacheBindingToken, String>> refactorNameInDynamicBinding(
+            MustacheBindingToken bindingValue, String oldName, String newName, int evalVersion, boolean isJSObject) {
+        EntityRefactorRequest entityRefactorRequest =
+                new EntityRefactorRequest(bindingValue.getValue(), oldName, newName, evalVersion, isJSObject);
+        return rtsCaller
+                .post("/rts-api/v1/ast/entity-refactor", entityRefactorRequest)
+                .flatMap(spec -> spec.retrieve().toEntity(EntityRefactorResponse.class))
+                .flatMap(entityRefactorResponseResponseEntity -> {
+                    if (HttpStatus.OK.equals(entityRefactorResponseResponseEntity.getStatusCode())) {
+                        return Mono.just(Objects.requireNonNull(entityRefactorResponseResponseEntity.getBody()));
+                    }
+                    return Mono.error(new AppsmithException(
+                            AppsmithError.RTS_SERVER_ERROR, entityRefactorResponseResponseEntity.getStatusCodeValue()));
+                })
+                .elapsed()
+                .map(tuple -> {
+                    if (tuple.getT1() > MAX_API_RESPONSE_TIME_IN_MS) {
+                        log.debug("Time elapsed since AST refactor call: {} ms", tuple.getT1());
+                        log.debug("This call took longer than expected. The binding was: {}", bindingValue);
+                    }
+                    return tuple.getT2();
+                })
+                .map(EntityRefactorResponse::getData)
+                .filter(details -> details.refactorCount > 0)
+                .flatMap(response -> Mono.just(bindingValue).zipWith(Mono.just(response.script)))
+                .onErrorResume(error -> {
+                    // If there is a problem with parsing and refactoring this binding, we just ignore it
+                    // and move ahead
+                    // The expectation is that this binding would error out during eval anyway
+                    return Mono.empty();
+                });
+    }
+
+    private record IdentifiersKey(String binding, int evalVersion) {}
+
     @NoArgsConstructor
     @AllArgsConstructor
     @Getter
@@ -267,6 +367,25 @@ public class AstServiceCEImpl implements AstServiceCE {
         Boolean isJSObject;
     }
 
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    static class MultipleEntityRefactorRequest {
+        List<String> scripts;
+        String oldName;
+        String newName;
+        int evalVersion;
+        Boolean isJSObject;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    static class EntityRefactorResponseBulk {
+        List<EntityRefactorResponseDetails> data;
+    }
+
     @NoArgsConstructor
     @AllArgsConstructor
     @Getter
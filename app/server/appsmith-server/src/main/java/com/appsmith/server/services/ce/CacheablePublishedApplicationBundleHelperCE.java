@@ -0,0 +1,31 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.domains.Application;
+import reactor.core.publisher.Mono;
+
+public interface CacheablePublishedApplicationBundleHelperCE {
+
+    /**
+     * Fetches the published bundle of the application from the cache, building it from the published resources of the
+     * application if it isn't cached.
+     * @param branchedApplicationId Id of the branched application
+     * @return Mono of the serialized PublishedApplicationBundleDTO
+     */
+    Mono<String> fetchPublishedApplicationBundle(String branchedApplicationId);
+
+    Mono<Void> evictPublishedApplicationBundle(String branchedApplicationId);
+
+    /**
+     * Builds the published bundle of the application and replaces the cached one with it. The cached bundle is only
+     * evicted once the new one is built, so that concurrent fetches keep getting the previous bundle in the meantime
+     * instead of all building it.
+     * @param branchedApplicationId Id of the branched application
+     */
+    Mono<Void> rebuildPublishedApplicationBundle(String branchedApplicationId);
+
+    /**
+     * Computes the version of the published bundle of the application, which changes whenever the application is
+     * deployed or shared, the server is upgraded, or the latest DSL version changes.
+     */
+    String getPublishedApplicationBundleVersion(Application branchedApplication, Integer latestDslVersion);
+}
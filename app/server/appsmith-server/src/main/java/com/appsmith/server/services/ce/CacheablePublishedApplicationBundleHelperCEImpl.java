@@ -0,0 +1,295 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.caching.annotations.Cache;
+import com.appsmith.caching.annotations.CacheEvict;
+import com.appsmith.caching.components.CacheManager;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.PluginType;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.actioncollections.base.ActionCollectionService;
+import com.appsmith.server.configurations.ProjectProperties;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.ActionCollection;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.CustomJSLib;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.dtos.ActionCollectionViewDTO;
+import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.dtos.PublishedApplicationBundleDTO;
+import com.appsmith.server.dtos.PublishedPageBundleDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.DSLMigrationUtils;
+import com.appsmith.server.helpers.GitUtils;
+import com.appsmith.server.helpers.PublishedPageLoadCache;
+import com.appsmith.server.layouts.UpdateLayoutService;
+import com.appsmith.server.newactions.base.NewActionService;
+import com.appsmith.server.newpages.base.NewPageService;
+import com.appsmith.server.repositories.ActionCollectionRepository;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.CustomJSLibRepository;
+import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.repositories.NewPageRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.minidev.json.JSONObject;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Builds and caches the published bundles of applications. Bundles are built without any permission check, since they
+ * are shared by all the viewers of an application, and hold the permission groups of each resource instead.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheablePublishedApplicationBundleHelperCEImpl implements CacheablePublishedApplicationBundleHelperCE {
+
+    private static final String CACHE_NAME = "publishedApplicationBundle";
+    private static final String BUILD_METRIC = "appsmith.published.bundle.build";
+
+    private final ApplicationRepository applicationRepository;
+    private final NewPageRepository newPageRepository;
+    private final NewActionRepository newActionRepository;
+    private final ActionCollectionRepository actionCollectionRepository;
+    private final CustomJSLibRepository customJSLibRepository;
+    private final NewPageService newPageService;
+    private final NewActionService newActionService;
+    private final ActionCollectionService actionCollectionService;
+    private final UpdateLayoutService updateLayoutService;
+    private final DSLMigrationUtils dslMigrationUtils;
+    private final ProjectProperties projectProperties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final CacheManager cacheManager;
+
+    @Cache(cacheName = CACHE_NAME, key = "{#branchedApplicationId}")
+    @Override
+    public Mono<String> fetchPublishedApplicationBundle(String branchedApplicationId) {
+        return buildSerializedPublishedApplicationBundle(branchedApplicationId);
+    }
+
+    @CacheEvict(cacheName = CACHE_NAME, key = "{#branchedApplicationId}")
+    @Override
+    public Mono<Void> evictPublishedApplicationBundle(String branchedApplicationId) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> rebuildPublishedApplicationBundle(String branchedApplicationId) {
+        // Evicted rather than overwritten, so that the instances holding the previous bundle in memory drop it as well
+        return buildSerializedPublishedApplicationBundle(branchedApplicationId)
+                .flatMap(bundle -> cacheManager
+                        .evict(CACHE_NAME, branchedApplicationId)
+                        .then(cacheManager.put(CACHE_NAME, branchedApplicationId, bundle)))
+                .then();
+    }
+
+    private Mono<String> buildSerializedPublishedApplicationBundle(String branchedApplicationId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return Mono.zip(
+                        applicationRepository
+                                .findById(branchedApplicationId)
+                                .switchIfEmpty(Mono.error(new AppsmithException(
+                                        AppsmithError.NO_RESOURCE_FOUND,
+                                        FieldName.APPLICATION,
+                                        branchedApplicationId))),
+                        dslMigrationUtils.getLatestDslVersion())
+                .flatMap(tuple2 -> buildPublishedApplicationBundle(tuple2.getT1(), tuple2.getT2()))
+                .map(bundle -> {
+                    try {
+                        return objectMapper.writeValueAsString(bundle);
+                    } catch (Exception e) {
+                        throw new AppsmithException(AppsmithError.INTERNAL_SERVER_ERROR, e.getMessage());
+                    }
+                })
+                .doOnSuccess(bundle -> {
+                    sample.stop(meterRegistry.timer(BUILD_METRIC));
+                    log.debug(
+                            "Built the published bundle of application {}, {} characters",
+                            branchedApplicationId,
+                            bundle.length());
+                });
+    }
+
+    @Override
+    public String getPublishedApplicationBundleVersion(Application branchedApplication, Integer latestDslVersion) {
+        String version = String.join(
+                "\n",
+                projectProperties.getVersion(),
+                projectProperties.getCommitSha(),
+                String.valueOf(branchedApplication.getLastDeployedAt()),
+                // Sharing the application updates the policies of its pages, actions and action collections as well
+                PublishedPageLoadCache.getPoliciesVersion(branchedApplication.getPolicyMap()),
+                String.valueOf(latestDslVersion));
+        return DigestUtils.sha256Hex(version);
+    }
+
+    private Mono<PublishedApplicationBundleDTO> buildPublishedApplicationBundle(
+            Application branchedApplication, Integer latestDslVersion) {
+        String branchedApplicationId = branchedApplication.getId();
+
+        Mono<List<NewAction>> actionsMono = newActionRepository
+                .findByApplicationIdAndViewMode(branchedApplicationId, true, null)
+                .filter(action -> action.getPublishedAction() != null)
+                .collectList();
+
+        Mono<List<ActionCollection>> actionCollectionsMono = actionCollectionRepository
+                .findNonComposedByApplicationIdAndViewMode(branchedApplicationId, true, null)
+                .filter(actionCollection -> actionCollection.getPublishedCollection() != null)
+                .collectList();
+
+        return Mono.zip(actionsMono, actionCollectionsMono, getPublishedCustomJSLibs(branchedApplication))
+                .flatMap(tuple3 -> {
+                    List<NewAction> actions = tuple3.getT1();
+                    List<ActionCollection> actionCollections = tuple3.getT2();
+
+                    PublishedApplicationBundleDTO bundle = new PublishedApplicationBundleDTO();
+                    bundle.setVersion(getPublishedApplicationBundleVersion(branchedApplication, latestDslVersion));
+                    bundle.setCustomJSLibraries(tuple3.getT3());
+                    bundle.setActionCollections(getActionCollectionViewDTOs(actionCollections, actions));
+
+                    Map<String, Map<String, Set<String>>> permissionGroups = new HashMap<>();
+                    actions.forEach(
+                            action -> permissionGroups.put(action.getId(), getPermissionGroups(action.getPolicyMap())));
+                    actionCollections.forEach(actionCollection -> permissionGroups.put(
+                            actionCollection.getId(), getPermissionGroups(actionCollection.getPolicyMap())));
+                    bundle.setPermissionGroups(permissionGroups);
+
+                    Map<String, List<ActionViewDTO>> actionViewDTOsByPageId = actions.stream()
+                            .filter(action -> !PluginType.JS.equals(action.getPluginType()))
+                            .filter(action -> action.getPublishedAction().getPageId() != null)
+                            .collect(Collectors.groupingBy(
+                                    action -> action.getPublishedAction().getPageId(),
+                                    Collectors.mapping(
+                                            action -> newActionService.generateActionViewDTO(
+                                                    action, action.getPublishedAction(), true),
+                                            Collectors.toList())));
+
+                    return newPageRepository
+                            .findByApplicationId(branchedApplicationId, (AclPermission) null)
+                            .filter(newPage -> newPage.getPublishedPage() != null)
+                            .concatMap(newPage -> getPublishedPageBundle(
+                                            newPage,
+                                            actionViewDTOsByPageId.getOrDefault(newPage.getId(), List.of()),
+                                            latestDslVersion)
+                                    .map(pageBundle -> Map.entry(newPage.getId(), pageBundle)))
+                            .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                            .map(pages -> {
+                                bundle.setPages(pages);
+                                return bundle;
+                            });
+                });
+    }
+
+    private List<ActionCollectionViewDTO> getActionCollectionViewDTOs(
+            List<ActionCollection> actionCollections, List<NewAction> actions) {
+        Map<String, List<ActionDTO>> actionDTOsByCollectionId = actions.stream()
+                .filter(action -> action.getPublishedAction().getCollectionId() != null)
+                .collect(Collectors.groupingBy(
+                        action -> action.getPublishedAction().getCollectionId(),
+                        Collectors.mapping(
+                                action -> newActionService.generateActionByViewMode(action, true),
+                                Collectors.toList())));
+
+        List<ActionCollectionViewDTO> actionCollectionViewDTOs = new ArrayList<>();
+        for (ActionCollection actionCollection : actionCollections) {
+            actionCollectionViewDTOs.add(actionCollectionService.generateActionCollectionViewDTO(
+                    actionCollection,
+                    actionCollection.getPublishedCollection(),
+                    actionDTOsByCollectionId.getOrDefault(actionCollection.getId(), new ArrayList<>())));
+        }
+        return actionCollectionViewDTOs;
+    }
+
+    /**
+     * Serializes the published page with its actions, after unescaping and migrating its DSL the same way as when the
+     * page is fetched in view mode. Migrated DSLs aren't saved here, the page is migrated when it's next fetched, or by
+     * the page DSL migration task.
+     */
+    private Mono<String> getPublishedPageBundle(
+            NewPage newPage, List<ActionViewDTO> actions, Integer latestDslVersion) {
+        Map<String, Set<String>> permissionGroups = getPermissionGroups(newPage.getPolicyMap());
+
+        return newPageService
+                .getPageByViewMode(newPage, true)
+                .flatMap(page -> migratePageDsl(page, latestDslVersion))
+                .map(page -> {
+                    PublishedPageBundleDTO pageBundle = new PublishedPageBundleDTO();
+                    pageBundle.setPage(page);
+                    pageBundle.setActions(actions);
+                    pageBundle.setPermissionGroups(permissionGroups);
+                    try {
+                        return objectMapper.writeValueAsString(pageBundle);
+                    } catch (Exception e) {
+                        throw new AppsmithException(AppsmithError.INTERNAL_SERVER_ERROR, e.getMessage());
+                    }
+                });
+    }
+
+    private Mono<PageDTO> migratePageDsl(PageDTO page, Integer latestDslVersion) {
+        if (CollectionUtils.isEmpty(page.getLayouts())) {
+            return Mono.just(page);
+        }
+        return Flux.fromIterable(page.getLayouts())
+                .filter(layout -> layout.getDsl() != null)
+                .concatMap(layout -> {
+                    if (!CollectionUtils.isEmpty(layout.getMongoEscapedWidgetNames())) {
+                        layout.setDsl(updateLayoutService.unescapeMongoSpecialCharacters(layout));
+                    }
+                    JSONObject dsl = layout.getDsl();
+                    if (!GitUtils.isMigrationRequired(dsl, latestDslVersion)) {
+                        return Mono.just(layout);
+                    }
+                    return dslMigrationUtils.migratePageDsl(dsl).map(migratedDsl -> {
+                        layout.setDsl(migratedDsl);
+                        return layout;
+                    });
+                })
+                .then(Mono.just(page));
+    }
+
+    private Mono<List<CustomJSLib>> getPublishedCustomJSLibs(Application branchedApplication) {
+        if (CollectionUtils.isEmpty(branchedApplication.getPublishedCustomJSLibs())) {
+            return Mono.just(new ArrayList<>());
+        }
+        return customJSLibRepository
+                .findCustomJsLibsInContext(branchedApplication.getPublishedCustomJSLibs())
+                .collectList()
+                .map(customJSLibs -> {
+                    customJSLibs.sort(Comparator.comparing(CustomJSLib::getUidString));
+                    return customJSLibs;
+                });
+    }
+
+    /**
+     * Gets the permission groups that are granted each permission in the given policies.
+     */
+    private static Map<String, Set<String>> getPermissionGroups(Map<String, Policy> policyMap) {
+        Map<String, Set<String>> permissionGroups = new HashMap<>();
+        if (policyMap != null) {
+            policyMap.forEach((permission, policy) -> permissionGroups.put(
+                    permission,
+                    policy.getPermissionGroups() == null
+                            ? new HashSet<>()
+                            : new HashSet<>(policy.getPermissionGroups())));
+        }
+        return permissionGroups;
+    }
+}
@@ -18,6 +18,8 @@ import com.appsmith.server.dtos.ProductAlertResponseDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.PublishedPageLoadCache;
+import com.appsmith.server.helpers.PublishedPageLoadCache.PublishedPageLoadData;
 import com.appsmith.server.jslibs.base.CustomJSLibService;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
@@ -26,6 +28,7 @@ import com.appsmith.server.repositories.CacheableRepositoryHelper;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.MockDataService;
 import com.appsmith.server.services.ProductAlertService;
+import com.appsmith.server.services.PublishedApplicationBundleService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.TenantService;
 import com.appsmith.server.services.UserDataService;
@@ -46,6 +49,7 @@ import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -78,6 +82,7 @@ import static com.appsmith.server.constants.ce.FieldNameCE.APPLICATION_ID;
 import static com.appsmith.server.constants.ce.FieldNameCE.APP_MODE;
 import static com.appsmith.server.constants.ce.FieldNameCE.WORKSPACE_ID;
 import static com.appsmith.server.helpers.ObservationUtils.getQualifiedSpanName;
+import static java.lang.Boolean.TRUE;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 @Slf4j
@@ -105,6 +110,8 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
     private final MockDataService mockDataService;
     private final ObservationRegistry observationRegistry;
     private final CacheableRepositoryHelper cacheableRepositoryHelper;
+    private final PublishedPageLoadCache publishedPageLoadCache;
+    private final PublishedApplicationBundleService publishedApplicationBundleService;
 
     protected <T> ResponseDTO<T> getSuccessResponse(T data) {
         return new ResponseDTO<>(HttpStatus.OK.value(), data, null);
@@ -151,7 +158,27 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
         List<Mono<?>> fetches =
                 getAllFetchableMonos(consolidatedAPIResponseDTO, basePageId, baseApplicationId, branchName, mode);
 
-        return Mono.when(fetches).thenReturn(consolidatedAPIResponseDTO);
+        return Mono.when(fetches).then(Mono.fromCallable(() -> {
+            consolidatedAPIResponseDTO.setEtag(getETag(consolidatedAPIResponseDTO));
+            return consolidatedAPIResponseDTO;
+        }));
+    }
+
+    /**
+     * Computes the ETag of a view mode response from the version of its published application data, and from the
+     * content of the sections of the response which are fetched on every request.
+     */
+    protected String getETag(ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO) {
+        return publishedPageLoadCache.getETag(
+                consolidatedAPIResponseDTO.getPublishedDataVersion(),
+                Arrays.asList(
+                        consolidatedAPIResponseDTO.getUserProfile(),
+                        consolidatedAPIResponseDTO.getFeatureFlags(),
+                        consolidatedAPIResponseDTO.getTenantConfig(),
+                        consolidatedAPIResponseDTO.getProductAlert(),
+                        consolidatedAPIResponseDTO.getPages(),
+                        consolidatedAPIResponseDTO.getCurrentTheme(),
+                        consolidatedAPIResponseDTO.getThemes()));
     }
 
     protected List<Mono<?>> getAllFetchableMonos(
@@ -271,8 +298,11 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
                 .name(getQualifiedSpanName(THEMES_SPAN, mode))
                 .tap(Micrometer.observation(observationRegistry)));
 
+        /* Fetches of the data which, in view mode, only depends on the deployed application */
+        final List<Mono<?>> publishedDataFetches = new ArrayList<>();
+
         /* Get all custom JS libraries installed in the application */
-        fetches.add(branchedApplicationMonoCached
+        publishedDataFetches.add(branchedApplicationMonoCached
                 .flatMap(branchedApplication -> customJSLibService.getAllJSLibsInContext(
                         branchedApplication.getId(), CreatorContextType.APPLICATION, isViewMode))
                 .as(this::toResponseDTO)
@@ -283,7 +313,7 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
 
         if (!isBlank(basePageId)) {
             /* Get current page */
-            fetches.add(branchedPageMonoCached
+            publishedDataFetches.add(branchedPageMonoCached
                     .flatMap(branchedPage -> applicationPageService.getPageAndMigrateDslByBranchedPageId(
                             branchedPage.getId(), isViewMode, true))
                     .as(this::toResponseDTO)
@@ -300,7 +330,7 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
                 // For a git connected application the desired branch name may differ from the base if no
                 // branch name is provided hence, we would still need to check this.
                 Mono<String> branchedPageIdMono = branchedPageMonoCached.map(NewPage::getId);
-                fetches.add(branchedPageIdMono
+                publishedDataFetches.add(branchedPageIdMono
                         .flatMap(branchedPageId -> newActionService
                                 .getActionsForViewModeByPageId(branchedPageId)
                                 .collectList())
@@ -312,7 +342,7 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
             }
 
             /* Get list of all action collections in view mode */
-            fetches.add(branchedApplicationMonoCached
+            publishedDataFetches.add(branchedApplicationMonoCached
                     .flatMap(branchedApplication -> actionCollectionService
                             .getActionCollectionsForViewMode(branchedApplication.getId())
                             .collectList())
@@ -321,7 +351,14 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
                     .doOnSuccess(consolidatedAPIResponseDTO::setPublishedActionCollections)
                     .name(getQualifiedSpanName(ACTION_COLLECTIONS_SPAN, mode)));
 
+            fetches.add(getPublishedDataMono(
+                    consolidatedAPIResponseDTO,
+                    branchedApplicationMonoCached,
+                    branchedPageMonoCached,
+                    publishedDataFetches));
         } else {
+            fetches.addAll(publishedDataFetches);
+
             /* Get all actions in edit mode */
             fetches.add(branchedApplicationMonoCached
                     .flatMap(branchedApplication -> {
@@ -463,6 +500,68 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
         return fetches;
     }
 
+    /**
+     * Fills the response with the data of the deployed application, from the cache if it was already fetched for the
+     * same version of the application, as seen by the current user. Otherwise, the data is served from the published
+     * bundle of the application, or fetched from the database if that isn't possible, and cached.
+     */
+    protected Mono<Boolean> getPublishedDataMono(
+            ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO,
+            Mono<Application> branchedApplicationMonoCached,
+            Mono<NewPage> branchedPageMonoCached,
+            List<Mono<?>> publishedDataFetches) {
+        return Mono.zip(
+                        branchedApplicationMonoCached,
+                        branchedPageMonoCached,
+                        sessionUserService
+                                .getCurrentUser()
+                                .flatMap(cacheableRepositoryHelper::getPermissionGroupsOfUser))
+                // The data is then fetched as usual, and the errors are reported in its sections
+                .onErrorResume(error -> Mono.empty())
+                .flatMap(tuple3 -> {
+                    Application branchedApplication = tuple3.getT1();
+                    String branchedPageId = tuple3.getT2().getId();
+                    Set<String> permissionGroups = tuple3.getT3();
+                    String publishedDataVersion =
+                            publishedPageLoadCache.getVersion(branchedApplication, branchedPageId, permissionGroups);
+
+                    PublishedPageLoadData cachedData = publishedPageLoadCache.get(publishedDataVersion);
+                    Mono<PublishedPageLoadData> publishedDataMono = cachedData != null
+                            ? Mono.just(cachedData)
+                            : publishedApplicationBundleService
+                                    .getPublishedPageLoadData(branchedApplication, branchedPageId, permissionGroups)
+                                    .doOnNext(bundledData ->
+                                            publishedPageLoadCache.put(publishedDataVersion, bundledData));
+
+                    return publishedDataMono
+                            .flatMap(publishedData -> {
+                                publishedData.copyTo(consolidatedAPIResponseDTO);
+                                consolidatedAPIResponseDTO.setPublishedDataVersion(publishedDataVersion);
+                                // Page views are recorded when the page is fetched, which isn't the case here
+                                return branchedPageMonoCached
+                                        .flatMap(branchedPage ->
+                                                applicationPageService.sendPageViewAnalyticsEvent(branchedPage, true))
+                                        .onErrorResume(error -> {
+                                            log.debug("Error sending page view analytics event", error);
+                                            return Mono.empty();
+                                        })
+                                        .thenReturn(TRUE);
+                            })
+                            .switchIfEmpty(Mono.defer(
+                                    () -> Mono.when(publishedDataFetches).then(Mono.fromCallable(() -> {
+                                        PublishedPageLoadData fetchedData =
+                                                PublishedPageLoadData.from(consolidatedAPIResponseDTO);
+                                        // Responses with errors are neither cached here nor by clients
+                                        if (fetchedData != null) {
+                                            publishedPageLoadCache.put(publishedDataVersion, fetchedData);
+                                            consolidatedAPIResponseDTO.setPublishedDataVersion(publishedDataVersion);
+                                        }
+                                        return TRUE;
+                                    }))));
+                })
+                .switchIfEmpty(Mono.defer(() -> Mono.when(publishedDataFetches).thenReturn(TRUE)));
+    }
+
     protected Mono<String> getBaseApplicationIdMono(
             String basePageId, String baseApplicationId, ApplicationMode mode, boolean isViewMode) {
         Mono<String> baseApplicationIdMono = Mono.just("");
@@ -8,6 +8,7 @@ import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionExceptio
 import com.appsmith.external.models.DatasourceStorage;
 import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.configurations.DatasourceContextConfig;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
@@ -25,9 +26,13 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.RemovalListener;
 import com.google.common.cache.RemovalNotification;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
@@ -35,32 +40,36 @@ import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import static java.lang.Boolean.FALSE;
-import static java.lang.Boolean.TRUE;
 
 @Slf4j
 public class DatasourceContextServiceCEImpl implements DatasourceContextServiceCE {
 
     // DatasourceContextIdentifier contains datasourceId & environmentId which is mapped to DatasourceContext
     protected final Map<DatasourceContextIdentifier, Mono<DatasourceContext<Object>>> datasourceContextMonoMap;
-    protected final Map<DatasourceContextIdentifier, Object> datasourceContextSynchronizationMonitorMap;
     protected final Map<DatasourceContextIdentifier, DatasourceContext<?>> datasourceContextMap;
 
     /**
-     * This cache is used to store the datasource context for a limited time and a limited max number of connections and
-     * then destroy the least recently used connection. The cleanup process is triggered when the cache is accessed and
-     * either the time limit or the max connections are reached.
-     * The purpose of this is to prevent the large number of open dangling connections to the movies mockDB.
+     * This cache keeps track of every datasource context held in the maps above, to destroy the connections that are
+     * idle for longer than the idle timeout, or the least recently used ones when the total weight of the contexts goes
+     * over the maximum weight, see {@link DatasourceContextConfig}. Each context weighs as many connections as its
+     * plugin may keep open.
+     * Eviction happens when the cache is accessed, and periodically in {@link #reapIdleDatasourceContexts()}.
      * The removalListener method is called when the connection is removed from the cache.
      */
-    protected final Cache<DatasourceContextIdentifier, DatasourcePluginContext> datasourcePluginContextMapLRUCache =
-            CacheBuilder.newBuilder()
-                    .removalListener(createRemovalListener())
-                    .expireAfterAccess(2, TimeUnit.HOURS)
-                    .maximumSize(300) // caches most recently used 300 mock connections per pod
-                    .build();
+    protected final Cache<DatasourceContextIdentifier, DatasourcePluginContext> datasourcePluginContextMapLRUCache;
+
+    private static final String LIVE_CONTEXTS_METRIC = "appsmith.datasource.contexts";
+    private static final String CONTEXT_CREATION_METRIC = "appsmith.datasource.context.creation";
+    private static final String CONTEXT_REMOVAL_METRIC = "appsmith.datasource.context.removals";
+    private static final String UNKNOWN_PLUGIN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> liveContextsByPlugin = new ConcurrentHashMap<>();
 
     private final DatasourceService datasourceService;
     private final DatasourceStorageService datasourceStorageService;
@@ -79,16 +88,27 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             PluginService pluginService,
             PluginExecutorHelper pluginExecutorHelper,
             ConfigService configService,
-            DatasourcePermission datasourcePermission) {
+            DatasourcePermission datasourcePermission,
+            DatasourceContextConfig datasourceContextConfig,
+            MeterRegistry meterRegistry) {
         this.datasourceService = datasourceService;
         this.datasourceStorageService = datasourceStorageService;
         this.pluginService = pluginService;
         this.pluginExecutorHelper = pluginExecutorHelper;
         this.datasourceContextMap = new ConcurrentHashMap<>();
         this.datasourceContextMonoMap = new ConcurrentHashMap<>();
-        this.datasourceContextSynchronizationMonitorMap = new ConcurrentHashMap<>();
         this.configService = configService;
         this.datasourcePermission = datasourcePermission;
+        this.meterRegistry = meterRegistry;
+        this.datasourcePluginContextMapLRUCache = CacheBuilder.newBuilder()
+                // Contexts are only added when a connection is created, a single segment keeps the weight exact
+                .concurrencyLevel(1)
+                .removalListener(createRemovalListener())
+                .expireAfterAccess(datasourceContextConfig.getIdleTimeoutMinutes(), TimeUnit.MINUTES)
+                .maximumWeight(datasourceContextConfig.getMaximumWeight())
+                .weigher((DatasourceContextIdentifier identifier, DatasourcePluginContext datasourcePluginContext) ->
+                        datasourceContextConfig.getWeight(datasourcePluginContext.getPluginPackageName()))
+                .build();
     }
 
     private RemovalListener<DatasourceContextIdentifier, DatasourcePluginContext> createRemovalListener() {
@@ -97,26 +117,60 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         };
     }
 
-    private Object getConnectionFromDatasourceContextMap(DatasourceContextIdentifier datasourceContextIdentifier) {
-        return this.datasourceContextMap.containsKey(datasourceContextIdentifier)
-                        && this.datasourceContextMap.get(datasourceContextIdentifier) != null
-                ? this.datasourceContextMap.get(datasourceContextIdentifier).getConnection()
-                : null;
+    private static String getPluginTag(String pluginPackageName) {
+        return pluginPackageName != null ? pluginPackageName : UNKNOWN_PLUGIN;
+    }
+
+    private AtomicInteger getLiveContexts(String pluginTag) {
+        return liveContextsByPlugin.computeIfAbsent(
+                pluginTag,
+                tag -> meterRegistry.gauge(LIVE_CONTEXTS_METRIC, Tags.of("plugin", tag), new AtomicInteger()));
+    }
+
+    private void recordContextCreation(Plugin plugin, long startTime, String result) {
+        Timer.builder(CONTEXT_CREATION_METRIC)
+                .tag("plugin", getPluginTag(plugin.getPackageName()))
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
     }
 
     private void handleRemoval(
             RemovalNotification<DatasourceContextIdentifier, DatasourcePluginContext> removalNotification) {
         final DatasourceContextIdentifier datasourceContextIdentifier = removalNotification.getKey();
         final DatasourcePluginContext datasourcePluginContext = removalNotification.getValue();
+        final String pluginTag = getPluginTag(datasourcePluginContext.getPluginPackageName());
+
+        getLiveContexts(pluginTag).decrementAndGet();
+        meterRegistry
+                .counter(
+                        CONTEXT_REMOVAL_METRIC,
+                        "plugin",
+                        pluginTag,
+                        "cause",
+                        removalNotification.getCause().name().toLowerCase())
+                .increment();
+
+        // Explicit removals are made when the connection is stale, or deleted, and the caller destroys it
+        if (!removalNotification.wasEvicted()) {
+            return;
+        }
 
         log.debug(
-                "Removing Datasource Context from cache and closing the open connection for DatasourceId: {} and environmentId: {}",
+                "Evicting Datasource Context from cache ({}) and closing the open connection for DatasourceId: {} and environmentId: {}",
+                removalNotification.getCause(),
                 datasourceContextIdentifier.getDatasourceId(),
                 datasourceContextIdentifier.getEnvironmentId());
         log.info("LRU Cache Size after eviction: {}", datasourcePluginContextMapLRUCache.size());
 
-        // Close connection and remove entry from both cache maps
-        final Object connection = getConnectionFromDatasourceContextMap(datasourceContextIdentifier);
+        // Remove the entries from both maps, unless a new context has been created for the datasource in the meantime
+        final Object connection = datasourcePluginContext.getConnection();
+        final DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceContextIdentifier);
+        if (datasourceContext != null
+                && datasourceContext.getConnection() == connection
+                && datasourceContextMap.remove(datasourceContextIdentifier, datasourceContext)) {
+            datasourceContextMonoMap.remove(datasourceContextIdentifier);
+        }
 
         Mono<Plugin> pluginMono =
                 pluginService.findById(datasourcePluginContext.getPluginId()).cache();
@@ -130,25 +184,30 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                     })
                     .subscribe(); // Trigger the execution
         }
-        // Remove the entries from both maps
-        datasourceContextMonoMap.remove(datasourceContextIdentifier);
-        datasourceContextMap.remove(datasourceContextIdentifier);
     }
 
     /**
-     * This method defines a critical section that can be executed only by one thread at a time per datasource id - i
-     * .e. if two threads want to create datasource for different datasource ids then they would not be synchronized.
+     * Destroys the datasource contexts that have been idle for longer than the idle timeout. The cache only evicts them
+     * while it is being accessed otherwise, which would leave their connections open on an instance that is not used.
+     */
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedDelay = 60 * 1000 /* one minute */)
+    public void reapIdleDatasourceContexts() {
+        datasourcePluginContextMapLRUCache.cleanUp();
+    }
+
+    /**
+     * Returns the datasource context for the datasource, creating the connection when there is no valid context for it.
      * Earlier multiple threads could subscribe to a publisher that created connection to a datasource - which
      * resulted in a data race condition resulting in multiple orphan connections.
      * Ref: https://github.com/appsmithorg/appsmith/issues/14117
-     * This method caches the result from the source publisher and forces concurrent subscriptions to re-use the cached
-     * value. Hence, even if multiple threads subscribe to the same source publisher they get the pre-computed cached
-     * value instead of creating a new connection for each subscription of the source publisher.
+     * A cached publisher is created for each datasource, with an atomic compute on the datasourceContextMonoMap, before
+     * anyone subscribes to it. Concurrent callers get the same publisher and hence share a single connection, without
+     * any thread waiting on a lock while the connection is created. The publisher is replaced when the connection is
+     * stale or has failed, and the previous connection is destroyed in the background.
      *
      * @param datasourceStorage           - datasource storage for which a new datasource context / connection needs to be created
      * @param plugin
      * @param pluginExecutor              - plugin executor associated with the datasource's plugin
-     * @param monitor                     - unique monitor object per datasource id. Lock is acquired on this monitor object.
      * @param datasourceContextIdentifier - key for the datasourceContextMaps.
      * @return a cached source publisher which upon subscription produces / returns the latest datasource context /
      * connection.
@@ -157,111 +216,148 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             DatasourceStorage datasourceStorage,
             Plugin plugin,
             PluginExecutor<Object> pluginExecutor,
-            Object monitor,
             DatasourceContextIdentifier datasourceContextIdentifier) {
 
-        return Mono.fromCallable(() -> {
-                    synchronized (monitor) {
+        if (!datasourceContextIdentifier.isKeyValid() || !shouldCacheContextForThisPlugin(plugin)) {
+            return createDatasourceContextMono(
+                    datasourceStorage, plugin, pluginExecutor, datasourceContextIdentifier, null);
+        }
+
+        return Mono.defer(() -> {
+            final AtomicReference<DatasourceContext<?>> replacedDatasourceContext = new AtomicReference<>();
+            final Mono<DatasourceContext<Object>> datasourceContextMono = datasourceContextMonoMap.compute(
+                    datasourceContextIdentifier, (identifier, cachedDatasourceContextMono) -> {
                         /* Destroy any connection that is stale or in error state to free up resource */
-                        final boolean isStale = getIsStale(datasourceStorage, datasourceContextIdentifier);
-                        final boolean isInErrorState = getIsInErrorState(datasourceContextIdentifier);
-
-                        if (isStale || isInErrorState) {
-                            final Object connection = datasourceContextMap
-                                    .get(datasourceContextIdentifier)
-                                    .getConnection();
-                            if (connection != null) {
-                                try {
-                                    // Basically remove entry from both cache maps
-                                    pluginExecutor.datasourceDestroy(connection);
-                                } catch (Exception e) {
-                                    log.info(
-                                            Thread.currentThread().getName()
-                                                    + ": Error destroying stale datasource connection",
-                                            e);
-                                }
-                            }
-                            datasourceContextMonoMap.remove(datasourceContextIdentifier);
-                            datasourceContextMap.remove(datasourceContextIdentifier);
-                            log.info(
-                                    "Invalidating the LRU cache entry for datasource id {}, environment id {} as the connection is stale or in error state",
-                                    datasourceContextIdentifier.getDatasourceId(),
-                                    datasourceContextIdentifier.getEnvironmentId());
-                            datasourcePluginContextMapLRUCache.invalidate(datasourceContextIdentifier);
+                        if (cachedDatasourceContextMono != null
+                                && !getIsStale(datasourceStorage, identifier)
+                                && !getIsInErrorState(cachedDatasourceContextMono)) {
+                            log.debug(
+                                    "Cached resource context mono exists for datasource id {}, environment id {}. Returning the same.",
+                                    identifier.getDatasourceId(),
+                                    identifier.getEnvironmentId());
+                            return cachedDatasourceContextMono;
                         }
 
-                        /*
-                         * If a publisher with cached value already exists then return it. Please note that even if this publisher is
-                         * evaluated multiple times the actual datasource creation will only happen once and get cached and the same
-                         * value would directly be returned to further evaluations / subscriptions.
-                         */
-                        if (datasourceContextIdentifier.getDatasourceId() != null
-                                && datasourceContextMonoMap.get(datasourceContextIdentifier) != null) {
-                            log.debug(
-                                    Thread.currentThread().getName()
-                                            + ": Cached resource context mono exists for datasource id {}, environment id {}. Returning the same.",
-                                    datasourceContextIdentifier.getDatasourceId(),
-                                    datasourceContextIdentifier.getEnvironmentId());
-                            // Accessing the LRU cache to update the last accessed time
-                            datasourcePluginContextMapLRUCache.getIfPresent(datasourceContextIdentifier);
-                            return datasourceContextMonoMap.get(datasourceContextIdentifier);
+                        if (cachedDatasourceContextMono != null) {
+                            replacedDatasourceContext.set(datasourceContextMap.remove(identifier));
                         }
 
-                        /* Create a fresh datasource context */
-                        DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
-                        Mono<Object> connectionMonoCache = pluginExecutor
-                                .datasourceCreate(datasourceStorage.getDatasourceConfiguration())
-                                .cache();
-
-                        Mono<DatasourceContext<Object>> datasourceContextMonoCache = connectionMonoCache
-                                .flatMap(connection ->
-                                        updateDatasourceAndSetAuthentication(connection, datasourceStorage))
-                                .map(connection -> {
-                                    /* When a connection object exists and makes sense for the plugin, we put it in the
-                                    context. Example, DB plugins. */
-                                    datasourceContext.setConnection(connection);
-                                    return datasourceContext;
-                                })
-                                .defaultIfEmpty(
-                                        /* When a connection object doesn't make sense for the plugin, we get an empty mono
-                                        and we just return the context object as is. */
-                                        datasourceContext)
-                                .cache(); /* Cache the value so that further evaluations don't result in new connections */
-
-                        return connectionMonoCache
-                                .flatMap(connection -> {
-                                    datasourceContext.setConnection(connection);
-                                    if (datasourceContextIdentifier.isKeyValid()
-                                            && shouldCacheContextForThisPlugin(plugin)) {
-                                        datasourceContextMap.put(datasourceContextIdentifier, datasourceContext);
-                                        datasourceContextMonoMap.put(
-                                                datasourceContextIdentifier, datasourceContextMonoCache);
-
-                                        if (TRUE.equals(datasourceStorage.getIsMock())
-                                                && PluginConstants.PackageName.MONGO_PLUGIN.equals(
-                                                        plugin.getPackageName())) {
-                                            log.info(
-                                                    "Datasource is a mock mongo DB. Adding the connection to LRU cache!");
-                                            DatasourcePluginContext<Object> datasourcePluginContext =
-                                                    new DatasourcePluginContext<>();
-                                            datasourcePluginContext.setConnection(datasourceContext.getConnection());
-                                            datasourcePluginContext.setPluginId(plugin.getId());
-                                            datasourcePluginContextMapLRUCache.put(
-                                                    datasourceContextIdentifier, datasourcePluginContext);
-                                            log.info(
-                                                    "LRU Cache Size after adding: {}",
-                                                    datasourcePluginContextMapLRUCache.size());
-                                        }
-                                    }
-                                    return datasourceContextMonoCache;
-                                })
-                                .switchIfEmpty(datasourceContextMonoCache);
-                    }
+                        /* Create a fresh datasource context, that is only created once, when first subscribed */
+                        final AtomicReference<Mono<DatasourceContext<Object>>> self = new AtomicReference<>();
+                        self.set(
+                                createDatasourceContextMono(datasourceStorage, plugin, pluginExecutor, identifier, self)
+                                        .cache());
+                        return self.get();
+                    });
+
+            final DatasourceContext<?> replaced = replacedDatasourceContext.get();
+            if (replaced != null) {
+                log.info(
+                        "Invalidating the LRU cache entry for datasource id {}, environment id {} as the connection is stale or in error state",
+                        datasourceContextIdentifier.getDatasourceId(),
+                        datasourceContextIdentifier.getEnvironmentId());
+                destroyDatasourceContextInBackground(datasourceContextIdentifier, pluginExecutor, replaced);
+            } else {
+                // Accessing the LRU cache to update the last accessed time
+                datasourcePluginContextMapLRUCache.getIfPresent(datasourceContextIdentifier);
+            }
+
+            return datasourceContextMono;
+        });
+    }
+
+    /**
+     * Creates the connection and the datasource context. When the context is cached, it is registered in the
+     * datasourceContextMap and the LRU cache once the connection is available.
+     *
+     * @param cachedDatasourceContextMono - the cached publisher in the datasourceContextMonoMap, or null when the
+     *                                    context isn't cached.
+     */
+    private Mono<DatasourceContext<Object>> createDatasourceContextMono(
+            DatasourceStorage datasourceStorage,
+            Plugin plugin,
+            PluginExecutor<Object> pluginExecutor,
+            DatasourceContextIdentifier datasourceContextIdentifier,
+            AtomicReference<Mono<DatasourceContext<Object>>> cachedDatasourceContextMono) {
+
+        return Mono.defer(() -> {
+                    // The creation time is compared with the last update of the datasource to find stale connections
+                    final DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
+                    final long creationStartTime = System.nanoTime();
+                    return pluginExecutor
+                            .datasourceCreate(datasourceStorage.getDatasourceConfiguration())
+                            .doOnSuccess(connection -> recordContextCreation(plugin, creationStartTime, "success"))
+                            .doOnError(error -> recordContextCreation(plugin, creationStartTime, "error"))
+                            // Registering the context takes the lock of the LRU cache, keep it off the event loop
+                            .publishOn(Schedulers.boundedElastic())
+                            .map(connection -> {
+                                /* When a connection object exists and makes sense for the plugin, we put it in the
+                                context. Example, DB plugins. */
+                                datasourceContext.setConnection(connection);
+                                if (cachedDatasourceContextMono != null) {
+                                    registerDatasourceContext(datasourceContextIdentifier, plugin, datasourceContext);
+                                }
+                                return connection;
+                            })
+                            .flatMap(connection -> updateDatasourceAndSetAuthentication(connection, datasourceStorage))
+                            .thenReturn(datasourceContext)
+                            .doOnSuccess(context -> {
+                                /* When a connection object doesn't make sense for the plugin, we get an empty mono
+                                and we just return the context object as is, without caching it. */
+                                if (cachedDatasourceContextMono != null && context.getConnection() == null) {
+                                    datasourceContextMonoMap.remove(
+                                            datasourceContextIdentifier, cachedDatasourceContextMono.get());
+                                }
+                            });
                 })
-                .flatMap(obj -> obj)
+                // Plugins may create their connection pools eagerly, which must not happen on an event loop
                 .subscribeOn(Schedulers.boundedElastic());
     }
 
+    private void registerDatasourceContext(
+            DatasourceContextIdentifier datasourceContextIdentifier,
+            Plugin plugin,
+            DatasourceContext<Object> datasourceContext) {
+        datasourceContextMap.put(datasourceContextIdentifier, datasourceContext);
+
+        DatasourcePluginContext<Object> datasourcePluginContext = new DatasourcePluginContext<>();
+        datasourcePluginContext.setConnection(datasourceContext.getConnection());
+        datasourcePluginContext.setPluginId(plugin.getId());
+        datasourcePluginContext.setPluginPackageName(plugin.getPackageName());
+        datasourcePluginContextMapLRUCache.put(datasourceContextIdentifier, datasourcePluginContext);
+        getLiveContexts(getPluginTag(plugin.getPackageName())).incrementAndGet();
+        log.debug("LRU Cache Size after adding: {}", datasourcePluginContextMapLRUCache.size());
+    }
+
+    /**
+     * Removes a replaced datasource context from the LRU cache, unless a new context has already taken its place, and
+     * destroys its connection. Both may block, so this is done on another thread than the caller's.
+     */
+    private void destroyDatasourceContextInBackground(
+            DatasourceContextIdentifier datasourceContextIdentifier,
+            PluginExecutor<Object> pluginExecutor,
+            DatasourceContext<?> datasourceContext) {
+        final Object connection = datasourceContext.getConnection();
+        Mono.fromRunnable(() -> {
+                    final DatasourcePluginContext datasourcePluginContext =
+                            datasourcePluginContextMapLRUCache.getIfPresent(datasourceContextIdentifier);
+                    if (datasourcePluginContext != null && datasourcePluginContext.getConnection() == connection) {
+                        datasourcePluginContextMapLRUCache
+                                .asMap()
+                                .remove(datasourceContextIdentifier, datasourcePluginContext);
+                    }
+                    if (connection != null) {
+                        pluginExecutor.datasourceDestroy(connection);
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(error -> {
+                    log.info("Error destroying stale datasource connection", error);
+                    return Mono.empty();
+                })
+                .subscribe();
+    }
+
     /**
      * determines whether we should cache context for given plugin
      * it gives false if plugin is rest-api or graph-ql
@@ -310,39 +406,7 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             DatasourceContextIdentifier datasourceContextIdentifier,
             Plugin plugin,
             PluginExecutor<Object> pluginExecutor) {
-
-        return Mono.fromCallable(() -> {
-
-                    /**
-                     * Keep one monitor object against each datasource id. The synchronized method
-                     * `getCachedDatasourceContextMono` would then acquire lock on the monitor object which is unique
-                     * for each datasourceId hence ensuring that if competing threads want to create datasource context
-                     * on different datasource id then they are not blocked on each other and can run concurrently.
-                     * Only threads that want to create a new datasource context on the same datasource id would be
-                     * synchronized.
-                     */
-                    Object monitor = new Object();
-                    if (datasourceContextIdentifier.isKeyValid()) {
-                        if (datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier) == null) {
-                            synchronized (this) {
-                                log.debug(
-                                        Thread.currentThread().getName()
-                                                + ": Creating monitor for datasource id {}, environment id {}",
-                                        datasourceContextIdentifier.getDatasourceId(),
-                                        datasourceContextIdentifier.getEnvironmentId());
-                                datasourceContextSynchronizationMonitorMap.computeIfAbsent(
-                                        datasourceContextIdentifier, k -> new Object());
-                            }
-                        }
-
-                        monitor = datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier);
-                    }
-
-                    return getCachedDatasourceContextMono(
-                            datasourceStorage, plugin, pluginExecutor, monitor, datasourceContextIdentifier);
-                })
-                .flatMap(obj -> obj)
-                .subscribeOn(Schedulers.boundedElastic());
+        return getCachedDatasourceContextMono(datasourceStorage, plugin, pluginExecutor, datasourceContextIdentifier);
     }
 
     public boolean getIsStale(
@@ -365,11 +429,11 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
      * @return boolean
      */
     private boolean getIsInErrorState(DatasourceContextIdentifier datasourceContextIdentifier) {
-        return datasourceContextMonoMap.get(datasourceContextIdentifier) != null
-                && datasourceContextMonoMap
-                        .get(datasourceContextIdentifier)
-                        .toFuture()
-                        .isCompletedExceptionally();
+        return getIsInErrorState(datasourceContextMonoMap.get(datasourceContextIdentifier));
+    }
+
+    private static boolean getIsInErrorState(Mono<DatasourceContext<Object>> datasourceContextMono) {
+        return datasourceContextMono != null && datasourceContextMono.toFuture().isCompletedExceptionally();
     }
 
     public boolean isValidDatasourceContextAvailable(
@@ -542,7 +606,6 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
      * Generates the custom key that is used in:
      * datasourceContextMap
      * datasourceContextMonoMap
-     * datasourceContextSynchronizationMonitorMap
      *
      * @param datasourceStorage
      * @return an DatasourceContextIdentifier object
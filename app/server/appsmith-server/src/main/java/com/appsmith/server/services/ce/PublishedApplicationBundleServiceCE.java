@@ -0,0 +1,25 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.helpers.PublishedPageLoadCache.PublishedPageLoadData;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+public interface PublishedApplicationBundleServiceCE {
+
+    /**
+     * Builds the published bundle of the application and caches it in place of the previous one. To be called once the
+     * application is deployed.
+     */
+    Mono<Void> materializePublishedApplicationBundle(String branchedApplicationId);
+
+    /**
+     * Gets the published data of a page from the published bundle of its application, filtered for a viewer with the
+     * given permission groups. The bundle is built if it is missing, and rebuilt in the background if it is outdated.
+     * @return The data of the page, or empty if the page can't be served from the bundle, in which case it has to be
+     * fetched from the database
+     */
+    Mono<PublishedPageLoadData> getPublishedPageLoadData(
+            Application branchedApplication, String branchedPageId, Set<String> permissionGroups);
+}
@@ -0,0 +1,226 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.dtos.ActionCollectionViewDTO;
+import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.dtos.PublishedApplicationBundleDTO;
+import com.appsmith.server.dtos.PublishedPageBundleDTO;
+import com.appsmith.server.dtos.ResponseDTO;
+import com.appsmith.server.helpers.DSLMigrationUtils;
+import com.appsmith.server.helpers.PublishedPageLoadCache.PublishedPageLoadData;
+import com.appsmith.server.helpers.RedisUtils;
+import com.appsmith.server.services.CacheablePublishedApplicationBundleHelper;
+import com.appsmith.server.solutions.ActionPermission;
+import com.appsmith.server.solutions.PagePermission;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the published data of pages from the published bundles of their applications. Bundles are shared by all the
+ * viewers of an application, so the data is filtered here for each viewer, the same way the database queries of the
+ * view mode would filter it.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PublishedApplicationBundleServiceCEImpl implements PublishedApplicationBundleServiceCE {
+
+    public static final String SERVED = "served";
+    public static final String STALE = "stale";
+    public static final String FALLBACK = "fallback";
+
+    private static final String LOOKUP_METRIC = "appsmith.published.bundle.lookup";
+
+    private static final Duration REBUILD_TIME_LIMIT = Duration.ofMinutes(2);
+
+    private final CacheablePublishedApplicationBundleHelper cacheablePublishedApplicationBundleHelper;
+    private final DSLMigrationUtils dslMigrationUtils;
+    private final ObjectMapper objectMapper;
+    private final PagePermission pagePermission;
+    private final ActionPermission actionPermission;
+    private final MeterRegistry meterRegistry;
+    private final RedisUtils redisUtils;
+
+    // Disabling bundles serves all the pages from the database, like before bundles were introduced
+    private final boolean enabled;
+
+    // Applications whose published bundle is being rebuilt by this instance
+    private final Set<String> rebuildingApplicationIds = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public Mono<Void> materializePublishedApplicationBundle(String branchedApplicationId) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        return cacheablePublishedApplicationBundleHelper.rebuildPublishedApplicationBundle(branchedApplicationId);
+    }
+
+    @Override
+    public Mono<PublishedPageLoadData> getPublishedPageLoadData(
+            Application branchedApplication, String branchedPageId, Set<String> permissionGroups) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        return dslMigrationUtils
+                .getLatestDslVersion()
+                .flatMap(latestDslVersion -> getPublishedApplicationBundle(
+                        branchedApplication.getId(),
+                        cacheablePublishedApplicationBundleHelper.getPublishedApplicationBundleVersion(
+                                branchedApplication, latestDslVersion)))
+                .flatMap(bundle -> getPublishedPageLoadData(bundle, branchedPageId, permissionGroups))
+                .doOnNext(data -> countLookup(SERVED))
+                .switchIfEmpty(Mono.fromRunnable(() -> countLookup(FALLBACK)))
+                .onErrorResume(error -> {
+                    log.warn(
+                            "Error while serving page {} from the published bundle of application {}",
+                            branchedPageId,
+                            branchedApplication.getId(),
+                            error);
+                    countLookup(FALLBACK);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Gets the published bundle of the application, unless it's older than the given version, like when the application
+     * was deployed by another instance before its bundle was materialized. An older bundle is rebuilt in the background,
+     * and the page is served from the database until then.
+     */
+    private Mono<PublishedApplicationBundleDTO> getPublishedApplicationBundle(
+            String branchedApplicationId, String version) {
+        return fetchPublishedApplicationBundle(branchedApplicationId).flatMap(bundle -> {
+            if (version.equals(bundle.getVersion())) {
+                return Mono.just(bundle);
+            }
+            countLookup(STALE);
+            rebuildPublishedApplicationBundle(branchedApplicationId);
+            return Mono.empty();
+        });
+    }
+
+    /**
+     * Starts rebuilding the published bundle of the application, unless it's already being rebuilt by this instance or
+     * by another one, so that a stale bundle is rebuilt once however many requests find it.
+     */
+    private void rebuildPublishedApplicationBundle(String branchedApplicationId) {
+        if (!rebuildingApplicationIds.add(branchedApplicationId)) {
+            return;
+        }
+        redisUtils
+                .startPublishedApplicationBundleRebuild(branchedApplicationId, REBUILD_TIME_LIMIT)
+                .filter(Boolean.TRUE::equals)
+                .flatMap(started -> cacheablePublishedApplicationBundleHelper
+                        .rebuildPublishedApplicationBundle(branchedApplicationId)
+                        .onErrorResume(error -> {
+                            log.warn(
+                                    "Error while rebuilding the published bundle of application {}",
+                                    branchedApplicationId,
+                                    error);
+                            return Mono.empty();
+                        })
+                        .then(redisUtils.finishPublishedApplicationBundleRebuild(branchedApplicationId)))
+                .doFinally(signalType -> rebuildingApplicationIds.remove(branchedApplicationId))
+                .subscribe(
+                        null,
+                        error -> log.warn(
+                                "Error while starting to rebuild the published bundle of application {}",
+                                branchedApplicationId,
+                                error));
+    }
+
+    private Mono<PublishedApplicationBundleDTO> fetchPublishedApplicationBundle(String branchedApplicationId) {
+        return cacheablePublishedApplicationBundleHelper
+                .fetchPublishedApplicationBundle(branchedApplicationId)
+                .map(bundle -> readValue(bundle, PublishedApplicationBundleDTO.class));
+    }
+
+    private Mono<PublishedPageLoadData> getPublishedPageLoadData(
+            PublishedApplicationBundleDTO bundle, String branchedPageId, Set<String> permissionGroups) {
+        String serializedPageBundle =
+                bundle.getPages() == null ? null : bundle.getPages().get(branchedPageId);
+        if (serializedPageBundle == null) {
+            return Mono.empty();
+        }
+        PublishedPageBundleDTO pageBundle = readValue(serializedPageBundle, PublishedPageBundleDTO.class);
+
+        PageDTO page = pageBundle.getPage();
+        Set<String> pageUserPermissions = getUserPermissions(pageBundle.getPermissionGroups(), permissionGroups);
+        if (!pageUserPermissions.contains(pagePermission.getReadPermission().getValue())) {
+            // Let the page be fetched from the database, which reports the error
+            return Mono.empty();
+        }
+        page.setUserPermissions(pageUserPermissions);
+
+        List<ActionViewDTO> actions = pageBundle.getActions().stream()
+                .filter(action -> canExecute(bundle, action.getId(), permissionGroups))
+                .collect(Collectors.toList());
+
+        List<ActionCollectionViewDTO> actionCollections = bundle.getActionCollections().stream()
+                .filter(actionCollection -> canExecute(bundle, actionCollection.getId(), permissionGroups))
+                .collect(Collectors.toList());
+        for (ActionCollectionViewDTO actionCollection : actionCollections) {
+            List<ActionDTO> collectionActions = actionCollection.getActions().stream()
+                    .filter(action -> canExecute(bundle, action.getId(), permissionGroups))
+                    .collect(Collectors.toList());
+            collectionActions.forEach(action -> action.setUserPermissions(
+                    getUserPermissions(bundle.getPermissionGroups().get(action.getId()), permissionGroups)));
+            actionCollection.setActions(collectionActions);
+        }
+
+        return Mono.just(new PublishedPageLoadData(
+                getSuccessResponse(bundle.getCustomJSLibraries()),
+                getSuccessResponse(page),
+                getSuccessResponse(actions),
+                getSuccessResponse(actionCollections)));
+    }
+
+    private boolean canExecute(PublishedApplicationBundleDTO bundle, String id, Set<String> permissionGroups) {
+        return getUserPermissions(bundle.getPermissionGroups().get(id), permissionGroups)
+                .contains(actionPermission.getExecutePermission().getValue());
+    }
+
+    /**
+     * Gets the permissions of a user with the given permission groups, the same way they're set on objects fetched from
+     * the database.
+     */
+    private static Set<String> getUserPermissions(
+            Map<String, Set<String>> permissionGroupsByPermission, Set<String> permissionGroups) {
+        if (permissionGroupsByPermission == null) {
+            return new HashSet<>();
+        }
+        return permissionGroupsByPermission.entrySet().stream()
+                .filter(entry -> !Collections.disjoint(entry.getValue(), permissionGroups))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    private <T> T readValue(String content, Class<T> valueType) {
+        try {
+            return objectMapper.readValue(content, valueType);
+        } catch (Exception e) {
+            throw new IllegalStateException("Invalid published bundle", e);
+        }
+    }
+
+    private static <T> ResponseDTO<T> getSuccessResponse(T data) {
+        return new ResponseDTO<>(HttpStatus.OK.value(), data, null);
+    }
+
+    private void countLookup(String result) {
+        meterRegistry.counter(LOOKUP_METRIC, "result", result).increment();
+    }
+}
@@ -4,6 +4,7 @@ import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.ActionExecutionSolutionHelper;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.newactions.base.NewActionService;
@@ -44,7 +45,8 @@ public class ActionExecutionSolutionImpl extends ActionExecutionSolutionCEImpl i
             TenantService tenantService,
             CommonConfig commonConfig,
             ActionExecutionSolutionHelper actionExecutionSolutionHelper,
-            FeatureFlagService featureFlagService) {
+            FeatureFlagService featureFlagService,
+            ActionExecutionPlanCache actionExecutionPlanCache) {
         super(
                 newActionService,
                 actionPermission,
@@ -66,6 +68,7 @@ public class ActionExecutionSolutionImpl extends ActionExecutionSolutionCEImpl i
                 tenantService,
                 commonConfig,
                 actionExecutionSolutionHelper,
-                featureFlagService);
+                featureFlagService,
+                actionExecutionPlanCache);
     }
 }
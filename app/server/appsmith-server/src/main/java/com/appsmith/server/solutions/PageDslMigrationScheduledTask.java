@@ -0,0 +1,5 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.PageDslMigrationScheduledTaskCE;
+
+public interface PageDslMigrationScheduledTask extends PageDslMigrationScheduledTaskCE {}
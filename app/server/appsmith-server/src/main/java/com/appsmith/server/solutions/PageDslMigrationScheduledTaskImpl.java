@@ -0,0 +1,22 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.helpers.DSLMigrationUtils;
+import com.appsmith.server.helpers.RedisUtils;
+import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.services.ConfigService;
+import com.appsmith.server.solutions.ce.PageDslMigrationScheduledTaskCEImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PageDslMigrationScheduledTaskImpl extends PageDslMigrationScheduledTaskCEImpl
+        implements PageDslMigrationScheduledTask {
+    public PageDslMigrationScheduledTaskImpl(
+            DSLMigrationUtils dslMigrationUtils,
+            NewPageRepository newPageRepository,
+            ConfigService configService,
+            RedisUtils redisUtils,
+            MeterRegistry meterRegistry) {
+        super(dslMigrationUtils, newPageRepository, configService, redisUtils, meterRegistry);
+    }
+}
@@ -18,6 +18,8 @@ public interface ActionExecutionSolutionCE {
     Mono<ActionExecutionResult> executeAction(
             ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO);
 
+    Flux<Object> executeActionStreaming(Flux<Part> partFlux, String environmentId, HttpHeaders httpHeaders);
+
     Mono<ActionDTO> getValidActionForExecution(
             ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO);
 
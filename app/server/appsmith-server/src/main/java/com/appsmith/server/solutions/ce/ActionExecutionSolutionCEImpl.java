@@ -31,9 +31,12 @@ import com.appsmith.server.domains.DatasourceContext;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.ActionExecutionPlan;
+import com.appsmith.server.dtos.ActionExecutionTarget;
 import com.appsmith.server.dtos.ExecuteActionMetaDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.ActionExecutionSolutionHelper;
 import com.appsmith.server.helpers.DatasourceAnalyticsUtils;
 import com.appsmith.server.helpers.DateUtils;
@@ -83,6 +86,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -125,6 +129,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
     private final ActionExecutionSolutionHelper actionExecutionSolutionHelper;
     private final CommonConfig commonConfig;
     private final FeatureFlagService featureFlagService;
+    private final ActionExecutionPlanCache actionExecutionPlanCache;
 
     static final String PARAM_KEY_REGEX = "^k\\d+$";
     static final String BLOB_KEY_REGEX =
@@ -154,7 +159,8 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
             TenantService tenantService,
             CommonConfig commonConfig,
             ActionExecutionSolutionHelper actionExecutionSolutionHelper,
-            FeatureFlagService featureFlagService) {
+            FeatureFlagService featureFlagService,
+            ActionExecutionPlanCache actionExecutionPlanCache) {
         this.newActionService = newActionService;
         this.actionPermission = actionPermission;
         this.observationRegistry = observationRegistry;
@@ -176,6 +182,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         this.commonConfig = commonConfig;
         this.actionExecutionSolutionHelper = actionExecutionSolutionHelper;
         this.featureFlagService = featureFlagService;
+        this.actionExecutionPlanCache = actionExecutionPlanCache;
 
         this.patternList.add(Pattern.compile(PARAM_KEY_REGEX));
         this.patternList.add(Pattern.compile(BLOB_KEY_REGEX));
@@ -197,42 +204,72 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
      */
     protected Mono<ActionExecutionResult> populateAndExecuteAction(
             ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO) {
+        return populateExecuteActionDTOAndEnvironment(executeActionDTO, executeActionMetaDTO)
+                .flatMap(populatedExecuteActionDTO -> executeAction(populatedExecuteActionDTO, executeActionMetaDTO));
+    }
+
+    /**
+     * Resolves the action and the true environmentId for the action execution, populates the executeActionDTO with
+     * the action and sets the true environmentId on the executeActionMetaDTO. Both are served from the
+     * {@link ActionExecutionPlanCache} when the same action was recently executed in the same environment and mode by a
+     * user with the same permission groups.
+     *
+     * @param executeActionDTO
+     * @param executeActionMetaDTO
+     * @return populated executeActionDTO
+     */
+    protected Mono<ExecuteActionDTO> populateExecuteActionDTOAndEnvironment(
+            ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO) {
+        return actionExecutionPlanCache
+                .getOrResolve(
+                        executeActionDTO.getActionId(),
+                        executeActionMetaDTO.getEnvironmentId(),
+                        TRUE.equals(executeActionDTO.getViewMode()),
+                        executeActionMetaDTO.isOperateWithoutPermission(),
+                        () -> resolveActionExecutionTarget(executeActionDTO, executeActionMetaDTO))
+                .flatMap(target -> populateExecuteActionDTO(executeActionDTO, target)
+                        .map(populatedExecuteActionDTO -> {
+                            executeActionMetaDTO.setEnvironmentId(target.environmentId());
+                            return populatedExecuteActionDTO;
+                        }));
+    }
+
+    /**
+     * Fetches the action from the DB and the true environmentId for its execution
+     *
+     * @param executeActionDTO
+     * @param executeActionMetaDTO
+     * @return actionExecutionTargetMono
+     */
+    protected Mono<ActionExecutionTarget> resolveActionExecutionTarget(
+            ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO) {
         AclPermission executePermission = getPermission(executeActionMetaDTO, actionPermission.getExecutePermission());
-        Mono<NewAction> newActionMono = newActionService
+        return newActionService
                 .findById(executeActionDTO.getActionId(), executePermission)
-                .cache();
-
-        Mono<ExecuteActionDTO> populatedExecuteActionDTOMono =
-                newActionMono.flatMap(newAction -> populateExecuteActionDTO(executeActionDTO, newAction));
-        Mono<String> environmentIdMono = Mono.zip(newActionMono, populatedExecuteActionDTOMono)
-                .flatMap(tuple -> {
-                    NewAction newAction = tuple.getT1();
-                    ExecuteActionDTO populatedExecuteActionDTO = tuple.getT2();
-                    return getTrueEnvironmentId(newAction, populatedExecuteActionDTO, executeActionMetaDTO);
+                .flatMap(newAction -> {
+                    String datasourceId = TRUE.equals(executeActionDTO.getViewMode())
+                            ? newAction.getPublishedAction().getDatasource().getId()
+                            : newAction.getUnpublishedAction().getDatasource().getId();
+                    return getTrueEnvironmentId(newAction, datasourceId == null, executeActionMetaDTO)
+                            .map(environmentId -> new ActionExecutionTarget(
+                                    newAction.getId(),
+                                    newAction.getWorkspaceId(),
+                                    newAction.getApplicationId(),
+                                    datasourceId,
+                                    environmentId));
                 });
-
-        return Mono.zip(populatedExecuteActionDTOMono, environmentIdMono).flatMap(pair -> {
-            ExecuteActionDTO populatedExecuteActionDTO = pair.getT1();
-            String environmentId = pair.getT2();
-            executeActionMetaDTO.setEnvironmentId(environmentId);
-            return executeAction(populatedExecuteActionDTO, executeActionMetaDTO);
-        });
     }
 
     /**
      * Fetches the true environmentId for the action execution based on the action, the provided environmentId and the
      * pluginId. It also takes into account, whether the datasource related to action is embedded or not.
      * @param newAction
-     * @param executeActionDTO
+     * @param isEmbedded
      * @param executeActionMetaDTO
      * @return
      */
     private Mono<String> getTrueEnvironmentId(
-            NewAction newAction, ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO) {
-        boolean isEmbedded = executeActionDTO.getViewMode()
-                ? newAction.getPublishedAction().getDatasource().getId() == null
-                : newAction.getUnpublishedAction().getDatasource().getId() == null;
-
+            NewAction newAction, boolean isEmbedded, ExecuteActionMetaDTO executeActionMetaDTO) {
         AclPermission executePermission =
                 getPermission(executeActionMetaDTO, environmentPermission.getExecutePermission());
 
@@ -247,34 +284,29 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
     /**
      * Populates the executeActionDTO with the required fields
      * @param executeActionDTO
-     * @param newAction
+     * @param target
      * @return
      */
-    private Mono<ExecuteActionDTO> populateExecuteActionDTO(ExecuteActionDTO executeActionDTO, NewAction newAction) {
+    private Mono<ExecuteActionDTO> populateExecuteActionDTO(
+            ExecuteActionDTO executeActionDTO, ActionExecutionTarget target) {
         Mono<String> instanceIdMono = configService.getInstanceId();
         Mono<String> defaultTenantIdMono = tenantService.getDefaultTenantId();
 
         Mono<ExecuteActionDTO> systemInfoPopulatedExecuteActionDTOMono =
                 actionExecutionSolutionHelper.populateExecuteActionDTOWithSystemInfo(executeActionDTO);
 
-        return systemInfoPopulatedExecuteActionDTOMono.flatMap(populatedExecuteActionDTO -> Mono.zip(
-                        instanceIdMono, defaultTenantIdMono)
-                .map(tuple -> {
-                    String instanceId = tuple.getT1();
-                    String tenantId = tuple.getT2();
-                    populatedExecuteActionDTO.setActionId(newAction.getId());
-                    populatedExecuteActionDTO.setWorkspaceId(newAction.getWorkspaceId());
-                    if (TRUE.equals(executeActionDTO.getViewMode())) {
-                        populatedExecuteActionDTO.setDatasourceId(
-                                newAction.getPublishedAction().getDatasource().getId());
-                    } else {
-                        populatedExecuteActionDTO.setDatasourceId(
-                                newAction.getUnpublishedAction().getDatasource().getId());
-                    }
-                    populatedExecuteActionDTO.setInstanceId(instanceId);
-                    populatedExecuteActionDTO.setTenantId(tenantId);
-                    return populatedExecuteActionDTO;
-                }));
+        return systemInfoPopulatedExecuteActionDTOMono.flatMap(
+                populatedExecuteActionDTO -> Mono.zip(instanceIdMono, defaultTenantIdMono)
+                        .map(tuple -> {
+                            String instanceId = tuple.getT1();
+                            String tenantId = tuple.getT2();
+                            populatedExecuteActionDTO.setActionId(target.actionId());
+                            populatedExecuteActionDTO.setWorkspaceId(target.workspaceId());
+                            populatedExecuteActionDTO.setDatasourceId(target.datasourceId());
+                            populatedExecuteActionDTO.setInstanceId(instanceId);
+                            populatedExecuteActionDTO.setTenantId(tenantId);
+                            return populatedExecuteActionDTO;
+                        }));
     }
 
     /**
@@ -299,6 +331,157 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                 .tap(Micrometer.observation(observationRegistry));
     }
 
+    /**
+     * Executes the action like {@link #executeAction(Flux, String, HttpHeaders, Boolean)}, but streams the rows of the
+     * result as the plugin reads them from the datasource, instead of collecting them into an ActionExecutionResult.
+     * Errors raised before the first row are reported like any failed request, later errors abort the stream.
+     *
+     * @param partFlux
+     * @param environmentId
+     * @param httpHeaders
+     * @return Flux of the rows of the result
+     */
+    @Override
+    public Flux<Object> executeActionStreaming(Flux<Part> partFlux, String environmentId, HttpHeaders httpHeaders) {
+        ExecuteActionMetaDTO executeActionMetaDTO = ExecuteActionMetaDTO.builder()
+                .headers(httpHeaders)
+                .operateWithoutPermission(Boolean.FALSE)
+                .environmentId(environmentId)
+                .build();
+        return createExecuteActionDTO(partFlux)
+                .flatMap(executeActionDTO ->
+                        populateExecuteActionDTOAndEnvironment(executeActionDTO, executeActionMetaDTO))
+                .flatMapMany(executeActionDTO -> executeActionStreaming(executeActionDTO, executeActionMetaDTO))
+                .name(ACTION_EXECUTION_SERVER_EXECUTION)
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    /**
+     * Fetches the execution plan of the action and streams the rows returned by the plugin. The timeout of the action
+     * applies to the wait for every row rather than to the whole execution, so that large results are not cut short,
+     * while the whole execution is bounded by the configured maximum duration and number of rows. Unlike regular
+     * executions, a stale connection is not retried since rows may have been sent already. The analytics event of the
+     * execution is sent once the stream completes or fails.
+     *
+     * @param executeActionDTO
+     * @param executeActionMetaDTO
+     * @return Flux of the rows of the result
+     */
+    protected Flux<Object> executeActionStreaming(
+            ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO) {
+        replaceNullWithQuotesForParamValues(executeActionDTO.getParams());
+
+        return getActionExecutionPlan(executeActionDTO, executeActionMetaDTO).flatMapMany(plan -> {
+            final ActionDTO actionDTO = plan.actionDTO();
+            final DatasourceStorage datasourceStorage = plan.datasourceStorage();
+            final Plugin plugin = plan.plugin();
+            Integer timeoutDuration = actionDTO.getActionConfiguration().getTimeoutInMillisecond();
+            // The raw user query including bindings, for the analytics event
+            final ActionConfiguration rawActionConfiguration =
+                    deepCopyActionConfiguration(actionDTO.getActionConfiguration());
+            final long maxRows = commonConfig.getStreamingMaxRows();
+            final Duration maxDuration = Duration.ofSeconds(commonConfig.getStreamingMaxDurationSeconds());
+            final AtomicLong rowCount = new AtomicLong();
+            final AtomicBoolean maxDurationReached = new AtomicBoolean();
+            final long startedAt = System.currentTimeMillis();
+
+            log.debug(
+                    "[{}]Execute Action streaming called in Page {}, for action id : {}  action name : {}",
+                    Thread.currentThread().getName(),
+                    actionDTO.getPageId(),
+                    actionDTO.getId(),
+                    actionDTO.getName());
+
+            return Mono.zip(
+                            pluginExecutorHelper.getPluginExecutor(Mono.just(plugin)),
+                            setAutoGeneratedHeaders(plugin, actionDTO, executeActionMetaDTO.getHeaders()),
+                            authenticationValidator.validateAuthentication(datasourceStorage))
+                    .flatMapMany(tuple -> {
+                        final PluginExecutor<Object> pluginExecutor = tuple.getT1();
+                        final DatasourceStorage validatedDatasourceStorage = tuple.getT3();
+                        return datasourceContextService
+                                .getDatasourceContext(validatedDatasourceStorage, plugin)
+                                .flatMapMany(resourceContext -> pluginExecutor.executeParameterizedStreaming(
+                                        resourceContext.getConnection(),
+                                        executeActionDTO,
+                                        validatedDatasourceStorage.getDatasourceConfiguration(),
+                                        actionDTO.getActionConfiguration()));
+                    })
+                    .timeout(Duration.ofMillis(timeoutDuration))
+                    .takeUntilOther(Mono.delay(maxDuration).doOnNext(tick -> maxDurationReached.set(true)))
+                    .concatWith(Mono.defer(() -> maxDurationReached.get()
+                            ? Mono.error(new AppsmithPluginException(
+                                    AppsmithPluginError.PLUGIN_ERROR,
+                                    String.format(
+                                            "%s streamed its result for longer than the maximum of %d seconds. Please"
+                                                    + " narrow the query down, or read its result in pages.",
+                                            actionDTO.getName(), maxDuration.toSeconds())))
+                            : Mono.empty()))
+                    .handle((row, sink) -> {
+                        if (rowCount.incrementAndGet() > maxRows) {
+                            sink.error(new AppsmithPluginException(
+                                    AppsmithPluginError.PLUGIN_ERROR,
+                                    String.format(
+                                            "%s returned more than the maximum of %d rows that can be streamed. Please"
+                                                    + " narrow the query down, or read its result in pages.",
+                                            actionDTO.getName(), maxRows)));
+                        } else {
+                            sink.next(row);
+                        }
+                    })
+                    .onErrorMap(executionExceptionMapper(actionDTO, timeoutDuration))
+                    .onErrorResume(error -> executionExceptionHandler(actionDTO)
+                            .apply(error)
+                            .flatMap(result -> sendStreamingAnalyticsEvent(
+                                    actionDTO,
+                                    datasourceStorage,
+                                    executeActionDTO,
+                                    result,
+                                    startedAt,
+                                    rawActionConfiguration))
+                            .then(Mono.error(error)))
+                    .concatWith(Mono.defer(() -> {
+                                ActionExecutionResult result = new ActionExecutionResult();
+                                result.setIsExecutionSuccess(true);
+                                return sendStreamingAnalyticsEvent(
+                                        actionDTO,
+                                        datasourceStorage,
+                                        executeActionDTO,
+                                        result,
+                                        startedAt,
+                                        rawActionConfiguration);
+                            })
+                            .then());
+        });
+    }
+
+    /**
+     * Sends the analytics event of a streamed execution which started at the given time. Failing to send it does not
+     * fail the execution, whose rows have been sent already.
+     */
+    private Mono<ActionExecutionRequest> sendStreamingAnalyticsEvent(
+            ActionDTO actionDTO,
+            DatasourceStorage datasourceStorage,
+            ExecuteActionDTO executeActionDTO,
+            ActionExecutionResult result,
+            long startedAt,
+            ActionConfiguration rawActionConfiguration) {
+        long timeElapsed = System.currentTimeMillis() - startedAt;
+        log.debug(
+                "{}: Action {} with id {} streaming execution time : {} ms",
+                Thread.currentThread().getName(),
+                actionDTO.getName(),
+                actionDTO.getId(),
+                timeElapsed);
+
+        return sendExecuteAnalyticsEvent(
+                        actionDTO, datasourceStorage, executeActionDTO, result, timeElapsed, rawActionConfiguration)
+                .onErrorResume(error -> {
+                    log.warn("Unable to send the analytics event of a streamed action execution.", error);
+                    return Mono.empty();
+                });
+    }
+
     /**
      * Fetches the required Mono (action, datasource, and plugin) and makes actionExecution call to plugin
      *
@@ -316,13 +499,15 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         AtomicReference<String> actionName = new AtomicReference<>();
         actionName.set("");
 
-        // 2. Fetch the action from the DB and check if it can be executed
-        Mono<ActionDTO> actionDTOMono = getValidActionForExecution(executeActionDTO, executeActionMetaDTO)
-                .cache();
+        // 2. Fetch the action, datasource and plugin, from the DB or the execution plan cache
+        Mono<ActionExecutionPlan> actionExecutionPlanMono =
+                getActionExecutionPlan(executeActionDTO, executeActionMetaDTO).cache();
+        Mono<ActionDTO> actionDTOMono = actionExecutionPlanMono.map(ActionExecutionPlan::actionDTO);
+        Mono<DatasourceStorage> datasourceStorageMono =
+                actionExecutionPlanMono.map(ActionExecutionPlan::datasourceStorage);
+        Mono<Plugin> pluginMono = actionExecutionPlanMono.map(ActionExecutionPlan::plugin);
 
         // 3. Instantiate the implementation class based on the query type
-        Mono<DatasourceStorage> datasourceStorageMono = getCachedDatasourceStorage(actionDTOMono, executeActionMetaDTO);
-        Mono<Plugin> pluginMono = getCachedPluginForActionExecution(datasourceStorageMono);
         Mono<PluginExecutor> pluginExecutorMono = pluginExecutorHelper.getPluginExecutor(pluginMono);
 
         // 4. Execute the query
@@ -355,6 +540,43 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                 });
     }
 
+    /**
+     * Returns the action, datasource storage and plugin needed to execute the action. Plans are served from the
+     * {@link ActionExecutionPlanCache} when the same action was recently executed in the same environment and mode by a
+     * user with the same permission groups.
+     *
+     * @param executeActionDTO
+     * @param executeActionMetaDTO
+     * @return actionExecutionPlanMono
+     */
+    protected Mono<ActionExecutionPlan> getActionExecutionPlan(
+            ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO) {
+        return actionExecutionPlanCache.getOrLoad(
+                executeActionDTO.getActionId(),
+                executeActionMetaDTO.getEnvironmentId(),
+                TRUE.equals(executeActionDTO.getViewMode()),
+                executeActionMetaDTO.isOperateWithoutPermission(),
+                () -> loadActionExecutionPlan(executeActionDTO, executeActionMetaDTO));
+    }
+
+    /**
+     * Fetches the action, and validates it, then fetches its datasource storage and plugin from the DB
+     *
+     * @param executeActionDTO
+     * @param executeActionMetaDTO
+     * @return actionExecutionPlanMono
+     */
+    protected Mono<ActionExecutionPlan> loadActionExecutionPlan(
+            ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO) {
+        Mono<ActionDTO> actionDTOMono = getValidActionForExecution(executeActionDTO, executeActionMetaDTO)
+                .cache();
+        Mono<DatasourceStorage> datasourceStorageMono = getCachedDatasourceStorage(actionDTOMono, executeActionMetaDTO);
+        Mono<Plugin> pluginMono = getCachedPluginForActionExecution(datasourceStorageMono);
+
+        return Mono.zip(actionDTOMono, datasourceStorageMono, pluginMono)
+                .map(tuple -> new ActionExecutionPlan(tuple.getT1(), tuple.getT2(), tuple.getT3()));
+    }
+
     /**
      * Creates the ExecuteActionDTO from Flux of ByteBuffers
      *
@@ -0,0 +1,5 @@
+package com.appsmith.server.solutions.ce;
+
+public interface PageDslMigrationScheduledTaskCE {
+    void migratePageDsls();
+}
@@ -0,0 +1,273 @@
+package com.appsmith.server.solutions.ce;
+
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.Layout;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.helpers.DSLMigrationUtils;
+import com.appsmith.server.helpers.GitUtils;
+import com.appsmith.server.helpers.LoadShifter;
+import com.appsmith.server.helpers.RedisUtils;
+import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.services.ConfigService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.annotation.Observed;
+import lombok.extern.slf4j.Slf4j;
+import net.minidev.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.lang.Boolean.TRUE;
+
+/**
+ * This class represents a scheduled task that migrates the DSL of all the pages to the latest DSL version in the
+ * background after an upgrade, so that pages don't have to be migrated when they are first viewed or edited.
+ * <p>
+ * Pages are migrated in batches, a few at a time, with a pause after each batch to limit the load put on the database
+ * and on RTS. The migration runs on one instance at a time, and only once for each DSL version.
+ */
+@Slf4j
+public class PageDslMigrationScheduledTaskCEImpl implements PageDslMigrationScheduledTaskCE {
+
+    public static final String MIGRATED = "migrated";
+    public static final String MODIFIED = "modified";
+    public static final String FAILED = "failed";
+
+    private static final String PAGES_METRIC = "appsmith.page.dsl.migration.pages";
+    private static final String PENDING_PAGES_METRIC = "appsmith.page.dsl.migration.pending";
+    private static final String BATCH_METRIC = "appsmith.page.dsl.migration.batch";
+
+    private static final Duration MIGRATION_TIME_LIMIT = Duration.ofHours(1);
+
+    private final DSLMigrationUtils dslMigrationUtils;
+    private final NewPageRepository newPageRepository;
+    private final ConfigService configService;
+    private final RedisUtils redisUtils;
+    private final MeterRegistry meterRegistry;
+
+    // Number of pages left to migrate in the migration running on this instance
+    private final AtomicLong pendingPages;
+
+    @Value("${appsmith.page-dsl-migration.enabled:true}")
+    private boolean isEnabled;
+
+    @Value("${appsmith.page-dsl-migration.batch-size:100}")
+    private int batchSize;
+
+    @Value("${appsmith.page-dsl-migration.concurrency:4}")
+    private int concurrency;
+
+    @Value("${appsmith.page-dsl-migration.batch-delay-ms:1000}")
+    private long batchDelayMillis;
+
+    public PageDslMigrationScheduledTaskCEImpl(
+            DSLMigrationUtils dslMigrationUtils,
+            NewPageRepository newPageRepository,
+            ConfigService configService,
+            RedisUtils redisUtils,
+            MeterRegistry meterRegistry) {
+        this.dslMigrationUtils = dslMigrationUtils;
+        this.newPageRepository = newPageRepository;
+        this.configService = configService;
+        this.redisUtils = redisUtils;
+        this.meterRegistry = meterRegistry;
+        this.pendingPages = meterRegistry.gauge(PENDING_PAGES_METRIC, new AtomicLong());
+    }
+
+    // Number of milliseconds between the end of a scheduled call to this method and the start of the next one.
+    @Scheduled(initialDelay = 2 * 60 * 1000 /* two minutes */, fixedDelay = 30 * 60 * 1000 /* thirty minutes */)
+    @Observed(name = "migratePageDsls")
+    public void migratePageDsls() {
+        // The latest DSL version is refreshed even when the migration is disabled, since RTS may have been restarted
+        // with a new version
+        dslMigrationUtils
+                .refreshLatestDslVersion()
+                .filter(latestDslVersion -> isEnabled)
+                .flatMap(this::migratePageDslsIfRequired)
+                .onErrorResume(error -> {
+                    log.warn("Error while migrating the DSL of pages in the background", error);
+                    return Mono.empty();
+                })
+                .subscribeOn(LoadShifter.elasticScheduler)
+                .subscribe();
+    }
+
+    /**
+     * Migrates the DSL of all the pages to the given version, unless it was already done, or is being done on another
+     * instance.
+     */
+    public Mono<Void> migratePageDslsIfRequired(Integer latestDslVersion) {
+        return configService
+                .getByName(FieldName.PAGE_DSL_MIGRATION)
+                .map(config -> config.getConfig().getAsNumber(FieldName.VERSION).intValue())
+                // No page has been migrated in the background yet
+                .onErrorResume(error -> Mono.just(0))
+                .filter(migratedDslVersion -> migratedDslVersion < latestDslVersion)
+                .flatMap(migratedDslVersion -> redisUtils.startPageDslMigration(MIGRATION_TIME_LIMIT))
+                .flatMap(isStarted -> {
+                    if (!TRUE.equals(isStarted)) {
+                        log.debug("Page DSL migration is already running on another instance");
+                        return Mono.empty();
+                    }
+                    return migrateAllPageDsls(latestDslVersion)
+                            .flatMap(isComplete -> {
+                                if (!isComplete) {
+                                    // Pages that could not be migrated are tried again in the next run
+                                    return Mono.empty();
+                                }
+                                return configService.save(
+                                        FieldName.PAGE_DSL_MIGRATION, Map.of(FieldName.VERSION, latestDslVersion));
+                            })
+                            .then(redisUtils.finishPageDslMigration())
+                            .onErrorResume(
+                                    error -> redisUtils.finishPageDslMigration().then(Mono.error(error)));
+                })
+                .then();
+    }
+
+    /**
+     * Walks through the pages with an outdated DSL in batches, by increasing id.
+     * @return true if no page failed to be migrated
+     */
+    private Mono<Boolean> migrateAllPageDsls(Integer latestDslVersion) {
+        return newPageRepository.countWithDslVersionOlderThan(latestDslVersion).flatMap(pageCount -> {
+            log.info("Migrating the DSL of {} pages to version {}", pageCount, latestDslVersion);
+            pendingPages.set(pageCount);
+
+            AtomicReference<String> lastPageId = new AtomicReference<>();
+            AtomicLong failedPages = new AtomicLong();
+            long startTime = System.nanoTime();
+
+            return Mono.defer(() -> migrateNextBatch(latestDslVersion, lastPageId, failedPages))
+                    .repeatWhen(batches -> batches.delayElements(Duration.ofMillis(batchDelayMillis)))
+                    .takeUntil(batchPageCount -> batchPageCount < batchSize)
+                    .reduce(0L, Long::sum)
+                    .map(walkedPageCount -> {
+                        long seconds = Math.max(
+                                Duration.ofNanos(System.nanoTime() - startTime).toSeconds(), 1);
+                        log.info(
+                                "Walked through the DSL of {} pages in {}s, {} pages per second, {} failed",
+                                walkedPageCount,
+                                seconds,
+                                walkedPageCount / seconds,
+                                failedPages.get());
+                        pendingPages.set(0);
+                        return failedPages.get() == 0;
+                    });
+        });
+    }
+
+    /**
+     * Migrates the next batch of pages with an outdated DSL.
+     * @return The number of pages in the batch, which is less than the batch size for the last batch
+     */
+    private Mono<Integer> migrateNextBatch(
+            Integer latestDslVersion, AtomicReference<String> lastPageId, AtomicLong failedPages) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return newPageRepository
+                .findAllWithDslVersionOlderThan(latestDslVersion, lastPageId.get(), batchSize)
+                .collectList()
+                .flatMap(pages -> {
+                    if (pages.isEmpty()) {
+                        return Mono.just(0);
+                    }
+                    lastPageId.set(pages.get(pages.size() - 1).getId());
+
+                    return Flux.fromIterable(pages)
+                            .flatMap(page -> migratePageDsl(page, latestDslVersion), concurrency)
+                            .doOnNext(result -> {
+                                meterRegistry
+                                        .counter(PAGES_METRIC, "result", result)
+                                        .increment();
+                                pendingPages.decrementAndGet();
+                                if (FAILED.equals(result)) {
+                                    failedPages.incrementAndGet();
+                                }
+                            })
+                            .then(Mono.fromCallable(() -> {
+                                sample.stop(meterRegistry.timer(BATCH_METRIC));
+                                log.debug(
+                                        "Migrated the DSL of a batch of {} pages, {} pages left",
+                                        pages.size(),
+                                        pendingPages.get());
+                                return pages.size();
+                            }));
+                });
+    }
+
+    /**
+     * Migrates the outdated edit and view mode DSLs of the page, and saves them unless the page was modified in the
+     * meantime, in which case it's migrated when it's next fetched.
+     * @return Whether the page was migrated, modified in the meantime, or failed to be migrated
+     */
+    private Mono<String> migratePageDsl(NewPage page, Integer latestDslVersion) {
+        // The DSL versions that were read, for the sides of the page that need to be migrated
+        List<Integer> readUnpublishedDslVersions =
+                getDslVersionsIfMigrationRequired(page.getUnpublishedPage(), latestDslVersion);
+        List<Integer> readPublishedDslVersions =
+                getDslVersionsIfMigrationRequired(page.getPublishedPage(), latestDslVersion);
+
+        List<Layout> layouts = new ArrayList<>();
+        if (readUnpublishedDslVersions != null) {
+            layouts.addAll(page.getUnpublishedPage().getLayouts());
+        }
+        if (readPublishedDslVersions != null) {
+            layouts.addAll(page.getPublishedPage().getLayouts());
+        }
+
+        // Published DSLs are often the same as the edit mode ones, and are then only migrated once
+        Map<JSONObject, JSONObject> migratedDsls = new HashMap<>();
+        return Flux.fromIterable(layouts)
+                .filter(layout ->
+                        layout.getDsl() != null && GitUtils.isMigrationRequired(layout.getDsl(), latestDslVersion))
+                .concatMap(layout -> {
+                    JSONObject dsl = layout.getDsl();
+                    Mono<JSONObject> migratedDslMono = migratedDsls.containsKey(dsl)
+                            ? Mono.just(migratedDsls.get(dsl))
+                            : dslMigrationUtils
+                                    .migratePageDsl(dsl)
+                                    .doOnNext(migratedDsl -> migratedDsls.put(dsl, migratedDsl));
+                    return migratedDslMono.doOnNext(layout::setDsl);
+                })
+                .then(Mono.defer(() -> newPageRepository.updateLayoutsIfNotModified(
+                        page, readUnpublishedDslVersions, readPublishedDslVersions)))
+                .map(updatedPageCount -> updatedPageCount > 0 ? MIGRATED : MODIFIED)
+                .onErrorResume(error -> {
+                    log.warn("Error while migrating the DSL of page {}", page.getId(), error);
+                    return Mono.just(FAILED);
+                });
+    }
+
+    /**
+     * @return The DSL versions of the layouts of the page, or null if none of them need to be migrated
+     */
+    private static List<Integer> getDslVersionsIfMigrationRequired(PageDTO pageDTO, Integer latestDslVersion) {
+        if (pageDTO == null || pageDTO.getLayouts() == null) {
+            return null;
+        }
+        boolean isMigrationRequired = pageDTO.getLayouts().stream()
+                .anyMatch(layout ->
+                        layout.getDsl() != null && GitUtils.isMigrationRequired(layout.getDsl(), latestDslVersion));
+        if (!isMigrationRequired) {
+            return null;
+        }
+        return pageDTO.getLayouts().stream()
+                .map(layout -> {
+                    Number dslVersion =
+                            layout.getDsl() == null ? null : layout.getDsl().getAsNumber(FieldName.VERSION);
+                    return dslVersion == null ? null : dslVersion.intValue();
+                })
+                .toList();
+    }
+}
@@ -16,18 +16,17 @@ import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
-import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 @Slf4j
 @Component
@@ -39,36 +38,61 @@ public class WidgetRefactorUtil {
 
     public Mono<Set<String>> refactorNameInDsl(
             JsonNode dsl, String oldName, String newName, int evalVersion, Pattern oldNamePattern) {
+        // The bindings of all the widgets are refactored together, rather than with a request per binding path
+        Set<MustacheBindingToken> mustacheValues = new HashSet<>();
+        collectMustacheValuesInDsl(dsl, mustacheValues);
+
+        Mono<Map<MustacheBindingToken, String>> replacementMapMono = Mono.just(Map.of());
+        if (!mustacheValues.isEmpty()) {
+            replacementMapMono = astService
+                    .replaceValueInMustacheKeys(mustacheValues, oldName, newName, evalVersion, oldNamePattern)
+                    .defaultIfEmpty(Map.of());
+        }
+
+        return replacementMapMono.map(replacementMap -> refactorNameInDsl(dsl, oldName, newName, replacementMap));
+    }
+
+    private void collectMustacheValuesInDsl(JsonNode dsl, Set<MustacheBindingToken> mustacheValues) {
+        if (dsl.has(FieldName.WIDGET_ID)) {
+            for (String bindingPathListName :
+                    List.of(FieldName.DYNAMIC_BINDING_PATH_LIST, FieldName.DYNAMIC_TRIGGER_PATH_LIST)) {
+                if (dsl.has(bindingPathListName)) {
+                    for (JsonNode bindingPath : dsl.get(bindingPathListName)) {
+                        mustacheValues.addAll(DslUtils.getMustacheValueSetFromSpecificDynamicBindingPath(
+                                dsl, bindingPath.get(FieldName.KEY).asText()));
+                    }
+                }
+            }
+        }
+        if (dsl.has("children")) {
+            for (JsonNode child : dsl.get("children")) {
+                collectMustacheValuesInDsl(child, mustacheValues);
+            }
+        }
+    }
 
-        Mono<Set<String>> refactorNameInWidgetMono = Mono.just(new HashSet<>());
-        Mono<Set<String>> recursiveRefactorNameInDslMono = Mono.just(new HashSet<>());
+    private Set<String> refactorNameInDsl(
+            JsonNode dsl, String oldName, String newName, Map<MustacheBindingToken, String> replacementMap) {
+        Set<String> refactoredPaths = new HashSet<>();
 
         // if current object is widget,
         if (dsl.has(FieldName.WIDGET_ID)) {
             // enter parse widget method
-            refactorNameInWidgetMono = refactorNameInWidget(dsl, oldName, newName, evalVersion, oldNamePattern);
+            refactoredPaths.addAll(refactorNameInWidget(dsl, oldName, newName, replacementMap));
         }
         // if current object has children,
         if (dsl.has("children")) {
-            ArrayNode dslChildren = (ArrayNode) dsl.get("children");
-            // recurse over each child
-            recursiveRefactorNameInDslMono = Flux.fromStream(StreamSupport.stream(dslChildren.spliterator(), true))
-                    .flatMap(child -> refactorNameInDsl(child, oldName, newName, evalVersion, oldNamePattern))
-                    .reduce(new HashSet<>(), (x, y) -> {
-                        // for each child, aggregate the refactored paths
-                        y.addAll(x);
-                        return y;
-                    });
+            // recurse over each child, aggregating the refactored paths
+            for (JsonNode child : dsl.get("children")) {
+                refactoredPaths.addAll(refactorNameInDsl(child, oldName, newName, replacementMap));
+            }
         }
 
-        return refactorNameInWidgetMono.zipWith(recursiveRefactorNameInDslMono).map(tuple -> {
-            tuple.getT1().addAll(tuple.getT2());
-            return tuple.getT1();
-        });
+        return refactoredPaths;
     }
 
-    Mono<Set<String>> refactorNameInWidget(
-            JsonNode widgetDsl, String oldName, String newName, int evalVersion, Pattern oldNamePattern) {
+    Set<String> refactorNameInWidget(
+            JsonNode widgetDsl, String oldName, String newName, Map<MustacheBindingToken, String> replacementMap) {
         boolean isRefactoredWidget = false;
         boolean isRefactoredTemplate = false;
         String widgetName = "";
@@ -113,16 +137,15 @@ public class WidgetRefactorUtil {
             }
         }
 
-        Mono<Set<String>> refactorDynamicBindingsMono = Mono.just(new HashSet<>());
-        Mono<Set<String>> refactorTriggerBindingsMono = Mono.just(new HashSet<>());
+        Set<String> refactoredBindings = new HashSet<>();
 
         // If there are dynamic bindings in this action configuration, inspect them
         if (widgetDsl.has(FieldName.DYNAMIC_BINDING_PATH_LIST)
                 && !widgetDsl.get(FieldName.DYNAMIC_BINDING_PATH_LIST).isEmpty()) {
             ArrayNode dslDynamicBindingPathList = (ArrayNode) widgetDsl.get(FieldName.DYNAMIC_BINDING_PATH_LIST);
             // recurse over each child
-            refactorDynamicBindingsMono = refactorBindingsUsingBindingPaths(
-                    widgetDsl, oldName, newName, evalVersion, oldNamePattern, dslDynamicBindingPathList, widgetName);
+            refactoredBindings.addAll(refactorBindingsUsingBindingPaths(
+                    widgetDsl, oldName, newName, replacementMap, dslDynamicBindingPathList, widgetName));
         }
 
         // If there are dynamic triggers in this action configuration, inspect them
@@ -130,74 +153,60 @@ public class WidgetRefactorUtil {
                 && !widgetDsl.get(FieldName.DYNAMIC_TRIGGER_PATH_LIST).isEmpty()) {
             ArrayNode dslDynamicTriggerPathList = (ArrayNode) widgetDsl.get(FieldName.DYNAMIC_TRIGGER_PATH_LIST);
             // recurse over each child
-            refactorTriggerBindingsMono = refactorBindingsUsingBindingPaths(
-                    widgetDsl, oldName, newName, evalVersion, oldNamePattern, dslDynamicTriggerPathList, widgetName);
+            refactoredBindings.addAll(refactorBindingsUsingBindingPaths(
+                    widgetDsl, oldName, newName, replacementMap, dslDynamicTriggerPathList, widgetName));
         }
 
-        final String finalWidgetNamePath = widgetName + ".widgetName";
-        final boolean finalIsRefactoredWidget = isRefactoredWidget;
-        final boolean finalIsRefactoredTemplate = isRefactoredTemplate;
-        final String finalWidgetTemplatePath = widgetName + ".template";
-        return refactorDynamicBindingsMono
-                .zipWith(refactorTriggerBindingsMono)
-                .map(tuple -> {
-                    tuple.getT1().addAll(tuple.getT2());
-                    return tuple.getT1();
-                })
-                .map(refactoredBindings -> {
-                    if (Boolean.TRUE.equals(finalIsRefactoredWidget)) {
-                        refactoredBindings.add(finalWidgetNamePath);
-                    }
-                    if (Boolean.TRUE.equals(finalIsRefactoredTemplate)) {
-                        refactoredBindings.add(finalWidgetTemplatePath);
-                    }
-                    return refactoredBindings;
-                });
+        if (Boolean.TRUE.equals(isRefactoredWidget)) {
+            refactoredBindings.add(widgetName + ".widgetName");
+        }
+        if (Boolean.TRUE.equals(isRefactoredTemplate)) {
+            refactoredBindings.add(widgetName + ".template");
+        }
+        return refactoredBindings;
     }
 
-    @NotNull private Mono<Set<String>> refactorBindingsUsingBindingPaths(
+    private Set<String> refactorBindingsUsingBindingPaths(
             JsonNode widgetDsl,
             String oldName,
             String newName,
-            int evalVersion,
-            Pattern oldNamePattern,
+            Map<MustacheBindingToken, String> replacementMap,
             ArrayNode bindingPathList,
             String widgetName) {
-        Mono<Set<String>> refactorBindingsMono;
-        refactorBindingsMono = Flux.fromStream(StreamSupport.stream(bindingPathList.spliterator(), true))
-                .flatMap(bindingPath -> {
-                    String key = bindingPath.get(FieldName.KEY).asText();
-                    // This is inside a list widget, and the path starts with template.<oldName>.,
-                    // We need to update the binding path list entry itself as well
-                    if (widgetDsl.has(FieldName.WIDGET_TYPE)
-                            && FieldName.LIST_WIDGET.equals(
-                                    widgetDsl.get(FieldName.WIDGET_TYPE).asText())
-                            && key.startsWith("template." + oldName + ".")) {
-                        key = key.replace(oldName, newName);
-                        ((ObjectNode) bindingPath).set(FieldName.KEY, new TextNode(key));
-                    }
-                    // Find values inside mustache bindings in this path
-                    Set<MustacheBindingToken> mustacheValues =
-                            DslUtils.getMustacheValueSetFromSpecificDynamicBindingPath(widgetDsl, key);
-                    final String finalKey = key;
-                    // Perform refactor for each mustache value
-                    return astService
-                            .replaceValueInMustacheKeys(mustacheValues, oldName, newName, evalVersion, oldNamePattern)
-                            .flatMap(replacementMap -> {
-                                if (replacementMap.isEmpty()) {
-                                    // If the map is empty, it means that this path did not have anything that had to be
-                                    // refactored
-                                    return Mono.empty();
-                                }
-                                // Replace the binding path value with the new mustache values
-                                DslUtils.replaceValuesInSpecificDynamicBindingPath(widgetDsl, finalKey, replacementMap);
-                                // Mark this path as refactored
-                                String entityPath = StringUtils.hasLength(widgetName) ? widgetName + "." : "";
-                                return Mono.just(entityPath + finalKey);
-                            });
-                })
-                .collect(Collectors.toSet());
-        return refactorBindingsMono;
+        Set<String> refactoredBindings = new HashSet<>();
+        for (JsonNode bindingPath : bindingPathList) {
+            String key = bindingPath.get(FieldName.KEY).asText();
+            // This is inside a list widget, and the path starts with template.<oldName>.,
+            // We need to update the binding path list entry itself as well
+            if (widgetDsl.has(FieldName.WIDGET_TYPE)
+                    && FieldName.LIST_WIDGET.equals(
+                            widgetDsl.get(FieldName.WIDGET_TYPE).asText())
+                    && key.startsWith("template." + oldName + ".")) {
+                key = key.replace(oldName, newName);
+                ((ObjectNode) bindingPath).set(FieldName.KEY, new TextNode(key));
+            }
+            // Find values inside mustache bindings in this path
+            Set<MustacheBindingToken> mustacheValues =
+                    DslUtils.getMustacheValueSetFromSpecificDynamicBindingPath(widgetDsl, key);
+            // Pick the refactored values of the mustache values of this path
+            Map<MustacheBindingToken, String> pathReplacementMap = new HashMap<>();
+            for (MustacheBindingToken mustacheValue : mustacheValues) {
+                if (replacementMap.containsKey(mustacheValue)) {
+                    pathReplacementMap.put(mustacheValue, replacementMap.get(mustacheValue));
+                }
+            }
+            if (pathReplacementMap.isEmpty()) {
+                // If the map is empty, it means that this path did not have anything that had to be
+                // refactored
+                continue;
+            }
+            // Replace the binding path value with the new mustache values
+            DslUtils.replaceValuesInSpecificDynamicBindingPath(widgetDsl, key, pathReplacementMap);
+            // Mark this path as refactored
+            String entityPath = StringUtils.hasLength(widgetName) ? widgetName + "." : "";
+            refactoredBindings.add(entityPath + key);
+        }
+        return refactoredBindings;
     }
 
     public JsonNode convertDslStringToJsonNode(JSONObject dsl) {
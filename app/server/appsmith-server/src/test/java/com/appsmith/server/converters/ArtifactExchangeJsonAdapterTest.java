@@ -0,0 +1,123 @@
+package com.appsmith.server.converters;
+
+import com.appsmith.server.constants.ArtifactType;
+import com.appsmith.server.dtos.ApplicationJson;
+import com.appsmith.server.dtos.ArtifactExchangeJson;
+import com.appsmith.util.SerializationUtils;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ArtifactExchangeJsonAdapterTest {
+
+    private Gson gson;
+    private ArtifactExchangeJsonAdapter artifactExchangeJsonAdapter;
+
+    @BeforeEach
+    public void setUp() {
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        SerializationUtils.typeAdapterRegistration().customize(gsonBuilder);
+        gson = gsonBuilder.create();
+        artifactExchangeJsonAdapter = new ArtifactExchangeJsonAdapter(gson);
+    }
+
+    private static InputStream streamOf(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void fromJson_WhenExportedApplication_ReadsSameAsJsonTree() throws IOException {
+        byte[] json;
+        try (InputStream inputStream =
+                getClass().getResourceAsStream("/test_assets/ImportExportServiceTest/building-block.json")) {
+            json = inputStream.readAllBytes();
+        }
+        Gson treeGson = new GsonBuilder()
+                .registerTypeAdapter(ArtifactExchangeJson.class, artifactExchangeJsonAdapter)
+                .create();
+
+        ArtifactExchangeJson streamed = artifactExchangeJsonAdapter.fromJson(new ByteArrayInputStream(json));
+        ArtifactExchangeJson parsed =
+                treeGson.fromJson(new String(json, StandardCharsets.UTF_8), ArtifactExchangeJson.class);
+
+        assertThat(streamed).isInstanceOf(ApplicationJson.class);
+        assertThat(((ApplicationJson) streamed).getPageList()).isNotEmpty();
+        assertThat(gson.toJson(streamed)).isEqualTo(gson.toJson(parsed));
+    }
+
+    @Test
+    public void fromJson_WhenTypeAfterOtherFields_ReadsRegisteredClassWithAllFields() throws IOException {
+        ArtifactExchangeJsonAdapter adapter = new ArtifactExchangeJsonAdapter(gson) {
+            @Override
+            protected void populateArtifactTypeRegistry() {
+                super.populateArtifactTypeRegistry();
+                artifactTypeRegistry.put(ArtifactType.PACKAGE, PackageJson.class);
+            }
+        };
+        String json = "{\"serverSchemaVersion\": 7, \"packageName\": \"utils\", \"artifactJsonType\": \"PACKAGE\"}";
+
+        ArtifactExchangeJson artifactExchangeJson = adapter.fromJson(streamOf(json));
+
+        assertThat(artifactExchangeJson).isInstanceOf(PackageJson.class);
+        assertThat(((PackageJson) artifactExchangeJson).getPackageName()).isEqualTo("utils");
+        assertThat(artifactExchangeJson.getServerSchemaVersion()).isEqualTo(7);
+    }
+
+    @Test
+    public void fromJson_WhenNoType_ReadsApplication() throws IOException {
+        ArtifactExchangeJson artifactExchangeJson =
+                artifactExchangeJsonAdapter.fromJson(streamOf("{\"clientSchemaVersion\": 1}"));
+
+        assertThat(artifactExchangeJson).isInstanceOf(ApplicationJson.class);
+        assertThat(artifactExchangeJson.getClientSchemaVersion()).isEqualTo(1);
+    }
+
+    @Test
+    public void fromJson_WhenTypeAfterLookahead_ReadsApplication() throws IOException {
+        ArtifactExchangeJsonAdapter adapter = new ArtifactExchangeJsonAdapter(gson) {
+            @Override
+            protected void populateArtifactTypeRegistry() {
+                super.populateArtifactTypeRegistry();
+                artifactTypeRegistry.put(ArtifactType.PACKAGE, PackageJson.class);
+            }
+        };
+        String packageName = "a".repeat(100 * 1024);
+        String json = "{\"packageName\": \"" + packageName + "\", \"clientSchemaVersion\": 1, "
+                + "\"artifactJsonType\": \"PACKAGE\"}";
+
+        ArtifactExchangeJson artifactExchangeJson = adapter.fromJson(streamOf(json));
+
+        assertThat(artifactExchangeJson).isInstanceOf(ApplicationJson.class).isNotInstanceOf(PackageJson.class);
+        assertThat(artifactExchangeJson.getClientSchemaVersion()).isEqualTo(1);
+    }
+
+    @Test
+    public void fromJson_WhenEmpty_ReturnsNull() throws IOException {
+        assertThat(artifactExchangeJsonAdapter.fromJson(streamOf(""))).isNull();
+    }
+
+    @Test
+    public void fromJson_WhenInvalidJson_ThrowsSyntaxException() {
+        assertThrows(
+                JsonSyntaxException.class, () -> artifactExchangeJsonAdapter.fromJson(streamOf("{\"pageList\": [")));
+        assertThrows(JsonSyntaxException.class, () -> artifactExchangeJsonAdapter.fromJson(streamOf("[1, 2]")));
+    }
+
+    @Getter
+    @Setter
+    public static class PackageJson extends ApplicationJson {
+        String packageName;
+    }
+}
@@ -0,0 +1,297 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.DBAuth;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
+import com.appsmith.external.models.SSHConnection;
+import com.appsmith.external.models.SSHPrivateKey;
+import com.appsmith.external.models.UploadedFile;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.dtos.ActionExecutionPlan;
+import com.appsmith.server.dtos.ActionExecutionTarget;
+import com.appsmith.server.services.PermissionGroupService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import reactor.core.publisher.Mono;
+
+import java.io.File;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ActionExecutionPlanCacheTest {
+
+    private PermissionGroupService permissionGroupService;
+    private SimpleMeterRegistry meterRegistry;
+    private ActionExecutionPlanCache actionExecutionPlanCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    public void setUp() {
+        permissionGroupService = Mockito.mock(PermissionGroupService.class);
+        Mockito.when(permissionGroupService.getSessionUserPermissionGroupIds())
+                .thenReturn(Mono.just(Set.of("developer")));
+        meterRegistry = new SimpleMeterRegistry();
+        actionExecutionPlanCache = new ActionExecutionPlanCache(permissionGroupService, meterRegistry, 60, 100);
+        loads = new AtomicInteger();
+    }
+
+    private static ActionExecutionPlan createPlan() {
+        Datasource datasource = new Datasource();
+        datasource.setId("datasourceId");
+        datasource.setPluginId("pluginId");
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT * FROM users WHERE id = {{Input1.text}}");
+        actionConfiguration.setTimeoutInMillisecond("10000");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("preparedStatement", true)));
+        actionConfiguration.setFormData(Map.of("limit", Map.of("data", 10)));
+
+        ActionDTO actionDTO = new ActionDTO();
+        actionDTO.setId("actionId");
+        actionDTO.setName("Query1");
+        actionDTO.setApplicationId("applicationId");
+        actionDTO.setDatasource(datasource);
+        actionDTO.setActionConfiguration(actionConfiguration);
+        actionDTO.setJsonPathKeys(Set.of("Input1.text"));
+        actionDTO.setUpdatedAt(Instant.parse("2024-05-01T10:15:30.123456Z"));
+
+        SSHConnection sshConnection = new SSHConnection();
+        sshConnection.setEndpoints(List.of(new Endpoint("bastion", 22L)));
+        sshConnection.setPrivateKey(new SSHPrivateKey(new UploadedFile("key.pem", "a2V5"), "keyPassword"));
+
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setEndpoints(List.of(new Endpoint("db", 5432L)));
+        datasourceConfiguration.setAuthentication(new DBAuth(DBAuth.Type.USERNAME_PASSWORD, "user", "secret", "db"));
+        datasourceConfiguration.setSshProxy(sshConnection);
+        datasourceConfiguration.setProperties(List.of(new Property("Use mongo connection string URI", "No")));
+
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setId("datasourceStorageId");
+        datasourceStorage.setDatasourceId("datasourceId");
+        datasourceStorage.setEnvironmentId("environmentId");
+        datasourceStorage.setPluginId("pluginId");
+        datasourceStorage.setDatasourceConfiguration(datasourceConfiguration);
+
+        Plugin plugin = new Plugin();
+        plugin.setId("pluginId");
+        plugin.setPackageName("postgres-plugin");
+
+        return new ActionExecutionPlan(actionDTO, datasourceStorage, plugin);
+    }
+
+    private ActionExecutionPlan getOrLoad(String actionId) {
+        return actionExecutionPlanCache
+                .getOrLoad(
+                        actionId,
+                        "environmentId",
+                        false,
+                        false,
+                        () -> Mono.fromSupplier(() -> {
+                            loads.incrementAndGet();
+                            return createPlan();
+                        }))
+                .block();
+    }
+
+    private double count(String result) {
+        return meterRegistry
+                .get("appsmith.action.execution.plan.cache")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    @Test
+    public void testRepeatedExecution_servedFromCache() {
+        getOrLoad("actionId");
+        ActionExecutionPlan plan = getOrLoad("actionId");
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(plan.actionDTO().getActionConfiguration().getBody())
+                .isEqualTo("SELECT * FROM users WHERE id = {{Input1.text}}");
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1);
+        assertThat(meterRegistry
+                        .get("appsmith.action.execution.plan.cache.saved.queries")
+                        .counter()
+                        .count())
+                .isEqualTo(4);
+    }
+
+    @Test
+    public void testCachedPlan_isCopiedWithAllFields() {
+        ActionExecutionPlan loaded = getOrLoad("actionId");
+        ActionExecutionPlan cached = getOrLoad("actionId");
+
+        assertThat(cached.actionDTO()).isNotSameAs(loaded.actionDTO());
+        assertThat(cached.datasourceStorage()).isNotSameAs(loaded.datasourceStorage());
+        assertThat(cached.actionDTO())
+                .usingRecursiveComparison()
+                .isEqualTo(createPlan().actionDTO());
+        assertThat(cached.datasourceStorage())
+                .usingRecursiveComparison()
+                .isEqualTo(createPlan().datasourceStorage());
+        // Credentials hidden from the API are still copied
+        assertThat(((DBAuth) cached.datasourceStorage()
+                                .getDatasourceConfiguration()
+                                .getAuthentication())
+                        .getPassword())
+                .isEqualTo("secret");
+        assertThat(cached.datasourceStorage()
+                        .getDatasourceConfiguration()
+                        .getSshProxy()
+                        .getPrivateKey()
+                        .getPassword())
+                .isEqualTo("keyPassword");
+    }
+
+    @Test
+    public void testExecutionModifyingPlan_doesNotAffectCache() {
+        ActionExecutionPlan loaded = getOrLoad("actionId");
+        loaded.actionDTO().getActionConfiguration().setBody("SELECT * FROM users WHERE id = 1");
+        loaded.datasourceStorage().getDatasourceConfiguration().setUrl("jdbc:postgresql://db/replaced");
+
+        ActionExecutionPlan cached = getOrLoad("actionId");
+        cached.actionDTO().getActionConfiguration().setBody("SELECT * FROM users WHERE id = 2");
+
+        ActionExecutionPlan cachedAgain = getOrLoad("actionId");
+        assertThat(cachedAgain.actionDTO().getActionConfiguration().getBody())
+                .isEqualTo("SELECT * FROM users WHERE id = {{Input1.text}}");
+        assertThat(cachedAgain.datasourceStorage().getDatasourceConfiguration().getUrl())
+                .isNull();
+    }
+
+    @Test
+    public void testCopy_valueOfTypeOutsideModels_rejected() {
+        ActionExecutionPlan plan = createPlan();
+        plan.actionDTO().getActionConfiguration().setFormData(Map.of("file", new File("/tmp/file")));
+
+        assertThatThrownBy(() -> actionExecutionPlanCache.copy(plan)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testDifferentPermissionGroups_notShared() {
+        getOrLoad("actionId");
+        Mockito.when(permissionGroupService.getSessionUserPermissionGroupIds()).thenReturn(Mono.just(Set.of("viewer")));
+        getOrLoad("actionId");
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testNoSessionUser_alwaysLoaded() {
+        Mockito.when(permissionGroupService.getSessionUserPermissionGroupIds()).thenReturn(Mono.empty());
+        getOrLoad("actionId");
+        getOrLoad("actionId");
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(count("miss")).isEqualTo(0);
+    }
+
+    @Test
+    public void testSavingActionDatasourceOrApplication_invalidatesPlan() {
+        getOrLoad("actionId");
+
+        NewAction newAction = new NewAction();
+        newAction.setId("actionId");
+        actionExecutionPlanCache.onAfterSave(new AfterSaveEvent<>(newAction, new Document(), "newAction"));
+        getOrLoad("actionId");
+        assertThat(loads.get()).isEqualTo(2);
+
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setDatasourceId("datasourceId");
+        actionExecutionPlanCache.onAfterSave(
+                new AfterSaveEvent<>(datasourceStorage, new Document(), "datasourceStorage"));
+        getOrLoad("actionId");
+        assertThat(loads.get()).isEqualTo(3);
+
+        Application application = new Application();
+        application.setId("applicationId");
+        actionExecutionPlanCache.onAfterSave(new AfterSaveEvent<>(application, new Document(), "application"));
+        getOrLoad("actionId");
+        assertThat(loads.get()).isEqualTo(4);
+
+        getOrLoad("actionId");
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void testRepeatedResolution_servedFromCacheUntilActionSaved() {
+        AtomicInteger resolutions = new AtomicInteger();
+        ActionExecutionTarget target =
+                new ActionExecutionTarget("actionId", "workspaceId", "applicationId", "datasourceId", "environmentId");
+        for (int i = 0; i < 2; i++) {
+            assertThat(actionExecutionPlanCache
+                            .getOrResolve(
+                                    "actionId",
+                                    "environmentId",
+                                    false,
+                                    false,
+                                    () -> Mono.fromSupplier(() -> {
+                                        resolutions.incrementAndGet();
+                                        return target;
+                                    }))
+                            .block())
+                    .isEqualTo(target);
+        }
+
+        assertThat(resolutions.get()).isEqualTo(1);
+        // Only the read of the action was skipped
+        assertThat(meterRegistry
+                        .get("appsmith.action.execution.plan.cache.saved.queries")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+
+        actionExecutionPlanCache.invalidateAction("actionId");
+        actionExecutionPlanCache
+                .getOrResolve(
+                        "actionId",
+                        "environmentId",
+                        false,
+                        false,
+                        () -> Mono.fromSupplier(() -> {
+                            resolutions.incrementAndGet();
+                            return target;
+                        }))
+                .block();
+        assertThat(resolutions.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testSaveWhileLoading_planNotCached() {
+        actionExecutionPlanCache
+                .getOrLoad(
+                        "actionId",
+                        "environmentId",
+                        false,
+                        false,
+                        () -> Mono.fromSupplier(() -> {
+                            loads.incrementAndGet();
+                            // The datasource is updated after it was read for this plan
+                            actionExecutionPlanCache.invalidateDatasource("datasourceId");
+                            return createPlan();
+                        }))
+                .block();
+        getOrLoad("actionId");
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
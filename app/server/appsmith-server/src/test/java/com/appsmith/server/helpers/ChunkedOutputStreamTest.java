@@ -0,0 +1,54 @@
+package com.appsmith.server.helpers;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChunkedOutputStreamTest {
+
+    @Test
+    public void write_WhenLargerThanChunkSize_SplitsIntoChunks() {
+        byte[] content = new byte[250_000];
+        new Random(42).nextBytes(content);
+        List<byte[]> chunks = new ArrayList<>();
+
+        ChunkedOutputStream outputStream = new ChunkedOutputStream(100_000, chunks::add);
+        outputStream.write(content, 0, 1000);
+        outputStream.write(content[1000]);
+        outputStream.write(content, 1001, content.length - 1001);
+        assertThat(chunks).hasSize(2);
+        outputStream.close();
+        outputStream.close();
+
+        assertThat(chunks).extracting(chunk -> chunk.length).containsExactly(100_000, 100_000, 50_000);
+        ByteArrayOutputStream joined = new ByteArrayOutputStream();
+        chunks.forEach(joined::writeBytes);
+        assertThat(joined.toByteArray()).isEqualTo(content);
+        assertThat(outputStream.getCount()).isEqualTo(content.length);
+    }
+
+    @Test
+    public void close_WhenExactMultipleOfChunkSize_DoesNotEmitEmptyChunk() {
+        List<byte[]> chunks = new ArrayList<>();
+
+        ChunkedOutputStream outputStream = new ChunkedOutputStream(4, chunks::add);
+        outputStream.write(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}, 0, 8);
+        outputStream.close();
+
+        assertThat(chunks).containsExactly(new byte[] {1, 2, 3, 4}, new byte[] {5, 6, 7, 8});
+    }
+
+    @Test
+    public void close_WhenNothingWritten_EmitsNoChunk() {
+        List<byte[]> chunks = new ArrayList<>();
+
+        new ChunkedOutputStream(4, chunks::add).close();
+
+        assertThat(chunks).isEmpty();
+    }
+}
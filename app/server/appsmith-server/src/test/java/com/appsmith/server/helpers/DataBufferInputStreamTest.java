@@ -0,0 +1,72 @@
+package com.appsmith.server.helpers;
+
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DataBufferInputStreamTest {
+
+    private final NettyDataBufferFactory bufferFactory =
+            new NettyDataBufferFactory(new UnpooledByteBufAllocator(false));
+
+    private List<NettyDataBuffer> buffersOf(String... chunks) {
+        List<NettyDataBuffer> buffers = new ArrayList<>();
+        for (String chunk : chunks) {
+            buffers.add(bufferFactory.wrap(Unpooled.copiedBuffer(chunk, StandardCharsets.UTF_8)));
+        }
+        return buffers;
+    }
+
+    @Test
+    public void read_WhenManyBuffers_ReadsAllBytesAndReleasesBuffers() throws IOException {
+        List<NettyDataBuffer> buffers = buffersOf("{\"name\": ", "", "\"Hello ", "world\"}");
+
+        String content;
+        try (InputStream inputStream = new DataBufferInputStream(Flux.<DataBuffer>fromIterable(buffers), 2)) {
+            assertThat(inputStream.read()).isEqualTo('{');
+            content = "{" + new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(inputStream.read()).isEqualTo(-1);
+        }
+
+        assertThat(content).isEqualTo("{\"name\": \"Hello world\"}");
+        assertThat(buffers).allMatch(buffer -> buffer.getNativeBuffer().refCnt() == 0);
+    }
+
+    @Test
+    public void close_WhenNotFullyRead_CancelsAndReleasesBuffers() throws IOException {
+        List<NettyDataBuffer> buffers = buffersOf("first", "second", "third", "fourth");
+        AtomicBoolean cancelled = new AtomicBoolean();
+
+        InputStream inputStream = new DataBufferInputStream(
+                Flux.<DataBuffer>fromIterable(buffers).doOnCancel(() -> cancelled.set(true)), 2);
+        assertThat(inputStream.read(new byte[3])).isEqualTo(3);
+        inputStream.close();
+
+        assertThat(cancelled).isTrue();
+        assertThat(buffers.subList(0, 2))
+                .allMatch(buffer -> buffer.getNativeBuffer().refCnt() == 0);
+    }
+
+    @Test
+    public void read_WhenContentFails_ThrowsError() {
+        InputStream inputStream = new DataBufferInputStream(
+                Flux.<DataBuffer>fromIterable(buffersOf("partial")).concatWith(Flux.error(new IllegalStateException())),
+                2);
+
+        assertThrows(IllegalStateException.class, inputStream::readAllBytes);
+    }
+}
@@ -0,0 +1,151 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.exceptions.ErrorDTO;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.configurations.ProjectProperties;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.CustomJSLib;
+import com.appsmith.server.domains.Theme;
+import com.appsmith.server.dtos.ActionCollectionViewDTO;
+import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.ConsolidatedAPIResponseDTO;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.dtos.ResponseDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.appsmith.server.acl.AclPermission.READ_APPLICATIONS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PublishedPageLoadCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PublishedPageLoadCache publishedPageLoadCache;
+
+    @BeforeEach
+    public void setUp() {
+        ProjectProperties projectProperties = Mockito.mock(ProjectProperties.class);
+        Mockito.when(projectProperties.getVersion()).thenReturn("v1.0");
+        Mockito.when(projectProperties.getCommitSha()).thenReturn("commit");
+        meterRegistry = new SimpleMeterRegistry();
+        publishedPageLoadCache =
+                new PublishedPageLoadCache(meterRegistry, projectProperties, new ObjectMapper(), 10, 10);
+    }
+
+    private static Application application(Instant lastDeployedAt, Set<String> viewers) {
+        Application application = new Application();
+        application.setId("application");
+        application.setLastDeployedAt(lastDeployedAt);
+        Map<String, Policy> policyMap = new HashMap<>();
+        policyMap.put(
+                READ_APPLICATIONS.getValue(),
+                Policy.builder()
+                        .permission(READ_APPLICATIONS.getValue())
+                        .permissionGroups(viewers)
+                        .build());
+        application.setPolicyMap(policyMap);
+        return application;
+    }
+
+    private static <T> ResponseDTO<T> success(T data) {
+        return new ResponseDTO<>(200, data, null);
+    }
+
+    private static ConsolidatedAPIResponseDTO publishedResponse(ResponseDTO<PageDTO> page) {
+        ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO = new ConsolidatedAPIResponseDTO();
+        consolidatedAPIResponseDTO.setCurrentTheme(success(new Theme()));
+        consolidatedAPIResponseDTO.setCustomJSLibraries(success(List.<CustomJSLib>of()));
+        consolidatedAPIResponseDTO.setPageWithMigratedDsl(page);
+        consolidatedAPIResponseDTO.setPublishedActions(success(List.<ActionViewDTO>of()));
+        consolidatedAPIResponseDTO.setPublishedActionCollections(success(List.<ActionCollectionViewDTO>of()));
+        return consolidatedAPIResponseDTO;
+    }
+
+    @Test
+    public void getVersion_WhenApplicationOrViewerChanges_ChangesVersion() {
+        Instant lastDeployedAt = Instant.parse("2024-01-01T00:00:00Z");
+        String version =
+                publishedPageLoadCache.getVersion(application(lastDeployedAt, Set.of("a", "b")), "page", List.of("a"));
+
+        assertThat(publishedPageLoadCache.getVersion(
+                        application(lastDeployedAt, Set.of("b", "a")), "page", List.of("a")))
+                .isEqualTo(version);
+        assertThat(List.of(
+                        publishedPageLoadCache.getVersion(
+                                application(lastDeployedAt.plusSeconds(1), Set.of("a", "b")), "page", List.of("a")),
+                        publishedPageLoadCache.getVersion(
+                                application(lastDeployedAt, Set.of("a")), "page", List.of("a")),
+                        publishedPageLoadCache.getVersion(
+                                application(lastDeployedAt, Set.of("a", "b")), "page2", List.of("a")),
+                        publishedPageLoadCache.getVersion(
+                                application(lastDeployedAt, Set.of("a", "b")), "page", List.of("a", "b"))))
+                .doesNotContain(version)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void get_WhenDataWasPut_ReturnsItAndCountsHits() {
+        PublishedPageLoadCache.PublishedPageLoadData data =
+                PublishedPageLoadCache.PublishedPageLoadData.from(publishedResponse(success(new PageDTO())));
+        assertThat(data).isNotNull();
+
+        assertThat(publishedPageLoadCache.get("version")).isNull();
+        publishedPageLoadCache.put("version", data);
+        ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO = new ConsolidatedAPIResponseDTO();
+        publishedPageLoadCache.get("version").copyTo(consolidatedAPIResponseDTO);
+
+        assertThat(consolidatedAPIResponseDTO.getPageWithMigratedDsl()).isSameAs(data.pageWithMigratedDsl());
+        // The current theme can change without a deployment, so it is never cached
+        assertThat(consolidatedAPIResponseDTO.getCurrentTheme()).isNull();
+        assertThat(meterRegistry
+                        .counter("appsmith.consolidated.api.published.cache", "result", PublishedPageLoadCache.HIT)
+                        .count())
+                .isEqualTo(1);
+        assertThat(meterRegistry
+                        .counter("appsmith.consolidated.api.published.cache", "result", PublishedPageLoadCache.MISS)
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void from_WhenSectionFailed_ReturnsNull() {
+        ResponseDTO<PageDTO> failedPage = new ResponseDTO<>(
+                404, new ErrorDTO(AppsmithError.NO_RESOURCE_FOUND.getAppErrorCode(), "Page not found"));
+
+        assertThat(PublishedPageLoadCache.PublishedPageLoadData.from(publishedResponse(failedPage)))
+                .isNull();
+    }
+
+    @Test
+    public void getETag_WhenSectionsChange_ChangesETag() {
+        String etag = publishedPageLoadCache.getETag("version", List.of(success(Map.of("a", 1, "b", 2))));
+
+        assertThat(etag).isNotNull();
+        assertThat(publishedPageLoadCache.getETag("version", List.of(success(Map.of("b", 2, "a", 1)))))
+                .isEqualTo(etag);
+        assertThat(publishedPageLoadCache.getETag("version", List.of(success(Map.of("a", 1, "b", 3)))))
+                .isNotEqualTo(etag);
+        assertThat(publishedPageLoadCache.getETag("version2", List.of(success(Map.of("a", 1, "b", 2)))))
+                .isNotEqualTo(etag);
+    }
+
+    @Test
+    public void getETag_WhenSectionFailedOrNoPublishedData_ReturnsNull() {
+        ResponseDTO<Object> failedSection = new ResponseDTO<>(500, new ErrorDTO("AE-APP-5000", "Error"));
+
+        assertThat(publishedPageLoadCache.getETag("version", List.of(success("data"), failedSection)))
+                .isNull();
+        assertThat(publishedPageLoadCache.getETag(null, List.of(success("data"))))
+                .isNull();
+    }
+}
@@ -853,6 +853,24 @@ public class ImportServiceTests {
                 .verify();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void importArtifactFromEmptyFileTest() {
+        FilePart filepart = Mockito.mock(FilePart.class, Mockito.RETURNS_DEEP_STUBS);
+        Mockito.when(filepart.content()).thenReturn(Flux.empty());
+        Mockito.when(filepart.headers().getContentType()).thenReturn(MediaType.APPLICATION_JSON);
+
+        Mono<? extends ArtifactImportDTO> resultMono =
+                importService.extractArtifactExchangeJsonAndSaveArtifact(filepart, workspaceId, null);
+
+        StepVerifier.create(resultMono)
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException
+                        && throwable
+                                .getMessage()
+                                .equals(AppsmithError.VALIDATION_FAILURE.getMessage("invalid json file")))
+                .verify();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void importArtifactWithNullWorkspaceIdTest() {
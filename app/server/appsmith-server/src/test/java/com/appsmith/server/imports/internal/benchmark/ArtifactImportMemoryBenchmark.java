@@ -0,0 +1,169 @@
+package com.appsmith.server.imports.internal.benchmark;
+
+import com.appsmith.server.converters.ArtifactExchangeJsonAdapter;
+import com.appsmith.server.dtos.ArtifactExchangeJson;
+import com.appsmith.server.helpers.DataBufferInputStream;
+import com.appsmith.util.SerializationUtils;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Compares the peak live heap used to read an uploaded application JSON of about 50 MB into an
+ * {@link ArtifactExchangeJson}, when the upload is joined and copied to a string that is parsed to a JSON tree first,
+ * as the import used to do, and when it is parsed as it is received through a {@link DataBufferInputStream}.
+ * <p>
+ * The application is the building block test asset with its pages, actions and collections repeated until it is large
+ * enough, and the upload is a flux of 8 KB buffers over the bytes of its JSON, which are not counted. Run main from the
+ * test classpath, after mvn test-compile, with a fixed heap small enough for collections to happen while reading, like
+ * -Xms1g -Xmx1g. The size of the application in MB can be given as the first argument.
+ */
+public class ArtifactImportMemoryBenchmark {
+
+    private static final int DEFAULT_SIZE_MB = 50;
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final List<String> REPEATED_FIELDS = List.of("pageList", "actionList", "actionCollectionList");
+
+    public static void main(String[] args) throws IOException {
+        int sizeInMb = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE_MB;
+
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        SerializationUtils.typeAdapterRegistration().customize(gsonBuilder);
+        Gson gson = gsonBuilder.create();
+        ArtifactExchangeJsonAdapter artifactExchangeJsonAdapter = new ArtifactExchangeJsonAdapter(gson);
+
+        byte[] json = applicationJson(gson, sizeInMb * 1024 * 1024);
+
+        Function<Flux<DataBuffer>, ArtifactExchangeJson> joined = content -> {
+            DataBuffer dataBuffer = DataBufferUtils.join(content).block();
+            byte[] data = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(data);
+            DataBufferUtils.release(dataBuffer);
+            String jsonString = new String(data);
+            gsonBuilder.registerTypeAdapter(ArtifactExchangeJson.class, artifactExchangeJsonAdapter);
+            return gsonBuilder.create().fromJson(jsonString, ArtifactExchangeJson.class);
+        };
+        Function<Flux<DataBuffer>, ArtifactExchangeJson> streamed = content -> {
+            try (InputStream inputStream = new DataBufferInputStream(content, 4)) {
+                return artifactExchangeJsonAdapter.fromJson(inputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+
+        // Warm up both paths so that class loading and JIT do not count against the first one measured
+        joined.apply(upload(json));
+        streamed.apply(upload(json));
+
+        long joinedPeak = measurePeakHeap(() -> joined.apply(upload(json)));
+        long streamedPeak = measurePeakHeap(() -> streamed.apply(upload(json)));
+
+        System.out.printf("%-10s %,6d MB JSON %,8d MB peak heap%n", "joined", json.length >> 20, joinedPeak >> 20);
+        System.out.printf("%-10s %,6d MB JSON %,8d MB peak heap%n", "streamed", json.length >> 20, streamedPeak >> 20);
+    }
+
+    /**
+     * Returns the JSON of the building block application, with its pages, actions and collections repeated until the
+     * JSON is at least the given size.
+     */
+    private static byte[] applicationJson(Gson gson, int size) throws IOException {
+        JsonObject application;
+        try (InputStream inputStream = ArtifactImportMemoryBenchmark.class.getResourceAsStream(
+                "/test_assets/ImportExportServiceTest/building-block.json")) {
+            application = JsonParser.parseString(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8))
+                    .getAsJsonObject();
+        }
+
+        int originalSize = gson.toJson(application).length();
+        int copies = Math.max(1, size / originalSize + 1);
+        for (String field : REPEATED_FIELDS) {
+            JsonArray elements = application.getAsJsonArray(field);
+            if (elements == null) {
+                continue;
+            }
+            JsonArray repeated = new JsonArray();
+            for (int i = 0; i < copies; i++) {
+                for (JsonElement element : elements) {
+                    repeated.add(element.deepCopy());
+                }
+            }
+            application.add(field, repeated);
+        }
+        return gson.toJson(application).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the bytes as an upload received in chunks, each chunk wrapping its part of the bytes without copying it.
+     */
+    private static Flux<DataBuffer> upload(byte[] json) {
+        DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+        return Flux.range(0, (json.length + CHUNK_SIZE - 1) / CHUNK_SIZE).map(chunk -> {
+            int offset = chunk * CHUNK_SIZE;
+            return bufferFactory.wrap(ByteBuffer.wrap(json, offset, Math.min(CHUNK_SIZE, json.length - offset))
+                    .slice());
+        });
+    }
+
+    /**
+     * Returns the highest heap usage seen after a garbage collection while the runnable ran, that is the memory the run
+     * kept alive rather than the garbage it allocated, compared to the heap used before.
+     */
+    private static long measurePeakHeap(Runnable runnable) {
+        System.gc();
+        long baseline = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+
+        AtomicLong peak = new AtomicLong(baseline);
+        NotificationListener listener = (notification, handback) -> {
+            if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                GcInfo gcInfo = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData())
+                        .getGcInfo();
+                long used = gcInfo.getMemoryUsageAfterGc().values().stream()
+                        .mapToLong(MemoryUsage::getUsed)
+                        .sum();
+                peak.accumulateAndGet(used, Math::max);
+            }
+        };
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        for (GarbageCollectorMXBean collector : collectors) {
+            ((NotificationEmitter) collector).addNotificationListener(listener, null, null);
+        }
+
+        try {
+            runnable.run();
+        } finally {
+            for (GarbageCollectorMXBean collector : collectors) {
+                try {
+                    ((NotificationEmitter) collector).removeNotificationListener(listener);
+                } catch (ListenerNotFoundException e) {
+                    // Not registered, nothing to remove
+                }
+            }
+        }
+        return peak.get() - baseline;
+    }
+}
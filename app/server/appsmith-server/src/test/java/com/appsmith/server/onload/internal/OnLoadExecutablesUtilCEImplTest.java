@@ -0,0 +1,201 @@
+package com.appsmith.server.onload.internal;
+
+import com.appsmith.external.dtos.DslExecutableDTO;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.CreatorContextType;
+import com.appsmith.external.models.Executable;
+import com.appsmith.external.models.PluginType;
+import com.appsmith.external.models.Property;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.helpers.ObservationHelperImpl;
+import com.appsmith.server.onload.executables.ExecutableOnLoadService;
+import com.appsmith.server.services.AstService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.appsmith.external.helpers.MustacheHelper.getPossibleParentsOld;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+
+public class OnLoadExecutablesUtilCEImplTest {
+
+    private static final String PAGE_ID = "page";
+
+    private final List<Executable> executables = new ArrayList<>();
+    private final List<List<String>> parsedBindings = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+
+    private OnLoadExecutablesUtilCEImpl onLoadExecutablesUtil;
+    private OnLoadExecutablesUtilCEImpl uncachedOnLoadExecutablesUtil;
+
+    @BeforeEach
+    public void setUp() {
+        AstService astService = Mockito.mock(AstService.class);
+        Mockito.when(astService.getPossibleReferencesFromDynamicBinding(anyList(), anyInt()))
+                .thenAnswer(invocationOnMock -> {
+                    List<String> bindings = invocationOnMock.getArgument(0);
+                    parsedBindings.add(bindings);
+                    return Flux.fromIterable(bindings)
+                            .map(binding -> Tuples.of(binding, new HashSet<>(getPossibleParentsOld(binding))));
+                });
+
+        @SuppressWarnings("unchecked")
+        ExecutableOnLoadService<NewPage> executableOnLoadService = Mockito.mock(ExecutableOnLoadService.class);
+        Mockito.when(executableOnLoadService.getAllExecutablesByCreatorIdFlux(anyString()))
+                .thenAnswer(invocationOnMock -> Flux.fromIterable(executables));
+        Mockito.when(executableOnLoadService.getUnpublishedOnLoadExecutablesExplicitSetByUserInPageFlux(anyString()))
+                .thenAnswer(invocationOnMock -> Flux.empty());
+        Mockito.when(executableOnLoadService.fillSelfReferencingPaths(any()))
+                .thenAnswer(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0)));
+
+        meterRegistry = new SimpleMeterRegistry();
+        CommonConfig commonConfig = Mockito.mock(CommonConfig.class);
+        onLoadExecutablesUtil = new OnLoadExecutablesUtilCEImpl(
+                astService,
+                new ObjectMapper(),
+                executableOnLoadService,
+                ObservationRegistry.NOOP,
+                new ObservationHelperImpl(Optional.empty(), commonConfig),
+                new OnLoadDependencyGraphCache(meterRegistry, 10, 30));
+        uncachedOnLoadExecutablesUtil = new OnLoadExecutablesUtilCEImpl(
+                astService,
+                new ObjectMapper(),
+                executableOnLoadService,
+                ObservationRegistry.NOOP,
+                new ObservationHelperImpl(Optional.empty(), commonConfig),
+                new OnLoadDependencyGraphCache(new SimpleMeterRegistry(), 0, 30));
+    }
+
+    private static ActionDTO query(String name, String body) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(body);
+
+        ActionDTO action = new ActionDTO();
+        action.setId(name);
+        action.setName(name);
+        action.setPageId(PAGE_ID);
+        action.setPluginType(PluginType.DB);
+        action.setActionConfiguration(actionConfiguration);
+        action.setDynamicBindingPathList(List.of(new Property("body", null)));
+        action.setJsonPathKeys(new HashSet<>());
+        action.setExecuteOnLoad(false);
+        action.setUserSetOnLoad(false);
+        return action;
+    }
+
+    private List<Set<String>> findAllOnLoadExecutables(
+            Map<String, Set<String>> widgetDynamicBindings, Set<String> executablesUsedInDsl) {
+        return findAllOnLoadExecutables(onLoadExecutablesUtil, widgetDynamicBindings, executablesUsedInDsl);
+    }
+
+    private List<Set<String>> findAllOnLoadExecutables(
+            OnLoadExecutablesUtilCEImpl onLoadExecutablesUtil,
+            Map<String, Set<String>> widgetDynamicBindings,
+            Set<String> executablesUsedInDsl) {
+        List<Set<DslExecutableDTO>> onLoadExecutables = onLoadExecutablesUtil
+                .findAllOnLoadExecutables(
+                        PAGE_ID,
+                        2,
+                        Set.of("Table1", "Text1", "Input1"),
+                        new HashSet<>(),
+                        widgetDynamicBindings,
+                        new ArrayList<>(),
+                        executablesUsedInDsl,
+                        CreatorContextType.PAGE)
+                .block();
+        return onLoadExecutables.stream()
+                .map(level -> level.stream().map(DslExecutableDTO::getName).collect(Collectors.toSet()))
+                .toList();
+    }
+
+    private double lookups(String result) {
+        return meterRegistry
+                .counter("appsmith.onload.dependency.graph.cache", "result", result)
+                .count();
+    }
+
+    @Test
+    public void findAllOnLoadExecutables_WhenLayoutUnchanged_ReusesDependencyGraph() {
+        executables.add(query("Query1", "select * from users where id = {{Input1.text}}"));
+        executables.add(query("Query2", "select * from orders where user_id = {{Query1.data[0].id}}"));
+        Map<String, Set<String>> widgetDynamicBindings =
+                Map.of("Table1.tableData", Set.of("Query2.data"), "Text1.text", Set.of("Input1.text"));
+
+        List<Set<String>> onLoadExecutables = findAllOnLoadExecutables(widgetDynamicBindings, new HashSet<>());
+        int parsedBindingsCount = parsedBindings.size();
+
+        Set<String> executablesUsedInDsl = new HashSet<>();
+        assertThat(findAllOnLoadExecutables(new HashMap<>(widgetDynamicBindings), executablesUsedInDsl))
+                .isEqualTo(onLoadExecutables)
+                .containsExactly(Set.of("Query1"), Set.of("Query2"));
+        assertThat(executablesUsedInDsl).containsExactly("Query2");
+        assertThat(parsedBindings).hasSize(parsedBindingsCount);
+        assertThat(lookups(OnLoadDependencyGraphCache.MISS)).isEqualTo(1);
+        assertThat(lookups(OnLoadDependencyGraphCache.HIT)).isEqualTo(1);
+    }
+
+    @Test
+    public void findAllOnLoadExecutables_WhenExecutableBindingsChange_ComputesDependencyGraphAgain() {
+        executables.add(query("Query1", "select * from users"));
+        executables.add(query("Query2", "select * from orders"));
+        Map<String, Set<String>> widgetDynamicBindings = Map.of("Table1.tableData", Set.of("Query2.data"));
+
+        assertThat(findAllOnLoadExecutables(widgetDynamicBindings, new HashSet<>()))
+                .containsExactly(Set.of("Query2"));
+
+        executables.set(1, query("Query2", "select * from orders where user_id = {{Query1.data[0].id}}"));
+
+        assertThat(findAllOnLoadExecutables(widgetDynamicBindings, new HashSet<>()))
+                .containsExactly(Set.of("Query1"), Set.of("Query2"));
+        assertThat(lookups(OnLoadDependencyGraphCache.CHANGED)).isEqualTo(1);
+    }
+
+    @Test
+    public void findAllOnLoadExecutables_WhenWidgetBindingsChange_OnlyParsesChangedWidgetRelationships() {
+        executables.add(query("Query1", "select * from users"));
+        executables.add(query("Query2", "select * from orders"));
+        Map<String, Set<String>> widgetDynamicBindings =
+                Map.of("Table1.tableData", Set.of("Query1.data"), "Text1.text", Set.of("Input1.text"));
+
+        assertThat(findAllOnLoadExecutables(widgetDynamicBindings, new HashSet<>()))
+                .containsExactly(Set.of("Query1"));
+
+        Map<String, Set<String>> changedWidgetDynamicBindings =
+                Map.of("Table1.tableData", Set.of("Query1.data"), "Text1.text", Set.of("Query2.data.length"));
+        List<Set<String>> expectedOnLoadExecutables =
+                findAllOnLoadExecutables(uncachedOnLoadExecutablesUtil, changedWidgetDynamicBindings, new HashSet<>());
+        assertThat(expectedOnLoadExecutables).containsExactly(Set.of("Query1"), Set.of("Query2"));
+
+        parsedBindings.clear();
+        assertThat(findAllOnLoadExecutables(changedWidgetDynamicBindings, new HashSet<>()))
+                .isEqualTo(expectedOnLoadExecutables);
+
+        // All the bindings are parsed once to find the executables used in the DSL, and only the changed one is
+        // parsed again to find the relationships between widgets
+        assertThat(parsedBindings)
+                .filteredOn(bindings -> bindings.size() == 1)
+                .containsExactly(List.of("Query2.data.length"));
+        assertThat(lookups(OnLoadDependencyGraphCache.CHANGED)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,239 @@
+package com.appsmith.server.onload.internal.benchmark;
+
+import com.appsmith.external.dtos.DslExecutableDTO;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.CreatorContextType;
+import com.appsmith.external.models.Executable;
+import com.appsmith.external.models.PluginType;
+import com.appsmith.external.models.Property;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.configurations.InstanceConfig;
+import com.appsmith.server.domains.Layout;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.helpers.ObservationHelperImpl;
+import com.appsmith.server.helpers.RTSCaller;
+import com.appsmith.server.onload.executables.ExecutableOnLoadService;
+import com.appsmith.server.onload.internal.OnLoadDependencyGraphCache;
+import com.appsmith.server.onload.internal.OnLoadExecutablesUtilCEImpl;
+import com.appsmith.server.services.AstService;
+import com.appsmith.server.services.AstServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures finding the on load executables of a synthetic page with the given number of widgets, one in ten of them
+ * being a table bound to the data of a query, and the others being texts bound to an input and to the selected row of
+ * a table. Queries are chained, each one filtering on an input and on the data of the previous query.
+ * <p>
+ * The full case computes the dependency graph of the page on every layout update, as before graphs were cached. The
+ * unchanged case is a layout update where widgets were only moved around, and the changed widget case is one where the
+ * binding of a single text changed. The executables come from memory rather than from the database, and bindings are
+ * parsed on the server, as when RTS is not accessible. Run main from the test classpath, after mvn test-compile, or run
+ * org.openjdk.jmh.Main OnLoadExecutablesBenchmark with the usual JMH options.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+        value = 1,
+        jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class OnLoadExecutablesBenchmark {
+
+    private static final String PAGE_ID = "page";
+    private static final int EVALUATED_VERSION = 2;
+
+    @Param({"500"})
+    public int widgets;
+
+    private OnLoadExecutablesUtilCEImpl uncachedOnLoadExecutablesUtil;
+    private OnLoadExecutablesUtilCEImpl cachedOnLoadExecutablesUtil;
+
+    private Set<String> widgetNames;
+    private Map<String, Set<String>> widgetDynamicBindings;
+    private Map<String, Set<String>> changedWidgetDynamicBindings;
+    private boolean changed;
+
+    @Setup
+    public void setUp() {
+        List<Executable> queries = new ArrayList<>();
+        widgetNames = new HashSet<>();
+        widgetDynamicBindings = new HashMap<>();
+        for (int i = 0; i < widgets; i++) {
+            if (i % 10 == 0) {
+                int query = i / 10;
+                queries.add(query(query));
+                widgetNames.add("Table" + i);
+                widgetDynamicBindings.put("Table" + i + ".tableData", Set.of("Query" + query + ".data"));
+            } else {
+                widgetNames.add("Text" + i);
+                widgetNames.add("Input" + i);
+                widgetDynamicBindings.put(
+                        "Text" + i + ".text",
+                        Set.of("Input" + i + ".text + Table" + (i / 10 * 10) + ".selectedRow.id"));
+            }
+        }
+        changedWidgetDynamicBindings = new HashMap<>(widgetDynamicBindings);
+        changedWidgetDynamicBindings.put("Text1.text", Set.of("Input2.text + Table0.selectedRow.name"));
+
+        uncachedOnLoadExecutablesUtil = onLoadExecutablesUtil(queries, 0);
+        cachedOnLoadExecutablesUtil = onLoadExecutablesUtil(queries, 1000);
+
+        List<Set<DslExecutableDTO>> expected =
+                findAllOnLoadExecutables(uncachedOnLoadExecutablesUtil, widgetDynamicBindings);
+        List<Set<DslExecutableDTO>> cached =
+                findAllOnLoadExecutables(cachedOnLoadExecutablesUtil, widgetDynamicBindings);
+        if (expected.isEmpty() || !names(expected).equals(names(cached))) {
+            throw new IllegalStateException("Cached schedule " + names(cached) + " differs from " + names(expected));
+        }
+    }
+
+    private static ActionDTO query(int query) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        String body = "SELECT * FROM orders WHERE user_id = {{Input" + (query * 10 + 1) + ".text}}";
+        Set<String> jsonPathKeys = new HashSet<>(Set.of("Input" + (query * 10 + 1) + ".text"));
+        if (query > 0) {
+            body += " AND total > {{Query" + (query - 1) + ".data.length}}";
+            jsonPathKeys.add("Query" + (query - 1) + ".data.length");
+        }
+        actionConfiguration.setBody(body);
+
+        ActionDTO action = new ActionDTO();
+        action.setId("query" + query);
+        action.setName("Query" + query);
+        action.setPageId(PAGE_ID);
+        action.setPluginType(PluginType.DB);
+        action.setActionConfiguration(actionConfiguration);
+        action.setDynamicBindingPathList(List.of(new Property("body", null)));
+        action.setJsonPathKeys(jsonPathKeys);
+        action.setExecuteOnLoad(false);
+        action.setUserSetOnLoad(false);
+        return action;
+    }
+
+    private static OnLoadExecutablesUtilCEImpl onLoadExecutablesUtil(List<Executable> queries, long cachedGraphs) {
+        // Not a mock, which would record every call made while the benchmark runs
+        InstanceConfig instanceConfig = new InstanceConfig(null, null, null) {
+            @Override
+            public boolean getIsRtsAccessible() {
+                return false;
+            }
+        };
+        CommonConfig commonConfig = Mockito.mock(CommonConfig.class);
+        AstService astService = new AstServiceImpl(
+                commonConfig, instanceConfig, Mockito.mock(RTSCaller.class), new SimpleMeterRegistry());
+
+        ExecutableOnLoadService<NewPage> executableOnLoadService = new ExecutableOnLoadService<>() {
+            @Override
+            public Flux<Executable> getAllExecutablesByCreatorIdFlux(String creatorId) {
+                return Flux.fromIterable(queries);
+            }
+
+            @Override
+            public Mono<Executable> fillSelfReferencingPaths(Executable executable) {
+                return Mono.just(executable);
+            }
+
+            @Override
+            public Flux<Executable> getUnpublishedOnLoadExecutablesExplicitSetByUserInPageFlux(String creatorId) {
+                return Flux.empty();
+            }
+
+            @Override
+            public Mono<Executable> updateUnpublishedExecutable(String id, Executable executable) {
+                return Mono.just(executable);
+            }
+
+            @Override
+            public Mono<Layout> findAndUpdateLayout(String creatorId, String layoutId, Layout layout) {
+                return Mono.just(layout);
+            }
+        };
+
+        return new OnLoadExecutablesUtilCEImpl(
+                astService,
+                new ObjectMapper(),
+                executableOnLoadService,
+                ObservationRegistry.NOOP,
+                new ObservationHelperImpl(Optional.empty(), commonConfig),
+                new OnLoadDependencyGraphCache(new SimpleMeterRegistry(), cachedGraphs, 30));
+    }
+
+    private List<Set<DslExecutableDTO>> findAllOnLoadExecutables(
+            OnLoadExecutablesUtilCEImpl onLoadExecutablesUtil, Map<String, Set<String>> widgetDynamicBindings) {
+        return onLoadExecutablesUtil
+                .findAllOnLoadExecutables(
+                        PAGE_ID,
+                        EVALUATED_VERSION,
+                        widgetNames,
+                        new HashSet<>(),
+                        widgetDynamicBindings,
+                        new ArrayList<>(),
+                        new HashSet<>(),
+                        CreatorContextType.PAGE)
+                .block();
+    }
+
+    private static List<Set<String>> names(List<Set<DslExecutableDTO>> schedule) {
+        List<Set<String>> names = new ArrayList<>();
+        for (Set<DslExecutableDTO> executables : schedule) {
+            Set<String> level = new HashSet<>();
+            executables.forEach(executable -> level.add(executable.getName()));
+            names.add(level);
+        }
+        return names;
+    }
+
+    @Benchmark
+    public List<Set<DslExecutableDTO>> fullComputation() {
+        return findAllOnLoadExecutables(uncachedOnLoadExecutablesUtil, widgetDynamicBindings);
+    }
+
+    @Benchmark
+    public List<Set<DslExecutableDTO>> unchangedLayout() {
+        return findAllOnLoadExecutables(cachedOnLoadExecutablesUtil, widgetDynamicBindings);
+    }
+
+    @Benchmark
+    public List<Set<DslExecutableDTO>> changedWidget() {
+        changed = !changed;
+        return findAllOnLoadExecutables(
+                cachedOnLoadExecutablesUtil, changed ? changedWidgetDynamicBindings : widgetDynamicBindings);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(OnLoadExecutablesBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -5,6 +5,7 @@ import com.appsmith.server.domains.Layout;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.repositories.NewPageRepository;
+import net.minidev.json.JSONObject;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -104,4 +105,93 @@ class CustomNewPageRepositoryTest {
                         null, "pageId", AclPermission.PAGE_CREATE_PAGE_ACTIONS, null))
                 .verifyComplete();
     }
+
+    private static NewPage createPageWithDsls(String unpublishedWidgetName, String publishedWidgetName) {
+        NewPage newPage = new NewPage();
+        newPage.setUnpublishedPage(createPageDTOWithDsl(unpublishedWidgetName));
+        newPage.setPublishedPage(createPageDTOWithDsl(publishedWidgetName));
+        return newPage;
+    }
+
+    private static PageDTO createPageDTOWithDsl(String widgetName) {
+        JSONObject dsl = new JSONObject();
+        dsl.put("version", 80);
+        dsl.put("widgetName", widgetName);
+        Layout layout = new Layout();
+        layout.setDsl(dsl);
+        PageDTO pageDTO = new PageDTO();
+        pageDTO.setName("Page " + UUID.randomUUID());
+        pageDTO.setLayouts(List.of(layout));
+        return pageDTO;
+    }
+
+    private Mono<NewPage> findOutdatedPage(String pageId) {
+        return newPageRepository
+                .findAllWithDslVersionOlderThan(90, null, Integer.MAX_VALUE)
+                .filter(newPage -> pageId.equals(newPage.getId()))
+                .next();
+    }
+
+    private static void migratePublishedDsl(NewPage newPage) {
+        JSONObject dsl = newPage.getPublishedPage().getLayouts().get(0).getDsl();
+        dsl.put("version", 90);
+    }
+
+    @Test
+    void updateLayoutsIfNotModified_WhenNotModified_SavesOnlyMigratedLayouts() {
+        Mono<NewPage> pageMono = newPageRepository
+                .save(createPageWithDsls("Edited", "Published"))
+                .flatMap(savedPage -> findOutdatedPage(savedPage.getId()))
+                .flatMap(readPage -> {
+                    migratePublishedDsl(readPage);
+                    // Changes to the edit mode layouts are not saved, since they were not migrated
+                    readPage.getUnpublishedPage().getLayouts().get(0).getDsl().put("widgetName", "Unsaved");
+                    return newPageRepository
+                            .updateLayoutsIfNotModified(readPage, null, List.of(80))
+                            .doOnNext(updatedPageCount ->
+                                    assertThat(updatedPageCount).isEqualTo(1))
+                            .then(newPageRepository.findById(readPage.getId()));
+                });
+
+        StepVerifier.create(pageMono)
+                .assertNext(newPage -> {
+                    JSONObject publishedDsl =
+                            newPage.getPublishedPage().getLayouts().get(0).getDsl();
+                    assertThat(publishedDsl.getAsNumber("version").intValue()).isEqualTo(90);
+                    assertThat(publishedDsl.getAsString("widgetName")).isEqualTo("Published");
+                    assertThat(newPage.getUnpublishedPage()
+                                    .getLayouts()
+                                    .get(0)
+                                    .getDsl()
+                                    .getAsString("widgetName"))
+                            .isEqualTo("Edited");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void updateLayoutsIfNotModified_WhenPublishedAfterRead_DoesNotOverwritePublishedLayouts() {
+        Mono<NewPage> pageMono = newPageRepository
+                .save(createPageWithDsls("Edited", "Published"))
+                .flatMap(savedPage -> findOutdatedPage(savedPage.getId()))
+                .flatMap(readPage -> {
+                    migratePublishedDsl(readPage);
+                    // The application is deployed between the read and the write of the migrated layouts
+                    return newPageRepository
+                            .publishPages(List.of(readPage.getId()), null)
+                            .then(newPageRepository.updateLayoutsIfNotModified(readPage, null, List.of(80)))
+                            .doOnNext(updatedPageCount ->
+                                    assertThat(updatedPageCount).isZero())
+                            .then(newPageRepository.findById(readPage.getId()));
+                });
+
+        StepVerifier.create(pageMono)
+                .assertNext(newPage -> {
+                    JSONObject publishedDsl =
+                            newPage.getPublishedPage().getLayouts().get(0).getDsl();
+                    assertThat(publishedDsl.getAsNumber("version").intValue()).isEqualTo(80);
+                    assertThat(publishedDsl.getAsString("widgetName")).isEqualTo("Edited");
+                })
+                .verifyComplete();
+    }
 }
@@ -0,0 +1,128 @@
+package com.appsmith.server.services.benchmark;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load tests the view mode consolidated API of a deployed page on two running servers, one serving pages from the
+ * published bundles and the other one from the database, and compares their p50 and p99 latencies.
+ * <p>
+ * This needs a running stack: both servers on the same MongoDB and Redis, the second one started with
+ * appsmith.published-bundle.enabled=false. Start both with appsmith.consolidated-api.published-cache.max-size=0 so
+ * that the per pod cache of the published data, which is in front of both paths, doesn't serve the requests. Run main
+ * from the test classpath, after mvn test-compile, with the base urls of the servers, the id of the application and the
+ * id of the page, and optionally the number of requests and of concurrent clients. The SESSION cookie of a user that
+ * can view the application is read from the APPSMITH_SESSION environment variable, public applications don't need it.
+ */
+public class ConsolidatedViewApiLoadBenchmark {
+
+    private static final int DEFAULT_REQUESTS = 2000;
+    private static final int DEFAULT_CONCURRENCY = 16;
+    private static final double WARMUP_RATIO = 0.1;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.out.println("Usage: ConsolidatedViewApiLoadBenchmark <bundle server url> <database server url> "
+                    + "<application id> <page id> [requests] [concurrency]");
+            return;
+        }
+        String applicationId = args[2];
+        String pageId = args[3];
+        int requests = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_REQUESTS;
+        int concurrency = args.length > 5 ? Integer.parseInt(args[5]) : DEFAULT_CONCURRENCY;
+        String session = System.getenv("APPSMITH_SESSION");
+
+        HttpClient httpClient =
+                HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            long[] bundle = run(httpClient, executor, viewUri(args[0], applicationId, pageId), session, requests);
+            long[] database = run(httpClient, executor, viewUri(args[1], applicationId, pageId), session, requests);
+
+            System.out.printf("%d requests, %d concurrent clients%n", requests, concurrency);
+            print("bundle", bundle);
+            print("database", database);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static URI viewUri(String baseUrl, String applicationId, String pageId) {
+        return URI.create(baseUrl.replaceAll("/+$", "") + "/api/v1/consolidated-api/view?applicationId="
+                + URLEncoder.encode(applicationId, StandardCharsets.UTF_8) + "&defaultPageId="
+                + URLEncoder.encode(pageId, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sends the requests from the clients of the executor, and returns the latencies of the ones that were sent after
+     * the warmup, in microseconds and sorted.
+     */
+    private static long[] run(HttpClient httpClient, ExecutorService executor, URI uri, String session, int requests)
+            throws Exception {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                // Without If-None-Match, so that the whole response is sent every time
+                .header("Accept", "application/json")
+                .GET();
+        if (session != null && !session.isBlank()) {
+            requestBuilder.header("Cookie", "SESSION=" + session);
+        }
+        HttpRequest request = requestBuilder.build();
+
+        int warmup = (int) (requests * WARMUP_RATIO);
+        AtomicInteger sent = new AtomicInteger();
+        List<Future<Long>> latencies = new ArrayList<>(requests + warmup);
+        for (int i = 0; i < requests + warmup; i++) {
+            latencies.add(executor.submit(() -> {
+                long startTime = System.nanoTime();
+                HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                long latency = (System.nanoTime() - startTime) / 1000;
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("Request to " + uri + " failed with " + response.statusCode());
+                }
+                return sent.incrementAndGet() > warmup ? latency : -1;
+            }));
+        }
+
+        long[] measured = new long[requests];
+        int count = 0;
+        for (Future<Long> latency : latencies) {
+            long value = latency.get();
+            if (value >= 0 && count < requests) {
+                measured[count++] = value;
+            }
+        }
+        long[] result = Arrays.copyOf(measured, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private static void print(String path, long[] latencies) {
+        System.out.printf(
+                "%-8s p50 %8.2f ms, p99 %8.2f ms, max %8.2f ms%n",
+                path,
+                percentile(latencies, 0.50) / 1000.0,
+                percentile(latencies, 0.99) / 1000.0,
+                latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1000.0);
+    }
+
+    private static long percentile(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)];
+    }
+}
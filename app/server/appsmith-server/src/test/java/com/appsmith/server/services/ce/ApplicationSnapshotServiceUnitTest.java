@@ -15,12 +15,14 @@ import com.appsmith.server.imports.internal.ImportService;
 import com.appsmith.server.repositories.ApplicationSnapshotRepository;
 import com.appsmith.server.services.ApplicationSnapshotService;
 import com.appsmith.server.solutions.ApplicationPermission;
+import com.github.luben.zstd.Zstd;
 import com.google.gson.Gson;
 import net.minidev.json.JSONObject;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatcher;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
+import org.reactivestreams.Publisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -66,9 +68,9 @@ public class ApplicationSnapshotServiceUnitTest {
     public void createApplicationSnapshot_WhenApplicationTooLarge_SnapshotCreatedSuccessfully() {
         String defaultAppId = "default-app-id", branchName = "develop", branchedAppId = "branched-app-id";
 
-        // Create a large ApplicationJson object that exceeds the 15 MB size
+        // Create a large ApplicationJson object that exceeds the 15 MB size, even once compressed
         JSONObject jsonObject = new JSONObject();
-        jsonObject.put("key", generateRandomString(16));
+        jsonObject.put("key", generateRandomString(24));
 
         Layout layout = new Layout();
         layout.setDsl(jsonObject);
@@ -93,18 +95,28 @@ public class ApplicationSnapshotServiceUnitTest {
         Mockito.when(applicationSnapshotRepository.deleteAllByApplicationId(branchedAppId))
                 .thenReturn(Mono.just("").then());
 
-        // we're expecting to receive two application snapshots, create a matcher to check the size
-        ArgumentMatcher<List<ApplicationSnapshot>> snapshotListHasTwoSnapshot =
-                snapshotList -> snapshotList.size() == 2;
-
-        Mockito.when(applicationSnapshotRepository.saveAll(argThat(snapshotListHasTwoSnapshot)))
-                .thenReturn(Flux.just(new ApplicationSnapshot(), new ApplicationSnapshot()));
+        List<ApplicationSnapshot> savedSnapshots = new ArrayList<>();
+        Mockito.when(applicationSnapshotRepository.saveAll(Mockito.<Publisher<ApplicationSnapshot>>any()))
+                .thenAnswer(
+                        invocationOnMock -> Flux.from(invocationOnMock.<Publisher<ApplicationSnapshot>>getArgument(0))
+                                .doOnNext(savedSnapshots::add));
 
         StepVerifier.create(applicationSnapshotService.createApplicationSnapshot(branchedAppId))
                 .assertNext(aBoolean -> {
                     assertThat(aBoolean).isTrue();
                 })
                 .verifyComplete();
+
+        // even compressed, the json is larger than a chunk so we're expecting to receive two application snapshots
+        assertThat(savedSnapshots).hasSize(2);
+        assertThat(savedSnapshots)
+                .extracting(ApplicationSnapshot::getChunkOrder)
+                .containsExactly(1, 2);
+        assertThat(savedSnapshots).allSatisfy(applicationSnapshot -> {
+            assertThat(applicationSnapshot.getApplicationId()).isEqualTo(branchedAppId);
+            assertThat(applicationSnapshot.getCompression()).isEqualTo("zstd");
+        });
+        assertThat(savedSnapshots.get(0).getData()).hasSize(15 * 1024 * 1024);
     }
 
     @Test
@@ -130,12 +142,14 @@ public class ApplicationSnapshotServiceUnitTest {
 
         int chunkSize = jsonStringBytes.length / 3;
 
+        // snapshots created before compression was introduced store the plain json
         List<ApplicationSnapshot> snapshots = List.of(
-                createSnapshot(branchedAppId, copyOfRange(jsonStringBytes, chunkSize * 2, jsonStringBytes.length), 3),
-                createSnapshot(branchedAppId, copyOfRange(jsonStringBytes, 0, chunkSize), 1),
-                createSnapshot(branchedAppId, copyOfRange(jsonStringBytes, chunkSize, chunkSize * 2), 2));
+                createSnapshot(branchedAppId, copyOfRange(jsonStringBytes, 0, chunkSize), 1, null),
+                createSnapshot(branchedAppId, copyOfRange(jsonStringBytes, chunkSize, chunkSize * 2), 2, null),
+                createSnapshot(
+                        branchedAppId, copyOfRange(jsonStringBytes, chunkSize * 2, jsonStringBytes.length), 3, null));
 
-        Mockito.when(applicationSnapshotRepository.findByApplicationId(branchedAppId))
+        Mockito.when(applicationSnapshotRepository.findByApplicationIdOrderByChunkOrder(branchedAppId))
                 .thenReturn(Flux.fromIterable(snapshots));
 
         // matcher to check that ApplicationJson created from chunks matches the original one
@@ -157,11 +171,55 @@ public class ApplicationSnapshotServiceUnitTest {
                 .verifyComplete();
     }
 
-    private ApplicationSnapshot createSnapshot(String applicationId, byte[] data, int chunkOrder) {
+    @Test
+    public void restoreSnapshot_WhenSnapshotIsCompressed_RestoredSuccessfully() {
+        String branchedAppId = "branched-app-id", workspaceId = "workspace-id";
+
+        Application application = new Application();
+        application.setName("Compressed snapshot test");
+        application.setWorkspaceId(workspaceId);
+        application.setId(branchedAppId);
+
+        Mockito.when(applicationService.findById(branchedAppId, AclPermission.MANAGE_APPLICATIONS))
+                .thenReturn(Mono.just(application));
+
+        ApplicationJson applicationJson = new ApplicationJson();
+        applicationJson.setExportedApplication(application);
+
+        byte[] compressedBytes = Zstd.compress(gson.toJson(applicationJson).getBytes(StandardCharsets.UTF_8));
+        int chunkSize = compressedBytes.length / 2;
+
+        List<ApplicationSnapshot> snapshots = List.of(
+                createSnapshot(branchedAppId, copyOfRange(compressedBytes, 0, chunkSize), 1, "zstd"),
+                createSnapshot(
+                        branchedAppId, copyOfRange(compressedBytes, chunkSize, compressedBytes.length), 2, "zstd"));
+
+        Mockito.when(applicationSnapshotRepository.findByApplicationIdOrderByChunkOrder(branchedAppId))
+                .thenReturn(Flux.fromIterable(snapshots));
+
+        ArgumentMatcher<ApplicationJson> matchApplicationJson = applicationJson1 ->
+                applicationJson1.getExportedApplication().getName().equals(application.getName());
+
+        Mockito.when(importService.restoreSnapshot(
+                        eq(application.getWorkspaceId()), eq(branchedAppId), argThat(matchApplicationJson)))
+                .thenAnswer(getTypeSafeMockAnswer(application));
+
+        Mockito.when(applicationSnapshotRepository.deleteAllByApplicationId(branchedAppId))
+                .thenReturn(Mono.just("application").then());
+
+        StepVerifier.create(applicationSnapshotService.restoreSnapshot(branchedAppId))
+                .assertNext(application1 -> {
+                    assertThat(application1.getName()).isEqualTo(application.getName());
+                })
+                .verifyComplete();
+    }
+
+    private ApplicationSnapshot createSnapshot(String applicationId, byte[] data, int chunkOrder, String compression) {
         ApplicationSnapshot applicationSnapshot = new ApplicationSnapshot();
         applicationSnapshot.setApplicationId(applicationId);
         applicationSnapshot.setData(data);
         applicationSnapshot.setChunkOrder(chunkOrder);
+        applicationSnapshot.setCompression(compression);
         return applicationSnapshot;
     }
 
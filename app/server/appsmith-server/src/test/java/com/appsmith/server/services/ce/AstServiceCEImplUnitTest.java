@@ -0,0 +1,174 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.external.models.MustacheBindingToken;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.configurations.InstanceConfig;
+import com.appsmith.server.helpers.RTSCaller;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.function.Tuple2;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+public class AstServiceCEImplUnitTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<String> requestedPaths = new ArrayList<>();
+    private final List<Object> requestBodies = new ArrayList<>();
+    private Function<String, ClientResponse> rtsResponses;
+
+    private AstServiceCEImpl astService;
+
+    @BeforeEach
+    public void setUp() {
+        InstanceConfig instanceConfig = Mockito.mock(InstanceConfig.class);
+        Mockito.when(instanceConfig.getIsRtsAccessible()).thenReturn(true);
+
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(
+                        request -> Mono.just(rtsResponses.apply(request.url().getPath())))
+                .build();
+        RTSCaller rtsCaller = Mockito.mock(RTSCaller.class);
+        Mockito.when(rtsCaller.post(anyString(), any())).thenAnswer(invocationOnMock -> {
+            String path = invocationOnMock.getArgument(0);
+            requestedPaths.add(path);
+            requestBodies.add(invocationOnMock.getArgument(1));
+            return Mono.just(webClient.method(HttpMethod.POST).uri(path));
+        });
+
+        astService = new AstServiceCEImpl(
+                Mockito.mock(CommonConfig.class), instanceConfig, rtsCaller, new SimpleMeterRegistry());
+    }
+
+    private ClientResponse jsonResponse(HttpStatus status, Object body) {
+        try {
+            return ClientResponse.create(status)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(objectMapper.writeValueAsString(body))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Answers identifier requests with the binding itself as its only reference.
+     */
+    private ClientResponse identifiersResponse() {
+        JsonNode request = objectMapper.valueToTree(requestBodies.get(requestBodies.size() - 1));
+        List<Map<String, Object>> data = new ArrayList<>();
+        request.get("scripts").forEach(script -> data.add(Map.of("references", List.of(script.asText()))));
+        return jsonResponse(HttpStatus.OK, Map.of("success", true, "data", data));
+    }
+
+    @Test
+    public void getPossibleReferencesFromDynamicBinding_WhenBindingsSeenBefore_OnlySendsNewBindings() {
+        rtsResponses = path -> identifiersResponse();
+
+        StepVerifier.create(astService
+                        .getPossibleReferencesFromDynamicBinding(List.of("Api1.data", "Input1.text"), 2)
+                        .map(Tuple2::getT1)
+                        .collectList())
+                .assertNext(bindings -> assertThat(bindings).containsExactly("Api1.data", "Input1.text"))
+                .verifyComplete();
+
+        StepVerifier.create(astService
+                        .getPossibleReferencesFromDynamicBinding(
+                                List.of("Input1.text", "Api2.data", "Api1.data", "Input1.text"), 2)
+                        .collectList())
+                .assertNext(references -> {
+                    assertThat(references)
+                            .extracting(Tuple2::getT1)
+                            .containsExactly("Input1.text", "Api2.data", "Api1.data", "Input1.text");
+                    assertThat(references)
+                            .extracting(Tuple2::getT2)
+                            .containsExactly(
+                                    Set.of("Input1.text"),
+                                    Set.of("Api2.data"),
+                                    Set.of("Api1.data"),
+                                    Set.of("Input1.text"));
+                })
+                .verifyComplete();
+
+        // Identifiers depend on the eval version, so the same binding in another version is sent again
+        StepVerifier.create(astService.getPossibleReferencesFromDynamicBinding(List.of("Api1.data"), 1))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(requestBodies)
+                .extracting(
+                        body -> objectMapper.valueToTree(body).get("scripts").toString())
+                .containsExactly("[\"Api1.data\",\"Input1.text\"]", "[\"Api2.data\"]", "[\"Api1.data\"]");
+    }
+
+    @Test
+    public void refactorNameInDynamicBindings_WhenManyBindings_SendsSingleRequest() {
+        rtsResponses = path -> jsonResponse(
+                HttpStatus.OK,
+                Map.of(
+                        "success",
+                        true,
+                        "data",
+                        List.of(
+                                Map.of("script", "Api2.data", "refactorCount", 1),
+                                Map.of("error", "Syntax Error"),
+                                Map.of("script", "Api11.data", "refactorCount", 0))));
+        MustacheBindingToken refactored = new MustacheBindingToken("Api1.data", 2, false);
+        MustacheBindingToken invalid = new MustacheBindingToken("Api1.data++++", 20, false);
+        MustacheBindingToken notReferenced = new MustacheBindingToken("Api11.data", 40, false);
+        MustacheBindingToken unrelated = new MustacheBindingToken("Input1.text", 60, false);
+
+        StepVerifier.create(astService.refactorNameInDynamicBindings(
+                        new LinkedHashSet<>(List.of(refactored, invalid, notReferenced, unrelated)),
+                        "Api1",
+                        "Api2",
+                        2,
+                        false))
+                .assertNext(replacements -> assertThat(replacements)
+                        .containsOnly(Map.entry(refactored, "Api2.data"), Map.entry(unrelated, "Input1.text")))
+                .verifyComplete();
+
+        assertThat(requestedPaths).containsExactly("/rts-api/v1/ast/multiple-entity-refactor");
+        assertThat(objectMapper.valueToTree(requestBodies.get(0)).get("scripts").toString())
+                .isEqualTo("[\"Api1.data\",\"Api1.data++++\",\"Api11.data\"]");
+    }
+
+    @Test
+    public void refactorNameInDynamicBindings_WhenBulkRefactorUnavailable_RefactorsEachBinding() {
+        rtsResponses = path -> path.endsWith("/multiple-entity-refactor")
+                ? jsonResponse(HttpStatus.NOT_FOUND, Map.of())
+                : jsonResponse(
+                        HttpStatus.OK,
+                        Map.of("success", true, "data", Map.of("script", "Api2.data", "refactorCount", 1)));
+        MustacheBindingToken binding = new MustacheBindingToken("Api1.data", 2, false);
+
+        StepVerifier.create(astService.refactorNameInDynamicBindings(Set.of(binding), "Api1", "Api2", 2, false))
+                .assertNext(replacements -> assertThat(replacements).containsOnly(Map.entry(binding, "Api2.data")))
+                .verifyComplete();
+
+        assertThat(requestedPaths)
+                .containsExactly("/rts-api/v1/ast/multiple-entity-refactor", "/rts-api/v1/ast/entity-refactor");
+    }
+}
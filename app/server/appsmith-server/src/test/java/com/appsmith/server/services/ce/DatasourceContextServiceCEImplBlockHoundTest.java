@@ -0,0 +1,211 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.configurations.DatasourceContextConfig;
+import com.appsmith.server.datasources.base.DatasourceService;
+import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
+import com.appsmith.server.domains.DatasourceContextIdentifier;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.appsmith.server.plugins.base.PluginService;
+import com.appsmith.server.services.ConfigService;
+import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.blockhound.BlockHound;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * Checks that no thread blocks while datasource contexts are requested concurrently. BlockHound instruments the whole
+ * JVM once installed, so the build runs the tests tagged blockhound apart from the other tests, in a JVM of their own.
+ */
+@Tag("blockhound")
+@ExtendWith(SpringExtension.class)
+public class DatasourceContextServiceCEImplBlockHoundTest {
+
+    private static final String PLUGIN_PACKAGE_NAME = "postgres-plugin";
+    private static final int DATASOURCES = 20;
+    private static final int REQUESTS_PER_DATASOURCE = 250;
+    private static final List<String> BLOCKING_CALLS = new CopyOnWriteArrayList<>();
+
+    @MockBean
+    DatasourceService datasourceService;
+
+    @MockBean
+    DatasourceStorageService datasourceStorageService;
+
+    @MockBean
+    PluginService pluginService;
+
+    @MockBean
+    PluginExecutorHelper pluginExecutorHelper;
+
+    @MockBean
+    ConfigService configService;
+
+    @MockBean
+    DatasourcePermission datasourcePermission;
+
+    PluginExecutor<Object> pluginExecutor;
+
+    Plugin plugin;
+
+    SimpleMeterRegistry meterRegistry;
+
+    DatasourceContextServiceCEImpl datasourceContextService;
+
+    @BeforeAll
+    public static void installBlockHound() {
+        BlockHound.install(builder -> builder
+                // Console logging of the test itself
+                .allowBlockingCallsInside("ch.qos.logback.classic.Logger", "callAppenders")
+                .blockingMethodCallback(method -> BLOCKING_CALLS.add(method.toString())));
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        plugin = new Plugin();
+        plugin.setId("pluginId");
+        plugin.setPackageName(PLUGIN_PACKAGE_NAME);
+
+        pluginExecutor = Mockito.mock(PluginExecutor.class);
+        Mockito.when(pluginExecutor.datasourceCreate(any()))
+                .thenAnswer(invocation -> Mono.delay(Duration.ofMillis(50)).map(tick -> new Object()));
+        Mockito.when(pluginService.findById(any())).thenReturn(Mono.just(plugin));
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(any())).thenReturn(Mono.just(pluginExecutor));
+
+        DatasourceContextConfig datasourceContextConfig = new DatasourceContextConfig();
+        datasourceContextConfig.setMaximumWeight(10000);
+        datasourceContextConfig.setIdleTimeoutMinutes(120);
+        datasourceContextConfig.setPluginWeights(PLUGIN_PACKAGE_NAME + ":5");
+
+        meterRegistry = new SimpleMeterRegistry();
+        datasourceContextService = new DatasourceContextServiceCEImpl(
+                datasourceService,
+                datasourceStorageService,
+                pluginService,
+                pluginExecutorHelper,
+                configService,
+                datasourcePermission,
+                datasourceContextConfig,
+                meterRegistry);
+        BLOCKING_CALLS.clear();
+    }
+
+    private static DatasourceStorage datasourceStorage(String datasourceId) {
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setDatasourceId(datasourceId);
+        datasourceStorage.setPluginId("pluginId");
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        return datasourceStorage;
+    }
+
+    private static DatasourceContextIdentifier identifier(String datasourceId) {
+        return new DatasourceContextIdentifier(datasourceId, "environmentId");
+    }
+
+    /**
+     * Fires many concurrent requests for the contexts of a few datasources from non-blocking threads, first while the
+     * contexts are created, then while they are all replaced because they have gone stale. Every datasource must only
+     * ever have one connection in use, the replaced connections must all be destroyed, and no thread may block.
+     */
+    @Test
+    public void testConcurrentContextRequests_singleConnectionPerDatasourceWithoutBlocking()
+            throws InterruptedException {
+        List<DatasourceStorage> datasourceStorages = new ArrayList<>();
+        for (int i = 0; i < DATASOURCES; i++) {
+            datasourceStorages.add(datasourceStorage("datasource" + i));
+        }
+
+        Map<String, Set<Object>> firstConnections = requestConcurrently(datasourceStorages);
+
+        Mockito.verify(pluginExecutor, Mockito.times(DATASOURCES)).datasourceCreate(any());
+        firstConnections.values().forEach(connections -> assertEquals(1, connections.size()));
+
+        // Every datasource is updated after its connection has been created
+        Thread.sleep(10);
+        Instant updatedAt = Instant.now();
+        datasourceStorages.forEach(datasourceStorage -> datasourceStorage.setUpdatedAt(updatedAt));
+
+        Map<String, Set<Object>> secondConnections = requestConcurrently(datasourceStorages);
+
+        Mockito.verify(pluginExecutor, Mockito.times(2 * DATASOURCES)).datasourceCreate(any());
+        for (DatasourceStorage datasourceStorage : datasourceStorages) {
+            String datasourceId = datasourceStorage.getDatasourceId();
+            Set<Object> connections = secondConnections.get(datasourceId);
+            assertEquals(1, connections.size());
+
+            Object firstConnection =
+                    firstConnections.get(datasourceId).iterator().next();
+            Object secondConnection = connections.iterator().next();
+            assertNotSame(firstConnection, secondConnection);
+            Mockito.verify(pluginExecutor, Mockito.timeout(5000).times(1)).datasourceDestroy(firstConnection);
+            Mockito.verify(pluginExecutor, Mockito.never()).datasourceDestroy(secondConnection);
+            assertSame(
+                    secondConnection,
+                    datasourceContextService
+                            .datasourceContextMap
+                            .get(identifier(datasourceId))
+                            .getConnection());
+        }
+
+        assertEquals(
+                DATASOURCES,
+                meterRegistry
+                        .get("appsmith.datasource.contexts")
+                        .tag("plugin", PLUGIN_PACKAGE_NAME)
+                        .gauge()
+                        .value());
+        assertTrue(BLOCKING_CALLS.isEmpty(), () -> "Blocking calls: " + BLOCKING_CALLS);
+    }
+
+    /**
+     * Requests the context of every datasource many times concurrently, on the parallel scheduler, and returns the
+     * distinct connections received for each datasource.
+     */
+    private Map<String, Set<Object>> requestConcurrently(List<DatasourceStorage> datasourceStorages) {
+        Map<String, Set<Object>> connections = new ConcurrentHashMap<>();
+        Flux.range(0, REQUESTS_PER_DATASOURCE * datasourceStorages.size())
+                .flatMap(
+                        i -> {
+                            DatasourceStorage datasourceStorage = datasourceStorages.get(i % datasourceStorages.size());
+                            String datasourceId = datasourceStorage.getDatasourceId();
+                            return Mono.defer(() -> datasourceContextService.getCachedDatasourceContextMono(
+                                            datasourceStorage, plugin, pluginExecutor, identifier(datasourceId)))
+                                    .subscribeOn(Schedulers.parallel())
+                                    .doOnNext(context -> connections
+                                            .computeIfAbsent(datasourceId, id -> ConcurrentHashMap.newKeySet())
+                                            .add(context.getConnection()));
+                        },
+                        REQUESTS_PER_DATASOURCE * datasourceStorages.size())
+                .blockLast();
+        return connections;
+    }
+}
@@ -0,0 +1,163 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.configurations.DatasourceContextConfig;
+import com.appsmith.server.datasources.base.DatasourceService;
+import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
+import com.appsmith.server.domains.DatasourceContext;
+import com.appsmith.server.domains.DatasourceContextIdentifier;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.appsmith.server.plugins.base.PluginService;
+import com.appsmith.server.services.ConfigService;
+import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(SpringExtension.class)
+public class DatasourceContextServiceCEImplTest {
+
+    private static final String PLUGIN_PACKAGE_NAME = "postgres-plugin";
+
+    @MockBean
+    DatasourceService datasourceService;
+
+    @MockBean
+    DatasourceStorageService datasourceStorageService;
+
+    @MockBean
+    PluginService pluginService;
+
+    @MockBean
+    PluginExecutorHelper pluginExecutorHelper;
+
+    @MockBean
+    ConfigService configService;
+
+    @MockBean
+    DatasourcePermission datasourcePermission;
+
+    PluginExecutor<Object> pluginExecutor;
+
+    Plugin plugin;
+
+    SimpleMeterRegistry meterRegistry;
+
+    DatasourceContextServiceCEImpl datasourceContextService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        plugin = new Plugin();
+        plugin.setId("pluginId");
+        plugin.setPackageName(PLUGIN_PACKAGE_NAME);
+
+        pluginExecutor = Mockito.mock(PluginExecutor.class);
+        Mockito.when(pluginExecutor.datasourceCreate(any())).thenAnswer(invocation -> Mono.just(new Object()));
+        Mockito.when(pluginService.findById(any())).thenReturn(Mono.just(plugin));
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(any())).thenReturn(Mono.just(pluginExecutor));
+
+        // Room for two contexts of the plugin
+        DatasourceContextConfig datasourceContextConfig = new DatasourceContextConfig();
+        datasourceContextConfig.setMaximumWeight(10);
+        datasourceContextConfig.setIdleTimeoutMinutes(120);
+        datasourceContextConfig.setPluginWeights(PLUGIN_PACKAGE_NAME + ":5");
+
+        meterRegistry = new SimpleMeterRegistry();
+        datasourceContextService = new DatasourceContextServiceCEImpl(
+                datasourceService,
+                datasourceStorageService,
+                pluginService,
+                pluginExecutorHelper,
+                configService,
+                datasourcePermission,
+                datasourceContextConfig,
+                meterRegistry);
+    }
+
+    private DatasourceContext<Object> createContext(String datasourceId) {
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setDatasourceId(datasourceId);
+        datasourceStorage.setPluginId(plugin.getId());
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+
+        return datasourceContextService
+                .getCachedDatasourceContextMono(datasourceStorage, plugin, pluginExecutor, identifier(datasourceId))
+                .block();
+    }
+
+    private static DatasourceContextIdentifier identifier(String datasourceId) {
+        return new DatasourceContextIdentifier(datasourceId, "environmentId");
+    }
+
+    @Test
+    public void testContextsOverMaximumWeight_leastRecentlyUsedDestroyed() {
+        DatasourceContext<Object> first = createContext("datasource1");
+        createContext("datasource2");
+        createContext("datasource3");
+
+        Mockito.verify(pluginExecutor, Mockito.times(1)).datasourceDestroy(first.getConnection());
+        assertFalse(datasourceContextService.datasourceContextMap.containsKey(identifier("datasource1")));
+        assertFalse(datasourceContextService.datasourceContextMonoMap.containsKey(identifier("datasource1")));
+        assertTrue(datasourceContextService.datasourceContextMap.containsKey(identifier("datasource3")));
+        assertEquals(
+                2,
+                meterRegistry
+                        .get("appsmith.datasource.contexts")
+                        .tag("plugin", PLUGIN_PACKAGE_NAME)
+                        .gauge()
+                        .value());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("appsmith.datasource.context.removals")
+                        .tag("cause", "size")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    public void testContextCreation_recordedPerPlugin() {
+        createContext("datasource1");
+
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("appsmith.datasource.context.creation")
+                        .tag("plugin", PLUGIN_PACKAGE_NAME)
+                        .tag("result", "success")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    public void testExplicitRemoval_connectionLeftToCaller() {
+        DatasourceContext<Object> context = createContext("datasource1");
+
+        datasourceContextService.datasourcePluginContextMapLRUCache.invalidate(identifier("datasource1"));
+        datasourceContextService.reapIdleDatasourceContexts();
+
+        // Stale and deleted contexts are destroyed by the caller, before the cache entry is invalidated
+        Mockito.verify(pluginExecutor, Mockito.never()).datasourceDestroy(context.getConnection());
+        assertEquals(
+                0,
+                meterRegistry
+                        .get("appsmith.datasource.contexts")
+                        .tag("plugin", PLUGIN_PACKAGE_NAME)
+                        .gauge()
+                        .value());
+    }
+}
@@ -8,6 +8,7 @@ import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.newactions.base.NewActionServiceCEImpl;
 import com.appsmith.server.newactions.helpers.NewActionHelper;
@@ -101,6 +102,9 @@ public class NewActionServiceUnitTest {
     @MockBean
     ObservationRegistry observationRegistry;
 
+    @MockBean
+    ActionExecutionPlanCache actionExecutionPlanCache;
+
     @BeforeEach
     public void setup() {
         newActionService = new NewActionServiceCEImpl(
@@ -122,7 +126,8 @@ public class NewActionServiceUnitTest {
                 pagePermission,
                 actionPermission,
                 entityValidationService,
-                observationRegistry);
+                observationRegistry,
+                actionExecutionPlanCache);
 
         ObservationRegistry.ObservationConfig mockObservationConfig =
                 Mockito.mock(ObservationRegistry.ObservationConfig.class);
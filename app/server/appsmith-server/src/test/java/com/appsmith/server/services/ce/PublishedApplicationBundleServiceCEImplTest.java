@@ -0,0 +1,264 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Layout;
+import com.appsmith.server.dtos.ActionCollectionViewDTO;
+import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.dtos.PublishedApplicationBundleDTO;
+import com.appsmith.server.dtos.PublishedPageBundleDTO;
+import com.appsmith.server.helpers.DSLMigrationUtils;
+import com.appsmith.server.helpers.RedisUtils;
+import com.appsmith.server.services.CacheablePublishedApplicationBundleHelper;
+import com.appsmith.server.solutions.ActionPermissionImpl;
+import com.appsmith.server.solutions.PagePermissionImpl;
+import com.appsmith.util.SerializationUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.minidev.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.appsmith.server.acl.AclPermission.EXECUTE_ACTIONS;
+import static com.appsmith.server.acl.AclPermission.MANAGE_ACTIONS;
+import static com.appsmith.server.acl.AclPermission.MANAGE_PAGES;
+import static com.appsmith.server.acl.AclPermission.READ_PAGES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+public class PublishedApplicationBundleServiceCEImplTest {
+
+    private static final String VERSION = "version";
+
+    private final ObjectMapper objectMapper = SerializationUtils.getDefaultObjectMapper(null);
+
+    private CacheablePublishedApplicationBundleHelper cacheablePublishedApplicationBundleHelper;
+    private RedisUtils redisUtils;
+    private SimpleMeterRegistry meterRegistry;
+    private PublishedApplicationBundleServiceCEImpl publishedApplicationBundleService;
+
+    private Application application;
+
+    @BeforeEach
+    public void setUp() {
+        cacheablePublishedApplicationBundleHelper = Mockito.mock(CacheablePublishedApplicationBundleHelper.class);
+        Mockito.when(cacheablePublishedApplicationBundleHelper.getPublishedApplicationBundleVersion(any(), any()))
+                .thenReturn(VERSION);
+
+        DSLMigrationUtils dslMigrationUtils = Mockito.mock(DSLMigrationUtils.class);
+        Mockito.when(dslMigrationUtils.getLatestDslVersion()).thenReturn(Mono.just(90));
+
+        redisUtils = Mockito.mock(RedisUtils.class);
+        Mockito.when(redisUtils.startPublishedApplicationBundleRebuild(eq("application"), any()))
+                .thenReturn(Mono.just(true));
+        Mockito.when(redisUtils.finishPublishedApplicationBundleRebuild("application"))
+                .thenReturn(Mono.just(true));
+
+        meterRegistry = new SimpleMeterRegistry();
+        publishedApplicationBundleService = new PublishedApplicationBundleServiceCEImpl(
+                cacheablePublishedApplicationBundleHelper,
+                dslMigrationUtils,
+                objectMapper,
+                new PagePermissionImpl(),
+                new ActionPermissionImpl(),
+                meterRegistry,
+                redisUtils,
+                true);
+
+        application = new Application();
+        application.setId("application");
+    }
+
+    private static ActionDTO actionDTO(String id) {
+        ActionDTO actionDTO = new ActionDTO();
+        actionDTO.setId(id);
+        actionDTO.setName(id);
+        return actionDTO;
+    }
+
+    private static ActionViewDTO actionViewDTO(String id) {
+        ActionViewDTO actionViewDTO = new ActionViewDTO();
+        actionViewDTO.setId(id);
+        actionViewDTO.setName(id);
+        actionViewDTO.setPageId("page");
+        return actionViewDTO;
+    }
+
+    private static ActionCollectionViewDTO actionCollectionViewDTO(String id, List<ActionDTO> actions) {
+        ActionCollectionViewDTO actionCollectionViewDTO = new ActionCollectionViewDTO();
+        actionCollectionViewDTO.setId(id);
+        actionCollectionViewDTO.setName(id);
+        actionCollectionViewDTO.setPageId("page");
+        actionCollectionViewDTO.setActions(actions);
+        return actionCollectionViewDTO;
+    }
+
+    private String bundle(String version) throws Exception {
+        JSONObject dsl = new JSONObject();
+        dsl.put("widgetName", "MainContainer");
+        Layout layout = new Layout();
+        layout.setId("layout");
+        layout.setDsl(dsl);
+        PageDTO page = new PageDTO();
+        page.setId("page");
+        page.setName("Page1");
+        page.setLayouts(List.of(layout));
+
+        PublishedPageBundleDTO pageBundle = new PublishedPageBundleDTO();
+        pageBundle.setPage(page);
+        pageBundle.setActions(List.of(actionViewDTO("viewerAction"), actionViewDTO("developerAction")));
+        pageBundle.setPermissionGroups(Map.of(
+                READ_PAGES.getValue(), Set.of("viewer", "developer"), MANAGE_PAGES.getValue(), Set.of("developer")));
+
+        PublishedApplicationBundleDTO bundle = new PublishedApplicationBundleDTO();
+        bundle.setVersion(version);
+        bundle.setCustomJSLibraries(List.of());
+        bundle.setActionCollections(List.of(
+                actionCollectionViewDTO(
+                        "viewerCollection", List.of(actionDTO("viewerFunction"), actionDTO("developerFunction"))),
+                actionCollectionViewDTO("developerCollection", List.of())));
+        bundle.setPages(Map.of("page", objectMapper.writeValueAsString(pageBundle)));
+        Map<String, Set<String>> viewerPermissions = Map.of(
+                EXECUTE_ACTIONS.getValue(),
+                Set.of("viewer", "developer"),
+                MANAGE_ACTIONS.getValue(),
+                Set.of("developer"));
+        Map<String, Set<String>> developerPermissions =
+                Map.of(EXECUTE_ACTIONS.getValue(), Set.of("developer"), MANAGE_ACTIONS.getValue(), Set.of("developer"));
+        bundle.setPermissionGroups(Map.of(
+                "viewerAction", viewerPermissions,
+                "developerAction", developerPermissions,
+                "viewerCollection", viewerPermissions,
+                "developerCollection", developerPermissions,
+                "viewerFunction", viewerPermissions,
+                "developerFunction", developerPermissions));
+        return objectMapper.writeValueAsString(bundle);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry
+                .counter("appsmith.published.bundle.lookup", "result", result)
+                .count();
+    }
+
+    @Test
+    public void getPublishedPageLoadData_WhenBundleCached_FiltersItForViewer() throws Exception {
+        Mockito.when(cacheablePublishedApplicationBundleHelper.fetchPublishedApplicationBundle("application"))
+                .thenReturn(Mono.just(bundle(VERSION)));
+
+        StepVerifier.create(publishedApplicationBundleService.getPublishedPageLoadData(
+                        application, "page", Set.of("viewer")))
+                .assertNext(data -> {
+                    PageDTO page = data.pageWithMigratedDsl().getData();
+                    assertThat(page.getName()).isEqualTo("Page1");
+                    assertThat(page.getLayouts().get(0).getDsl().getAsString("widgetName"))
+                            .isEqualTo("MainContainer");
+                    assertThat(page.getUserPermissions()).containsExactly(READ_PAGES.getValue());
+                    assertThat(data.publishedActions().getData())
+                            .extracting(ActionViewDTO::getId)
+                            .containsExactly("viewerAction");
+
+                    List<ActionCollectionViewDTO> actionCollections =
+                            data.publishedActionCollections().getData();
+                    assertThat(actionCollections)
+                            .extracting(ActionCollectionViewDTO::getId)
+                            .containsExactly("viewerCollection");
+                    assertThat(actionCollections.get(0).getActions())
+                            .extracting(ActionDTO::getId)
+                            .containsExactly("viewerFunction");
+                    assertThat(actionCollections.get(0).getActions().get(0).getUserPermissions())
+                            .containsExactly(EXECUTE_ACTIONS.getValue());
+                })
+                .verifyComplete();
+
+        assertThat(lookups(PublishedApplicationBundleServiceCEImpl.SERVED)).isEqualTo(1);
+    }
+
+    @Test
+    public void getPublishedPageLoadData_WhenPageNotReadable_ReturnsEmpty() throws Exception {
+        Mockito.when(cacheablePublishedApplicationBundleHelper.fetchPublishedApplicationBundle("application"))
+                .thenReturn(Mono.just(bundle(VERSION)));
+
+        StepVerifier.create(publishedApplicationBundleService.getPublishedPageLoadData(
+                        application, "page", Set.of("anonymous")))
+                .verifyComplete();
+        StepVerifier.create(publishedApplicationBundleService.getPublishedPageLoadData(
+                        application, "otherPage", Set.of("viewer")))
+                .verifyComplete();
+
+        assertThat(lookups(PublishedApplicationBundleServiceCEImpl.FALLBACK)).isEqualTo(2);
+    }
+
+    @Test
+    public void getPublishedPageLoadData_WhenBundleStale_RebuildsItOnceInBackground() throws Exception {
+        Mockito.when(cacheablePublishedApplicationBundleHelper.fetchPublishedApplicationBundle("application"))
+                .thenReturn(Mono.just(bundle("oldVersion")));
+        Sinks.Empty<Void> rebuild = Sinks.empty();
+        Mockito.when(cacheablePublishedApplicationBundleHelper.rebuildPublishedApplicationBundle("application"))
+                .thenReturn(rebuild.asMono());
+
+        // Served from the database while the bundle is being rebuilt
+        StepVerifier.create(publishedApplicationBundleService.getPublishedPageLoadData(
+                        application, "page", Set.of("developer")))
+                .verifyComplete();
+        StepVerifier.create(publishedApplicationBundleService.getPublishedPageLoadData(
+                        application, "page", Set.of("viewer")))
+                .verifyComplete();
+
+        rebuild.tryEmitEmpty();
+        Mockito.verify(cacheablePublishedApplicationBundleHelper, Mockito.times(1))
+                .rebuildPublishedApplicationBundle("application");
+        Mockito.verify(redisUtils).finishPublishedApplicationBundleRebuild("application");
+        assertThat(lookups(PublishedApplicationBundleServiceCEImpl.STALE)).isEqualTo(2);
+        assertThat(lookups(PublishedApplicationBundleServiceCEImpl.FALLBACK)).isEqualTo(2);
+
+        Mockito.when(cacheablePublishedApplicationBundleHelper.fetchPublishedApplicationBundle("application"))
+                .thenReturn(Mono.just(bundle(VERSION)));
+        StepVerifier.create(publishedApplicationBundleService.getPublishedPageLoadData(
+                        application, "page", Set.of("developer")))
+                .assertNext(data -> assertThat(data.publishedActions().getData())
+                        .extracting(ActionViewDTO::getId)
+                        .containsExactly("viewerAction", "developerAction"))
+                .verifyComplete();
+        assertThat(lookups(PublishedApplicationBundleServiceCEImpl.SERVED)).isEqualTo(1);
+    }
+
+    @Test
+    public void getPublishedPageLoadData_WhenBundleRebuiltByAnotherInstance_DoesNotRebuildIt() throws Exception {
+        Mockito.when(cacheablePublishedApplicationBundleHelper.fetchPublishedApplicationBundle("application"))
+                .thenReturn(Mono.just(bundle("oldVersion")));
+        Mockito.when(redisUtils.startPublishedApplicationBundleRebuild(eq("application"), any()))
+                .thenReturn(Mono.just(false));
+
+        StepVerifier.create(publishedApplicationBundleService.getPublishedPageLoadData(
+                        application, "page", Set.of("developer")))
+                .verifyComplete();
+
+        Mockito.verify(cacheablePublishedApplicationBundleHelper, Mockito.never())
+                .rebuildPublishedApplicationBundle(any());
+        Mockito.verify(redisUtils, Mockito.never()).finishPublishedApplicationBundleRebuild(any());
+        assertThat(lookups(PublishedApplicationBundleServiceCEImpl.FALLBACK)).isEqualTo(1);
+    }
+
+    @Test
+    public void getPublishedPageLoadData_WhenBundleFails_ReturnsEmpty() {
+        Mockito.when(cacheablePublishedApplicationBundleHelper.fetchPublishedApplicationBundle("application"))
+                .thenReturn(Mono.error(new RuntimeException("Redis is not accessible")));
+
+        StepVerifier.create(publishedApplicationBundleService.getPublishedPageLoadData(
+                        application, "page", Set.of("viewer")))
+                .verifyComplete();
+
+        assertThat(lookups(PublishedApplicationBundleServiceCEImpl.FALLBACK)).isEqualTo(1);
+    }
+}
@@ -15,6 +15,7 @@ import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.ActionExecutionSolutionHelper;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.newactions.base.NewActionService;
@@ -143,6 +144,9 @@ class ActionExecutionSolutionCEImplTest {
     @Autowired
     EnvironmentPermission environmentPermission;
 
+    @Autowired
+    ActionExecutionPlanCache actionExecutionPlanCache;
+
     private BodyExtractor.Context context;
 
     private Map<String, Object> hints;
@@ -172,7 +176,8 @@ class ActionExecutionSolutionCEImplTest {
                 tenantService,
                 commonConfig,
                 actionExecutionSolutionHelper,
-                featureFlagService);
+                featureFlagService,
+                actionExecutionPlanCache);
 
         ObservationRegistry.ObservationConfig mockObservationConfig =
                 Mockito.mock(ObservationRegistry.ObservationConfig.class);
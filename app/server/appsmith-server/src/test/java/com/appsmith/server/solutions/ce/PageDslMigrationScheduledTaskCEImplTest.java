@@ -0,0 +1,186 @@
+package com.appsmith.server.solutions.ce;
+
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.Config;
+import com.appsmith.server.domains.Layout;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.DSLMigrationUtils;
+import com.appsmith.server.helpers.RedisUtils;
+import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.services.ConfigService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.minidev.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+
+public class PageDslMigrationScheduledTaskCEImplTest {
+
+    private static final int LATEST_DSL_VERSION = 90;
+
+    private DSLMigrationUtils dslMigrationUtils;
+    private NewPageRepository newPageRepository;
+    private ConfigService configService;
+    private RedisUtils redisUtils;
+    private SimpleMeterRegistry meterRegistry;
+
+    private final List<JSONObject> migratedDsls = new ArrayList<>();
+
+    private PageDslMigrationScheduledTaskCEImpl pageDslMigrationScheduledTask;
+
+    @BeforeEach
+    public void setUp() {
+        dslMigrationUtils = Mockito.mock(DSLMigrationUtils.class);
+        Mockito.when(dslMigrationUtils.migratePageDsl(any())).thenAnswer(invocationOnMock -> {
+            JSONObject dsl = invocationOnMock.getArgument(0);
+            migratedDsls.add(dsl);
+            JSONObject migratedDsl = new JSONObject(dsl);
+            migratedDsl.put("version", LATEST_DSL_VERSION);
+            return Mono.just(migratedDsl);
+        });
+
+        newPageRepository = Mockito.mock(NewPageRepository.class);
+        Mockito.when(newPageRepository.updateLayoutsIfNotModified(any(), any(), any()))
+                .thenReturn(Mono.just(1));
+
+        configService = Mockito.mock(ConfigService.class);
+        Mockito.when(configService.getByName(FieldName.PAGE_DSL_MIGRATION))
+                .thenReturn(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND)));
+        Mockito.when(configService.save(anyString(), anyMap())).thenReturn(Mono.just(new Config()));
+
+        redisUtils = Mockito.mock(RedisUtils.class);
+        Mockito.when(redisUtils.startPageDslMigration(any())).thenReturn(Mono.just(true));
+        Mockito.when(redisUtils.finishPageDslMigration()).thenReturn(Mono.just(true));
+
+        meterRegistry = new SimpleMeterRegistry();
+        pageDslMigrationScheduledTask = new PageDslMigrationScheduledTaskCEImpl(
+                dslMigrationUtils, newPageRepository, configService, redisUtils, meterRegistry);
+        ReflectionTestUtils.setField(pageDslMigrationScheduledTask, "batchSize", 2);
+        ReflectionTestUtils.setField(pageDslMigrationScheduledTask, "concurrency", 2);
+        ReflectionTestUtils.setField(pageDslMigrationScheduledTask, "batchDelayMillis", 1L);
+    }
+
+    private static JSONObject dsl(int version, String widgetName) {
+        JSONObject dsl = new JSONObject();
+        dsl.put("version", version);
+        dsl.put("widgetName", widgetName);
+        return dsl;
+    }
+
+    private static NewPage page(String id, JSONObject unpublishedDsl, JSONObject publishedDsl) {
+        NewPage page = new NewPage();
+        page.setId(id);
+        page.setUnpublishedPage(pageDTO(unpublishedDsl));
+        page.setPublishedPage(pageDTO(publishedDsl));
+        return page;
+    }
+
+    private static PageDTO pageDTO(JSONObject dsl) {
+        Layout layout = new Layout();
+        layout.setDsl(dsl);
+        PageDTO pageDTO = new PageDTO();
+        pageDTO.setLayouts(List.of(layout));
+        return pageDTO;
+    }
+
+    private double pages(String result) {
+        return meterRegistry
+                .counter("appsmith.page.dsl.migration.pages", "result", result)
+                .count();
+    }
+
+    @Test
+    public void migratePageDslsIfRequired_WhenPagesOutdated_MigratesThemInBatches() {
+        NewPage page1 = page("page1", dsl(80, "Canvas1"), dsl(80, "Canvas1"));
+        NewPage page2 = page("page2", dsl(LATEST_DSL_VERSION, "Canvas2"), dsl(80, "Canvas2"));
+        NewPage page3 = page("page3", dsl(85, "Canvas3"), dsl(LATEST_DSL_VERSION, "Canvas3"));
+        Mockito.when(newPageRepository.countWithDslVersionOlderThan(LATEST_DSL_VERSION))
+                .thenReturn(Mono.just(3L));
+        Mockito.when(newPageRepository.findAllWithDslVersionOlderThan(eq(LATEST_DSL_VERSION), isNull(), eq(2)))
+                .thenReturn(Flux.just(page1, page2));
+        Mockito.when(newPageRepository.findAllWithDslVersionOlderThan(LATEST_DSL_VERSION, "page2", 2))
+                .thenReturn(Flux.just(page3));
+        Mockito.when(newPageRepository.updateLayoutsIfNotModified(eq(page2), any(), any()))
+                .thenReturn(Mono.just(0));
+
+        StepVerifier.create(pageDslMigrationScheduledTask.migratePageDslsIfRequired(LATEST_DSL_VERSION))
+                .verifyComplete();
+
+        // Identical edit and view mode DSLs are only migrated once
+        assertThat(migratedDsls)
+                .extracting(dsl -> dsl.getAsString("widgetName"))
+                .containsExactlyInAnyOrder("Canvas1", "Canvas2", "Canvas3");
+        for (NewPage page : List.of(page1, page2, page3)) {
+            assertThat(List.of(page.getUnpublishedPage(), page.getPublishedPage()))
+                    .extracting(pageDTO -> pageDTO.getLayouts().get(0).getDsl().getAsNumber("version"))
+                    .containsOnly(LATEST_DSL_VERSION);
+        }
+        Mockito.verify(newPageRepository, Mockito.never())
+                .findAllWithDslVersionOlderThan(LATEST_DSL_VERSION, "page3", 2);
+        // Only the sides which were migrated are saved, guarded on the DSL versions that were read
+        Mockito.verify(newPageRepository).updateLayoutsIfNotModified(page1, List.of(80), List.of(80));
+        Mockito.verify(newPageRepository).updateLayoutsIfNotModified(page2, null, List.of(80));
+        Mockito.verify(newPageRepository).updateLayoutsIfNotModified(page3, List.of(85), null);
+
+        assertThat(pages(PageDslMigrationScheduledTaskCEImpl.MIGRATED)).isEqualTo(2);
+        assertThat(pages(PageDslMigrationScheduledTaskCEImpl.MODIFIED)).isEqualTo(1);
+        assertThat(meterRegistry
+                        .get("appsmith.page.dsl.migration.pending")
+                        .gauge()
+                        .value())
+                .isZero();
+        Mockito.verify(configService).save(FieldName.PAGE_DSL_MIGRATION, Map.of(FieldName.VERSION, LATEST_DSL_VERSION));
+        Mockito.verify(redisUtils).finishPageDslMigration();
+    }
+
+    @Test
+    public void migratePageDslsIfRequired_WhenPageFailsToMigrate_DoesNotMarkVersionAsMigrated() {
+        NewPage page = page("page1", dsl(80, "Canvas1"), dsl(80, "Canvas1"));
+        Mockito.when(newPageRepository.countWithDslVersionOlderThan(LATEST_DSL_VERSION))
+                .thenReturn(Mono.just(1L));
+        Mockito.when(newPageRepository.findAllWithDslVersionOlderThan(eq(LATEST_DSL_VERSION), isNull(), anyInt()))
+                .thenReturn(Flux.just(page));
+        Mockito.doReturn(Mono.error(new RuntimeException("RTS is not accessible")))
+                .when(dslMigrationUtils)
+                .migratePageDsl(any());
+
+        StepVerifier.create(pageDslMigrationScheduledTask.migratePageDslsIfRequired(LATEST_DSL_VERSION))
+                .verifyComplete();
+
+        assertThat(pages(PageDslMigrationScheduledTaskCEImpl.FAILED)).isEqualTo(1);
+        Mockito.verify(newPageRepository, Mockito.never()).updateLayoutsIfNotModified(any(), any(), any());
+        Mockito.verify(configService, Mockito.never()).save(anyString(), anyMap());
+        Mockito.verify(redisUtils).finishPageDslMigration();
+    }
+
+    @Test
+    public void migratePageDslsIfRequired_WhenVersionAlreadyMigrated_DoesNothing() {
+        Mockito.when(configService.getByName(FieldName.PAGE_DSL_MIGRATION))
+                .thenReturn(Mono.just(new Config(
+                        new JSONObject(Map.of(FieldName.VERSION, LATEST_DSL_VERSION)), FieldName.PAGE_DSL_MIGRATION)));
+
+        StepVerifier.create(pageDslMigrationScheduledTask.migratePageDslsIfRequired(LATEST_DSL_VERSION))
+                .verifyComplete();
+
+        Mockito.verifyNoInteractions(redisUtils, newPageRepository);
+    }
+}
@@ -22,4 +22,12 @@ public @interface Cache {
      * All method arguments can be used in the expression
      */
     String key() default "";
+
+    /**
+     * Age in seconds after which the cached value is due for a refresh. Values are still served after this age, but a
+     * recomputation is started in the background, probabilistically a bit before the age is reached for keys that are
+     * read often, so that hot keys never expire all at once.
+     * 0 disables early refresh, the value is then cached until evicted.
+     */
+    long refreshAfterSeconds() default 0;
 }
@@ -0,0 +1,34 @@
+package com.appsmith.caching.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation is used to mark a Flux returning method that looks up many items by key, to cache each item
+ * separately. All keys are read from the cache in one round trip, the original method is then called with only
+ * the keys that were missing and the items it returns are written back in one round trip.
+ * Entries can be evicted with {@link CacheEvict} using the same cache name.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CacheEach {
+
+    /*
+     * This is the name of the cache.
+     */
+    String cacheName();
+
+    /**
+     * Name of the method parameter holding the keys to look up. It must be a Collection, and the original method is
+     * invoked with a Collection of the same kind holding only the keys that were not found in the cache.
+     */
+    String keysParameter();
+
+    /**
+     * SPEL expression used to derive the key of each item emitted by the method, available as #element.
+     * Method arguments can be used in the expression as well.
+     */
+    String elementKey();
+}
@@ -1,8 +1,10 @@
 package com.appsmith.caching.aspects;
 
 import com.appsmith.caching.annotations.Cache;
+import com.appsmith.caching.annotations.CacheEach;
 import com.appsmith.caching.annotations.CacheEvict;
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.model.CacheEntry;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -21,11 +23,23 @@ import reactor.core.publisher.Mono;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * CacheAspect is an aspect that is used to cache the results of a method call annotated with Cache.
  * It is also possible to evict the cached result by annotating method with CacheEvict.
+ * Concurrent lookups of the same cacheName:key share a single cache read and, on a miss, a single call of the
+ * original method.
  */
 @Aspect
 @Component
@@ -36,6 +50,15 @@ public class CacheAspect {
 
     public static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
 
+    // Higher values favour refreshing earlier, 1 is the value recommended for probabilistic early expiration
+    private static final double EARLY_REFRESH_BETA = 1.0;
+
+    // Lookups that are currently running, keyed by cacheName:key, so that concurrent callers can join them
+    private final Map<String, Mono<Object>> inFlightLookups = new ConcurrentHashMap<>();
+
+    // Keys for which an early refresh is currently running
+    private final Set<String> inFlightRefreshes = ConcurrentHashMap.newKeySet();
+
     @Autowired
     public CacheAspect(CacheManager cacheManager) {
         this.cacheManager = cacheManager;
@@ -47,13 +70,21 @@ public class CacheAspect {
      * @param joinPoint The join point of the method call
      * @param cacheName The name of the cache
      * @param key       The key to be used for caching
+     * @param refreshAfterMillis Age after which the value is due for a refresh, 0 if early refresh is disabled
      * @return The result of the method call
      */
-    private Mono<Object> callMonoMethodAndCache(ProceedingJoinPoint joinPoint, String cacheName, String key) {
+    private Mono<Object> callMonoMethodAndCache(
+            ProceedingJoinPoint joinPoint, String cacheName, String key, long refreshAfterMillis) {
+        long startTime = System.currentTimeMillis();
         try {
             return ((Mono<?>) joinPoint.proceed())
-                    .zipWhen(value ->
-                            cacheManager.put(cacheName, key, value)) // Call CacheManager.put() to cache the object
+                    .zipWhen(value -> cacheManager.put(
+                            cacheName,
+                            key,
+                            wrapForCaching(
+                                    value,
+                                    startTime,
+                                    refreshAfterMillis))) // Call CacheManager.put() to cache the object
                     .flatMap(value -> Mono.just(value.getT1())); // Maps to the original object
         } catch (Throwable e) {
             log.error(
@@ -70,14 +101,20 @@ public class CacheAspect {
      * @param joinPoint The join point
      * @param cacheName The name of the cache
      * @param key       The key to be used for caching
+     * @param refreshAfterMillis Age after which the value is due for a refresh, 0 if early refresh is disabled
      * @return The result of the method call after caching
      */
-    private Flux<?> callFluxMethodAndCache(ProceedingJoinPoint joinPoint, String cacheName, String key) {
+    private Flux<?> callFluxMethodAndCache(
+            ProceedingJoinPoint joinPoint, String cacheName, String key, long refreshAfterMillis) {
+        long startTime = System.currentTimeMillis();
         try {
             return ((Flux<?>) joinPoint.proceed())
                     .collectList() // Collect Flux<T> into Mono<List<T>>
-                    .zipWhen(value ->
-                            cacheManager.put(cacheName, key, value)) // Call CacheManager.put() to cache the list
+                    .zipWhen(value -> cacheManager.put(
+                            cacheName,
+                            key,
+                            wrapForCaching(
+                                    value, startTime, refreshAfterMillis))) // Call CacheManager.put() to cache the list
                     .flatMap(value -> Mono.just(value.getT1())) // Maps to the original list
                     .flatMapMany(Flux::fromIterable); // Convert it back to Flux<T>
         } catch (Throwable e) {
@@ -89,6 +126,102 @@ public class CacheAspect {
         }
     }
 
+    /**
+     * Wraps the value in a CacheEntry when early refresh is enabled, so that its age can be known when it is read back.
+     *
+     * @param value              The value returned by the original method
+     * @param startTime          Epoch millis at which the computation of the value started
+     * @param refreshAfterMillis Age after which the value is due for a refresh, 0 if early refresh is disabled
+     * @return The object to be stored in the cache
+     */
+    private Object wrapForCaching(Object value, long startTime, long refreshAfterMillis) {
+        if (refreshAfterMillis <= 0) {
+            return value;
+        }
+        long now = System.currentTimeMillis();
+        return new CacheEntry(value, now, now - startTime);
+    }
+
+    /**
+     * This method looks up the key in the cache and falls back to the loader on a miss. Concurrent calls for the same
+     * cacheName:key join the lookup that is already running instead of starting their own, so a popular key that
+     * is missing from the cache is computed only once per instance.
+     *
+     * @param cacheName          The name of the cache
+     * @param key                The key to be used for caching
+     * @param refreshAfterMillis Age after which the value is due for a refresh, 0 if early refresh is disabled
+     * @param loader             Calls the original method and caches its result
+     * @return The cached or computed value
+     */
+    private Mono<Object> getOrLoad(
+            String cacheName, String key, long refreshAfterMillis, Supplier<Mono<Object>> loader) {
+        String path = cacheName + ":" + key;
+        return Mono.defer(() -> inFlightLookups.computeIfAbsent(path, inFlightPath -> {
+            AtomicReference<Mono<Object>> lookupReference = new AtomicReference<>();
+            // Released before the result is handed to the subscribers, so that a lookup that starts after this one
+            // has finished always reads from the cache again. Only this lookup is removed, not a newer one.
+            Runnable release = () -> inFlightLookups.remove(inFlightPath, lookupReference.get());
+            Mono<Object> lookup = cacheManager
+                    .get(cacheName, key)
+                    .flatMap(cachedValue -> unwrapCachedValue(cachedValue, inFlightPath, refreshAfterMillis, loader))
+                    .switchIfEmpty(Mono.defer(loader))
+                    .doOnSuccess(value -> release.run())
+                    .doOnError(error -> release.run())
+                    .cache();
+            lookupReference.set(lookup);
+            return lookup;
+        }));
+    }
+
+    /**
+     * Unwraps the value read from the cache, and starts a background refresh if it is due for one.
+     *
+     * @param cachedValue        The object read from the cache
+     * @param path               cacheName:key of the value
+     * @param refreshAfterMillis Age after which the value is due for a refresh, 0 if early refresh is disabled
+     * @param loader             Calls the original method and caches its result
+     * @return The value to be returned to the caller
+     */
+    private Mono<Object> unwrapCachedValue(
+            Object cachedValue, String path, long refreshAfterMillis, Supplier<Mono<Object>> loader) {
+        if (!(cachedValue instanceof CacheEntry cacheEntry)) {
+            return Mono.just(cachedValue);
+        }
+
+        if (refreshAfterMillis <= 0 || !isDueForRefresh(cacheEntry, refreshAfterMillis)) {
+            return Mono.just(cacheEntry.getValue());
+        }
+
+        return Mono.deferContextual(contextView -> {
+            if (inFlightRefreshes.add(path)) {
+                log.debug("Refreshing cache entry {} ahead of expiry", path);
+                Mono.defer(loader)
+                        .doFinally(signalType -> inFlightRefreshes.remove(path))
+                        .contextWrite(contextView)
+                        .subscribe(
+                                value -> {},
+                                error -> log.error("Error occurred in refreshing cache entry {}", path, error));
+            }
+            return Mono.just(cacheEntry.getValue());
+        });
+    }
+
+    /**
+     * Decides whether the entry should be recomputed now. The refresh is started probabilistically before the entry
+     * reaches its refresh age, more eagerly for values that take long to compute, so that concurrent readers of a hot
+     * key don't all see it expire at the same time.
+     *
+     * @param cacheEntry         The entry read from the cache
+     * @param refreshAfterMillis Age after which the value is due for a refresh
+     * @return true if the value should be recomputed
+     */
+    private boolean isDueForRefresh(CacheEntry cacheEntry, long refreshAfterMillis) {
+        double computeMillis = Math.max(cacheEntry.getComputeMillis(), 1);
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // in (0, 1] so that log is finite
+        double earlyMillis = -computeMillis * EARLY_REFRESH_BETA * Math.log(random);
+        return System.currentTimeMillis() + earlyMillis >= cacheEntry.getCreatedAt() + refreshAfterMillis;
+    }
+
     /**
      * This method is used to derive the key name for caching the result of a method call based on method arguments.
      * This uses original strategy used by Spring's Cacheable annotation.
@@ -163,22 +296,24 @@ public class CacheAspect {
         String[] parameterNames = signature.getParameterNames();
         Object[] args = joinPoint.getArgs();
         String key = deriveKey(annotation.key(), parameterNames, args);
+        long refreshAfterMillis = annotation.refreshAfterSeconds() * 1000;
 
         Class<?> returnType = method.getReturnType();
         if (returnType.isAssignableFrom(Mono.class)) { // If method returns Mono<T>
-            return cacheManager
-                    .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callMonoMethodAndCache(
-                            joinPoint, cacheName,
-                            key))); // defer the creation of Mono until subscription as it will call original function
+            // The loader is only invoked on subscription as it will call original function
+            return getOrLoad(
+                    cacheName,
+                    key,
+                    refreshAfterMillis,
+                    () -> callMonoMethodAndCache(joinPoint, cacheName, key, refreshAfterMillis));
         }
 
         if (returnType.isAssignableFrom(Flux.class)) { // If method returns Flux<T>
-            return cacheManager
-                    .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callFluxMethodAndCache(joinPoint, cacheName, key)
-                            .collectList())) // defer the creation of Flux until subscription as it will call original
-                    // function
+            // The loader is only invoked on subscription as it will call original function
+            return getOrLoad(cacheName, key, refreshAfterMillis, () -> callFluxMethodAndCache(
+                                    joinPoint, cacheName, key, refreshAfterMillis)
+                            .collectList()
+                            .map(list -> (Object) list))
                     .map(value -> (List<?>) value)
                     .flatMapMany(Flux::fromIterable);
         }
@@ -188,6 +323,112 @@ public class CacheAspect {
                 "Invalid usage of @Cache annotation. Only reactive objects Mono and Flux are supported for caching.");
     }
 
+    /**
+     * This method defines a Aspect to handle method calls annotated with CacheEach.
+     * All keys are fetched from the cache at once, and the original method is only called for the missing ones.
+     * Items are emitted in the order of the keys, keys for which no item exists are skipped.
+     *
+     * @param joinPoint ProceedingJoinPoint of the method call
+     * @return Flux of the cached and loaded items
+     * @throws Throwable
+     */
+    @Around("execution(public * *(..)) && @annotation(com.appsmith.caching.annotations.CacheEach)")
+    public Object cacheEach(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Method method = signature.getMethod();
+        CacheEach annotation = method.getAnnotation(CacheEach.class);
+        String cacheName = annotation.cacheName();
+
+        if (!method.getReturnType().isAssignableFrom(Flux.class)) {
+            throw new IllegalAccessException(
+                    "Invalid usage of @CacheEach annotation for " + method.getName() + ". Only Flux<?> is allowed.");
+        }
+
+        String[] parameterNames = signature.getParameterNames();
+        Object[] args = joinPoint.getArgs();
+        int keysIndex = Arrays.asList(parameterNames).indexOf(annotation.keysParameter());
+        if (keysIndex < 0 || !(args[keysIndex] instanceof Collection<?> keyArguments)) {
+            throw new IllegalAccessException("Invalid usage of @CacheEach annotation for " + method.getName()
+                    + ". Parameter " + annotation.keysParameter() + " must be a Collection.");
+        }
+
+        // Cache key to the original key argument, in the order in which the keys were passed
+        Map<String, Object> keyArgumentsByKey = new LinkedHashMap<>();
+        for (Object keyArgument : keyArguments) {
+            if (keyArgument != null) {
+                keyArgumentsByKey.put(keyArgument.toString(), keyArgument);
+            }
+        }
+
+        return cacheManager.getAll(cacheName, keyArgumentsByKey.keySet()).flatMapMany(cachedValues -> {
+            List<Object> missingKeyArguments = new ArrayList<>();
+            keyArgumentsByKey.forEach((key, keyArgument) -> {
+                if (!cachedValues.containsKey(key)) {
+                    missingKeyArguments.add(keyArgument);
+                }
+            });
+
+            Mono<Map<String, Object>> loadedValuesMono = missingKeyArguments.isEmpty()
+                    ? Mono.just(Map.of())
+                    : callFluxMethodAndCacheEach(
+                            joinPoint, method, annotation, parameterNames, keysIndex, missingKeyArguments);
+
+            return loadedValuesMono.flatMapMany(loadedValues -> Flux.fromIterable(keyArgumentsByKey.keySet())
+                    .mapNotNull(key -> cachedValues.containsKey(key) ? cachedValues.get(key) : loadedValues.get(key)));
+        });
+    }
+
+    /**
+     * This method is used to call original Flux<T> returning method with only the missing keys, and cache each of
+     * the items it returns under the key derived from the item.
+     *
+     * @param joinPoint           The join point
+     * @param method              The original method
+     * @param annotation          The CacheEach annotation on the method
+     * @param parameterNames      Names of the method arguments of original method call
+     * @param keysIndex           Index of the argument that holds the keys
+     * @param missingKeyArguments Keys that were not found in the cache
+     * @return Mono of a map from key to the items returned by the method
+     */
+    private Mono<Map<String, Object>> callFluxMethodAndCacheEach(
+            ProceedingJoinPoint joinPoint,
+            Method method,
+            CacheEach annotation,
+            String[] parameterNames,
+            int keysIndex,
+            List<Object> missingKeyArguments) {
+        Object[] args = joinPoint.getArgs().clone();
+        Collection<Object> missingKeysArgument = Set.class.isAssignableFrom(method.getParameterTypes()[keysIndex])
+                ? new LinkedHashSet<>(missingKeyArguments)
+                : new ArrayList<>(missingKeyArguments);
+        args[keysIndex] = missingKeysArgument;
+
+        Expression elementKeyExpression = EXPRESSION_PARSER.parseExpression(annotation.elementKey());
+        try {
+            return ((Flux<?>) joinPoint.proceed(args))
+                    .<Map<String, Object>>collect(LinkedHashMap::new, (loadedValues, element) -> {
+                        StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
+                        for (int i = 0; i < args.length; i++) {
+                            evaluationContext.setVariable(parameterNames[i], args[i]);
+                        }
+                        evaluationContext.setVariable("element", element);
+                        String key = elementKeyExpression.getValue(evaluationContext, String.class);
+                        if (key != null) {
+                            loadedValues.put(key, element);
+                        }
+                    })
+                    .flatMap(loadedValues -> cacheManager
+                            .putAll(annotation.cacheName(), loadedValues)
+                            .thenReturn(loadedValues));
+        } catch (Throwable e) {
+            log.error(
+                    "Error occurred in saving to cache when invoking function {}",
+                    joinPoint.getSignature().getName(),
+                    e);
+            return Mono.error(e);
+        }
+    }
+
     /**
      * This method defines a Aspect to handle method calls annotated with ReactiveEvict.
      * Original method should return Mono<?>
@@ -0,0 +1,25 @@
+package com.appsmith.caching.codecs;
+
+/**
+ * CacheValueCodec converts cached values to and from bytes. Implementations are picked up as Spring beans and
+ * selected per cache by name, with appsmith.cache.{cacheName}.codec or the default appsmith.cache.codec.
+ * <p>
+ * The id is written in the header of every encoded entry so that entries can be read back after the codec of a cache
+ * is changed. It must be unique among the codecs and must never be reused for a different format.
+ */
+public interface CacheValueCodec {
+
+    /**
+     * Identifier written in the header of the encoded entries.
+     */
+    byte getId();
+
+    /**
+     * Name used to select the codec in the configuration.
+     */
+    String getName();
+
+    byte[] encode(Object value);
+
+    Object decode(byte[] bytes);
+}
@@ -0,0 +1,59 @@
+package com.appsmith.caching.codecs;
+
+import com.github.luben.zstd.Zstd;
+
+/**
+ * Compression applied to encoded cache values, selected with appsmith.cache.{cacheName}.compression or the default
+ * appsmith.cache.compression. The flag is written in the header of every encoded entry.
+ */
+public enum CacheValueCompression {
+    NONE((byte) 0) {
+        @Override
+        byte[] compress(byte[] bytes) {
+            return bytes;
+        }
+
+        @Override
+        byte[] decompress(byte[] bytes) {
+            return bytes;
+        }
+    },
+
+    ZSTD((byte) 1) {
+        @Override
+        byte[] compress(byte[] bytes) {
+            return Zstd.compress(bytes, ZSTD_LEVEL);
+        }
+
+        @Override
+        byte[] decompress(byte[] bytes) {
+            return Zstd.decompress(bytes, (int) Zstd.getFrameContentSize(bytes));
+        }
+    };
+
+    // Low levels are close to the best ratio for small JSON like payloads, at a fraction of the cost
+    private static final int ZSTD_LEVEL = 3;
+
+    private final byte flag;
+
+    CacheValueCompression(byte flag) {
+        this.flag = flag;
+    }
+
+    byte getFlag() {
+        return flag;
+    }
+
+    abstract byte[] compress(byte[] bytes);
+
+    abstract byte[] decompress(byte[] bytes);
+
+    static CacheValueCompression fromFlag(byte flag) {
+        for (CacheValueCompression compression : values()) {
+            if (compression.flag == flag) {
+                return compression;
+            }
+        }
+        throw new IllegalArgumentException("Unknown cache value compression " + flag);
+    }
+}
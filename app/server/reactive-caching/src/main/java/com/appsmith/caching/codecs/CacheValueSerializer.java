@@ -0,0 +1,152 @@
+package com.appsmith.caching.codecs;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CacheValueSerializer converts the values of the caches to the bytes stored in Redis, with the codec and the
+ * compression configured for each cache:
+ * <ul>
+ *     <li>appsmith.cache.{cacheName}.codec, or the default appsmith.cache.codec, names a {@link CacheValueCodec}.
+ *     When it is empty the value serializer of the ReactiveRedisTemplate is used, as before codecs were added.</li>
+ *     <li>appsmith.cache.{cacheName}.compression, or the default appsmith.cache.compression, is none or zstd. Values
+ *     smaller than appsmith.cache.compression-threshold-bytes are not compressed.</li>
+ * </ul>
+ * Values written with a codec start with a header holding the codec id and the compression, so every entry is read
+ * with the format it was written in. Entries without the header are read with the value serializer of the template,
+ * which keeps the existing entries readable when a codec is turned on, and the other way around.
+ */
+@Component
+@ConditionalOnClass({ReactiveRedisTemplate.class})
+@Slf4j
+public class CacheValueSerializer {
+
+    // Neither JDK serialization (0xACED), JSON nor the prefixed session formats start with a null byte
+    private static final byte[] MAGIC = {0x00, 'A', 'C'};
+    private static final int HEADER_LENGTH = MAGIC.length + 2;
+
+    private static final String PROPERTY_PREFIX = "appsmith.cache.";
+
+    private final RedisSerializationContext.SerializationPair<Object> fallbackSerializer;
+    private final Environment environment;
+    private final Map<String, CacheValueCodec> codecsByName = new HashMap<>();
+    private final Map<Byte, CacheValueCodec> codecsById = new HashMap<>();
+    private final String defaultCodec;
+    private final String defaultCompression;
+    private final int compressionThresholdBytes;
+
+    private record Format(CacheValueCodec codec, CacheValueCompression compression) {}
+
+    private final Map<String, Format> formats = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CacheValueSerializer(
+            ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
+            List<CacheValueCodec> codecs,
+            Environment environment,
+            @Value("${appsmith.cache.codec:}") String defaultCodec,
+            @Value("${appsmith.cache.compression:none}") String defaultCompression,
+            @Value("${appsmith.cache.compression-threshold-bytes:1024}") int compressionThresholdBytes) {
+        this.fallbackSerializer =
+                reactiveRedisTemplate.getSerializationContext().getValueSerializationPair();
+        this.environment = environment;
+        this.defaultCodec = defaultCodec;
+        this.defaultCompression = defaultCompression;
+        this.compressionThresholdBytes = compressionThresholdBytes;
+
+        for (CacheValueCodec codec : codecs) {
+            CacheValueCodec existing = codecsById.put(codec.getId(), codec);
+            if (existing != null) {
+                throw new IllegalStateException("Cache value codecs " + existing.getName() + " and " + codec.getName()
+                        + " use the same id " + codec.getId());
+            }
+            codecsByName.put(codec.getName(), codec);
+        }
+        // Fail at startup rather than on the first write for a misconfigured default
+        resolveFormat(defaultCodec, defaultCompression);
+    }
+
+    /**
+     * Converts a value of the cache to bytes, with the codec and compression configured for the cache.
+     * @param cacheName The name of the cache.
+     * @param value The value to be stored.
+     * @return The bytes to be stored in Redis.
+     */
+    public byte[] serialize(String cacheName, Object value) {
+        Format format = formats.computeIfAbsent(
+                cacheName,
+                name -> resolveFormat(
+                        environment.getProperty(PROPERTY_PREFIX + name + ".codec", defaultCodec),
+                        environment.getProperty(PROPERTY_PREFIX + name + ".compression", defaultCompression)));
+
+        if (format.codec() == null) {
+            return ByteUtils.getBytes(fallbackSerializer.write(value));
+        }
+
+        byte[] encoded = format.codec().encode(value);
+        CacheValueCompression compression =
+                encoded.length < compressionThresholdBytes ? CacheValueCompression.NONE : format.compression();
+        byte[] payload = compression.compress(encoded);
+
+        byte[] bytes = new byte[HEADER_LENGTH + payload.length];
+        System.arraycopy(MAGIC, 0, bytes, 0, MAGIC.length);
+        bytes[MAGIC.length] = format.codec().getId();
+        bytes[MAGIC.length + 1] = compression.getFlag();
+        System.arraycopy(payload, 0, bytes, HEADER_LENGTH, payload.length);
+        return bytes;
+    }
+
+    /**
+     * Converts bytes read from Redis back to the value, with the format recorded in the header, or with the value
+     * serializer of the template when there is no header.
+     * @param bytes The bytes read from Redis.
+     * @return The value.
+     */
+    public Object deserialize(byte[] bytes) {
+        if (!hasHeader(bytes)) {
+            return fallbackSerializer.read(ByteBuffer.wrap(bytes));
+        }
+
+        CacheValueCodec codec = codecsById.get(bytes[MAGIC.length]);
+        if (codec == null) {
+            throw new IllegalStateException("No cache value codec with id " + bytes[MAGIC.length]);
+        }
+        CacheValueCompression compression = CacheValueCompression.fromFlag(bytes[MAGIC.length + 1]);
+        return codec.decode(compression.decompress(Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length)));
+    }
+
+    private static boolean hasHeader(byte[] bytes) {
+        return bytes.length >= HEADER_LENGTH && Arrays.equals(bytes, 0, MAGIC.length, MAGIC, 0, MAGIC.length);
+    }
+
+    private Format resolveFormat(String codecName, String compressionName) {
+        CacheValueCompression compression = CacheValueCompression.valueOf(
+                StringUtils.hasText(compressionName) ? compressionName.trim().toUpperCase(Locale.ROOT) : "NONE");
+        if (!StringUtils.hasText(codecName)) {
+            return new Format(null, CacheValueCompression.NONE);
+        }
+
+        CacheValueCodec codec = codecsByName.get(codecName.trim());
+        if (codec == null) {
+            throw new IllegalArgumentException(
+                    "Unknown cache value codec " + codecName + ", available codecs are " + codecsByName.keySet());
+        }
+        return new Format(codec, compression);
+    }
+}
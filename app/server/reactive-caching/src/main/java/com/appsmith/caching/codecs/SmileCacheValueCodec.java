@@ -0,0 +1,113 @@
+package com.appsmith.caching.codecs;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Encodes cached values with Smile, the binary form of JSON. Values are written with their class names so that they
+ * can be read back without knowing the type of the cache, in the same way as GenericJackson2JsonRedisSerializer, but
+ * Smile back-references repeated property names, which keeps the entries of lists and maps of objects compact.
+ * <p>
+ * Only arrays, the boxed scalars written with their class name, and classes from the packages listed in
+ * appsmith.cache.codec.allowed-packages are instantiated when decoding.
+ */
+@Component
+public class SmileCacheValueCodec implements CacheValueCodec {
+
+    public static final byte ID = 1;
+    public static final String NAME = "smile";
+
+    // Scalars which JSON doesn't map back to their own type, so they are written with their class name
+    private static final List<Class<?>> SCALAR_TYPES =
+            List.of(Long.class, Short.class, Byte.class, Float.class, Character.class);
+
+    private final ObjectMapper objectMapper;
+
+    public SmileCacheValueCodec(
+            @Value("${appsmith.cache.codec.allowed-packages:com.appsmith.,java.util.,java.time.,java.math.}")
+                    List<String> allowedPackages) {
+        BasicPolymorphicTypeValidator.Builder validator =
+                BasicPolymorphicTypeValidator.builder().allowIfSubTypeIsArray();
+        SCALAR_TYPES.forEach(validator::allowIfSubType);
+        allowedPackages.forEach(validator::allowIfSubType);
+
+        ObjectMapper.DefaultTypeResolverBuilder typer = new CacheTypeResolverBuilder(validator.build());
+        typer.init(JsonTypeInfo.Id.CLASS, null);
+        typer.inclusion(JsonTypeInfo.As.PROPERTY);
+
+        // Class names repeat for every element of a list, shared string values write them once per value
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        this.objectMapper = SmileMapper.builder(smileFactory)
+                .addModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .setDefaultTyping(typer)
+                .build();
+    }
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error encoding cache value of type " + value.getClass(), e);
+        }
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, Object.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error decoding cache value", e);
+        }
+    }
+
+    /**
+     * Adds type information to every value, including final classes, except for the types that JSON maps back to
+     * themselves.
+     */
+    private static class CacheTypeResolverBuilder extends ObjectMapper.DefaultTypeResolverBuilder {
+
+        CacheTypeResolverBuilder(PolymorphicTypeValidator validator) {
+            super(ObjectMapper.DefaultTyping.NON_FINAL, validator);
+        }
+
+        @Override
+        public boolean useForType(JavaType type) {
+            Class<?> rawClass = type.getRawClass();
+            return !(type.isPrimitive()
+                    || rawClass == String.class
+                    || rawClass == Boolean.class
+                    || rawClass == Integer.class
+                    || rawClass == Double.class);
+        }
+    }
+}
@@ -2,6 +2,9 @@ package com.appsmith.caching.components;
 
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface CacheManager {
     /**
      * This will log the cache stats with INFO severity.
@@ -25,6 +28,22 @@ public interface CacheManager {
      */
     Mono<Boolean> put(String cacheName, String key, Object value);
 
+    /**
+     * This will get all the given items from the cache in a single round trip.
+     * @param cacheName The name of the cache.
+     * @param keys The keys of the items.
+     * @return The Mono of a map from key to item, keys that are not found are absent from the map.
+     */
+    Mono<Map<String, Object>> getAll(String cacheName, Collection<String> keys);
+
+    /**
+     * This will put all the given items into the cache in a single round trip.
+     * @param cacheName The name of the cache.
+     * @param values Map from key to item.
+     * @return Mono<Boolean> true if put was successful, false otherwise.
+     */
+    Mono<Boolean> putAll(String cacheName, Map<String, Object> values);
+
     /**
      * This will remove item from the cache.
      * @param cacheName The name of the cache.
@@ -0,0 +1,80 @@
+package com.appsmith.caching.components;
+
+import com.appsmith.caching.model.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Exposes the counters held in a {@link CacheStats} instance as Micrometer meters, tagged with the cache name and the
+ * tier (e.g. local or redis) the stats belong to.
+ */
+final class CacheStatsMetrics {
+
+    static final String REQUESTS_METRIC = "appsmith.cache.requests";
+    static final String EVICTIONS_METRIC = "appsmith.cache.evictions";
+
+    static final String TAG_CACHE = "cache";
+    static final String TAG_TIER = "tier";
+
+    private CacheStatsMetrics() {}
+
+    /**
+     * Registers function counters that read from the given stats object. The meters hold a reference to the stats,
+     * so this must be called exactly once per (cacheName, tier) pair.
+     *
+     * @param meterRegistry Registry to register the meters in
+     * @param cacheName     The name of the cache
+     * @param tier          The tier that the stats are recorded for
+     * @param stats         The stats object to read from
+     */
+    static void bind(MeterRegistry meterRegistry, String cacheName, String tier, CacheStats stats) {
+        counter(meterRegistry, REQUESTS_METRIC, cacheName, tier, "result", "hit", stats, CacheStats::getHits);
+        counter(meterRegistry, REQUESTS_METRIC, cacheName, tier, "result", "miss", stats, CacheStats::getMisses);
+        counter(
+                meterRegistry,
+                EVICTIONS_METRIC,
+                cacheName,
+                tier,
+                "type",
+                "single",
+                stats,
+                CacheStats::getSingleEvictions);
+        counter(
+                meterRegistry,
+                EVICTIONS_METRIC,
+                cacheName,
+                tier,
+                "type",
+                "all",
+                stats,
+                CacheStats::getCompleteEvictions);
+        counter(
+                meterRegistry,
+                EVICTIONS_METRIC,
+                cacheName,
+                tier,
+                "type",
+                "capacity",
+                stats,
+                CacheStats::getCapacityEvictions);
+    }
+
+    private static void counter(
+            MeterRegistry meterRegistry,
+            String name,
+            String cacheName,
+            String tier,
+            String tagKey,
+            String tagValue,
+            CacheStats stats,
+            Function<CacheStats, AtomicInteger> counterGetter) {
+        FunctionCounter.builder(name, stats, s -> counterGetter.apply(s).get())
+                .tag(TAG_CACHE, cacheName)
+                .tag(TAG_TIER, tier)
+                .tag(tagKey, tagValue)
+                .register(meterRegistry);
+    }
+}
@@ -1,21 +1,53 @@
 package com.appsmith.caching.components;
 
+import com.appsmith.caching.codecs.CacheValueSerializer;
 import com.appsmith.caching.model.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.ReactiveSubscription;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 /**
  * RedisCacheManagerImpl is a class that implements the CacheManager interface.
  * Used Redis as the cache backend.
+ * <p>
+ * Keys are namespaced with a per-cache generation counter kept in Redis. Evicting a complete cache only increments
+ * that counter, which is O(1) regardless of the number of keys, and the entries of older generations are left to
+ * expire with their TTL. Generation 0 uses the plain cacheName:key layout so that entries written before generations
+ * were introduced stay valid.
+ * <p>
+ * Each instance holds the generations in memory. Increments are broadcast on a Redis channel and the local copy is
+ * re-read from Redis periodically, so that an increment missed while disconnected is picked up as well.
+ * <p>
+ * Values are read and written as bytes and converted by {@link CacheValueSerializer}, with the codec configured for
+ * each cache.
  */
 @Component
 @ConditionalOnClass({ReactiveRedisTemplate.class})
@@ -24,17 +56,46 @@ public class RedisCacheManagerImpl implements CacheManager {
 
     private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
     private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+    private final ReactiveRedisTemplate<String, byte[]> valueRedisTemplate;
+    private final CacheValueSerializer cacheValueSerializer;
+    private final MeterRegistry meterRegistry;
+
+    private final Environment environment;
+    private final long defaultTtlSeconds;
+    private final long generationRefreshMillis;
+    private final String generationChannel;
+
+    public static final String TIER = "redis";
+
+    private static final String PROPERTY_PREFIX = "appsmith.cache.";
+    private static final String GENERATION_KEY_PREFIX = "__cache_generation__:";
+    private static final String MESSAGE_DELIMITER = "\n";
+    // Matches the keys written with a generation other than 0, i.e. cacheName:g<generation>:key
+    private static final Pattern GENERATION_KEY_PATTERN = Pattern.compile("^g\\d+:");
+
+    private static final RedisScript<Long> GET_GENERATION_SCRIPT =
+            RedisScript.of("return tonumber(redis.call('GET', KEYS[1]) or '0')", Long.class);
+    private static final RedisScript<Long> INCREMENT_GENERATION_SCRIPT =
+            RedisScript.of("return redis.call('INCR', KEYS[1])", Long.class);
 
     Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
 
+    private record Generation(long value, long fetchedAt) {}
+
+    private final Map<String, Generation> generations = new ConcurrentHashMap<>();
+
+    private Disposable generationSubscription;
+
     /**
-     * Ensures that the key for cacheName is present in statsMap.
+     * Ensures that the key for cacheName is present in statsMap, and that its counters are exported as metrics.
      * @param cacheName The name of the cache.
      */
     private void ensureStats(String cacheName) {
-        if (!statsMap.containsKey(cacheName)) {
-            statsMap.put(cacheName, CacheStats.newInstance());
-        }
+        statsMap.computeIfAbsent(cacheName, name -> {
+            CacheStats stats = CacheStats.newInstance();
+            CacheStatsMetrics.bind(meterRegistry, name, TIER, stats);
+            return stats;
+        });
     }
 
     @Override
@@ -52,28 +113,148 @@ public class RedisCacheManagerImpl implements CacheManager {
     }
 
     /**
-     * Resets the stats.
+     * Resets the stats. Counters are zeroed in place, as the exported metrics hold on to the stats objects.
      */
     public void resetStats() {
-        statsMap.clear();
+        statsMap.values().forEach(CacheStats::reset);
     }
 
     @Autowired
     public RedisCacheManagerImpl(
             ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
-            ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            CacheValueSerializer cacheValueSerializer,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            Environment environment,
+            @Value("${appsmith.cache.ttl-seconds:0}") long defaultTtlSeconds,
+            @Value("${appsmith.cache.generation.refresh-seconds:5}") long generationRefreshSeconds,
+            @Value("${appsmith.cache.generation.channel:appsmith:cache:generation}") String generationChannel) {
         this.reactiveRedisTemplate = reactiveRedisTemplate;
         this.reactiveRedisOperations = reactiveRedisOperations;
+        this.cacheValueSerializer = cacheValueSerializer;
+        // Same connection and keys as reactiveRedisTemplate, with the values left as bytes for cacheValueSerializer
+        this.valueRedisTemplate = new ReactiveRedisTemplate<>(
+                reactiveRedisTemplate.getConnectionFactory(),
+                RedisSerializationContext.<String, byte[]>newSerializationContext(RedisSerializer.byteArray())
+                        .key(RedisSerializer.string())
+                        .hashKey(RedisSerializer.string())
+                        .build());
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+        this.environment = environment;
+        this.defaultTtlSeconds = defaultTtlSeconds;
+        this.generationRefreshMillis = generationRefreshSeconds * 1000;
+        this.generationChannel = generationChannel;
+    }
+
+    /**
+     * Listens for generation increments made by the other instances.
+     */
+    @PostConstruct
+    public void subscribeToGenerationChanges() {
+        generationSubscription = reactiveRedisOperations
+                .listenToChannel(generationChannel)
+                .map(ReactiveSubscription.Message::getMessage)
+                .doOnNext(this::applyGenerationMessage)
+                .doOnError(error -> log.warn("Cache generation listener failed, resubscribing", error))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofMinutes(1)))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void unsubscribeFromGenerationChanges() {
+        if (generationSubscription != null) {
+            generationSubscription.dispose();
+        }
+    }
+
+    /**
+     * Applies a generation increment published by an instance, the message holds the cache name and the generation.
+     * @param message The encoded generation message.
+     */
+    void applyGenerationMessage(String message) {
+        String[] parts = message.split(MESSAGE_DELIMITER, 2);
+        if (parts.length < 2) {
+            return;
+        }
+        try {
+            updateGeneration(parts[0], Long.parseLong(parts[1]));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring invalid cache generation message {}", message);
+        }
+    }
+
+    /**
+     * Stores a generation received in a message or produced by an increment. Messages may arrive out of order, so
+     * this never goes back to an older generation.
+     * @param cacheName The name of the cache.
+     * @param generation The generation received.
+     */
+    private void updateGeneration(String cacheName, long generation) {
+        long now = System.currentTimeMillis();
+        generations.merge(
+                cacheName,
+                new Generation(generation, now),
+                (current, latest) -> new Generation(Math.max(current.value(), latest.value()), now));
+    }
+
+    /**
+     * Returns the current generation of the cache, from memory unless it is due for a refresh from Redis.
+     * @param cacheName The name of the cache.
+     * @return Mono of the generation.
+     */
+    private Mono<Long> getGeneration(String cacheName) {
+        Generation generation = generations.get(cacheName);
+        if (generation != null && System.currentTimeMillis() - generation.fetchedAt() < generationRefreshMillis) {
+            return Mono.just(generation.value());
+        }
+
+        return reactiveRedisOperations
+                .execute(GET_GENERATION_SCRIPT, List.of(GENERATION_KEY_PREFIX + cacheName))
+                .next()
+                .map(value -> {
+                    // The value in Redis is authoritative, it only goes back if Redis lost its data
+                    generations.put(cacheName, new Generation(value, System.currentTimeMillis()));
+                    return value;
+                });
+    }
+
+    /**
+     * Builds the Redis key of an entry for the given generation.
+     */
+    private static String toPath(String cacheName, long generation, String key) {
+        if (generation == 0) {
+            return cacheName + ":" + key;
+        }
+        return cacheName + ":g" + generation + ":" + key;
+    }
+
+    /**
+     * Returns the TTL for entries of the cache, from appsmith.cache.{cacheName}.ttl-seconds or the default
+     * appsmith.cache.ttl-seconds. Duration.ZERO means the entries never expire.
+     * @param cacheName The name of the cache.
+     * @return The TTL of the entries.
+     */
+    private Duration getTtl(String cacheName) {
+        long ttlSeconds =
+                environment.getProperty(PROPERTY_PREFIX + cacheName + ".ttl-seconds", Long.class, defaultTtlSeconds);
+        return Duration.ofSeconds(Math.max(ttlSeconds, 0));
+    }
+
+    private Mono<Boolean> set(String path, byte[] value, Duration ttl) {
+        if (ttl.isZero()) {
+            return valueRedisTemplate.opsForValue().set(path, value);
+        }
+        return valueRedisTemplate.opsForValue().set(path, value, ttl);
     }
 
     @Override
     public Mono<Object> get(String cacheName, String key) {
         ensureStats(cacheName);
-        String path = cacheName + ":" + key;
-        return reactiveRedisTemplate
-                .opsForValue()
-                .get(path)
-                .map(value -> {
+        return getGeneration(cacheName)
+                .map(generation -> toPath(cacheName, generation, key))
+                .flatMap(path -> valueRedisTemplate.opsForValue().get(path))
+                .map(bytes -> {
+                    Object value = cacheValueSerializer.deserialize(bytes);
                     // This is a cache hit, update stats and return value
                     statsMap.get(cacheName).getHits().incrementAndGet();
                     return value;
@@ -81,7 +262,7 @@ public class RedisCacheManagerImpl implements CacheManager {
                 .switchIfEmpty(Mono.defer(() -> {
                     // This is a cache miss, update stats and return empty
                     statsMap.get(cacheName).getMisses().incrementAndGet();
-                    log.debug("Cache miss for key {}", path);
+                    log.debug("Cache miss for key {}:{}", cacheName, key);
                     return Mono.empty();
                 }));
     }
@@ -89,28 +270,133 @@ public class RedisCacheManagerImpl implements CacheManager {
     @Override
     public Mono<Boolean> put(String cacheName, String key, Object value) {
         ensureStats(cacheName);
-        String path = cacheName + ":" + key;
-        log.debug("Cache entry added for key {}", path);
-        return reactiveRedisTemplate.opsForValue().set(path, value);
+        Duration ttl = getTtl(cacheName);
+        return getGeneration(cacheName).flatMap(generation -> {
+            String path = toPath(cacheName, generation, key);
+            log.debug("Cache entry added for key {}", path);
+            return set(path, cacheValueSerializer.serialize(cacheName, value), ttl);
+        });
+    }
+
+    @Override
+    public Mono<Map<String, Object>> getAll(String cacheName, Collection<String> keys) {
+        ensureStats(cacheName);
+        if (keys.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        List<String> keyList = new ArrayList<>(keys);
+        return getGeneration(cacheName)
+                .map(generation -> keyList.stream()
+                        .map(key -> toPath(cacheName, generation, key))
+                        .toList())
+                .flatMap(paths -> valueRedisTemplate.opsForValue().multiGet(paths))
+                .map(values -> {
+                    // MGET returns the values in the order of the keys, with null for the ones that are not found
+                    CacheStats stats = statsMap.get(cacheName);
+                    Map<String, Object> found = new HashMap<>();
+                    for (int i = 0; i < keyList.size(); i++) {
+                        byte[] bytes = values.get(i);
+                        if (bytes != null) {
+                            stats.getHits().incrementAndGet();
+                            found.put(keyList.get(i), cacheValueSerializer.deserialize(bytes));
+                        } else {
+                            stats.getMisses().incrementAndGet();
+                        }
+                    }
+                    log.debug("Cache multi get for {}: {} of {} keys found", cacheName, found.size(), keyList.size());
+                    return found;
+                });
+    }
+
+    @Override
+    public Mono<Boolean> putAll(String cacheName, Map<String, Object> values) {
+        ensureStats(cacheName);
+        if (values.isEmpty()) {
+            return Mono.just(Boolean.TRUE);
+        }
+
+        Duration ttl = getTtl(cacheName);
+        return getGeneration(cacheName).flatMap(generation -> {
+            log.debug("Cache entries added for {} keys in {}", values.size(), cacheName);
+            Map<String, byte[]> pathValues = new HashMap<>();
+            values.forEach((key, value) -> pathValues.put(
+                    toPath(cacheName, generation, key), cacheValueSerializer.serialize(cacheName, value)));
+            if (ttl.isZero()) {
+                return valueRedisTemplate.opsForValue().multiSet(pathValues);
+            }
+            // MSET can't set a TTL, the SET commands issued concurrently are pipelined on the shared connection
+            return Flux.fromIterable(pathValues.entrySet())
+                    .flatMap(entry -> set(entry.getKey(), entry.getValue(), ttl))
+                    .all(Boolean.TRUE::equals);
+        });
     }
 
     @Override
     public Mono<Void> evict(String cacheName, String key) {
         ensureStats(cacheName);
         statsMap.get(cacheName).getSingleEvictions().incrementAndGet();
-        String path = cacheName + ":" + key;
-        log.debug("Cache entry evicted for key {}", path);
-        return reactiveRedisTemplate.delete(path).then();
+        return getGeneration(cacheName)
+                .map(generation -> toPath(cacheName, generation, key))
+                .flatMap(path -> {
+                    log.debug("Cache entry evicted for key {}", path);
+                    return reactiveRedisTemplate.delete(path);
+                })
+                .then();
     }
 
+    /**
+     * Evicts all the entries of the cache by moving it to a new generation. The old entries are no longer reachable
+     * and expire with their TTL. Caches without a TTL have the keys of the previous generation removed in the
+     * background with SCAN, which doesn't block Redis.
+     */
     @Override
     public Mono<Void> evictAll(String cacheName) {
         ensureStats(cacheName);
         statsMap.get(cacheName).getCompleteEvictions().incrementAndGet();
-        String path = cacheName;
-        // Remove all matching keys with wildcard
-        final String script =
-                "for _,k in ipairs(redis.call('keys','" + path + ":*'))" + " do redis.call('del',k) " + "end";
-        return reactiveRedisOperations.execute(RedisScript.of(script)).then();
+        return reactiveRedisOperations
+                .execute(INCREMENT_GENERATION_SCRIPT, List.of(GENERATION_KEY_PREFIX + cacheName))
+                .next()
+                .flatMap(generation -> {
+                    updateGeneration(cacheName, generation);
+                    log.debug("Cache {} moved to generation {}", cacheName, generation);
+                    if (getTtl(cacheName).isZero()) {
+                        removeGenerationInBackground(cacheName, generation - 1);
+                    }
+                    return reactiveRedisOperations
+                            .convertAndSend(generationChannel, cacheName + MESSAGE_DELIMITER + generation)
+                            .onErrorResume(error -> {
+                                log.error("Error publishing generation of cache {}", cacheName, error);
+                                return Mono.empty();
+                            });
+                })
+                .then();
+    }
+
+    /**
+     * Removes the keys of a previous generation of the cache with SCAN and UNLINK, without blocking the caller.
+     * @param cacheName The name of the cache.
+     * @param generation The generation to be removed.
+     */
+    private void removeGenerationInBackground(String cacheName, long generation) {
+        String prefix = cacheName + ":";
+        Flux<String> keys = reactiveRedisTemplate
+                .scan(ScanOptions.scanOptions()
+                        .match(toPath(cacheName, generation, "*"))
+                        .count(1000)
+                        .build())
+                // Keys of generation 0 have no generation segment, so the pattern matches the newer generations too
+                .filter(path -> generation != 0
+                        || !GENERATION_KEY_PATTERN
+                                .matcher(path.substring(prefix.length()))
+                                .find());
+
+        reactiveRedisTemplate
+                .unlink(keys)
+                .subscribe(
+                        count ->
+                                log.debug("Removed {} keys of generation {} of cache {}", count, generation, cacheName),
+                        error -> log.warn(
+                                "Error removing keys of generation {} of cache {}", generation, cacheName, error));
     }
 }
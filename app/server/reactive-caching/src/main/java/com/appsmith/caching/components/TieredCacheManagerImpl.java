@@ -0,0 +1,391 @@
+package com.appsmith.caching.components;
+
+import com.appsmith.caching.model.CacheStats;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TieredCacheManagerImpl is the CacheManager used by the CacheAspect. It keeps a bounded in-process (near) cache in
+ * front of {@link RedisCacheManagerImpl} for the cache names listed in {@code appsmith.cache.near.names}, and simply
+ * delegates to Redis for every other cache.
+ * <p>
+ * Evictions are published on a Redis channel so that every other pod drops the entry from its own near cache. The
+ * near cache is cleared whenever the subscription to that channel is (re)established, so messages missed during a
+ * disconnect can never leave a pod serving stale entries.
+ * <p>
+ * Values read from Redis are only added to the near cache if the cache was not invalidated during the read, since the
+ * value may have been read before a concurrent eviction. Invalidations bump a generation of the cache for that purpose.
+ * <p>
+ * Values held in the near cache are shared across callers instead of being deserialized per call, so only caches
+ * whose values are never mutated by their callers should be listed.
+ */
+@Component
+@Primary
+@ConditionalOnClass({ReactiveRedisTemplate.class})
+@Slf4j
+public class TieredCacheManagerImpl implements CacheManager {
+
+    public static final String TIER = "local";
+
+    private static final String PROPERTY_PREFIX = "appsmith.cache.near.";
+    private static final String MESSAGE_DELIMITER = "\n";
+
+    private final RedisCacheManagerImpl redisCacheManager;
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    private final Set<String> nearCacheNames;
+    private final long defaultMaximumSize;
+    private final long defaultTtlSeconds;
+    private final String invalidationChannel;
+
+    // Used to ignore the invalidation messages published by this instance, since those are already applied locally
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Map<String, Cache<String, Object>> nearCaches = new ConcurrentHashMap<>();
+
+    // Bumped on every invalidation of the near cache with the same name, under the lock of the generation itself
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
+
+    private Disposable invalidationSubscription;
+
+    @Autowired
+    public TieredCacheManagerImpl(
+            RedisCacheManagerImpl redisCacheManager,
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${appsmith.cache.near.names:}") String nearCacheNames,
+            @Value("${appsmith.cache.near.max-size:10000}") long defaultMaximumSize,
+            @Value("${appsmith.cache.near.ttl-seconds:60}") long defaultTtlSeconds,
+            @Value("${appsmith.cache.near.invalidation-channel:appsmith:cache:invalidation}")
+                    String invalidationChannel) {
+        this.redisCacheManager = redisCacheManager;
+        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.environment = environment;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+        this.nearCacheNames = StringUtils.commaDelimitedListToSet(StringUtils.trimAllWhitespace(nearCacheNames));
+        this.defaultMaximumSize = defaultMaximumSize;
+        this.defaultTtlSeconds = defaultTtlSeconds;
+        this.invalidationChannel = invalidationChannel;
+    }
+
+    /**
+     * Subscribes to the invalidation channel, if any cache is configured to be held in memory.
+     */
+    @PostConstruct
+    public void subscribeToInvalidations() {
+        if (nearCacheNames.isEmpty()) {
+            return;
+        }
+
+        log.info("Near cache enabled for caches {}", nearCacheNames);
+        invalidationSubscription = reactiveRedisOperations
+                .listenToChannel(invalidationChannel)
+                // Anything could have been evicted while we were not listening
+                .doOnSubscribe(subscription -> nearCaches.forEach(
+                        (cacheName, nearCache) -> invalidateNearCache(cacheName, nearCache::invalidateAll)))
+                .map(ReactiveSubscription.Message::getMessage)
+                .doOnNext(this::applyInvalidationMessage)
+                .doOnError(error -> log.warn("Near cache invalidation listener failed, resubscribing", error))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofMinutes(1)))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void unsubscribeFromInvalidations() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    /**
+     * Returns the near cache for the given cache name, or null if the cache is served directly from Redis.
+     * @param cacheName The name of the cache.
+     * @return The near cache, null if not enabled for this cache name.
+     */
+    private Cache<String, Object> getNearCache(String cacheName) {
+        if (!nearCacheNames.contains(cacheName)) {
+            return null;
+        }
+        return nearCaches.computeIfAbsent(cacheName, this::createNearCache);
+    }
+
+    private Cache<String, Object> createNearCache(String cacheName) {
+        long maximumSize =
+                environment.getProperty(PROPERTY_PREFIX + cacheName + ".max-size", Long.class, defaultMaximumSize);
+        long ttlSeconds =
+                environment.getProperty(PROPERTY_PREFIX + cacheName + ".ttl-seconds", Long.class, defaultTtlSeconds);
+        CacheStats stats = ensureStats(cacheName);
+
+        Cache<String, Object> nearCache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .removalListener(notification -> {
+                    if (notification.wasEvicted()) {
+                        stats.getCapacityEvictions().incrementAndGet();
+                    }
+                })
+                .build();
+
+        Gauge.builder("appsmith.cache.size", nearCache, Cache::size)
+                .tag(CacheStatsMetrics.TAG_CACHE, cacheName)
+                .tag(CacheStatsMetrics.TAG_TIER, TIER)
+                .register(meterRegistry);
+
+        log.debug("Created near cache {} with maximumSize = {}, ttlSeconds = {}", cacheName, maximumSize, ttlSeconds);
+        return nearCache;
+    }
+
+    private AtomicLong getGeneration(String cacheName) {
+        return generations.computeIfAbsent(cacheName, name -> new AtomicLong());
+    }
+
+    /**
+     * Invalidates entries of the near cache, and bumps its generation so that values read from Redis before the
+     * invalidation are not added to it.
+     * @param cacheName The name of the cache.
+     * @param invalidation Invalidates the entries of the near cache.
+     */
+    private void invalidateNearCache(String cacheName, Runnable invalidation) {
+        AtomicLong generation = getGeneration(cacheName);
+        synchronized (generation) {
+            generation.incrementAndGet();
+            invalidation.run();
+        }
+    }
+
+    /**
+     * Adds values read from Redis to the near cache, unless it was invalidated since they started being read.
+     * @param cacheName The name of the cache.
+     * @param nearCache The near cache.
+     * @param readGeneration The generation of the near cache when the values started being read.
+     * @param values The values read from Redis.
+     */
+    private void putIfNotInvalidated(
+            String cacheName, Cache<String, Object> nearCache, long readGeneration, Map<String, Object> values) {
+        AtomicLong generation = getGeneration(cacheName);
+        synchronized (generation) {
+            if (generation.get() == readGeneration) {
+                nearCache.putAll(values);
+            }
+        }
+    }
+
+    /**
+     * Ensures that the key for cacheName is present in statsMap, and that its counters are exported as metrics.
+     * @param cacheName The name of the cache.
+     * @return The stats of the near tier for the cache.
+     */
+    private CacheStats ensureStats(String cacheName) {
+        return statsMap.computeIfAbsent(cacheName, name -> {
+            CacheStats stats = CacheStats.newInstance();
+            CacheStatsMetrics.bind(meterRegistry, name, TIER, stats);
+            return stats;
+        });
+    }
+
+    @Override
+    public void logStats() {
+        statsMap.forEach((cacheName, stats) -> log.debug(
+                "Near cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}, capacityEvictions = {}",
+                cacheName,
+                stats.getHits(),
+                stats.getMisses(),
+                stats.getSingleEvictions(),
+                stats.getCompleteEvictions(),
+                stats.getCapacityEvictions()));
+        redisCacheManager.logStats();
+    }
+
+    @Override
+    public Mono<Object> get(String cacheName, String key) {
+        Cache<String, Object> nearCache = getNearCache(cacheName);
+        if (nearCache == null) {
+            return redisCacheManager.get(cacheName, key);
+        }
+
+        return Mono.defer(() -> {
+            CacheStats stats = ensureStats(cacheName);
+            Object value = nearCache.getIfPresent(key);
+            if (value != null) {
+                stats.getHits().incrementAndGet();
+                return Mono.just(value);
+            }
+
+            stats.getMisses().incrementAndGet();
+            long readGeneration = getGeneration(cacheName).get();
+            return redisCacheManager
+                    .get(cacheName, key)
+                    .doOnNext(remoteValue ->
+                            putIfNotInvalidated(cacheName, nearCache, readGeneration, Map.of(key, remoteValue)));
+        });
+    }
+
+    @Override
+    public Mono<Boolean> put(String cacheName, String key, Object value) {
+        Cache<String, Object> nearCache = getNearCache(cacheName);
+        if (nearCache == null) {
+            return redisCacheManager.put(cacheName, key, value);
+        }
+
+        return redisCacheManager.put(cacheName, key, value).doOnNext(success -> {
+            if (Boolean.TRUE.equals(success)) {
+                nearCache.put(key, value);
+            }
+        });
+    }
+
+    @Override
+    public Mono<Map<String, Object>> getAll(String cacheName, Collection<String> keys) {
+        Cache<String, Object> nearCache = getNearCache(cacheName);
+        if (nearCache == null) {
+            return redisCacheManager.getAll(cacheName, keys);
+        }
+
+        return Mono.defer(() -> {
+            CacheStats stats = ensureStats(cacheName);
+            Map<String, Object> found = new HashMap<>(nearCache.getAllPresent(keys));
+            stats.getHits().addAndGet(found.size());
+
+            List<String> remoteKeys = new ArrayList<>();
+            for (String key : keys) {
+                if (!found.containsKey(key)) {
+                    remoteKeys.add(key);
+                }
+            }
+            if (remoteKeys.isEmpty()) {
+                return Mono.just(found);
+            }
+
+            stats.getMisses().addAndGet(remoteKeys.size());
+            long readGeneration = getGeneration(cacheName).get();
+            return redisCacheManager.getAll(cacheName, remoteKeys).map(remoteValues -> {
+                putIfNotInvalidated(cacheName, nearCache, readGeneration, remoteValues);
+                found.putAll(remoteValues);
+                return found;
+            });
+        });
+    }
+
+    @Override
+    public Mono<Boolean> putAll(String cacheName, Map<String, Object> values) {
+        Cache<String, Object> nearCache = getNearCache(cacheName);
+        if (nearCache == null) {
+            return redisCacheManager.putAll(cacheName, values);
+        }
+
+        return redisCacheManager.putAll(cacheName, values).doOnNext(success -> {
+            if (Boolean.TRUE.equals(success)) {
+                nearCache.putAll(values);
+            }
+        });
+    }
+
+    @Override
+    public Mono<Void> evict(String cacheName, String key) {
+        Cache<String, Object> nearCache = getNearCache(cacheName);
+        if (nearCache == null) {
+            return redisCacheManager.evict(cacheName, key);
+        }
+
+        // Invalidated again once evicted from Redis, since a read may have put the value back in the meantime
+        return Mono.fromRunnable(() -> {
+                    ensureStats(cacheName).getSingleEvictions().incrementAndGet();
+                    invalidateNearCache(cacheName, () -> nearCache.invalidate(key));
+                })
+                .then(redisCacheManager.evict(cacheName, key))
+                .then(Mono.fromRunnable(() -> invalidateNearCache(cacheName, () -> nearCache.invalidate(key))))
+                .then(publishInvalidation(String.join(MESSAGE_DELIMITER, instanceId, cacheName, key)));
+    }
+
+    @Override
+    public Mono<Void> evictAll(String cacheName) {
+        Cache<String, Object> nearCache = getNearCache(cacheName);
+        if (nearCache == null) {
+            return redisCacheManager.evictAll(cacheName);
+        }
+
+        return Mono.fromRunnable(() -> {
+                    ensureStats(cacheName).getCompleteEvictions().incrementAndGet();
+                    invalidateNearCache(cacheName, nearCache::invalidateAll);
+                })
+                .then(redisCacheManager.evictAll(cacheName))
+                .then(Mono.fromRunnable(() -> invalidateNearCache(cacheName, nearCache::invalidateAll)))
+                .then(publishInvalidation(String.join(MESSAGE_DELIMITER, instanceId, cacheName)));
+    }
+
+    /**
+     * Publishes an invalidation message for the other pods. Failures are only logged, the entry is already removed
+     * from Redis and the TTL of the near caches on the other pods bounds how long they can serve it.
+     * @param message The encoded invalidation message.
+     * @return Mono<Void> that completes once the message is published.
+     */
+    private Mono<Void> publishInvalidation(String message) {
+        return reactiveRedisOperations
+                .convertAndSend(invalidationChannel, message)
+                .onErrorResume(error -> {
+                    log.error("Error publishing near cache invalidation on channel {}", invalidationChannel, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Applies an invalidation message published by another pod. The message holds the id of the publishing
+     * instance, the cache name and, for single evictions only, the key.
+     * @param message The encoded invalidation message.
+     */
+    void applyInvalidationMessage(String message) {
+        String[] parts = message.split(MESSAGE_DELIMITER, 3);
+        if (parts.length < 2 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        Cache<String, Object> nearCache = nearCaches.get(parts[1]);
+        if (nearCache == null) {
+            return;
+        }
+
+        if (parts.length == 2) {
+            invalidateNearCache(parts[1], nearCache::invalidateAll);
+        } else {
+            invalidateNearCache(parts[1], () -> nearCache.invalidate(parts[2]));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.appsmith.caching.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * This is the envelope stored in the cache for methods that opt into early refresh. Besides the value it keeps the
+ * information needed to decide when the value should be recomputed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEntry implements Serializable {
+    /**
+     * The cached value, as returned by the original method (a List for Flux returning methods).
+     */
+    private Object value;
+
+    /**
+     * Epoch millis at which the value was computed.
+     */
+    private long createdAt;
+
+    /**
+     * Time in millis that it took to compute the value.
+     */
+    private long computeMillis;
+}
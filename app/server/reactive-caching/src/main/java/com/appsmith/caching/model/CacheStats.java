@@ -31,4 +31,21 @@ public class CacheStats {
      * The number of times the cache was evicted (all keys).
      */
     private AtomicInteger completeEvictions = new AtomicInteger(0);
+
+    /**
+     * The number of entries dropped by the cache on its own because of size or TTL limits.
+     * Only tracked by the in-process tier, Redis does not report expirations back to us.
+     */
+    private AtomicInteger capacityEvictions = new AtomicInteger(0);
+
+    /**
+     * Sets all the counters back to zero.
+     */
+    public void reset() {
+        hits.set(0);
+        misses.set(0);
+        singleEvictions.set(0);
+        completeEvictions.set(0);
+        capacityEvictions.set(0);
+    }
 }
@@ -0,0 +1,206 @@
+package com.appsmith.testcaching.benchmark;
+
+import com.appsmith.caching.codecs.CacheValueSerializer;
+import com.appsmith.caching.codecs.SmileCacheValueCodec;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares the formats of cached values on encode and decode time. The encoded sizes are printed by main before the
+ * benchmarks are run.
+ * <p>
+ * The payloads mirror the shapes of the values cached by the server: feature flags (a map of flags and a timestamp),
+ * the permission groups of a user (a set of ids) and an application like document (nested lists of objects).
+ * <p>
+ * Run main from the test classpath, after mvn test-compile, or run org.openjdk.jmh.Main CacheValueCodecBenchmark with
+ * the usual JMH options.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheValueCodecBenchmark {
+
+    private static final String CACHE_NAME = "benchmark";
+
+    @Param({"jdk", "json", "smile", "smile-zstd"})
+    public String format;
+
+    @Param({"flags", "permissionGroups", "application"})
+    public String payload;
+
+    private CacheValueSerializer serializer;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        serializer = newSerializer(format);
+        value = newPayload(payload);
+        encoded = serializer.serialize(CACHE_NAME, value);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(CACHE_NAME, value);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(encoded);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (String payload : List.of("flags", "permissionGroups", "application")) {
+            for (String format : List.of("jdk", "json", "smile", "smile-zstd")) {
+                byte[] bytes = newSerializer(format).serialize(CACHE_NAME, newPayload(payload));
+                System.out.printf("%-16s %-12s %8d bytes%n", payload, format, bytes.length);
+            }
+        }
+
+        new Runner(new OptionsBuilder()
+                        .include(CacheValueCodecBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+
+    static CacheValueSerializer newSerializer(String format) {
+        RedisSerializer<Object> templateSerializer;
+        if ("jdk".equals(format)) {
+            templateSerializer = new JdkSerializationRedisSerializer();
+        } else {
+            GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+            jsonSerializer.configure(objectMapper -> objectMapper.registerModule(new JavaTimeModule()));
+            templateSerializer = jsonSerializer;
+        }
+        ReactiveRedisTemplate<String, Object> template = new ReactiveRedisTemplate<>(
+                mock(ReactiveRedisConnectionFactory.class),
+                RedisSerializationContext.<String, Object>newSerializationContext(templateSerializer)
+                        .key(RedisSerializer.string())
+                        .build());
+
+        String codec = format.startsWith("smile") ? SmileCacheValueCodec.NAME : "";
+        String compression = format.endsWith("zstd") ? "zstd" : "none";
+        return new CacheValueSerializer(
+                template,
+                List.of(new SmileCacheValueCodec(List.of("com.appsmith.", "java.util.", "java.time."))),
+                new MockEnvironment(),
+                codec,
+                compression,
+                1024);
+    }
+
+    static Object newPayload(String payload) {
+        return switch (payload) {
+            case "flags" -> {
+                Map<String, Boolean> flags = new HashMap<>();
+                for (int i = 0; i < 100; i++) {
+                    flags.put("release_feature_flag_" + i + "_enabled", i % 3 == 0);
+                }
+                yield new Flags(flags, Instant.now());
+            }
+            case "permissionGroups" -> {
+                Set<String> ids = new HashSet<>();
+                for (int i = 0; i < 20; i++) {
+                    ids.add(String.format("65a0f1c2b3d4e5f6a7b8%04d", i));
+                }
+                yield ids;
+            }
+            case "application" -> {
+                Document document = new Document();
+                document.setName("Customer support dashboard");
+                document.setPages(new ArrayList<>());
+                for (int p = 0; p < 10; p++) {
+                    Page page = new Page();
+                    page.setName("Page" + p);
+                    page.setWidgets(new ArrayList<>());
+                    for (int w = 0; w < 50; w++) {
+                        Widget widget = new Widget();
+                        widget.setWidgetId("widget_" + p + "_" + w);
+                        widget.setType(w % 2 == 0 ? "TABLE_WIDGET_V2" : "TEXT_WIDGET");
+                        widget.setText("{{Query" + w + ".data.map(row => row.name)}}");
+                        widget.setTopRow(w * 4);
+                        widget.setBottomRow(w * 4 + 4);
+                        widget.setVisible(true);
+                        page.getWidgets().add(widget);
+                    }
+                    document.getPages().add(page);
+                }
+                yield document;
+            }
+            default -> throw new IllegalArgumentException("Unknown payload " + payload);
+        };
+    }
+
+    @Data
+    @EqualsAndHashCode
+    public static class Flags implements Serializable {
+        private Map<String, Boolean> flags;
+        private Instant refreshedAt;
+
+        public Flags() {}
+
+        Flags(Map<String, Boolean> flags, Instant refreshedAt) {
+            this.flags = flags;
+            this.refreshedAt = refreshedAt;
+        }
+    }
+
+    @Data
+    public static class Document implements Serializable {
+        private String name;
+        private List<Page> pages;
+    }
+
+    @Data
+    public static class Page implements Serializable {
+        private String name;
+        private List<Widget> widgets;
+    }
+
+    @Data
+    public static class Widget implements Serializable {
+        private String widgetId;
+        private String type;
+        private String text;
+        private int topRow;
+        private int bottomRow;
+        private boolean visible;
+    }
+}
@@ -85,6 +85,18 @@ public class CacheTestService {
         return Mono.empty();
     }
 
+    /**
+     * This method is used to test the TTL configured for a cache, appsmith.cache.ttlcache.ttl-seconds.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "ttlcache")
+    public Mono<TestModel> getExpiringObjectFor(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model);
+    }
+
     /**
      * This method is used to test SPEL expression in the caching annotation.
      * @param ArgumentModel The argument model
@@ -0,0 +1,195 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.annotations.Cache;
+import com.appsmith.caching.aspects.CacheAspect;
+import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.model.CacheEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires many concurrent lookups on the same key through the CacheAspect, backed by an in-memory CacheManager, and
+ * checks that the original method is only called once.
+ */
+public class TestCacheAspectSingleFlight {
+
+    private static final int CONCURRENT_LOOKUPS = 5000;
+
+    private InMemoryCacheManager cacheManager;
+    private CountingService countingService;
+    private CountingService proxy;
+
+    @BeforeEach
+    public void setUp() {
+        cacheManager = new InMemoryCacheManager();
+        countingService = new CountingService();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(countingService);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new CacheAspect(cacheManager));
+        proxy = proxyFactory.getProxy();
+    }
+
+    @Test
+    public void testConcurrentMonoMisses_singleBackingCall() {
+        List<String> values = Flux.range(0, CONCURRENT_LOOKUPS)
+                .flatMap(i -> proxy.getValue("hot"), CONCURRENT_LOOKUPS)
+                .collectList()
+                .block();
+
+        assertThat(values).hasSize(CONCURRENT_LOOKUPS).containsOnly("hot-1");
+        assertThat(countingService.calls.get()).isEqualTo(1);
+        assertThat(cacheManager.gets.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testConcurrentFluxMisses_singleBackingCall() {
+        List<List<String>> values = Flux.range(0, CONCURRENT_LOOKUPS)
+                .flatMap(i -> proxy.getValues("hot").collectList(), CONCURRENT_LOOKUPS)
+                .collectList()
+                .block();
+
+        assertThat(values).hasSize(CONCURRENT_LOOKUPS).containsOnly(List.of("hot-1", "hot-1"));
+        assertThat(countingService.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDifferentKeys_notShared() {
+        Flux.range(0, 10).flatMap(i -> proxy.getValue("key" + i)).collectList().block();
+
+        assertThat(countingService.calls.get()).isEqualTo(10);
+    }
+
+    @Test
+    public void testLookupAfterCompletion_servedFromCache() {
+        proxy.getValue("hot").block();
+        proxy.getValue("hot").block();
+
+        assertThat(countingService.calls.get()).isEqualTo(1);
+        assertThat(cacheManager.gets.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testStaleEntry_refreshedOnceInBackground() throws InterruptedException {
+        long longAgo = System.currentTimeMillis() - Duration.ofMinutes(5).toMillis();
+        cacheManager.store.put("refreshing:hot", new CacheEntry("stale", longAgo, 10));
+
+        List<String> values = Flux.range(0, CONCURRENT_LOOKUPS)
+                .flatMap(i -> proxy.getRefreshingValue("hot"), CONCURRENT_LOOKUPS)
+                .collectList()
+                .block();
+
+        // Stale value is served while the refresh happens
+        assertThat(values).hasSize(CONCURRENT_LOOKUPS).contains("stale");
+
+        for (int i = 0; i < 50 && countingService.calls.get() == 0; i++) {
+            Thread.sleep(100);
+        }
+        Thread.sleep(500);
+        assertThat(countingService.calls.get()).isEqualTo(1);
+        assertThat(((CacheEntry) cacheManager.store.get("refreshing:hot")).getValue())
+                .isEqualTo("hot-1");
+    }
+
+    @Test
+    public void testFreshEntry_notRefreshed() {
+        cacheManager.store.put("refreshing:hot", new CacheEntry("fresh", System.currentTimeMillis(), 10));
+
+        assertThat(proxy.getRefreshingValue("hot").block()).isEqualTo("fresh");
+        assertThat(countingService.calls.get()).isEqualTo(0);
+    }
+
+    public static class CountingService {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Cache(cacheName = "singleflight")
+        public Mono<String> getValue(String id) {
+            int call = calls.incrementAndGet();
+            return Mono.just(id + "-" + call).delayElement(Duration.ofMillis(200));
+        }
+
+        @Cache(cacheName = "singleflightlist")
+        public Flux<String> getValues(String id) {
+            int call = calls.incrementAndGet();
+            return Flux.just(id + "-" + call, id + "-" + call).delayElements(Duration.ofMillis(100));
+        }
+
+        @Cache(cacheName = "refreshing", refreshAfterSeconds = 60)
+        public Mono<String> getRefreshingValue(String id) {
+            int call = calls.incrementAndGet();
+            return Mono.just(id + "-" + call).delayElement(Duration.ofMillis(200));
+        }
+    }
+
+    /**
+     * CacheManager backed by a map, with a small delay on reads to stand in for the Redis round trip.
+     */
+    static class InMemoryCacheManager implements CacheManager {
+
+        final Map<String, Object> store = new ConcurrentHashMap<>();
+        final AtomicInteger gets = new AtomicInteger();
+
+        @Override
+        public void logStats() {}
+
+        @Override
+        public Mono<Object> get(String cacheName, String key) {
+            return Mono.delay(Duration.ofMillis(5)).flatMap(tick -> {
+                gets.incrementAndGet();
+                return Mono.justOrEmpty(store.get(cacheName + ":" + key));
+            });
+        }
+
+        @Override
+        public Mono<Boolean> put(String cacheName, String key, Object value) {
+            store.put(cacheName + ":" + key, value);
+            return Mono.just(true);
+        }
+
+        @Override
+        public Mono<Map<String, Object>> getAll(String cacheName, Collection<String> keys) {
+            return Mono.delay(Duration.ofMillis(5)).map(tick -> {
+                gets.incrementAndGet();
+                Map<String, Object> found = new HashMap<>();
+                keys.forEach(key -> {
+                    Object value = store.get(cacheName + ":" + key);
+                    if (value != null) {
+                        found.put(key, value);
+                    }
+                });
+                return found;
+            });
+        }
+
+        @Override
+        public Mono<Boolean> putAll(String cacheName, Map<String, Object> values) {
+            values.forEach((key, value) -> store.put(cacheName + ":" + key, value));
+            return Mono.just(true);
+        }
+
+        @Override
+        public Mono<Void> evict(String cacheName, String key) {
+            store.remove(cacheName + ":" + key);
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> evictAll(String cacheName) {
+            store.keySet().removeIf(path -> path.startsWith(cacheName + ":"));
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.annotations.CacheEach;
+import com.appsmith.caching.aspects.CacheAspect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests per element caching of Flux returning methods with CacheEach, backed by an in-memory CacheManager.
+ */
+public class TestCacheEach {
+
+    private TestCacheAspectSingleFlight.InMemoryCacheManager cacheManager;
+    private LookupService lookupService;
+    private LookupService proxy;
+
+    @BeforeEach
+    public void setUp() {
+        cacheManager = new TestCacheAspectSingleFlight.InMemoryCacheManager();
+        lookupService = new LookupService();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(lookupService);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new CacheAspect(cacheManager));
+        proxy = proxyFactory.getProxy();
+    }
+
+    @Test
+    public void testAllMissing_loadedOnceAndCachedPerElement() {
+        List<String> values =
+                proxy.findAll(List.of("a", "b", "c")).collectList().block();
+
+        assertThat(values).containsExactly("value-a", "value-b", "value-c");
+        assertThat(lookupService.requestedKeys).containsExactly(List.of("a", "b", "c"));
+        assertThat(cacheManager.store).containsEntry("each:a", "value-a").containsEntry("each:c", "value-c");
+    }
+
+    @Test
+    public void testPartiallyCached_onlyMissingKeysLoaded() {
+        cacheManager.store.put("each:b", "cached-b");
+
+        List<String> values =
+                proxy.findAll(List.of("a", "b", "c")).collectList().block();
+
+        assertThat(values).containsExactly("value-a", "cached-b", "value-c");
+        assertThat(lookupService.requestedKeys).containsExactly(List.of("a", "c"));
+        // A single multi get for all the keys
+        assertThat(cacheManager.gets.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testAllCached_methodNotCalled() {
+        proxy.findAll(List.of("a", "b")).collectList().block();
+        List<String> values = proxy.findAll(List.of("b", "a")).collectList().block();
+
+        assertThat(values).containsExactly("value-b", "value-a");
+        assertThat(lookupService.requestedKeys).hasSize(1);
+    }
+
+    @Test
+    public void testUnknownKey_skipped() {
+        List<String> values =
+                proxy.findAll(List.of("a", "missing")).collectList().block();
+
+        assertThat(values).containsExactly("value-a");
+        assertThat(cacheManager.store).doesNotContainKey("each:missing");
+    }
+
+    @Test
+    public void testSetParameter_calledWithSet() {
+        List<String> values = proxy.findAllInSet(Set.of("a")).collectList().block();
+
+        assertThat(values).containsExactly("value-a");
+    }
+
+    public static class LookupService {
+
+        final List<List<String>> requestedKeys = new ArrayList<>();
+
+        @CacheEach(cacheName = "each", keysParameter = "ids", elementKey = "#element.substring(6)")
+        public Flux<String> findAll(List<String> ids) {
+            requestedKeys.add(List.copyOf(ids));
+            return Flux.fromIterable(ids).filter(id -> !"missing".equals(id)).map(id -> "value-" + id);
+        }
+
+        @CacheEach(cacheName = "eachset", keysParameter = "ids", elementKey = "#element.substring(6)")
+        public Flux<String> findAllInSet(Set<String> ids) {
+            return Flux.fromIterable(ids).map(id -> "value-" + id);
+        }
+    }
+}
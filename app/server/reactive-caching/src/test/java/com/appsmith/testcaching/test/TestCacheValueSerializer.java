@@ -0,0 +1,158 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.codecs.CacheValueCodec;
+import com.appsmith.caching.codecs.CacheValueSerializer;
+import com.appsmith.caching.codecs.SmileCacheValueCodec;
+import com.appsmith.caching.model.CacheEntry;
+import com.appsmith.testcaching.model.TestModel;
+import com.fasterxml.jackson.databind.exc.InvalidTypeIdException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.mock.env.MockEnvironment;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the conversion of cached values with the codecs, the compression and the fallback to the template serializer.
+ */
+public class TestCacheValueSerializer {
+
+    private final PodamFactory factory = new PodamFactoryImpl();
+
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate = new ReactiveRedisTemplate<>(
+            mock(ReactiveRedisConnectionFactory.class),
+            RedisSerializationContext.<String, Object>newSerializationContext(new GenericJackson2JsonRedisSerializer())
+                    .key(RedisSerializer.string())
+                    .hashKey(RedisSerializer.string())
+                    .build());
+
+    private CacheValueSerializer newSerializer(MockEnvironment environment, String codec, String compression) {
+        return new CacheValueSerializer(
+                reactiveRedisTemplate,
+                List.of(new SmileCacheValueCodec(List.of("com.appsmith.", "java.util.", "java.time."))),
+                environment,
+                codec,
+                compression,
+                1024);
+    }
+
+    @Test
+    public void testNoCodec_usesTemplateSerializer() {
+        CacheValueSerializer serializer = newSerializer(new MockEnvironment(), "", "zstd");
+        TestModel model = factory.manufacturePojo(TestModel.class);
+
+        byte[] bytes = serializer.serialize("plain", model);
+
+        assertThat(bytes[0]).isEqualTo((byte) '{');
+        assertThat(serializer.deserialize(bytes)).isEqualTo(model);
+    }
+
+    @Test
+    public void testSmileCodec_roundTripsAndIsSmaller() {
+        CacheValueSerializer legacy = newSerializer(new MockEnvironment(), "", "none");
+        CacheValueSerializer smile = newSerializer(new MockEnvironment(), "smile", "none");
+        List<TestModel> models = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            models.add(factory.manufacturePojo(TestModel.class));
+        }
+
+        byte[] bytes = smile.serialize("models", models);
+
+        assertThat(smile.deserialize(bytes)).isEqualTo(models);
+        assertThat(bytes.length).isLessThan(legacy.serialize("models", models).length);
+    }
+
+    @Test
+    public void testSmileCodec_roundTripsJdkTypes() {
+        CacheValueSerializer serializer = newSerializer(new MockEnvironment(), "smile", "none");
+        Map<String, Object> value = new HashMap<>();
+        value.put("ids", Set.of("a", "b"));
+        value.put("list", List.of(1L, 2L));
+        value.put("refreshedAt", Instant.ofEpochMilli(1700000000000L));
+        value.put("entry", new CacheEntry("value", 1L, 2L));
+
+        assertThat(serializer.deserialize(serializer.serialize("jdk", value))).isEqualTo(value);
+        assertThat(serializer.deserialize(serializer.serialize("jdk", 42L))).isEqualTo(42L);
+        assertThat(serializer.deserialize(serializer.serialize("jdk", "text"))).isEqualTo("text");
+    }
+
+    @Test
+    public void testSmileCodec_typeOutsideAllowedPackages_isNotInstantiated() {
+        CacheValueSerializer serializer = newSerializer(new MockEnvironment(), "smile", "none");
+
+        byte[] bytes = serializer.serialize("jdk", new HashMap<>(Map.of("uri", URI.create("https://example.com"))));
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes)).hasRootCauseInstanceOf(InvalidTypeIdException.class);
+    }
+
+    @Test
+    public void testCompression_onlyAboveThreshold() {
+        CacheValueSerializer plain = newSerializer(new MockEnvironment(), "smile", "none");
+        CacheValueSerializer compressed = newSerializer(new MockEnvironment(), "smile", "zstd");
+        List<String> large = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            large.add("repeated value " + (i % 10));
+        }
+
+        byte[] plainBytes = plain.serialize("large", large);
+        byte[] compressedBytes = compressed.serialize("large", large);
+
+        assertThat(compressedBytes.length).isLessThan(plainBytes.length);
+        assertThat(compressed.deserialize(compressedBytes)).isEqualTo(large);
+        // Small values are written as is
+        assertThat(compressed.serialize("small", "small")).isEqualTo(plain.serialize("small", "small"));
+    }
+
+    @Test
+    public void testPerCacheCodec_overridesDefault() {
+        MockEnvironment environment = new MockEnvironment().withProperty("appsmith.cache.binary.codec", "smile");
+        CacheValueSerializer serializer = newSerializer(environment, "", "none");
+
+        assertThat(serializer.serialize("binary", "value")[0]).isEqualTo((byte) 0);
+        assertThat(serializer.serialize("other", "value")[0]).isEqualTo((byte) '"');
+    }
+
+    @Test
+    public void testCodecChange_existingEntriesStillReadable() {
+        CacheValueSerializer legacy = newSerializer(new MockEnvironment(), "", "none");
+        CacheValueSerializer smile = newSerializer(new MockEnvironment(), "smile", "zstd");
+        TestModel model = factory.manufacturePojo(TestModel.class);
+
+        assertThat(smile.deserialize(legacy.serialize("models", model))).isEqualTo(model);
+        assertThat(legacy.deserialize(smile.serialize("models", model))).isEqualTo(model);
+    }
+
+    @Test
+    public void testMisconfiguration_failsAtStartup() {
+        assertThatThrownBy(() -> newSerializer(new MockEnvironment(), "unknown", "none"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        CacheValueCodec duplicate = mock(CacheValueCodec.class);
+        when(duplicate.getId()).thenReturn(SmileCacheValueCodec.ID);
+        assertThatThrownBy(() -> new CacheValueSerializer(
+                        reactiveRedisTemplate,
+                        List.of(new SmileCacheValueCodec(List.of("java.util.")), duplicate),
+                        new MockEnvironment(),
+                        "",
+                        "none",
+                        1024))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -12,12 +12,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
-@SpringBootTest
+@SpringBootTest(properties = "appsmith.cache.ttlcache.ttl-seconds=1")
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @Slf4j
 public class TestCachingMethods {
@@ -81,6 +82,42 @@ public class TestCachingMethods {
         assertNotEquals(model2, model2_2);
     }
 
+    /**
+     * This Test is used to test that evict all only affects the given cache, and that new entries are cached again
+     */
+    @Test
+    public void testEvictAllThenCacheAgain() {
+        TestModel model = cacheTestService.getObjectFor("test3").block();
+        List<TestModel> list =
+                cacheTestService.getListFor("test3").collectList().block();
+
+        cacheTestService.evictAllObjects().block();
+
+        TestModel model2 = cacheTestService.getObjectFor("test3").block();
+        TestModel model3 = cacheTestService.getObjectFor("test3").block();
+        List<TestModel> list2 =
+                cacheTestService.getListFor("test3").collectList().block();
+
+        assertNotEquals(model, model2);
+        assertEquals(model2, model3);
+        assertArrayEquals(list.toArray(), list2.toArray());
+    }
+
+    /**
+     * This Test is used to test that entries expire with the TTL configured for the cache
+     */
+    @Test
+    public void testTtl() throws InterruptedException {
+        TestModel model = cacheTestService.getExpiringObjectFor("test1").block();
+        TestModel model2 = cacheTestService.getExpiringObjectFor("test1").block();
+        assertEquals(model, model2);
+
+        Thread.sleep(1500);
+
+        model2 = cacheTestService.getExpiringObjectFor("test1").block();
+        assertNotEquals(model, model2);
+    }
+
     /**
      * This Test is used to test SPEL expression in key field.
      */
@@ -99,6 +136,25 @@ public class TestCachingMethods {
         assertNotEquals(model, model2);
     }
 
+    /**
+     * This Test is used to test multi get and multi put in a single round trip
+     */
+    @Test
+    public void testGetAllAndPutAll() {
+        TestModel model1 = cacheTestService.getObjectFor("multi1").block();
+        TestModel model2 = cacheTestService.getObjectFor("multi2").block();
+        cacheManager
+                .putAll("multicache", Map.of("multi1", model1, "multi2", model2))
+                .block();
+
+        Map<String, Object> found = cacheManager
+                .getAll("multicache", List.of("multi1", "multi2", "multi3"))
+                .block();
+        assertEquals(2, found.size());
+        assertEquals(model1, found.get("multi1"));
+        assertEquals(model2, found.get("multi2"));
+    }
+
     /**
      * Test to measure performance of caching
      */
@@ -0,0 +1,172 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.components.RedisCacheManagerImpl;
+import com.appsmith.caching.components.TieredCacheManagerImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.mock.env.MockEnvironment;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the near cache tier in isolation, Redis is replaced by mocks.
+ */
+public class TestTieredCacheManager {
+
+    private RedisCacheManagerImpl redisCacheManager;
+    private ReactiveRedisOperations<String, String> reactiveRedisOperations;
+    private MeterRegistry meterRegistry;
+    private TieredCacheManagerImpl cacheManager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        redisCacheManager = mock(RedisCacheManagerImpl.class);
+        reactiveRedisOperations = mock(ReactiveRedisOperations.class);
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+        when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+        when(reactiveRedisOperations.convertAndSend(anyString(), anyString())).thenReturn(Mono.just(1L));
+
+        MockEnvironment environment = new MockEnvironment().withProperty("appsmith.cache.near.tiny.max-size", "1");
+        cacheManager = new TieredCacheManagerImpl(
+                redisCacheManager,
+                reactiveRedisOperations,
+                environment,
+                meterRegistryProvider,
+                "near, tiny",
+                100,
+                60,
+                "test:invalidation");
+    }
+
+    @Test
+    public void testGet_nearCacheHit_doesNotCallRedis() {
+        when(redisCacheManager.get("near", "key")).thenReturn(Mono.just("value"));
+
+        assertThat(cacheManager.get("near", "key").block()).isEqualTo("value");
+        assertThat(cacheManager.get("near", "key").block()).isEqualTo("value");
+
+        verify(redisCacheManager, times(1)).get("near", "key");
+        assertThat(meterRegistry
+                        .get("appsmith.cache.requests")
+                        .tags("cache", "near", "tier", TieredCacheManagerImpl.TIER, "result", "hit")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void testGet_cacheNotConfigured_alwaysCallsRedis() {
+        when(redisCacheManager.get("remote", "key")).thenReturn(Mono.just("value"));
+
+        assertThat(cacheManager.get("remote", "key").block()).isEqualTo("value");
+        assertThat(cacheManager.get("remote", "key").block()).isEqualTo("value");
+
+        verify(redisCacheManager, times(2)).get("remote", "key");
+    }
+
+    @Test
+    public void testPut_thenGet_servedFromNearCache() {
+        when(redisCacheManager.put("near", "key", "value")).thenReturn(Mono.just(true));
+
+        assertThat(cacheManager.put("near", "key", "value").block()).isTrue();
+        assertThat(cacheManager.get("near", "key").block()).isEqualTo("value");
+
+        verify(redisCacheManager, never()).get(anyString(), anyString());
+    }
+
+    @Test
+    public void testEvict_removesLocallyAndPublishes() {
+        when(redisCacheManager.put("near", "key", "value")).thenReturn(Mono.just(true));
+        when(redisCacheManager.evict("near", "key")).thenReturn(Mono.empty());
+        when(redisCacheManager.get("near", "key")).thenReturn(Mono.empty());
+
+        cacheManager.put("near", "key", "value").block();
+        cacheManager.evict("near", "key").block();
+
+        assertThat(cacheManager.get("near", "key").block()).isNull();
+        verify(reactiveRedisOperations, times(1)).convertAndSend(eq("test:invalidation"), anyString());
+    }
+
+    @Test
+    public void testMaxSizeOverride_evictsOldestEntry() {
+        when(redisCacheManager.put(eq("tiny"), anyString(), anyString())).thenReturn(Mono.just(true));
+        when(redisCacheManager.get("tiny", "first")).thenReturn(Mono.just("fromRedis"));
+
+        cacheManager.put("tiny", "first", "one").block();
+        cacheManager.put("tiny", "second", "two").block();
+
+        assertThat(cacheManager.get("tiny", "first").block()).isEqualTo("fromRedis");
+        assertThat(meterRegistry
+                        .get("appsmith.cache.evictions")
+                        .tags("cache", "tiny", "tier", TieredCacheManagerImpl.TIER, "type", "capacity")
+                        .functionCounter()
+                        .count())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    public void testEvict_whileRedisReadInFlight_doesNotCacheStaleValue() {
+        Sinks.One<Object> staleRead = Sinks.one();
+        when(redisCacheManager.get("near", "key"))
+                .thenReturn(staleRead.asMono())
+                .thenReturn(Mono.just("fresh"));
+        when(redisCacheManager.evict("near", "key")).thenReturn(Mono.empty());
+
+        Mono<Object> inFlightGet = cacheManager.get("near", "key").cache();
+        inFlightGet.subscribe();
+        cacheManager.evict("near", "key").block();
+        staleRead.tryEmitValue("stale");
+
+        assertThat(inFlightGet.block()).isEqualTo("stale");
+        assertThat(cacheManager.get("near", "key").block()).isEqualTo("fresh");
+        verify(redisCacheManager, times(2)).get("near", "key");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRemoteInvalidation_whileRedisReadInFlight_doesNotCacheStaleValues() {
+        Sinks.Many<ReactiveSubscription.Message<String, String>> channel =
+                Sinks.many().multicast().onBackpressureBuffer();
+        when(reactiveRedisOperations.listenToChannel("test:invalidation")).thenReturn((Flux) channel.asFlux());
+        cacheManager.subscribeToInvalidations();
+
+        Sinks.One<Map<String, Object>> staleRead = Sinks.one();
+        when(redisCacheManager.getAll(eq("near"), anyCollection()))
+                .thenReturn(staleRead.asMono())
+                .thenReturn(Mono.just(Map.of("key", "fresh")));
+
+        Mono<Map<String, Object>> inFlightGetAll =
+                cacheManager.getAll("near", List.of("key")).cache();
+        inFlightGetAll.subscribe();
+        channel.tryEmitNext(new ReactiveSubscription.ChannelMessage<>("test:invalidation", "otherInstance\nnear\nkey"));
+        staleRead.tryEmitValue(Map.of("key", "stale"));
+
+        assertThat(inFlightGetAll.block()).containsEntry("key", "stale");
+        assertThat(cacheManager.getAll("near", List.of("key")).block()).containsEntry("key", "fresh");
+        verify(redisCacheManager, times(2)).getAll(eq("near"), anyCollection());
+
+        cacheManager.unsubscribeFromInvalidations();
+    }
+}